@@ -0,0 +1,431 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.traverse.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel Bron-Kerbosch maximal clique enumeration algorithm with pivot, degeneracy ordering and
+ * bitset candidate sets.
+ *
+ * <p>
+ * The algorithm follows {@link DegeneracyBronKerboschCliqueFinder}. The vertices are numbered
+ * according to a degeneracy ordering and, for each vertex $v$, the maximal cliques whose earliest
+ * vertex is $v$ are enumerated by a pivoting Bron-Kerbosch recursion restricted to the
+ * neighborhood of $v$. Inside each such subproblem the neighbors of $v$ are renumbered
+ * consecutively and the candidate and excluded sets are represented as bitsets of long words, so
+ * that the intersections with the neighborhoods become word operations. Since the later neighbors
+ * of $v$ are at most $d$, where $d$ is the degeneracy of the graph, the bitsets are short. The
+ * subproblems of the different vertices are independent and are solved in parallel.
+ *
+ * <p>
+ * Besides iterating over the maximal cliques, which first computes and stores all of them, the
+ * cliques can be streamed to a consumer using {@link #forEachClique(Consumer)} without storing
+ * them. A timeout can be set using the constructor parameters.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see DegeneracyBronKerboschCliqueFinder
+ *
+ * @author agent
+ */
+public class ParallelBitsetBronKerboschCliqueFinder<V, E>
+    extends
+    BaseBronKerboschCliqueFinder<V, E>
+{
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructs a new clique finder which uses the common pool.
+     *
+     * @param graph the input graph; must be simple
+     */
+    public ParallelBitsetBronKerboschCliqueFinder(Graph<V, E> graph)
+    {
+        this(graph, 0L, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a new clique finder which uses the common pool.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     */
+    public ParallelBitsetBronKerboschCliqueFinder(Graph<V, E> graph, long timeout, TimeUnit unit)
+    {
+        this(graph, timeout, unit, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new clique finder.
+     *
+     * @param graph the input graph; must be simple
+     * @param timeout the maximum time to wait, if zero no timeout
+     * @param unit the time unit of the timeout argument
+     * @param pool the pool used to enumerate the cliques
+     */
+    public ParallelBitsetBronKerboschCliqueFinder(
+        Graph<V, E> graph, long timeout, TimeUnit unit, ForkJoinPool pool)
+    {
+        super(graph, timeout, unit);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * Lazily execute the enumeration algorithm.
+     */
+    @Override
+    protected void lazyRun()
+    {
+        if (allMaximalCliques == null) {
+            List<Set<V>> cliques = new ArrayList<>();
+            timeLimitReached = !enumerate(cliques::add);
+            allMaximalCliques = cliques;
+            maxSize = 0;
+            for (Set<V> c : cliques) {
+                maxSize = Math.max(maxSize, c.size());
+            }
+        }
+    }
+
+    /**
+     * Enumerate all maximal cliques and pass them to a consumer, without storing them. Each call
+     * executes the enumeration again. The consumer is never invoked concurrently, but may be
+     * invoked from different threads. The cliques are reported in no particular order.
+     *
+     * @param consumer the consumer of the maximal cliques
+     * @return true if all maximal cliques have been reported, false if the enumeration stopped
+     *         due to the time limit
+     */
+    public boolean forEachClique(Consumer<Set<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        return enumerate(consumer);
+    }
+
+    private boolean enumerate(Consumer<Set<V>> consumer)
+    {
+        if (!GraphTests.isSimple(graph)) {
+            throw new IllegalArgumentException("Graph must be simple");
+        }
+
+        long nanosTimeLimit;
+        try {
+            nanosTimeLimit = Math.addExact(System.nanoTime(), nanos);
+        } catch (ArithmeticException ignore) {
+            nanosTimeLimit = Long.MAX_VALUE;
+        }
+
+        // number vertices by the degeneracy ordering
+        List<V> ordering = new ArrayList<>(graph.vertexSet().size());
+        new DegeneracyOrderingIterator<V, E>(graph).forEachRemaining(ordering::add);
+        int n = ordering.size();
+        Map<V, Integer> rank = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            rank.put(ordering.get(i), i);
+        }
+        int[][] neighbors = new int[n][];
+        for (int i = 0; i < n; i++) {
+            V v = ordering.get(i);
+            int[] list = new int[graph.degreeOf(v)];
+            int k = 0;
+            for (E e : graph.edgesOf(v)) {
+                list[k++] = rank.get(Graphs.getOppositeVertex(graph, e, v));
+            }
+            neighbors[i] = list;
+        }
+
+        Enumeration e = new Enumeration(ordering, neighbors, consumer, nanosTimeLimit);
+        List<Subproblem> workspaces =
+            new ArrayList<>(Collections.nCopies(ConcurrencyUtil.workers(pool, n), null));
+        ConcurrencyUtil.parallelFor(pool, n, (worker, i) -> {
+            if (e.timeLimitReached) {
+                return;
+            }
+            Subproblem s = workspaces.get(worker);
+            if (s == null) {
+                s = new Subproblem(e);
+                workspaces.set(worker, s);
+            }
+            s.solve(i);
+        });
+        return !e.timeLimitReached;
+    }
+
+    /**
+     * The shared state of an enumeration.
+     */
+    private class Enumeration
+    {
+        final List<V> ordering;
+        final int[][] neighbors;
+        final Consumer<Set<V>> consumer;
+        final long nanosTimeLimit;
+        volatile boolean timeLimitReached;
+
+        Enumeration(
+            List<V> ordering, int[][] neighbors, Consumer<Set<V>> consumer, long nanosTimeLimit)
+        {
+            this.ordering = ordering;
+            this.neighbors = neighbors;
+            this.consumer = consumer;
+            this.nanosTimeLimit = nanosTimeLimit;
+        }
+
+        void report(int[] vertices, int size)
+        {
+            Set<V> clique = new HashSet<>();
+            for (int i = 0; i < size; i++) {
+                clique.add(ordering.get(vertices[i]));
+            }
+            synchronized (this) {
+                consumer.accept(clique);
+            }
+        }
+    }
+
+    /**
+     * The workspace of a worker, which solves the subproblems of single vertices one at a time.
+     */
+    private class Subproblem
+    {
+        private final Enumeration e;
+
+        // local index of each global vertex, or -1
+        private final int[] localIndex;
+        // global vertex of each local index
+        private int[] global;
+        private int size;
+        private int words;
+        // local adjacency rows
+        private long[][] adjacency;
+        // candidate and excluded sets per recursion depth
+        private long[][] candidates;
+        private long[][] excluded;
+        // the current clique as global vertices
+        private int[] clique;
+
+        Subproblem(Enumeration e)
+        {
+            this.e = e;
+            int n = e.ordering.size();
+            this.localIndex = new int[n];
+            Arrays.fill(localIndex, -1);
+            this.global = new int[16];
+            this.adjacency = new long[16][];
+            this.candidates = new long[16][];
+            this.excluded = new long[16][];
+            this.clique = new int[16];
+        }
+
+        /**
+         * Enumerate the maximal cliques whose earliest vertex in the ordering is $v$.
+         */
+        void solve(int v)
+        {
+            int[] nv = e.neighbors[v];
+            if (nv.length == 0) {
+                clique[0] = v;
+                e.report(clique, 1);
+                return;
+            }
+
+            // later neighbors are candidates, mark earlier neighbors
+            size = 0;
+            int later = 0;
+            for (int u : nv) {
+                if (u > v) {
+                    add(u);
+                    later++;
+                } else {
+                    localIndex[u] = -2;
+                }
+            }
+            if (later > 0) {
+                // excluded vertices only matter if adjacent to some candidate
+                for (int k = 0; k < later; k++) {
+                    for (int w : e.neighbors[global[k]]) {
+                        if (localIndex[w] == -2) {
+                            add(w);
+                        }
+                    }
+                }
+            }
+            for (int u : nv) {
+                if (localIndex[u] == -2) {
+                    localIndex[u] = -1;
+                }
+            }
+            if (later == 0) {
+                // v has earlier neighbors and no later ones, thus {v} is not maximal
+                return;
+            }
+
+            // local adjacency
+            words = (size + 63) >>> 6;
+            if (adjacency.length < size) {
+                adjacency = new long[Math.max(size, 2 * adjacency.length)][];
+            }
+            for (int k = 0; k < size; k++) {
+                long[] row = adjacency[k];
+                if (row == null || row.length < words) {
+                    row = new long[Math.max(words, row == null ? 0 : 2 * row.length)];
+                    adjacency[k] = row;
+                } else {
+                    Arrays.fill(row, 0, words, 0L);
+                }
+                for (int w : e.neighbors[global[k]]) {
+                    int j = localIndex[w];
+                    if (j >= 0) {
+                        row[j >>> 6] |= 1L << j;
+                    }
+                }
+            }
+
+            long[] p = level(candidates, 0);
+            long[] x = level(excluded, 0);
+            Arrays.fill(p, 0, words, 0L);
+            Arrays.fill(x, 0, words, 0L);
+            for (int k = 0; k < size; k++) {
+                if (k < later) {
+                    p[k >>> 6] |= 1L << k;
+                } else {
+                    x[k >>> 6] |= 1L << k;
+                }
+            }
+            clique[0] = v;
+            expand(0, 1);
+
+            for (int k = 0; k < size; k++) {
+                localIndex[global[k]] = -1;
+            }
+        }
+
+        private void add(int u)
+        {
+            if (size == global.length) {
+                global = Arrays.copyOf(global, 2 * size);
+            }
+            localIndex[u] = size;
+            global[size++] = u;
+        }
+
+        private long[] level(long[][] stack, int depth)
+        {
+            long[] row = stack[depth];
+            if (row == null || row.length < words) {
+                row = new long[Math.max(words, row == null ? 0 : 2 * row.length)];
+                stack[depth] = row;
+            }
+            return row;
+        }
+
+        /**
+         * Pivoting Bron-Kerbosch recursion. The candidates and excluded sets are the ones stored
+         * at the given depth and the current clique has the given size.
+         */
+        private void expand(int depth, int cliqueSize)
+        {
+            if (e.timeLimitReached) {
+                return;
+            }
+            if (e.nanosTimeLimit - System.nanoTime() < 0) {
+                e.timeLimitReached = true;
+                return;
+            }
+
+            long[] p = candidates[depth];
+            long[] x = excluded[depth];
+
+            boolean pEmpty = true;
+            boolean xEmpty = true;
+            for (int w = 0; w < words; w++) {
+                pEmpty &= p[w] == 0L;
+                xEmpty &= x[w] == 0L;
+            }
+            if (pEmpty) {
+                if (xEmpty) {
+                    e.report(clique, cliqueSize);
+                }
+                return;
+            }
+
+            // choose as pivot the vertex of P or X with the most neighbors in P
+            int pivot = -1;
+            int best = -1;
+            for (int w = 0; w < words; w++) {
+                long word = p[w] | x[w];
+                while (word != 0L) {
+                    int u = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    long[] row = adjacency[u];
+                    int count = 0;
+                    for (int k = 0; k < words; k++) {
+                        count += Long.bitCount(p[k] & row[k]);
+                    }
+                    if (count > best) {
+                        best = count;
+                        pivot = u;
+                    }
+                }
+            }
+
+            if (cliqueSize == clique.length) {
+                clique = Arrays.copyOf(clique, 2 * cliqueSize);
+            }
+            if (candidates.length < depth + 2) {
+                candidates = Arrays.copyOf(candidates, Math.max(depth + 2, 2 * candidates.length));
+                excluded = Arrays.copyOf(excluded, candidates.length);
+            }
+            long[] pivotRow = adjacency[pivot];
+            for (int w = 0; w < words; w++) {
+                long word = p[w] & ~pivotRow[w];
+                while (word != 0L) {
+                    int bit = Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                    int u = (w << 6) + bit;
+                    long[] row = adjacency[u];
+
+                    long[] np = level(candidates, depth + 1);
+                    long[] nx = level(excluded, depth + 1);
+                    for (int k = 0; k < words; k++) {
+                        np[k] = p[k] & row[k];
+                        nx[k] = x[k] & row[k];
+                    }
+                    clique[cliqueSize] = global[u];
+                    expand(depth + 1, cliqueSize + 1);
+                    if (e.timeLimitReached) {
+                        return;
+                    }
+
+                    p[w] &= ~(1L << bit);
+                    x[w] |= 1L << bit;
+                }
+            }
+        }
+    }
+
+}
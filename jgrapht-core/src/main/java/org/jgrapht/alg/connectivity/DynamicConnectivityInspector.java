@@ -0,0 +1,668 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Fully dynamic connectivity of a graph under edge insertions and deletions.
+ *
+ * <p>
+ * The implementation follows the algorithm of Holm, de Lichtenberg and Thorup, see J. Holm, K. de
+ * Lichtenberg and M. Thorup. Poly-logarithmic deterministic fully-dynamic algorithms for
+ * connectivity, minimum spanning tree, 2-edge, and biconnectivity. Journal of the ACM,
+ * 48(4):723-760, 2001.
+ *
+ * <p>
+ * Each edge is assigned a level, starting from zero. For each level $i$ a spanning forest $F_i$ of
+ * the edges with level at least $i$ is maintained, where each tree is stored as an Euler tour in a
+ * splay tree. An edge insertion either links two trees or is stored as a non-tree edge. When a tree
+ * edge is deleted, a replacement edge is searched among the non-tree edges of the smaller of the
+ * two resulting trees, starting from the level of the deleted edge down to zero. Edges which are
+ * examined without success are moved one level up, which bounds the total work. Queries require
+ * $O(\log n)$ amortized time and updates $O(\log^2 n)$ amortized time, where $n$ is the number of
+ * vertices.
+ *
+ * <p>
+ * The inspector is a {@link GraphListener} and must be added as a listener to the inspected graph
+ * in order to be notified about changes. If it is added as listener to a graph other than the one
+ * it inspects, results are undefined. When the inspected graph is directed, the inspector
+ * maintains its weakly connected components.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class DynamicConnectivityInspector<V, E>
+    implements
+    GraphListener<V, E>
+{
+    private final Map<V, VertexRecord<V>> vertices;
+    private final Map<E, EdgeRecord<V>> edges;
+    private int components;
+
+    /**
+     * Creates a dynamic connectivity inspector for the specified graph.
+     *
+     * @param graph the graph
+     */
+    public DynamicConnectivityInspector(Graph<V, E> graph)
+    {
+        Objects.requireNonNull(graph, "Graph cannot be null");
+        this.vertices = new HashMap<>();
+        this.edges = new HashMap<>();
+        for (V v : graph.vertexSet()) {
+            addVertex(v);
+        }
+        for (E e : graph.edgeSet()) {
+            addEdge(e, graph.getEdgeSource(e), graph.getEdgeTarget(e));
+        }
+    }
+
+    /**
+     * Test if the inspected graph is connected. An empty graph is <i>not</i> considered
+     * connected.
+     *
+     * @return <code>true</code> if and only if inspected graph is connected
+     */
+    public boolean isConnected()
+    {
+        return components == 1;
+    }
+
+    /**
+     * Get the number of connected components of the inspected graph.
+     *
+     * @return the number of connected components
+     */
+    public int getNumberOfConnectedComponents()
+    {
+        return components;
+    }
+
+    /**
+     * Tests whether two vertices lay in the same connected component (undirected graph), or in the
+     * same weakly connected component (directed graph).
+     *
+     * @param sourceVertex one end of the path
+     * @param targetVertex another end of the path
+     * @return <code>true</code> if and only if the source and target vertex are in the same
+     *         connected component
+     * @throws IllegalArgumentException if a vertex is not contained in the graph
+     */
+    public boolean pathExists(V sourceVertex, V targetVertex)
+    {
+        VertexRecord<V> u = getVertexRecord(sourceVertex);
+        VertexRecord<V> v = getVertexRecord(targetVertex);
+        return connected(u.node(0), v.node(0));
+    }
+
+    /**
+     * Get the number of vertices in the connected component of a vertex.
+     *
+     * @param vertex the vertex
+     * @return the number of vertices in the connected component of the vertex
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public int connectedSetSizeOf(V vertex)
+    {
+        Node<V> node = getVertexRecord(vertex).node(0);
+        splay(node);
+        return node.vertices;
+    }
+
+    /**
+     * Returns the set of vertices in the connected component of a vertex. The running time is
+     * linear in the size of the component.
+     *
+     * @param vertex the vertex
+     * @return the set of vertices in the connected component of the vertex
+     * @throws IllegalArgumentException if the vertex is not contained in the graph
+     */
+    public Set<V> connectedSetOf(V vertex)
+    {
+        Node<V> node = getVertexRecord(vertex).node(0);
+        splay(node);
+        Set<V> result = new HashSet<>();
+        collectVertices(node, result);
+        return result;
+    }
+
+    /**
+     * Returns a list of sets, where each set contains all vertices that are in the same maximally
+     * connected component. The running time is linear in the size of the graph.
+     *
+     * @return a list of the connected components
+     */
+    public List<Set<V>> connectedSets()
+    {
+        List<Set<V>> result = new ArrayList<>();
+        Set<V> visited = new HashSet<>();
+        for (V v : vertices.keySet()) {
+            if (!visited.contains(v)) {
+                Set<V> component = connectedSetOf(v);
+                visited.addAll(component);
+                result.add(component);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @see GraphListener#edgeAdded(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        addEdge(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * @see GraphListener#edgeRemoved(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        EdgeRecord<V> edge = edges.remove(e.getEdge());
+        if (edge == null) {
+            // self-loop
+            return;
+        }
+        if (edge.tree) {
+            removeTreeEdge(edge);
+        } else {
+            removeNonTreeEdge(edge);
+        }
+    }
+
+    /**
+     * @see VertexSetListener#vertexAdded(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        addVertex(e.getVertex());
+    }
+
+    /**
+     * @see VertexSetListener#vertexRemoved(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        // all incident edges have already been removed
+        if (vertices.remove(e.getVertex()) != null) {
+            components--;
+        }
+    }
+
+    private VertexRecord<V> getVertexRecord(V v)
+    {
+        VertexRecord<V> record = vertices.get(v);
+        if (record == null) {
+            throw new IllegalArgumentException("no such vertex in graph: " + v);
+        }
+        return record;
+    }
+
+    private void addVertex(V v)
+    {
+        if (!vertices.containsKey(v)) {
+            vertices.put(v, new VertexRecord<>(v));
+            components++;
+        }
+    }
+
+    private void addEdge(E e, V s, V t)
+    {
+        if (s.equals(t)) {
+            return;
+        }
+        EdgeRecord<V> edge = new EdgeRecord<>(getVertexRecord(s), getVertexRecord(t));
+        edges.put(e, edge);
+        if (connected(edge.u.node(0), edge.v.node(0))) {
+            addNonTreeEdge(edge);
+        } else {
+            edge.tree = true;
+            link(edge, 0);
+            components--;
+        }
+    }
+
+    private void addNonTreeEdge(EdgeRecord<V> edge)
+    {
+        int level = edge.level;
+        for (VertexRecord<V> w : Arrays.asList(edge.u, edge.v)) {
+            Set<EdgeRecord<V>> set = w.nonTreeEdges(level);
+            set.add(edge);
+            if (set.size() == 1) {
+                Node<V> node = w.node(level);
+                splay(node);
+                node.hasNonTreeEdges = true;
+                node.update();
+            }
+        }
+    }
+
+    private void removeNonTreeEdge(EdgeRecord<V> edge)
+    {
+        int level = edge.level;
+        for (VertexRecord<V> w : Arrays.asList(edge.u, edge.v)) {
+            Set<EdgeRecord<V>> set = w.nonTreeEdges(level);
+            set.remove(edge);
+            if (set.isEmpty()) {
+                Node<V> node = w.node(level);
+                splay(node);
+                node.hasNonTreeEdges = false;
+                node.update();
+            }
+        }
+    }
+
+    private void removeTreeEdge(EdgeRecord<V> edge)
+    {
+        for (int i = 0; i <= edge.level; i++) {
+            cut(edge, i);
+        }
+        edge.tree = false;
+
+        for (int i = edge.level; i >= 0; i--) {
+            Node<V> u = edge.u.node(i);
+            Node<V> v = edge.v.node(i);
+            splay(u);
+            int uSize = u.vertices;
+            splay(v);
+            int vSize = v.vertices;
+            Node<V> smaller = uSize <= vSize ? u : v;
+
+            // move the tree edges of the smaller tree one level up
+            Node<V> arc;
+            while ((arc = findTreeEdge(smaller)) != null) {
+                EdgeRecord<V> f = arc.edge;
+                arc.isLevelTreeEdge = false;
+                arc.update();
+                f.level = i + 1;
+                link(f, i + 1);
+            }
+
+            // search for a replacement edge, moving failed candidates one level up
+            Node<V> x;
+            while ((x = findNonTreeEdges(smaller)) != null) {
+                VertexRecord<V> w = x.vertex;
+                Set<EdgeRecord<V>> set = w.nonTreeEdges(i);
+                while (!set.isEmpty()) {
+                    EdgeRecord<V> f = set.iterator().next();
+                    VertexRecord<V> y = f.u == w ? f.v : f.u;
+                    removeNonTreeEdge(f);
+                    if (!connected(y.node(i), smaller)) {
+                        f.tree = true;
+                        for (int j = 0; j <= i; j++) {
+                            link(f, j);
+                        }
+                        return;
+                    }
+                    f.level = i + 1;
+                    addNonTreeEdge(f);
+                }
+            }
+        }
+        components++;
+    }
+
+    /*
+     * Euler tour trees. A tree is represented by the sequence of its vertices, each appearing
+     * once, and of two arcs for each tree edge. The sequence is stored in a splay tree.
+     */
+
+    private void link(EdgeRecord<V> edge, int level)
+    {
+        Node<V> u = edge.u.node(level);
+        Node<V> v = edge.v.node(level);
+        reroot(u);
+        reroot(v);
+        Node<V> uv = new Node<>(null, edge);
+        Node<V> vu = new Node<>(null, edge);
+        uv.isLevelTreeEdge = level == edge.level;
+        uv.update();
+        edge.setArcs(level, uv, vu);
+        splay(u);
+        splay(v);
+        join(join(join(u, uv), v), vu);
+    }
+
+    private void cut(EdgeRecord<V> edge, int level)
+    {
+        Node<V> first = edge.uv.get(level);
+        Node<V> second = edge.vu.get(level);
+        edge.setArcs(level, null, null);
+        splay(first);
+        int firstPosition = size(first.left);
+        splay(second);
+        int secondPosition = size(second.left);
+        if (firstPosition > secondPosition) {
+            Node<V> tmp = first;
+            first = second;
+            second = tmp;
+        }
+
+        // sequence is A first B second C, result is B and AC
+        Node<V> a = splitBefore(first);
+        splitAfter(first);
+        splitBefore(second);
+        Node<V> c = splitAfter(second);
+        join(a, c);
+    }
+
+    private void reroot(Node<V> x)
+    {
+        Node<V> left = splitBefore(x);
+        join(x, left);
+    }
+
+    private boolean connected(Node<V> a, Node<V> b)
+    {
+        if (a == b) {
+            return true;
+        }
+        splay(a);
+        splay(b);
+        return a.parent != null;
+    }
+
+    private Node<V> findTreeEdge(Node<V> x)
+    {
+        splay(x);
+        if (!x.subtreeHasLevelTreeEdge) {
+            return null;
+        }
+        Node<V> n = x;
+        while (true) {
+            if (n.left != null && n.left.subtreeHasLevelTreeEdge) {
+                n = n.left;
+            } else if (n.isLevelTreeEdge) {
+                break;
+            } else {
+                n = n.right;
+            }
+        }
+        splay(n);
+        return n;
+    }
+
+    private Node<V> findNonTreeEdges(Node<V> x)
+    {
+        splay(x);
+        if (!x.subtreeHasNonTreeEdges) {
+            return null;
+        }
+        Node<V> n = x;
+        while (true) {
+            if (n.left != null && n.left.subtreeHasNonTreeEdges) {
+                n = n.left;
+            } else if (n.hasNonTreeEdges) {
+                break;
+            } else {
+                n = n.right;
+            }
+        }
+        splay(n);
+        return n;
+    }
+
+    private void collectVertices(Node<V> root, Set<V> result)
+    {
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            Node<V> n = stack.pop();
+            if (n.vertex != null) {
+                result.add(n.vertex.v);
+            }
+            if (n.left != null) {
+                stack.push(n.left);
+            }
+            if (n.right != null) {
+                stack.push(n.right);
+            }
+        }
+    }
+
+    /*
+     * Splay trees
+     */
+
+    private static int size(Node<?> n)
+    {
+        return n == null ? 0 : n.count;
+    }
+
+    private static <V> void rotate(Node<V> x)
+    {
+        Node<V> p = x.parent;
+        Node<V> g = p.parent;
+        if (p.left == x) {
+            p.left = x.right;
+            if (x.right != null) {
+                x.right.parent = p;
+            }
+            x.right = p;
+        } else {
+            p.right = x.left;
+            if (x.left != null) {
+                x.left.parent = p;
+            }
+            x.left = p;
+        }
+        p.parent = x;
+        x.parent = g;
+        if (g != null) {
+            if (g.left == p) {
+                g.left = x;
+            } else {
+                g.right = x;
+            }
+        }
+        p.update();
+        x.update();
+    }
+
+    private static <V> void splay(Node<V> x)
+    {
+        while (x.parent != null) {
+            Node<V> p = x.parent;
+            Node<V> g = p.parent;
+            if (g != null) {
+                rotate((g.left == p) == (p.left == x) ? p : x);
+            }
+            rotate(x);
+        }
+    }
+
+    /**
+     * Join two sequences given their roots, any of which may be null. Returns the new root.
+     */
+    private static <V> Node<V> join(Node<V> a, Node<V> b)
+    {
+        if (a == null) {
+            return b;
+        }
+        if (b == null) {
+            return a;
+        }
+        Node<V> last = a;
+        while (last.right != null) {
+            last = last.right;
+        }
+        splay(last);
+        last.right = b;
+        b.parent = last;
+        last.update();
+        return last;
+    }
+
+    /**
+     * Split the sequence before a node. Returns the root of the left part, the node becomes the
+     * root of the right part.
+     */
+    private static <V> Node<V> splitBefore(Node<V> x)
+    {
+        splay(x);
+        Node<V> left = x.left;
+        if (left != null) {
+            left.parent = null;
+            x.left = null;
+            x.update();
+        }
+        return left;
+    }
+
+    /**
+     * Split the sequence after a node. Returns the root of the right part, the node becomes the
+     * root of the left part.
+     */
+    private static <V> Node<V> splitAfter(Node<V> x)
+    {
+        splay(x);
+        Node<V> right = x.right;
+        if (right != null) {
+            right.parent = null;
+            x.right = null;
+            x.update();
+        }
+        return right;
+    }
+
+    private static class VertexRecord<V>
+    {
+        final V v;
+        final List<Node<V>> nodes;
+        final List<Set<EdgeRecord<V>>> nonTreeEdges;
+
+        VertexRecord(V v)
+        {
+            this.v = v;
+            this.nodes = new ArrayList<>();
+            this.nonTreeEdges = new ArrayList<>();
+        }
+
+        Node<V> node(int level)
+        {
+            while (nodes.size() <= level) {
+                nodes.add(null);
+            }
+            Node<V> node = nodes.get(level);
+            if (node == null) {
+                node = new Node<>(this, null);
+                nodes.set(level, node);
+            }
+            return node;
+        }
+
+        Set<EdgeRecord<V>> nonTreeEdges(int level)
+        {
+            while (nonTreeEdges.size() <= level) {
+                nonTreeEdges.add(new LinkedHashSet<>());
+            }
+            return nonTreeEdges.get(level);
+        }
+    }
+
+    private static class EdgeRecord<V>
+    {
+        final VertexRecord<V> u;
+        final VertexRecord<V> v;
+        int level;
+        boolean tree;
+        final List<Node<V>> uv;
+        final List<Node<V>> vu;
+
+        EdgeRecord(VertexRecord<V> u, VertexRecord<V> v)
+        {
+            this.u = u;
+            this.v = v;
+            this.uv = new ArrayList<>();
+            this.vu = new ArrayList<>();
+        }
+
+        void setArcs(int level, Node<V> uvArc, Node<V> vuArc)
+        {
+            while (uv.size() <= level) {
+                uv.add(null);
+                vu.add(null);
+            }
+            uv.set(level, uvArc);
+            vu.set(level, vuArc);
+        }
+    }
+
+    /**
+     * A node of a splay tree, which is either a vertex or an arc of a tree edge.
+     */
+    private static class Node<V>
+    {
+        final VertexRecord<V> vertex;
+        final EdgeRecord<V> edge;
+
+        Node<V> left;
+        Node<V> right;
+        Node<V> parent;
+
+        // whether the vertex has non-tree edges at the level of the tree
+        boolean hasNonTreeEdges;
+        // whether the arc belongs to a tree edge with the same level as the tree
+        boolean isLevelTreeEdge;
+
+        // aggregates of the subtree
+        int count;
+        int vertices;
+        boolean subtreeHasNonTreeEdges;
+        boolean subtreeHasLevelTreeEdge;
+
+        Node(VertexRecord<V> vertex, EdgeRecord<V> edge)
+        {
+            this.vertex = vertex;
+            this.edge = edge;
+            update();
+        }
+
+        void update()
+        {
+            count = 1;
+            vertices = vertex != null ? 1 : 0;
+            subtreeHasNonTreeEdges = hasNonTreeEdges;
+            subtreeHasLevelTreeEdge = isLevelTreeEdge;
+            if (left != null) {
+                count += left.count;
+                vertices += left.vertices;
+                subtreeHasNonTreeEdges |= left.subtreeHasNonTreeEdges;
+                subtreeHasLevelTreeEdge |= left.subtreeHasLevelTreeEdge;
+            }
+            if (right != null) {
+                count += right.count;
+                vertices += right.vertices;
+                subtreeHasNonTreeEdges |= right.subtreeHasNonTreeEdges;
+                subtreeHasLevelTreeEdge |= right.subtreeHasLevelTreeEdge;
+            }
+        }
+    }
+
+}
@@ -18,11 +18,17 @@
 package org.jgrapht.alg.cycle;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * A common interface for classes implementing algorithms for enumeration of the simple cycles of a
  * directed graph.
  *
+ * <p>
+ * The implementations in this package report cycles one at a time while searching, so when using
+ * {@link #simpleCycles(Consumer)} or {@link #simpleCycles(Predicate, int)} the memory used is
+ * bounded by the state of the search and not by the number of cycles.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -36,6 +42,51 @@ public interface DirectedSimpleCycles<V, E>
      * @return The list of all simple cycles. Possibly empty but never <code>null</code>.
      */
     List<List<V>> findSimpleCycles();
+
+    /**
+     * Find the simple cycles of the graph, passing each one to the consumer as soon as it is found.
+     *
+     * @param consumer consumer that will be called with each cycle found
+     */
+    default void simpleCycles(Consumer<List<V>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        simpleCycles(cycle -> {
+            consumer.accept(cycle);
+            return true;
+        }, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Find the simple cycles of the graph with at most a given number of vertices, passing each
+     * one to the consumer as soon as it is found. The enumeration stops as soon as the consumer
+     * returns false.
+     *
+     * <p>
+     * The default implementation computes all cycles using {@link #findSimpleCycles()} and then
+     * filters them by length. Implementations should override it in order to avoid storing all
+     * cycles.
+     *
+     * @param consumer consumer that will be called with each cycle found, returning whether the
+     *        enumeration should continue
+     * @param maxLength the maximum number of vertices of a reported cycle
+     * @return true if all cycles were enumerated, false if the enumeration was stopped by the
+     *         consumer
+     * @throws IllegalArgumentException if the maximum length is not positive
+     */
+    default boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        for (List<V> cycle : findSimpleCycles()) {
+            if (cycle.size() <= maxLength && !consumer.test(cycle)) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
 
 // End DirectedSimpleCycles.java
@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the algorithm described by Hawick and James.
@@ -54,8 +55,10 @@ public class HawickJamesSimpleCycles<V, E>
     // Number of simple cycles
     private long nCycles = 0;
 
-    // Simple cycles found
-    private List<List<V>> cycles = null;
+    // Consumer of the simple cycles found
+    private Predicate<List<V>> consumer = null;
+    private int maxLength = Integer.MAX_VALUE;
+    private boolean stopped = false;
 
     // The main state of the algorithm
     private Integer start = 0;
@@ -93,10 +96,8 @@ public class HawickJamesSimpleCycles<V, E>
     private void initState(Operation o)
     {
         nCycles = 0;
+        stopped = false;
         nVertices = graph.vertexSet().size();
-        if (o == Operation.ENUMERATE) {
-            cycles = new ArrayList<>();
-        }
         blocked = new boolean[nVertices];
         stack = new ArrayDeque<>(nVertices);
 
@@ -138,6 +139,8 @@ public class HawickJamesSimpleCycles<V, E>
     {
         Ak = null;
         nVertices = 0;
+        consumer = null;
+        maxLength = Integer.MAX_VALUE;
         blocked = null;
         stack = null;
         iToV = null;
@@ -155,6 +158,9 @@ public class HawickJamesSimpleCycles<V, E>
         blocked[v] = true;
 
         for (Integer w : Ak[v]) {
+            if (stopped) {
+                break;
+            }
             if (w < start) {
                 continue;
             }
@@ -167,7 +173,9 @@ public class HawickJamesSimpleCycles<V, E>
                         cycle.add(iToV[aStack]);
                     }
 
-                    cycles.add(cycle);
+                    if (!consumer.test(cycle)) {
+                        stopped = true;
+                    }
                 }
 
                 if (o == Operation.PRINT_ONLY) {
@@ -181,7 +189,10 @@ public class HawickJamesSimpleCycles<V, E>
 
                 f = true;
             } else if (!blocked[w]) {
-                if (circuit(w, o)) {
+                if (stack.size() >= maxLength) {
+                    // truncated search, keep the vertex available for shorter paths
+                    f = true;
+                } else if (circuit(w, o)) {
                     f = true;
                 }
             }
@@ -266,27 +277,44 @@ public class HawickJamesSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
         throws IllegalArgumentException
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
 
         initState(Operation.ENUMERATE);
+        this.consumer = Objects.requireNonNull(consumer, "Consumer cannot be null");
+        this.maxLength = maxLength;
+
+        try {
+            for (int i = 0; i < nVertices && !stopped; i++) {
+                for (int j = 0; j < nVertices; j++) {
+                    blocked[j] = false;
+                    B[j].clear();
+                }
 
-        for (int i = 0; i < nVertices; i++) {
-            for (int j = 0; j < nVertices; j++) {
-                blocked[j] = false;
-                B[j].clear();
+                start = vToI.get(iToV[i]);
+                circuit(start, Operation.ENUMERATE);
             }
-
-            start = vToI.get(iToV[i]);
-            circuit(start, Operation.ENUMERATE);
+            return !stopped;
+        } finally {
+            clearState();
         }
-
-        List<List<V>> result = cycles;
-        clearState();
-        return result;
     }
 
     /**
@@ -22,6 +22,7 @@ import org.jgrapht.alg.util.*;
 import org.jgrapht.graph.builder.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Johnson's algorithm.
@@ -44,7 +45,9 @@ public class JohnsonSimpleCycles<V, E>
     private Graph<V, E> graph;
 
     // The main state of the algorithm.
-    private List<List<V>> cycles = null;
+    private Predicate<List<V>> consumer = null;
+    private int maxLength;
+    private boolean stopped;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Set<V> blocked = null;
@@ -80,15 +83,38 @@ public class JohnsonSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(Objects.requireNonNull(consumer, "Consumer cannot be null"), maxLength);
+        try {
+            findCycles();
+            return !stopped;
+        } finally {
+            clearState();
+        }
+    }
 
+    private void findCycles()
+    {
         int startIndex = 0;
         int size = graph.vertexSet().size();
-        while (startIndex < size) {
+        while (startIndex < size && !stopped) {
             Pair<Graph<V, E>, Integer> minSCCGResult = findMinSCSG(startIndex);
             if (minSCCGResult != null) {
                 startIndex = minSCCGResult.getSecond();
@@ -105,10 +131,6 @@ public class JohnsonSimpleCycles<V, E>
                 break;
             }
         }
-
-        List<List<V>> result = cycles;
-        clearState();
-        return result;
     }
 
     private Pair<Graph<V, E>, Integer> findMinSCSG(int startIndex)
@@ -232,7 +254,9 @@ public class JohnsonSimpleCycles<V, E>
     private boolean findCyclesInSCG(int startIndex, int vertexIndex, Graph<V, E> scg)
     {
         /*
-         * Find cycles in a strongly connected graph per Johnson.
+         * Find cycles in a strongly connected graph per Johnson. When the search is truncated by
+         * the maximum length we report it as if a cycle was found, so that the vertex gets
+         * unblocked and may be visited again through a shorter path.
          */
         boolean foundCycle = false;
         V vertex = toV(vertexIndex);
@@ -240,16 +264,25 @@ public class JohnsonSimpleCycles<V, E>
         blocked.add(vertex);
 
         for (E e : scg.outgoingEdgesOf(vertex)) {
+            if (stopped) {
+                break;
+            }
             V successor = scg.getEdgeTarget(e);
             int successorIndex = toI(successor);
             if (successorIndex == startIndex) {
                 List<V> cycle = new ArrayList<>(stack.size());
                 stack.descendingIterator().forEachRemaining(cycle::add);
-                cycles.add(cycle);
+                if (!consumer.test(cycle)) {
+                    stopped = true;
+                }
                 foundCycle = true;
             } else if (!blocked.contains(successor)) {
-                boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
-                foundCycle = foundCycle || gotCycle;
+                if (stack.size() >= maxLength) {
+                    foundCycle = true;
+                } else {
+                    boolean gotCycle = findCyclesInSCG(startIndex, successorIndex, scg);
+                    foundCycle = foundCycle || gotCycle;
+                }
             }
         }
         if (foundCycle) {
@@ -279,9 +312,11 @@ public class JohnsonSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Predicate<List<V>> consumer, int maxLength)
     {
-        cycles = new LinkedList<>();
+        this.consumer = consumer;
+        this.maxLength = maxLength;
+        this.stopped = false;
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         blocked = new HashSet<>();
@@ -295,7 +330,7 @@ public class JohnsonSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        consumer = null;
         iToV = null;
         vToI = null;
         blocked = null;
@@ -0,0 +1,473 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+/**
+ * Find all simple cycles of a directed graph in parallel using Johnson's algorithm.
+ *
+ * <p>
+ * Every simple cycle lies inside a single strongly connected component and contains a unique
+ * vertex with minimum index. The algorithm computes the strongly connected components once and
+ * numbers the vertices so that each non-trivial component occupies a contiguous range of indices.
+ * Then, for each start vertex $s$, the cycles whose minimum vertex is $s$ are enumerated by
+ * Johnson's blocking search restricted to the vertices of the component of $s$ with index larger
+ * than $s$. These searches are independent, and are distributed over the workers of a
+ * {@link ForkJoinPool}. Each worker owns its blocked flags, blocking lists and search stack, which
+ * are reused for all start vertices processed by the worker. The search is iterative and thus not
+ * limited by the size of the thread stack.
+ *
+ * <p>
+ * Unlike {@link JohnsonSimpleCycles} the components are not recomputed after each start vertex is
+ * processed, which would serialize the computation. As a consequence the search from a start
+ * vertex may visit the remaining part of its component even if no cycle passes through it.
+ *
+ * <p>
+ * Cycles are reported to the consumer as soon as they are found, from all workers concurrently.
+ * The consumer passed to {@link #simpleCycles(Consumer)} or {@link #simpleCycles(Predicate, int)}
+ * must therefore be thread-safe, for example by adding to a concurrent collection. The order in
+ * which cycles are reported depends on the scheduling. Each cycle starts with its minimum vertex
+ * according to the internal numbering, followed by the rest of the vertices in the direction of
+ * the edges.
+ *
+ * <p>
+ * See:<br>
+ * D.B.Johnson, Finding all the elementary circuits of a directed graph, SIAM J. Comput., 4 (1975),
+ * pp. 77-84.
+ *
+ * @param <V> the vertex type.
+ * @param <E> the edge type.
+ *
+ * @see JohnsonSimpleCycles
+ *
+ * @author agent
+ */
+public class ParallelJohnsonSimpleCycles<V, E>
+    implements
+    DirectedSimpleCycles<V, E>
+{
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Create a simple cycle finder for the specified graph which uses the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the directed graph in which to find cycles
+     * @throws IllegalArgumentException if the graph is not directed or has multiple edges
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Create a simple cycle finder for the specified graph.
+     *
+     * @param graph the directed graph in which to find cycles
+     * @param pool the pool used to parallelize the computation
+     * @throws IllegalArgumentException if the graph is not directed or has multiple edges
+     */
+    public ParallelJohnsonSimpleCycles(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = GraphTests.requireDirected(graph, "Graph must be directed");
+        if (GraphTests.hasMultipleEdges(graph)) {
+            throw new IllegalArgumentException("Graph should not have multiple (parallel) edges");
+        }
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<List<V>> findSimpleCycles()
+    {
+        Queue<List<V>> sink = new ConcurrentLinkedQueue<>();
+        simpleCycles(sink::add);
+        return new ArrayList<>(sink);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The consumer is called concurrently by multiple threads. After it returns false for some
+     * cycle, cycles which are concurrently being reported by other workers may still be passed to
+     * it.
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        Search search = new Search(consumer, maxLength);
+        ConcurrencyUtil.parallelFor(pool, search.n, search::run);
+        return !search.stopped.get();
+    }
+
+    /**
+     * The shared read-only state of one enumeration, together with the per-worker workspaces.
+     */
+    private class Search
+    {
+        private final Predicate<List<V>> consumer;
+        private final int maxLength;
+        private final AtomicBoolean stopped;
+
+        // vertices of non-trivial components, each component in a contiguous range
+        private final int n;
+        private final List<V> vertices;
+        private final int[] offsets;
+        private final int[] arcs;
+
+        private final Workspace[] workspaces;
+
+        Search(Predicate<List<V>> consumer, int maxLength)
+        {
+            this.consumer = consumer;
+            this.maxLength = maxLength;
+            this.stopped = new AtomicBoolean(false);
+
+            CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, false, false);
+            int total = adjacency.vertexCount();
+            int[] allOffsets = adjacency.getOffsets();
+            int[] allArcs = adjacency.getArcs();
+            int[] component = new int[total];
+            int count = stronglyConnectedComponents(allOffsets, allArcs, component);
+
+            // find the non-trivial components, those with a cycle
+            int[] size = new int[count];
+            boolean[] loop = new boolean[count];
+            for (int v = 0; v < total; v++) {
+                size[component[v]]++;
+                for (int a = allOffsets[v]; a < allOffsets[v + 1]; a++) {
+                    if (allArcs[a] == v) {
+                        loop[component[v]] = true;
+                    }
+                }
+            }
+            int[] first = new int[count];
+            int next = 0;
+            for (int c = 0; c < count; c++) {
+                if (size[c] > 1 || loop[c]) {
+                    first[c] = next;
+                    next += size[c];
+                } else {
+                    first[c] = -1;
+                }
+            }
+
+            // renumber so that each component occupies a contiguous range
+            this.n = next;
+            this.vertices = new ArrayList<>(Collections.nCopies(n, null));
+            int[] newIndex = new int[total];
+            int[] oldIndex = new int[n];
+            int[] fill = first.clone();
+            for (int v = 0; v < total; v++) {
+                int c = component[v];
+                if (first[c] < 0) {
+                    newIndex[v] = -1;
+                    continue;
+                }
+                int i = fill[c]++;
+                newIndex[v] = i;
+                oldIndex[i] = v;
+                vertices.set(i, adjacency.getVertex(v));
+            }
+
+            // keep only arcs inside a component
+            this.offsets = new int[n + 1];
+            for (int i = 0; i < n; i++) {
+                int v = oldIndex[i];
+                int degree = 0;
+                for (int a = allOffsets[v]; a < allOffsets[v + 1]; a++) {
+                    if (component[allArcs[a]] == component[v]) {
+                        degree++;
+                    }
+                }
+                offsets[i + 1] = offsets[i] + degree;
+            }
+            this.arcs = new int[offsets[n]];
+            for (int i = 0; i < n; i++) {
+                int v = oldIndex[i];
+                int pos = offsets[i];
+                for (int a = allOffsets[v]; a < allOffsets[v + 1]; a++) {
+                    int w = allArcs[a];
+                    if (component[w] == component[v]) {
+                        arcs[pos++] = newIndex[w];
+                    }
+                }
+            }
+
+            this.workspaces = new Workspace[ConcurrencyUtil.workers(pool, n)];
+        }
+
+        /*
+         * Enumerate the cycles whose minimum vertex is s, in the subgraph induced by the vertices
+         * of the component of s with index at least s.
+         */
+        void run(int worker, int s)
+        {
+            if (stopped.get()) {
+                return;
+            }
+            Workspace ws = workspaces[worker];
+            if (ws == null) {
+                ws = new Workspace(n);
+                workspaces[worker] = ws;
+            }
+            int[] path = ws.path;
+            int[] position = ws.position;
+            boolean[] found = ws.found;
+            boolean[] blocked = ws.blocked;
+            ws.touch(s);
+
+            int depth = 0;
+            path[0] = s;
+            position[0] = offsets[s];
+            found[0] = false;
+            blocked[s] = true;
+
+            while (depth >= 0) {
+                if (stopped.get()) {
+                    break;
+                }
+                int v = path[depth];
+                if (position[depth] < offsets[v + 1]) {
+                    int w = arcs[position[depth]++];
+                    if (w < s) {
+                        continue;
+                    }
+                    if (w == s) {
+                        report(path, depth + 1);
+                        found[depth] = true;
+                    } else if (!blocked[w]) {
+                        if (depth + 1 >= maxLength) {
+                            // truncated search, keep the vertex available for shorter paths
+                            found[depth] = true;
+                        } else {
+                            depth++;
+                            path[depth] = w;
+                            position[depth] = offsets[w];
+                            found[depth] = false;
+                            blocked[w] = true;
+                            ws.touch(w);
+                        }
+                    }
+                } else {
+                    if (found[depth]) {
+                        ws.unblock(v);
+                    } else {
+                        for (int i = offsets[v]; i < offsets[v + 1]; i++) {
+                            int w = arcs[i];
+                            if (w > s) {
+                                ws.addBlockedBy(w, v);
+                            }
+                        }
+                    }
+                    depth--;
+                    if (depth >= 0 && found[depth + 1]) {
+                        found[depth] = true;
+                    }
+                }
+            }
+
+            ws.reset();
+        }
+
+        /*
+         * Iterative version of Tarjan's strongly connected components algorithm. Returns the
+         * number of components and fills the component of each vertex.
+         */
+        private int stronglyConnectedComponents(int[] offsets, int[] arcs, int[] component)
+        {
+            int total = component.length;
+            int[] index = new int[total];
+            int[] low = new int[total];
+            Arrays.fill(index, -1);
+            int[] stack = new int[total];
+            boolean[] onStack = new boolean[total];
+            int[] callVertex = new int[total];
+            int[] callArc = new int[total];
+            int sp = 0;
+            int counter = 0;
+            int components = 0;
+
+            for (int r = 0; r < total; r++) {
+                if (index[r] != -1) {
+                    continue;
+                }
+                int depth = 0;
+                callVertex[0] = r;
+                callArc[0] = offsets[r];
+                index[r] = low[r] = counter++;
+                stack[sp++] = r;
+                onStack[r] = true;
+
+                while (depth >= 0) {
+                    int v = callVertex[depth];
+                    if (callArc[depth] < offsets[v + 1]) {
+                        int w = arcs[callArc[depth]++];
+                        if (index[w] == -1) {
+                            index[w] = low[w] = counter++;
+                            stack[sp++] = w;
+                            onStack[w] = true;
+                            depth++;
+                            callVertex[depth] = w;
+                            callArc[depth] = offsets[w];
+                        } else if (onStack[w]) {
+                            low[v] = Math.min(low[v], index[w]);
+                        }
+                    } else {
+                        if (low[v] == index[v]) {
+                            int w;
+                            do {
+                                w = stack[--sp];
+                                onStack[w] = false;
+                                component[w] = components;
+                            } while (w != v);
+                            components++;
+                        }
+                        depth--;
+                        if (depth >= 0) {
+                            int u = callVertex[depth];
+                            low[u] = Math.min(low[u], low[v]);
+                        }
+                    }
+                }
+            }
+            return components;
+        }
+
+        void report(int[] path, int length)
+        {
+            List<V> cycle = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                cycle.add(vertices.get(path[i]));
+            }
+            if (!consumer.test(cycle)) {
+                stopped.set(true);
+            }
+        }
+    }
+
+    /**
+     * The state of Johnson's search for a single worker.
+     */
+    private static class Workspace
+    {
+        private final boolean[] blocked;
+        private final int[][] blockedBy;
+        private final int[] blockedBySize;
+        private final int[] path;
+        private final int[] position;
+        private final boolean[] found;
+        private final int[] unblockStack;
+        private final boolean[] touched;
+        private final int[] touchedList;
+        private int touchedSize;
+
+        Workspace(int n)
+        {
+            this.blocked = new boolean[n];
+            this.blockedBy = new int[n][];
+            this.blockedBySize = new int[n];
+            this.path = new int[n];
+            this.position = new int[n];
+            this.found = new boolean[n];
+            this.unblockStack = new int[n];
+            this.touched = new boolean[n];
+            this.touchedList = new int[n];
+        }
+
+        /*
+         * Remember a visited vertex, in order to reset only the visited part of the workspace.
+         * Only visited vertices are blocked or have non-empty blocking lists.
+         */
+        void touch(int v)
+        {
+            if (!touched[v]) {
+                touched[v] = true;
+                touchedList[touchedSize++] = v;
+            }
+        }
+
+        void reset()
+        {
+            for (int i = 0; i < touchedSize; i++) {
+                int v = touchedList[i];
+                touched[v] = false;
+                blocked[v] = false;
+                blockedBySize[v] = 0;
+            }
+            touchedSize = 0;
+        }
+
+        private void addBlockedBy(int w, int v)
+        {
+            int[] list = blockedBy[w];
+            int size = blockedBySize[w];
+            if (list == null) {
+                list = new int[4];
+                blockedBy[w] = list;
+            }
+            for (int i = 0; i < size; i++) {
+                if (list[i] == v) {
+                    return;
+                }
+            }
+            if (size == list.length) {
+                list = Arrays.copyOf(list, 2 * size);
+                blockedBy[w] = list;
+            }
+            list[size] = v;
+            blockedBySize[w] = size + 1;
+        }
+
+        private void unblock(int u)
+        {
+            blocked[u] = false;
+            int top = 0;
+            unblockStack[top++] = u;
+            while (top > 0) {
+                int x = unblockStack[--top];
+                int[] list = blockedBy[x];
+                for (int i = 0; i < blockedBySize[x]; i++) {
+                    int y = list[i];
+                    if (blocked[y]) {
+                        blocked[y] = false;
+                        unblockStack[top++] = y;
+                    }
+                }
+                blockedBySize[x] = 0;
+            }
+        }
+    }
+
+}
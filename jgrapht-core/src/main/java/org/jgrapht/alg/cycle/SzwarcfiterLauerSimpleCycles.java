@@ -21,6 +21,7 @@ import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Schwarcfiter and Lauer's algorithm.
@@ -31,6 +32,11 @@ import java.util.*;
  * per cycle, Technical Report Series, #60, May 1974, Univ. of Newcastle upon Tyne, Newcastle upon
  * Tyne, England.
  *
+ * <p>
+ * This algorithm may report a cycle while its first vertex is deep inside the search path, thus
+ * the maximum length of {@link #simpleCycles(Predicate, int)} is used only to filter the reported
+ * cycles and does not reduce the search space.
+ *
  * @param <V> the vertex type.
  * @param <E> the edge type.
  *
@@ -44,7 +50,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     private Graph<V, E> graph;
 
     // The state of the algorithm.
-    private List<List<V>> cycles = null;
+    private Predicate<List<V>> consumer = null;
+    private int maxLength;
+    private boolean stopped;
     private V[] iToV = null;
     private Map<V, Integer> vToI = null;
     private Map<V, Set<V>> bSets = null;
@@ -98,13 +106,37 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
     {
         // Just a straightforward implementation of
         // the algorithm.
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(Objects.requireNonNull(consumer, "Consumer cannot be null"), maxLength);
+        try {
+            findCycles();
+            return !stopped;
+        } finally {
+            clearState();
+        }
+    }
+
+    private void findCycles()
+    {
         KosarajuStrongConnectivityInspector<V, E> inspector =
             new KosarajuStrongConnectivityInspector<>(graph);
         List<Set<V>> sccs = inspector.stronglyConnectedSets();
@@ -123,11 +155,10 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
         for (V vertex : startVertices) {
             cycle(toI(vertex), 0);
+            if (stopped) {
+                break;
+            }
         }
-
-        List<List<V>> result = cycles;
-        clearState();
-        return result;
     }
 
     private boolean cycle(int v, int q)
@@ -144,6 +175,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
         Set<V> avRemoved = getRemoved(vV);
         Set<E> edgeSet = graph.outgoingEdgesOf(vV);
         for (E e : edgeSet) {
+            if (stopped) {
+                break;
+            }
             V wV = graph.getEdgeTarget(e);
             if (avRemoved.contains(wV)) {
                 continue;
@@ -158,6 +192,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                 }
             } else if (position[w] <= q) {
                 foundCycle = true;
+                if (t - position[w] + 1 > maxLength) {
+                    continue;
+                }
                 List<V> cycle = new ArrayList<>();
                 Iterator<V> it = stack.descendingIterator();
                 V current;
@@ -175,7 +212,9 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
                         break;
                     }
                 }
-                cycles.add(cycle);
+                if (!consumer.test(cycle)) {
+                    stopped = true;
+                }
             } else {
                 noCycle(v, w);
             }
@@ -217,9 +256,11 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
     }
 
     @SuppressWarnings("unchecked")
-    private void initState()
+    private void initState(Predicate<List<V>> consumer, int maxLength)
     {
-        cycles = new ArrayList<>();
+        this.consumer = consumer;
+        this.maxLength = maxLength;
+        this.stopped = false;
         iToV = (V[]) graph.vertexSet().toArray();
         vToI = new HashMap<>();
         bSets = new HashMap<>();
@@ -238,7 +279,7 @@ public class SzwarcfiterLauerSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        consumer = null;
         iToV = null;
         vToI = null;
         bSets = null;
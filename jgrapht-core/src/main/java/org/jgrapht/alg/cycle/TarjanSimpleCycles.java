@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tarjan's algorithm.
@@ -40,7 +41,9 @@ public class TarjanSimpleCycles<V, E>
 {
     private Graph<V, E> graph;
 
-    private List<List<V>> cycles;
+    private Predicate<List<V>> consumer;
+    private int maxLength;
+    private boolean stopped;
     private Set<V> marked;
     private ArrayDeque<V> markedStack;
     private ArrayDeque<V> pointStack;
@@ -90,22 +93,39 @@ public class TarjanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
-        initState();
-
-        for (V start : graph.vertexSet()) {
-            backtrack(start, start);
-            while (!markedStack.isEmpty()) {
-                marked.remove(markedStack.pop());
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        initState(Objects.requireNonNull(consumer, "Consumer cannot be null"), maxLength);
+        try {
+            for (V start : graph.vertexSet()) {
+                backtrack(start, start);
+                if (stopped) {
+                    return false;
+                }
+                while (!markedStack.isEmpty()) {
+                    marked.remove(markedStack.pop());
+                }
             }
+            return true;
+        } finally {
+            clearState();
         }
-
-        List<List<V>> result = cycles;
-        clearState();
-        return result;
     }
 
     private boolean backtrack(V start, V vertex)
@@ -116,6 +136,9 @@ public class TarjanSimpleCycles<V, E>
         markedStack.push(vertex);
 
         for (E currentEdge : graph.outgoingEdgesOf(vertex)) {
+            if (stopped) {
+                break;
+            }
             V currentVertex = graph.getEdgeTarget(currentEdge);
             if (getRemoved(vertex).contains(currentVertex)) {
                 continue;
@@ -138,10 +161,17 @@ public class TarjanSimpleCycles<V, E>
                 while (it.hasNext()) {
                     cycle.add(it.next());
                 }
-                cycles.add(cycle);
+                if (!consumer.test(cycle)) {
+                    stopped = true;
+                }
             } else if (!marked.contains(currentVertex)) {
-                boolean gotCycle = backtrack(start, currentVertex);
-                foundCycle = foundCycle || gotCycle;
+                if (pointStack.size() >= maxLength) {
+                    // truncated search, keep the vertex available for shorter paths
+                    foundCycle = true;
+                } else {
+                    boolean gotCycle = backtrack(start, currentVertex);
+                    foundCycle = foundCycle || gotCycle;
+                }
             }
         }
 
@@ -156,9 +186,11 @@ public class TarjanSimpleCycles<V, E>
         return foundCycle;
     }
 
-    private void initState()
+    private void initState(Predicate<List<V>> consumer, int maxLength)
     {
-        cycles = new ArrayList<>();
+        this.consumer = consumer;
+        this.maxLength = maxLength;
+        this.stopped = false;
         marked = new HashSet<>();
         markedStack = new ArrayDeque<>();
         pointStack = new ArrayDeque<>();
@@ -172,7 +204,7 @@ public class TarjanSimpleCycles<V, E>
 
     private void clearState()
     {
-        cycles = null;
+        consumer = null;
         marked = null;
         markedStack = null;
         pointStack = null;
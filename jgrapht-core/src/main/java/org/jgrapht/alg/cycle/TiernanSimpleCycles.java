@@ -20,6 +20,7 @@ package org.jgrapht.alg.cycle;
 import org.jgrapht.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Find all simple cycles of a directed graph using the Tiernan's algorithm.
@@ -83,15 +84,29 @@ public class TiernanSimpleCycles<V, E>
      */
     @Override
     public List<List<V>> findSimpleCycles()
+    {
+        List<List<V>> result = new ArrayList<>();
+        simpleCycles(result::add);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean simpleCycles(Predicate<List<V>> consumer, int maxLength)
     {
         if (graph == null) {
             throw new IllegalArgumentException("Null graph.");
         }
+        if (maxLength < 1) {
+            throw new IllegalArgumentException("Maximum length must be positive");
+        }
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
         Map<V, Integer> indices = new HashMap<>();
         List<V> path = new ArrayList<>();
         Set<V> pathSet = new HashSet<>();
         Map<V, Set<V>> blocked = new HashMap<>();
-        List<List<V>> cycles = new LinkedList<>();
 
         int index = 0;
         for (V v : graph.vertexSet()) {
@@ -101,7 +116,7 @@ public class TiernanSimpleCycles<V, E>
 
         Iterator<V> vertexIterator = graph.vertexSet().iterator();
         if (!vertexIterator.hasNext()) {
-            return cycles;
+            return true;
         }
 
         V startOfPath;
@@ -122,6 +137,9 @@ public class TiernanSimpleCycles<V, E>
             // path extension
             do {
                 extensionFound = false;
+                if (path.size() >= maxLength) {
+                    break;
+                }
                 for (E e : graph.outgoingEdgesOf(endOfPath)) {
                     V n = graph.getEdgeTarget(e);
                     int cmp = indices.get(n).compareTo(indices.get(path.get(0)));
@@ -139,7 +157,9 @@ public class TiernanSimpleCycles<V, E>
             startOfPath = path.get(0);
             if (graph.containsEdge(endOfPath, startOfPath)) {
                 List<V> cycle = new ArrayList<>(path);
-                cycles.add(cycle);
+                if (!consumer.test(cycle)) {
+                    return false;
+                }
             }
 
             // vertex closure
@@ -172,7 +192,7 @@ public class TiernanSimpleCycles<V, E>
             break;
         }
 
-        return cycles;
+        return true;
     }
 }
 
@@ -20,8 +20,11 @@ package org.jgrapht.alg.flow;
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * This class computes an Equivalent Flow Tree (EFT) using the algorithm proposed by Dan Gusfield.
@@ -37,9 +40,9 @@ import java.util.*;
  * <p>
  * The runtime complexity of this class is $O((V-1)Q)$, where $Q$ is the runtime complexity of the
  * algorithm used to compute $s-t$ cuts in the graph. By default, this class uses the
- * {@link PushRelabelMFImpl} implementation to calculate minimum $s-t$ cuts. This class has a
- * runtime complexity of $O(V^3)$, resulting in a $O(V^4)$ runtime complexity for the overal
- * algorithm.
+ * {@link IndexedDinicMFImpl} implementation to calculate minimum $s-t$ cuts, which builds its
+ * residual network once and reuses it for all $n-1$ computations. This class has a runtime
+ * complexity of $O(V^2E)$, resulting in a $O(V^3E)$ runtime complexity for the overall algorithm.
  *
  *
  * <p>
@@ -73,6 +76,10 @@ public class GusfieldEquivalentFlowTree<V, E>
     private final int N;
     /* Algorithm used to computed the Maximum s-t flows */
     private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Same as above when using the default algorithm, which can be queried by vertex index */
+    private final IndexedDinicMFImpl<V, E> indexedAlgorithm;
+    /* Pool used to compute the minimum cuts in parallel, or null */
+    private final ForkJoinPool pool;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -104,7 +111,23 @@ public class GusfieldEquivalentFlowTree<V, E>
      */
     public GusfieldEquivalentFlowTree(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, null, epsilon, null);
+    }
+
+    /**
+     * Constructs a new GusfieldEquivalentFlowTree instance which computes the minimum cuts in
+     * parallel. The minimum cuts of the next iterations are computed speculatively on separate
+     * threads, each one using its own copy of the maximum flow algorithm. A speculative cut is
+     * discarded if the tree changed in the meantime, so the resulting tree is identical to the one
+     * computed sequentially.
+     * 
+     * @param network input graph
+     * @param epsilon precision
+     * @param pool the pool used to compute the minimum cuts
+     */
+    public GusfieldEquivalentFlowTree(Graph<V, E> network, double epsilon, ForkJoinPool pool)
+    {
+        this(network, null, epsilon, Objects.requireNonNull(pool, "Pool cannot be null"));
     }
 
     /**
@@ -116,14 +139,32 @@ public class GusfieldEquivalentFlowTree<V, E>
     public GusfieldEquivalentFlowTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
     {
+        this(
+            network, Objects.requireNonNull(
+                minimumSTCutAlgorithm, "Minimum s-t cut algorithm cannot be null"),
+            MaximumFlowAlgorithmBase.DEFAULT_EPSILON, null);
+    }
+
+    private GusfieldEquivalentFlowTree(
+        Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm, double epsilon,
+        ForkJoinPool pool)
+    {
+        this.pool = pool;
         GraphTests.requireUndirected(network);
         this.N = network.vertexSet().size();
         if (N < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
-        this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
         vertexList.addAll(network.vertexSet());
         for (int i = 0; i < vertexList.size(); i++)
             indexMap.put(vertexList.get(i), i);
+        if (minimumSTCutAlgorithm == null) {
+            this.indexedAlgorithm = new IndexedDinicMFImpl<>(
+                network, new VertexToIntegerMapping<>(vertexList), epsilon);
+            this.minimumSTCutAlgorithm = indexedAlgorithm;
+        } else {
+            this.indexedAlgorithm = null;
+            this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
+        }
     }
 
     /**
@@ -134,16 +175,29 @@ public class GusfieldEquivalentFlowTree<V, E>
         flowMatrix = new double[N][N];
         p = new int[N];
         neighbors = new int[N];
+        GusfieldParallelCuts<V, E> parallelCuts =
+            pool == null ? null : new GusfieldParallelCuts<>(indexedAlgorithm, pool, N);
 
         for (int s = 1; s < N; s++) {
             int t = p[s];
             neighbors[s] = t;
-            double flowValue =
-                minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
-            Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
-                                                                                 // paper
+            double flowValue;
+            IntPredicate sourceSide; // Set X in the paper
+            if (parallelCuts != null) {
+                GusfieldParallelCuts.Cut cut = parallelCuts.cut(s, p);
+                flowValue = cut.value;
+                sourceSide = cut.sourceSide::get;
+            } else if (indexedAlgorithm != null) {
+                flowValue = indexedAlgorithm.calculateMaximumFlow(s, t);
+                sourceSide = indexedAlgorithm::isSourceSide;
+            } else {
+                flowValue =
+                    minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
+                Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition();
+                sourceSide = i -> sourcePartition.contains(vertexList.get(i));
+            }
             for (int i = s; i < N; i++)
-                if (sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+                if (p[i] == t && sourceSide.test(i))
                     p[i] = s;
 
             // populate the flow matrix
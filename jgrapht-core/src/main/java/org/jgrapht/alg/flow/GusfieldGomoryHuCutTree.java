@@ -21,8 +21,11 @@ import org.jgrapht.*;
 import org.jgrapht.alg.connectivity.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
 
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
 
 /**
  * This class computes a Gomory-Hu tree (GHT) using the algorithm proposed by Dan Gusfield. For a
@@ -41,8 +44,9 @@ import java.util.*;
  * <p>
  * The runtime complexity of this class is $O((V-1)Q)$, where $Q$ is the runtime complexity of the
  * algorithm used to compute $s-t$ cuts in the graph. By default, this class uses the
- * {@link PushRelabelMFImpl} implementation to calculate minimum s-t cuts. This class has a runtime
- * complexity of $O(V^3)$, resulting in a $O(V^4)$ runtime complexity for the overall algorithm.
+ * {@link IndexedDinicMFImpl} implementation to calculate minimum s-t cuts, which builds its residual
+ * network once and reuses it for all $n-1$ computations. This class has a runtime complexity of
+ * $O(V^2E)$, resulting in a $O(V^3E)$ runtime complexity for the overall algorithm.
  *
  *
  * <p>
@@ -77,6 +81,10 @@ public class GusfieldGomoryHuCutTree<V, E>
     private final int N;
     /* Algorithm used to computed the Maximum $s-t$ flows */
     private final MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm;
+    /* Same as above when using the default algorithm, which can be queried by vertex index */
+    private final IndexedDinicMFImpl<V, E> indexedAlgorithm;
+    /* Pool used to compute the minimum cuts in parallel, or null */
+    private final ForkJoinPool pool;
 
     /* Data structures for computations */
     private List<V> vertexList = new ArrayList<>();
@@ -110,7 +118,23 @@ public class GusfieldGomoryHuCutTree<V, E>
      */
     public GusfieldGomoryHuCutTree(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, null, epsilon, null);
+    }
+
+    /**
+     * Constructs a new GusfieldGomoryHuCutTree instance which computes the minimum cuts in
+     * parallel. The minimum cuts of the next iterations are computed speculatively on separate
+     * threads, each one using its own copy of the maximum flow algorithm. A speculative cut is
+     * discarded if the tree changed in the meantime, so the resulting tree is identical to the one
+     * computed sequentially.
+     * 
+     * @param network input graph
+     * @param epsilon precision
+     * @param pool the pool used to compute the minimum cuts
+     */
+    public GusfieldGomoryHuCutTree(Graph<V, E> network, double epsilon, ForkJoinPool pool)
+    {
+        this(network, null, epsilon, Objects.requireNonNull(pool, "Pool cannot be null"));
     }
 
     /**
@@ -122,14 +146,32 @@ public class GusfieldGomoryHuCutTree<V, E>
     public GusfieldGomoryHuCutTree(
         Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm)
     {
+        this(
+            network, Objects.requireNonNull(
+                minimumSTCutAlgorithm, "Minimum s-t cut algorithm cannot be null"),
+            MaximumFlowAlgorithmBase.DEFAULT_EPSILON, null);
+    }
+
+    private GusfieldGomoryHuCutTree(
+        Graph<V, E> network, MinimumSTCutAlgorithm<V, E> minimumSTCutAlgorithm, double epsilon,
+        ForkJoinPool pool)
+    {
+        this.pool = pool;
         this.network = GraphTests.requireUndirected(network);
         this.N = network.vertexSet().size();
         if (N < 2)
             throw new IllegalArgumentException("Graph must have at least 2 vertices");
-        this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
         vertexList.addAll(network.vertexSet());
         for (int i = 0; i < vertexList.size(); i++)
             indexMap.put(vertexList.get(i), i);
+        if (minimumSTCutAlgorithm == null) {
+            this.indexedAlgorithm = new IndexedDinicMFImpl<>(
+                network, new VertexToIntegerMapping<>(vertexList), epsilon);
+            this.minimumSTCutAlgorithm = indexedAlgorithm;
+        } else {
+            this.indexedAlgorithm = null;
+            this.minimumSTCutAlgorithm = minimumSTCutAlgorithm;
+        }
     }
 
     /**
@@ -137,34 +179,89 @@ public class GusfieldGomoryHuCutTree<V, E>
      */
     private void calculateGomoryHuTree()
     {
-        flowMatrix = new double[N][N];
         p = new int[N];
         fl = new double[N];
+        GusfieldParallelCuts<V, E> parallelCuts =
+            pool == null ? null : new GusfieldParallelCuts<>(indexedAlgorithm, pool, N);
 
         for (int s = 1; s < N; s++) {
             int t = p[s];
-            double flowValue =
-                minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
-            Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition(); // Set X in the
-                                                                                 // paper
+            double flowValue;
+            IntPredicate sourceSide; // Set X in the paper
+            if (parallelCuts != null) {
+                GusfieldParallelCuts.Cut cut = parallelCuts.cut(s, p);
+                flowValue = cut.value;
+                sourceSide = cut.sourceSide::get;
+            } else if (indexedAlgorithm != null) {
+                flowValue = indexedAlgorithm.calculateMaximumFlow(s, t);
+                sourceSide = indexedAlgorithm::isSourceSide;
+            } else {
+                flowValue =
+                    minimumSTCutAlgorithm.calculateMinCut(vertexList.get(s), vertexList.get(t));
+                Set<V> sourcePartition = minimumSTCutAlgorithm.getSourcePartition();
+                sourceSide = i -> sourcePartition.contains(vertexList.get(i));
+            }
             fl[s] = flowValue;
 
             for (int i = 0; i < N; i++)
-                if (i != s && sourcePartition.contains(vertexList.get(i)) && p[i] == t)
+                if (i != s && p[i] == t && sourceSide.test(i))
                     p[i] = s;
-            if (sourcePartition.contains(vertexList.get(p[t]))) {
+            if (sourceSide.test(p[t])) {
                 p[s] = p[t];
                 p[t] = s;
                 fl[s] = fl[t];
                 fl[t] = flowValue;
             }
+        }
+    }
 
-            // populate the flow matrix
-            flowMatrix[s][t] = flowMatrix[t][s] = flowValue;
-            for (int i = 0; i < s; i++)
-                if (i != t)
-                    flowMatrix[s][i] =
-                        flowMatrix[i][s] = Math.min(flowMatrix[s][t], flowMatrix[t][i]);
+    /**
+     * Computes the flow value of every pair of vertices as the minimum weight of the path between
+     * them in the tree. The matrix requires $O(n^2)$ space and is therefore only computed when a
+     * flow value is queried.
+     */
+    private void calculateFlowMatrix()
+    {
+        // adjacency of the tree
+        int[] degree = new int[N + 1];
+        for (int i = 1; i < N; i++) {
+            degree[i + 1]++;
+            degree[p[i] + 1]++;
+        }
+        for (int i = 0; i < N; i++)
+            degree[i + 1] += degree[i];
+        int[] neighbor = new int[2 * (N - 1)];
+        double[] weight = new double[2 * (N - 1)];
+        int[] fill = Arrays.copyOf(degree, N);
+        for (int i = 1; i < N; i++) {
+            neighbor[fill[i]] = p[i];
+            weight[fill[i]++] = fl[i];
+            neighbor[fill[p[i]]] = i;
+            weight[fill[p[i]]++] = fl[i];
+        }
+
+        // traverse the tree from each vertex
+        flowMatrix = new double[N][N];
+        int[] stack = new int[N];
+        int[] parent = new int[N];
+        for (int r = 0; r < N; r++) {
+            double[] row = flowMatrix[r];
+            int top = 0;
+            stack[top++] = r;
+            parent[r] = -1;
+            row[r] = Double.POSITIVE_INFINITY;
+            while (top > 0) {
+                int u = stack[--top];
+                for (int a = degree[u]; a < degree[u + 1]; a++) {
+                    int v = neighbor[a];
+                    if (v != parent[u]) {
+                        parent[v] = u;
+                        row[v] = Math.min(row[u], weight[a]);
+                        stack[top++] = v;
+                    }
+                }
+            }
+            row[r] = 0d;
         }
     }
 
@@ -229,6 +326,8 @@ public class GusfieldGomoryHuCutTree<V, E>
 
         if (p == null) // Lazy invocation of the algorithm
             this.calculateGomoryHuTree();
+        if (flowMatrix == null)
+            this.calculateFlowMatrix();
         return flowMatrix[indexMap.get(source)][indexMap.get(sink)];
     }
 
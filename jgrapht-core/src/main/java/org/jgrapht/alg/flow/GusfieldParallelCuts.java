@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Speculative parallel computation of the minimum cuts of Gusfield's algorithms.
+ *
+ * <p>
+ * Iteration $s$ of Gusfield's algorithms computes a minimum cut between $s$ and $p[s]$, where the
+ * array $p$ is updated by the previous iterations. Following Cohen et al., the cuts of the next
+ * iterations are computed in parallel using the current values of $p$. The results are used by the
+ * iterations in order, and a result is discarded if $p[s]$ changed in the meantime, in which case
+ * the cuts are computed again starting from $s$. Since all cuts are computed by identical copies
+ * of the same deterministic algorithm, the result is the same as the sequential computation.
+ *
+ * <p>
+ * See: J. Cohen, L. A. Rodrigues, F. Silva, R. Carmo, A. L. P. Guedes and E. P. Duarte Jr.
+ * Parallel implementations of Gusfield's cut tree algorithm. In Algorithms and Architectures for
+ * Parallel Processing, pages 258-269, 2011.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class GusfieldParallelCuts<V, E>
+{
+    private static final int WINDOW_PER_WORKER = 2;
+
+    private final int n;
+    private final ForkJoinPool pool;
+    private final IndexedDinicMFImpl<V, E>[] algorithms;
+    private final int window;
+    private final Cut[] cuts;
+
+    /**
+     * A minimum cut between $s$ and $t$.
+     */
+    static class Cut
+    {
+        final int t;
+        final double value;
+        final BitSet sourceSide;
+
+        Cut(int t, double value, BitSet sourceSide)
+        {
+            this.t = t;
+            this.value = value;
+            this.sourceSide = sourceSide;
+        }
+    }
+
+    /**
+     * Create a new instance.
+     *
+     * @param algorithm the algorithm, whose network is shared by the copies of all workers
+     * @param pool the pool
+     * @param n the number of vertices
+     */
+    @SuppressWarnings("unchecked")
+    GusfieldParallelCuts(IndexedDinicMFImpl<V, E> algorithm, ForkJoinPool pool, int n)
+    {
+        this.n = n;
+        this.pool = pool;
+        int workers = ConcurrencyUtil.workers(pool, n);
+        this.algorithms = (IndexedDinicMFImpl<V, E>[]) new IndexedDinicMFImpl[workers];
+        this.algorithms[0] = algorithm;
+        this.window = WINDOW_PER_WORKER * workers;
+        this.cuts = (Cut[]) new Cut[n];
+    }
+
+    /**
+     * Get a minimum cut between $s$ and $p[s]$. Speculatively computes the cuts of the following
+     * iterations if needed.
+     *
+     * @param s the vertex $s$
+     * @param p the current tree
+     * @return a minimum cut between $s$ and $p[s]$
+     */
+    Cut cut(int s, int[] p)
+    {
+        Cut cut = cuts[s];
+        if (cut == null || cut.t != p[s]) {
+            int end = Math.min(n, s + window);
+            int[] pending = new int[end - s];
+            int count = 0;
+            for (int i = s; i < end; i++) {
+                if (cuts[i] == null || cuts[i].t != p[i]) {
+                    pending[count++] = i;
+                }
+            }
+            int[] targets = new int[count];
+            for (int k = 0; k < count; k++) {
+                targets[k] = p[pending[k]];
+            }
+            ConcurrencyUtil.parallelFor(pool, count, (worker, k) -> {
+                IndexedDinicMFImpl<V, E> algorithm = algorithms[worker];
+                if (algorithm == null) {
+                    algorithm = new IndexedDinicMFImpl<>(algorithms[0]);
+                    algorithms[worker] = algorithm;
+                }
+                int i = pending[k];
+                double value = algorithm.calculateMaximumFlow(i, targets[k]);
+                BitSet sourceSide = new BitSet(n);
+                for (int v = 0; v < n; v++) {
+                    if (algorithm.isSourceSide(v)) {
+                        sourceSide.set(v);
+                    }
+                }
+                cuts[i] = new Cut(targets[k], value, sourceSide);
+            });
+            cut = cuts[s];
+        }
+        // release the memory of used cuts
+        cuts[s] = null;
+        return cut;
+    }
+
+}
@@ -90,7 +90,7 @@ public class PadbergRaoOddMinimumCutset<V, E>
      */
     public PadbergRaoOddMinimumCutset(Graph<V, E> network, double epsilon)
     {
-        this(network, new PushRelabelMFImpl<>(network, epsilon));
+        this(network, new IndexedDinicMFImpl<>(network, epsilon));
     }
 
     /**
@@ -0,0 +1,486 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.color.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+
+import java.util.*;
+
+/**
+ * Canonical labeling of undirected graphs by individualization-refinement.
+ *
+ * <p>
+ * A canonical labeling assigns to the vertices of a graph the labels $0, \dots, n-1$ such that two
+ * graphs are isomorphic if and only if relabeling them gives the same labeled graph. Thus, the
+ * canonical form of a graph, which is the string returned by {@link #getCanonicalForm()}, can be
+ * used as a key of a hash map in order to partition a collection of graphs into isomorphism
+ * classes in a single pass, without any pairwise isomorphism test.
+ *
+ * <p>
+ * The implementation follows the individualization-refinement scheme of nauty and bliss, see B.
+ * D. McKay and A. Piperno. Practical graph isomorphism, II. Journal of Symbolic Computation,
+ * 60:94--112, 2014. The vertex coloring is first refined into the coarsest stable coloring using
+ * {@link ColorRefinementAlgorithm}, whose colors are canonical. If the coloring is not discrete,
+ * the search branches on each vertex of the first color class with more than one vertex, gives the
+ * vertex a new color and refines again. Each leaf of the search tree is a discrete coloring, that
+ * is a labeling of the vertices, and the canonical labeling is the leaf whose sorted edge list is
+ * lexicographically smallest. Two leaves with the same edge list define an automorphism of the
+ * graph. The automorphisms found are used to prune the search: at a node whose individualized
+ * vertices are fixed by some of the automorphisms, only one vertex of each orbit of these
+ * automorphisms is explored. The search is exponential in the worst case, but it is fast for the
+ * graphs arising in practice, such as molecules.
+ *
+ * <p>
+ * The canonical form is in graph6 format for simple graphs and in sparse6 format for graphs with
+ * self-loops or multiple edges, using the canonical labels as the vertex order. It is the same
+ * string that the graph6/sparse6 exporter of the I/O module writes for the canonically relabeled
+ * graph.
+ *
+ * <p>
+ * An initial vertex coloring can be provided, for example to distinguish vertices with different
+ * labels. The labeling is then canonical with respect to isomorphisms which preserve the colors.
+ * Note that the canonical form encodes only the structure of the relabeled graph. Two graphs with
+ * the same canonical form are isomorphic preserving colors if and only if their vertices have the
+ * same colors in the order of their canonical labels.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ColorRefinementCanonicalLabeling<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Coloring<V> alpha;
+
+    private List<V> vertices;
+    private int[] edgeSources;
+    private int[] edgeTargets;
+
+    // the first and the best leaf of the search, labels indexed by vertex
+    private int[] firstLabels;
+    private long[] firstCertificate;
+    private int[] bestLabels;
+    private long[] bestCertificate;
+    private List<int[]> automorphisms;
+
+    /**
+     * Create a new canonical labeling algorithm.
+     *
+     * @param graph the input graph, must be undirected
+     */
+    public ColorRefinementCanonicalLabeling(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.alpha = null;
+    }
+
+    /**
+     * Create a new canonical labeling algorithm with an initial vertex coloring.
+     *
+     * @param graph the input graph, must be undirected
+     * @param alpha the initial coloring, which must use the colors $1, \dots, k$
+     */
+    public ColorRefinementCanonicalLabeling(Graph<V, E> graph, Coloring<V> alpha)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.alpha = Objects.requireNonNull(alpha, "Coloring cannot be null");
+    }
+
+    /**
+     * Get the canonical labeling of the vertices.
+     *
+     * @return a map from each vertex to its label in $[0, n)$
+     */
+    public Map<V, Integer> getLabeling()
+    {
+        lazyRun();
+        Map<V, Integer> result = new LinkedHashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            result.put(vertices.get(i), bestLabels[i]);
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Get the vertices in the order of their canonical labels.
+     *
+     * @return the vertices in the order of their canonical labels
+     */
+    public List<V> getCanonicalOrder()
+    {
+        lazyRun();
+        List<V> result = new ArrayList<>(Collections.nCopies(vertices.size(), null));
+        for (int i = 0; i < vertices.size(); i++) {
+            result.set(bestLabels[i], vertices.get(i));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    /**
+     * Get the canonical form of the graph. Two graphs have the same canonical form if and only if
+     * they are isomorphic. The form is a graph6 string if the graph is simple and a sparse6 string
+     * otherwise.
+     *
+     * @return the canonical form of the graph
+     */
+    public String getCanonicalForm()
+    {
+        lazyRun();
+        int n = vertices.size();
+        BitStringBuilder sb = new BitStringBuilder();
+        if (isSimple(bestCertificate)) {
+            // the upper triangle of the adjacency matrix, column by column
+            sb.writeNumberOfVertices(n);
+            int next = 0;
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < j; i++) {
+                    boolean edge = next < bestCertificate.length
+                        && bestCertificate[next] == (long) j * n + i;
+                    if (edge) {
+                        next++;
+                    }
+                    sb.writeBit(edge);
+                }
+            }
+            sb.writeByte();
+        } else {
+            // sparse6 as written by the exporter, including its padding
+            sb.append(':');
+            sb.writeNumberOfVertices(n);
+            int k = (int) Math.ceil(Math.log(n) / Math.log(2));
+            int v = 0;
+            int m = 0;
+            while (m < bestCertificate.length) {
+                int j = (int) (bestCertificate[m] / n);
+                int i = (int) (bestCertificate[m] % n);
+                if (j > v + 1) {
+                    sb.writeBit(true);
+                    sb.writeInt(j, k);
+                    v = j;
+                } else if (j == v + 1) {
+                    sb.writeBit(true);
+                    sb.writeInt(i, k);
+                    v++;
+                    m++;
+                } else {
+                    sb.writeBit(false);
+                    sb.writeInt(i, k);
+                    m++;
+                }
+            }
+            sb.pad();
+        }
+        return sb.toString();
+    }
+
+    private void lazyRun()
+    {
+        if (bestLabels != null) {
+            return;
+        }
+
+        vertices = new ArrayList<>(graph.vertexSet());
+        Map<V, Integer> index = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            index.put(vertices.get(i), i);
+        }
+        int m = graph.edgeSet().size();
+        edgeSources = new int[m];
+        edgeTargets = new int[m];
+        int e = 0;
+        for (E edge : graph.edgeSet()) {
+            edgeSources[e] = index.get(graph.getEdgeSource(edge));
+            edgeTargets[e] = index.get(graph.getEdgeTarget(edge));
+            e++;
+        }
+        automorphisms = new ArrayList<>();
+
+        if (vertices.isEmpty()) {
+            bestLabels = new int[0];
+            bestCertificate = new long[0];
+            return;
+        }
+
+        ColorRefinementAlgorithm<V, E> refinement = alpha == null
+            ? new ColorRefinementAlgorithm<>(graph) : new ColorRefinementAlgorithm<>(graph, alpha);
+        Coloring<V> coloring = refinement.getColoring();
+        search(coloring.getColors(), coloring.getColorClasses().size(), new ArrayList<>());
+    }
+
+    /**
+     * Explore the search tree below a node.
+     *
+     * @param colors the stable coloring of the node
+     * @param k the number of colors
+     * @param prefix the individualized vertices of the node
+     */
+    private void search(Map<V, Integer> colors, int k, List<Integer> prefix)
+    {
+        int n = vertices.size();
+        if (k == n) {
+            leaf(colors);
+            return;
+        }
+
+        // the first non-singleton color class
+        int[] size = new int[k + 1];
+        for (V v : vertices) {
+            size[colors.get(v)]++;
+        }
+        int target = 1;
+        while (size[target] == 1) {
+            target++;
+        }
+
+        List<Integer> explored = new ArrayList<>();
+        int[] orbits = null;
+        int generators = -1;
+        for (int w = 0; w < n; w++) {
+            if (colors.get(vertices.get(w)) != target) {
+                continue;
+            }
+            if (generators != automorphisms.size()) {
+                generators = automorphisms.size();
+                orbits = orbits(prefix);
+            }
+            boolean equivalent = false;
+            for (int x : explored) {
+                if (find(orbits, x) == find(orbits, w)) {
+                    equivalent = true;
+                    break;
+                }
+            }
+            if (equivalent) {
+                continue;
+            }
+            explored.add(w);
+
+            // individualize w and refine
+            Map<V, Integer> individualized = new HashMap<>(colors);
+            individualized.put(vertices.get(w), k + 1);
+            Coloring<V> coloring = new ColorRefinementAlgorithm<>(
+                graph, new ColoringImpl<>(individualized, k + 1)).getColoring();
+
+            prefix.add(w);
+            search(coloring.getColors(), coloring.getColorClasses().size(), prefix);
+            prefix.remove(prefix.size() - 1);
+        }
+    }
+
+    private void leaf(Map<V, Integer> colors)
+    {
+        int n = vertices.size();
+        int[] labels = new int[n];
+        for (int i = 0; i < n; i++) {
+            labels[i] = colors.get(vertices.get(i)) - 1;
+        }
+        long[] certificate = certificate(labels);
+
+        if (firstLabels == null) {
+            firstLabels = labels;
+            firstCertificate = certificate;
+            bestLabels = labels;
+            bestCertificate = certificate;
+            return;
+        }
+
+        if (Arrays.equals(certificate, firstCertificate)) {
+            automorphisms.add(automorphism(firstLabels, labels));
+            return;
+        }
+        int c = compare(certificate, bestCertificate);
+        if (c == 0) {
+            automorphisms.add(automorphism(bestLabels, labels));
+        } else if (c < 0) {
+            bestLabels = labels;
+            bestCertificate = certificate;
+        }
+    }
+
+    /**
+     * The sorted edges of the relabeled graph, where an edge $\{i, j\}$ with $i \le j$ is encoded
+     * as $j \cdot n + i$.
+     */
+    private long[] certificate(int[] labels)
+    {
+        long n = vertices.size();
+        long[] certificate = new long[edgeSources.length];
+        for (int e = 0; e < edgeSources.length; e++) {
+            int a = labels[edgeSources[e]];
+            int b = labels[edgeTargets[e]];
+            certificate[e] = Math.max(a, b) * n + Math.min(a, b);
+        }
+        Arrays.sort(certificate);
+        return certificate;
+    }
+
+    /**
+     * The automorphism mapping each vertex to the vertex with the same label in another leaf with
+     * the same certificate.
+     */
+    private int[] automorphism(int[] labels, int[] otherLabels)
+    {
+        int n = labels.length;
+        int[] inverse = new int[n];
+        for (int i = 0; i < n; i++) {
+            inverse[labels[i]] = i;
+        }
+        int[] automorphism = new int[n];
+        for (int i = 0; i < n; i++) {
+            automorphism[i] = inverse[otherLabels[i]];
+        }
+        return automorphism;
+    }
+
+    /**
+     * Compute the orbits of the automorphisms found so far which fix all vertices of a prefix.
+     */
+    private int[] orbits(List<Integer> prefix)
+    {
+        int n = vertices.size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        for (int[] automorphism : automorphisms) {
+            boolean fixes = true;
+            for (int p : prefix) {
+                if (automorphism[p] != p) {
+                    fixes = false;
+                    break;
+                }
+            }
+            if (fixes) {
+                for (int i = 0; i < n; i++) {
+                    int a = find(parent, i);
+                    int b = find(parent, automorphism[i]);
+                    if (a != b) {
+                        parent[Math.max(a, b)] = Math.min(a, b);
+                    }
+                }
+            }
+        }
+        return parent;
+    }
+
+    private static int find(int[] parent, int i)
+    {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    private static int compare(long[] a, long[] b)
+    {
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] != b[i]) {
+                return a[i] < b[i] ? -1 : 1;
+            }
+        }
+        return 0;
+    }
+
+    private boolean isSimple(long[] certificate)
+    {
+        long n = vertices.size();
+        for (int e = 0; e < certificate.length; e++) {
+            if (certificate[e] / n == certificate[e] % n) {
+                return false;
+            }
+            if (e > 0 && certificate[e] == certificate[e - 1]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes groups of six bits as printable characters, as in the graph6 and sparse6 formats.
+     */
+    private static class BitStringBuilder
+    {
+        private final StringBuilder sb = new StringBuilder();
+        private int current;
+        private int bitIndex;
+
+        void append(char c)
+        {
+            sb.append(c);
+        }
+
+        void writeNumberOfVertices(int n)
+        {
+            if (n <= 62) {
+                sb.append((char) (n + 63));
+            } else if (n <= 258047) {
+                writeInt(63, 6);
+                writeInt(n, 18);
+            } else {
+                writeInt(63, 6);
+                writeInt(63, 6);
+                writeInt(n, 36);
+            }
+        }
+
+        void writeInt(long number, int k)
+        {
+            for (int i = k - 1; i >= 0; i--) {
+                writeBit((number & (1L << i)) != 0);
+            }
+        }
+
+        void writeBit(boolean bit)
+        {
+            if (bitIndex == 6) {
+                writeByte();
+            }
+            if (bit) {
+                current |= 1 << (5 - bitIndex);
+            }
+            bitIndex++;
+        }
+
+        void writeByte()
+        {
+            sb.append((char) (current + 63));
+            current = 0;
+            bitIndex = 0;
+        }
+
+        void pad()
+        {
+            if (bitIndex != 0) {
+                while (bitIndex < 6) {
+                    writeBit(true);
+                }
+                writeByte();
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            return sb.toString();
+        }
+    }
+}
@@ -0,0 +1,819 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+/**
+ * Parallel subgraph isomorphism inspector with candidate filtering.
+ *
+ * <p>
+ * Finds the isomorphisms between the second graph and the
+ * <a href="http://mathworld.wolfram.com/Vertex-InducedSubgraph.html">induced subgraphs</a> of the
+ * first graph, exploring the search tree in parallel. On graphs without self-loops these are the
+ * same mappings as the ones found by {@link VF2SubgraphIsomorphismInspector}. The vertices
+ * of the second graph, the pattern, are first ordered so that each vertex has as many neighbors
+ * as possible among the previous ones, as in V. Bonnici, R. Giugno, A. Pulvirenti, D. Shasha and
+ * A. Ferro. A subgraph isomorphism algorithm and its application to biochemical data. BMC
+ * Bioinformatics, 14(7):S13, 2013. The pattern vertices are then matched in this order. The
+ * candidates of a vertex are the neighbors of the image of a previously matched neighbor, and
+ * only the first vertex of each connected component of the pattern is matched against all
+ * vertices of the first graph, the target.
+ *
+ * <p>
+ * Before any edge is examined, a candidate is pruned by comparing its signature with the
+ * signature of the pattern vertex: the in-degree and out-degree, the presence of a self-loop, the
+ * vertex label and the set of labels of its neighbors, similarly to the label classes of V.
+ * Carletti, P. Foggia, A. Saggese and M. Vento. Challenging the time complexity of exact subgraph
+ * isomorphism for huge and dense graphs with VF3. IEEE Transactions on Pattern Analysis and Machine
+ * Intelligence, 40(4):804--818, 2018. Labels are the classes of pattern vertices which are equal
+ * according to the vertex comparator.
+ *
+ * <p>
+ * Instead of an adjacency matrix, the target is stored as sorted adjacency arrays and an edge is
+ * looked up by binary search. High-degree vertices additionally keep their neighborhood as a
+ * bitset, which uses at most as much memory as their adjacency array. Thus the memory is linear in
+ * the size of the target, which can have millions of vertices. The top levels of the search tree
+ * are expanded until there are enough partial mappings, which are then extended independently by
+ * the workers of a {@link ForkJoinPool}. The comparators must be safe to use from several threads.
+ *
+ * <p>
+ * The mappings are reported in no particular order. A pattern vertex has a self-loop if and only
+ * if its image has a self-loop, which is not checked by {@link VF2SubgraphIsomorphismInspector}.
+ * This implementation does not support graphs with multiple (parallel) edges.
+ *
+ * @param <V> the type of the vertices
+ * @param <E> the type of the edges
+ *
+ * @see VF2SubgraphIsomorphismInspector
+ *
+ * @author agent
+ */
+public class ParallelVF2SubgraphIsomorphismInspector<V, E>
+    implements
+    IsomorphismInspector<V, E>
+{
+    private static final int TASKS_PER_WORKER = 16;
+    private static final int MIN_HUB_DEGREE = 64;
+    private static final int HUB_DENSITY = 32;
+
+    private final Graph<V, E> graph1;
+    private final Graph<V, E> graph2;
+    private final Comparator<V> vertexComparator;
+    private final Comparator<E> edgeComparator;
+    private final ForkJoinPool pool;
+
+    private Matcher matcher;
+
+    /**
+     * Construct a new inspector which uses the common pool.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     */
+    public ParallelVF2SubgraphIsomorphismInspector(Graph<V, E> graph1, Graph<V, E> graph2)
+    {
+        this(graph1, graph2, null, null);
+    }
+
+    /**
+     * Construct a new inspector which uses the common pool.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param vertexComparator comparator for semantic equivalence of vertices, may be null
+     * @param edgeComparator comparator for semantic equivalence of edges, may be null
+     */
+    public ParallelVF2SubgraphIsomorphismInspector(
+        Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator)
+    {
+        this(graph1, graph2, vertexComparator, edgeComparator, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new inspector.
+     *
+     * @param graph1 the first graph
+     * @param graph2 the second graph (possible induced subgraph of graph1)
+     * @param vertexComparator comparator for semantic equivalence of vertices, may be null
+     * @param edgeComparator comparator for semantic equivalence of edges, may be null
+     * @param pool the pool used to explore the search tree
+     */
+    public ParallelVF2SubgraphIsomorphismInspector(
+        Graph<V, E> graph1, Graph<V, E> graph2, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator, ForkJoinPool pool)
+    {
+        GraphType type1 = graph1.getType();
+        GraphType type2 = graph2.getType();
+        if (type1.isAllowingMultipleEdges() || type2.isAllowingMultipleEdges()) {
+            throw new IllegalArgumentException(
+                "graphs with multiple (parallel) edges are not supported");
+        }
+
+        if (type1.isMixed() || type2.isMixed()) {
+            throw new IllegalArgumentException("mixed graphs not supported");
+        }
+
+        if (type1.isUndirected() && type2.isDirected()
+            || type1.isDirected() && type2.isUndirected())
+        {
+            throw new IllegalArgumentException(
+                "can not match directed with " + "undirected graphs");
+        }
+
+        this.graph1 = graph1;
+        this.graph2 = graph2;
+        this.vertexComparator = vertexComparator;
+        this.edgeComparator = edgeComparator;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * All mappings are computed and stored before the iterator is returned. Use
+     * {@link #forEachMapping(Consumer)} in order to avoid storing them.
+     */
+    @Override
+    public Iterator<GraphMapping<V, E>> getMappings()
+    {
+        List<GraphMapping<V, E>> mappings = new ArrayList<>();
+        forEachMapping(mappings::add);
+        return mappings.iterator();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>
+     * The search stops as soon as a mapping is found.
+     */
+    @Override
+    public boolean isomorphismExists()
+    {
+        return getMatcher().run(null, true) > 0;
+    }
+
+    /**
+     * Count the mappings without constructing them.
+     *
+     * @return the number of mappings
+     */
+    public long countMappings()
+    {
+        return getMatcher().run(null, false);
+    }
+
+    /**
+     * Pass all mappings to a consumer, without storing them. Each call executes the search again.
+     * The consumer is never invoked concurrently, but may be invoked from different threads.
+     *
+     * @param consumer the consumer of the mappings
+     */
+    public void forEachMapping(Consumer<GraphMapping<V, E>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        getMatcher().run(consumer, false);
+    }
+
+    private Matcher getMatcher()
+    {
+        if (matcher == null) {
+            matcher = new Matcher();
+        }
+        return matcher;
+    }
+
+    /**
+     * The preprocessed graphs.
+     */
+    private class Matcher
+    {
+        private final boolean directed;
+
+        // target
+        private final List<V> targets;
+        private final int n1;
+        private final int[] outOffsets;
+        private final int[] outArcs;
+        private final int[] inOffsets;
+        private final int[] inArcs;
+        private final long[][] outHubs;
+        private final long[][] inHubs;
+        private final long[] loops1;
+        // label classes and neighbor label signatures, null if not used
+        private long[] classes1;
+        private long[] signatures1;
+
+        // pattern in matching order
+        private final List<V> patterns;
+        private final int n2;
+        private final long[][] adjacency2;
+        private final int[] outDegree2;
+        private final int[] inDegree2;
+        private final boolean[] loops2;
+        private int[] class2;
+        private long[] signatures2;
+        // for each position the earlier positions of neighbors and whether the edge is outgoing
+        // from the earlier vertex
+        private final int[][] parents;
+        private final boolean[][] parentsOut;
+        // candidates of positions without parents
+        private final int[][] domains;
+
+        Matcher()
+        {
+            this.directed = graph1.getType().isDirected();
+
+            // target adjacency
+            VertexToIntegerMapping<V> mapping1 = new VertexToIntegerMapping<>(graph1.vertexSet());
+            this.targets = mapping1.getIndexList();
+            this.n1 = targets.size();
+            this.loops1 = new long[(n1 + 63) >>> 6];
+            int[][] out = sortedAdjacency(
+                new CompressedAdjacency<>(graph1, mapping1, false, false), loops1);
+            this.outOffsets = out[0];
+            this.outArcs = out[1];
+            this.outHubs = hubs(outOffsets, outArcs);
+            if (directed) {
+                int[][] in = sortedAdjacency(
+                    new CompressedAdjacency<>(graph1, mapping1, true, false), loops1);
+                this.inOffsets = in[0];
+                this.inArcs = in[1];
+                this.inHubs = hubs(inOffsets, inArcs);
+            } else {
+                this.inOffsets = outOffsets;
+                this.inArcs = outArcs;
+                this.inHubs = outHubs;
+            }
+
+            // pattern order
+            List<V> vertices2 = new ArrayList<>(graph2.vertexSet());
+            this.n2 = vertices2.size();
+            Map<V, Integer> index2 = new HashMap<>();
+            for (int i = 0; i < n2; i++) {
+                index2.put(vertices2.get(i), i);
+            }
+            long[][] unordered = new long[n2][(n2 + 63) >>> 6];
+            for (E e : graph2.edgeSet()) {
+                int s = index2.get(graph2.getEdgeSource(e));
+                int t = index2.get(graph2.getEdgeTarget(e));
+                unordered[s][t >>> 6] |= 1L << t;
+                if (!directed) {
+                    unordered[t][s >>> 6] |= 1L << s;
+                }
+            }
+            int[] order = order(vertices2, unordered);
+            this.patterns = new ArrayList<>(n2);
+            for (int i = 0; i < n2; i++) {
+                patterns.add(vertices2.get(order[i]));
+            }
+            this.adjacency2 = new long[n2][(n2 + 63) >>> 6];
+            this.outDegree2 = new int[n2];
+            this.inDegree2 = new int[n2];
+            this.loops2 = new boolean[n2];
+            for (int p = 0; p < n2; p++) {
+                for (int q = 0; q < n2; q++) {
+                    if (isSet(unordered[order[p]], order[q])) {
+                        adjacency2[p][q >>> 6] |= 1L << q;
+                        if (p == q) {
+                            loops2[p] = true;
+                        } else {
+                            outDegree2[p]++;
+                            inDegree2[q]++;
+                        }
+                    }
+                }
+            }
+
+            this.parents = new int[n2][];
+            this.parentsOut = new boolean[n2][];
+            for (int p = 0; p < n2; p++) {
+                int count = 0;
+                for (int q = 0; q < p; q++) {
+                    if (hasEdge2(q, p) || hasEdge2(p, q)) {
+                        count++;
+                    }
+                }
+                parents[p] = new int[count];
+                parentsOut[p] = new boolean[count];
+                count = 0;
+                for (int q = 0; q < p; q++) {
+                    if (hasEdge2(q, p) || hasEdge2(p, q)) {
+                        parents[p][count] = q;
+                        parentsOut[p][count] = hasEdge2(q, p);
+                        count++;
+                    }
+                }
+            }
+
+            computeLabels();
+
+            this.domains = new int[n2][];
+            for (int p = 0; p < n2; p++) {
+                if (parents[p].length == 0) {
+                    domains[p] = domain(p);
+                }
+            }
+        }
+
+        /**
+         * Order the pattern vertices. Each next vertex has the most neighbors among the ordered
+         * ones, ties broken by the degree. A new connected component starts from a vertex of
+         * maximum degree.
+         */
+        private int[] order(List<V> vertices2, long[][] unordered)
+        {
+            int[] degree = new int[n2];
+            for (int p = 0; p < n2; p++) {
+                for (int q = 0; q < n2; q++) {
+                    if (p != q && (isSet(unordered[p], q) || isSet(unordered[q], p))) {
+                        degree[p]++;
+                    }
+                }
+            }
+            int[] order = new int[n2];
+            int[] connections = new int[n2];
+            boolean[] ordered = new boolean[n2];
+            for (int i = 0; i < n2; i++) {
+                int best = -1;
+                for (int p = 0; p < n2; p++) {
+                    if (ordered[p]) {
+                        continue;
+                    }
+                    if (best == -1 || connections[p] > connections[best]
+                        || connections[p] == connections[best] && degree[p] > degree[best])
+                    {
+                        best = p;
+                    }
+                }
+                order[i] = best;
+                ordered[best] = true;
+                for (int q = 0; q < n2; q++) {
+                    if (q != best && (isSet(unordered[best], q) || isSet(unordered[q], best))) {
+                        connections[q]++;
+                    }
+                }
+            }
+            return order;
+        }
+
+        /**
+         * Partition the pattern vertices into label classes and compute the label signatures.
+         */
+        private void computeLabels()
+        {
+            if (vertexComparator == null) {
+                return;
+            }
+            class2 = new int[n2];
+            List<V> representatives = new ArrayList<>();
+            for (int p = 0; p < n2; p++) {
+                V v = patterns.get(p);
+                int c = 0;
+                while (c < representatives.size()
+                    && vertexComparator.compare(representatives.get(c), v) != 0)
+                {
+                    c++;
+                }
+                if (c == representatives.size()) {
+                    representatives.add(v);
+                }
+                class2[p] = c;
+            }
+            if (representatives.size() > Long.SIZE) {
+                // too many classes for a signature, compare labels directly
+                return;
+            }
+
+            signatures2 = new long[n2];
+            for (int p = 0; p < n2; p++) {
+                for (int q = 0; q < n2; q++) {
+                    if (p != q && (hasEdge2(p, q) || hasEdge2(q, p))) {
+                        signatures2[p] |= 1L << class2[q];
+                    }
+                }
+            }
+
+            classes1 = new long[n1];
+            ConcurrencyUtil.parallelFor(pool, n1, (w, t) -> {
+                V v = targets.get(t);
+                long mask = 0L;
+                for (int c = 0; c < representatives.size(); c++) {
+                    if (vertexComparator.compare(v, representatives.get(c)) == 0) {
+                        mask |= 1L << c;
+                    }
+                }
+                classes1[t] = mask;
+            });
+            signatures1 = new long[n1];
+            ConcurrencyUtil.parallelFor(pool, n1, (w, t) -> {
+                long mask = 0L;
+                for (int a = outOffsets[t]; a < outOffsets[t + 1]; a++) {
+                    mask |= classes1[outArcs[a]];
+                }
+                if (directed) {
+                    for (int a = inOffsets[t]; a < inOffsets[t + 1]; a++) {
+                        mask |= classes1[inArcs[a]];
+                    }
+                }
+                signatures1[t] = mask;
+            });
+        }
+
+        /**
+         * Compute all target vertices whose signature matches a pattern vertex.
+         */
+        private int[] domain(int p)
+        {
+            long[] accepted = new long[(n1 + 63) >>> 6];
+            ConcurrencyUtil.parallelFor(pool, accepted.length, (w, i) -> {
+                long word = 0L;
+                int end = Math.min(n1, (i + 1) << 6);
+                for (int t = i << 6; t < end; t++) {
+                    if (matches(p, t)) {
+                        word |= 1L << t;
+                    }
+                }
+                accepted[i] = word;
+            });
+            int count = 0;
+            for (long word : accepted) {
+                count += Long.bitCount(word);
+            }
+            int[] result = new int[count];
+            count = 0;
+            for (int i = 0; i < accepted.length; i++) {
+                long word = accepted[i];
+                while (word != 0L) {
+                    result[count++] = (i << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * Whether the signature of a target vertex matches the signature of a pattern vertex.
+         */
+        private boolean matches(int p, int t)
+        {
+            if (outOffsets[t + 1] - outOffsets[t] < outDegree2[p]) {
+                return false;
+            }
+            if (directed && inOffsets[t + 1] - inOffsets[t] < inDegree2[p]) {
+                return false;
+            }
+            if (isSet(loops1, t) != loops2[p]) {
+                return false;
+            }
+            if (vertexComparator != null) {
+                if (signatures2 != null) {
+                    if ((classes1[t] & (1L << class2[p])) == 0L
+                        || (signatures2[p] & ~signatures1[t]) != 0L)
+                    {
+                        return false;
+                    }
+                } else if (vertexComparator.compare(targets.get(t), patterns.get(p)) != 0) {
+                    return false;
+                }
+            }
+            if (loops2[p] && edgeComparator != null) {
+                return areCompatibleEdges(t, t, p, p);
+            }
+            return true;
+        }
+
+        private boolean hasEdge1(int s, int t)
+        {
+            if (outHubs[s] != null) {
+                return isSet(outHubs[s], t);
+            }
+            if (inHubs[t] != null) {
+                return isSet(inHubs[t], s);
+            }
+            int outLength = outOffsets[s + 1] - outOffsets[s];
+            int inLength = inOffsets[t + 1] - inOffsets[t];
+            if (outLength <= inLength) {
+                return Arrays.binarySearch(outArcs, outOffsets[s], outOffsets[s + 1], t) >= 0;
+            } else {
+                return Arrays.binarySearch(inArcs, inOffsets[t], inOffsets[t + 1], s) >= 0;
+            }
+        }
+
+        private boolean hasEdge2(int p, int q)
+        {
+            return isSet(adjacency2[p], q);
+        }
+
+        private boolean areCompatibleEdges(int s, int t, int p, int q)
+        {
+            return edgeComparator.compare(
+                graph1.getEdge(targets.get(s), targets.get(t)),
+                graph2.getEdge(patterns.get(p), patterns.get(q))) == 0;
+        }
+
+        /**
+         * Execute the search.
+         *
+         * @param consumer the consumer of the mappings, may be null
+         * @param stopAtFirst whether to stop after the first mapping
+         * @return the number of mappings found
+         */
+        long run(Consumer<GraphMapping<V, E>> consumer, boolean stopAtFirst)
+        {
+            if (n2 > n1) {
+                return 0L;
+            }
+            Run run = new Run(consumer, stopAtFirst);
+
+            // expand the top levels of the search tree until there are enough partial mappings
+            int tasks = pool.getParallelism() * TASKS_PER_WORKER;
+            Search search = new Search(run);
+            int depth = 0;
+            int[] prefixes = new int[0];
+            int count = 1;
+            while (depth < n2 && count > 0 && count < tasks) {
+                int[] next = new int[Math.max(16, count * (depth + 1))];
+                int nextCount = 0;
+                for (int i = 0; i < count; i++) {
+                    search.load(prefixes, i, depth);
+                    int[] candidates = search.candidates(depth);
+                    int from = search.candidatesFrom;
+                    int to = search.candidatesTo;
+                    for (int c = from; c < to; c++) {
+                        int t = candidates[c];
+                        if (search.isFeasible(depth, t)) {
+                            if ((nextCount + 1) * (depth + 1) > next.length) {
+                                next = Arrays.copyOf(next, 2 * next.length);
+                            }
+                            System.arraycopy(
+                                prefixes, i * depth, next, nextCount * (depth + 1), depth);
+                            next[nextCount * (depth + 1) + depth] = t;
+                            nextCount++;
+                        }
+                    }
+                    search.unload(depth);
+                }
+                prefixes = next;
+                count = nextCount;
+                depth++;
+            }
+
+            // extend the partial mappings in parallel
+            final int prefixDepth = depth;
+            final int[] prefixArray = prefixes;
+            List<Search> workspaces =
+                new ArrayList<>(Collections.nCopies(ConcurrencyUtil.workers(pool, count), null));
+            ConcurrencyUtil.parallelFor(pool, count, (w, i) -> {
+                if (run.stop) {
+                    return;
+                }
+                Search s = workspaces.get(w);
+                if (s == null) {
+                    s = new Search(run);
+                    workspaces.set(w, s);
+                }
+                s.load(prefixArray, i, prefixDepth);
+                s.extend(prefixDepth);
+                s.unload(prefixDepth);
+            });
+
+            long total = 0L;
+            for (Search s : workspaces) {
+                if (s != null) {
+                    total += s.found;
+                }
+            }
+            return total;
+        }
+
+        /**
+         * The shared state of a search.
+         */
+        private class Run
+        {
+            final Consumer<GraphMapping<V, E>> consumer;
+            final boolean stopAtFirst;
+            volatile boolean stop;
+
+            Run(Consumer<GraphMapping<V, E>> consumer, boolean stopAtFirst)
+            {
+                this.consumer = consumer;
+                this.stopAtFirst = stopAtFirst;
+            }
+        }
+
+        /**
+         * The workspace of a worker, a depth-first search extending a partial mapping.
+         */
+        private class Search
+        {
+            private final Run run;
+            private final int[] map;
+            private final long[] used;
+            private long found;
+
+            // the candidate range computed by the last call to candidates
+            private int candidatesFrom;
+            private int candidatesTo;
+
+            Search(Run run)
+            {
+                this.run = run;
+                this.map = new int[n2];
+                this.used = new long[(n1 + 63) >>> 6];
+            }
+
+            void load(int[] prefixes, int i, int depth)
+            {
+                for (int d = 0; d < depth; d++) {
+                    int t = prefixes[i * depth + d];
+                    map[d] = t;
+                    used[t >>> 6] |= 1L << t;
+                }
+            }
+
+            void unload(int depth)
+            {
+                for (int d = 0; d < depth; d++) {
+                    used[map[d] >>> 6] &= ~(1L << map[d]);
+                }
+            }
+
+            /**
+             * Compute the candidates of a pattern vertex as a range of an array. These are the
+             * neighbors of the image of a matched neighbor with the smallest degree, or the
+             * domain of the vertex if it has no matched neighbor.
+             */
+            int[] candidates(int p)
+            {
+                if (parents[p].length == 0) {
+                    candidatesFrom = 0;
+                    candidatesTo = domains[p].length;
+                    return domains[p];
+                }
+                int[] best = null;
+                int bestLength = Integer.MAX_VALUE;
+                for (int i = 0; i < parents[p].length; i++) {
+                    int m = map[parents[p][i]];
+                    int[] offsets = parentsOut[p][i] ? outOffsets : inOffsets;
+                    int length = offsets[m + 1] - offsets[m];
+                    if (length < bestLength) {
+                        bestLength = length;
+                        best = parentsOut[p][i] ? outArcs : inArcs;
+                        candidatesFrom = offsets[m];
+                        candidatesTo = offsets[m + 1];
+                    }
+                }
+                return best;
+            }
+
+            boolean isFeasible(int p, int t)
+            {
+                if (isSet(used, t) || !matches(p, t)) {
+                    return false;
+                }
+                for (int q = 0; q < p; q++) {
+                    int m = map[q];
+                    boolean e2 = hasEdge2(p, q);
+                    if (e2 != hasEdge1(t, m)) {
+                        return false;
+                    }
+                    if (e2 && edgeComparator != null && !areCompatibleEdges(t, m, p, q)) {
+                        return false;
+                    }
+                    if (directed) {
+                        e2 = hasEdge2(q, p);
+                        if (e2 != hasEdge1(m, t)) {
+                            return false;
+                        }
+                        if (e2 && edgeComparator != null && !areCompatibleEdges(m, t, q, p)) {
+                            return false;
+                        }
+                    }
+                }
+                return true;
+            }
+
+            void extend(int p)
+            {
+                if (p == n2) {
+                    report();
+                    return;
+                }
+                int[] candidates = candidates(p);
+                int from = candidatesFrom;
+                int to = candidatesTo;
+                for (int c = from; c < to && !run.stop; c++) {
+                    int t = candidates[c];
+                    if (isFeasible(p, t)) {
+                        map[p] = t;
+                        used[t >>> 6] |= 1L << t;
+                        extend(p + 1);
+                        used[t >>> 6] &= ~(1L << t);
+                    }
+                }
+            }
+
+            private void report()
+            {
+                found++;
+                if (run.stopAtFirst) {
+                    run.stop = true;
+                }
+                if (run.consumer == null) {
+                    return;
+                }
+                Map<V, V> forward = new HashMap<>();
+                Map<V, V> backward = new HashMap<>();
+                for (int p = 0; p < n2; p++) {
+                    V v = targets.get(map[p]);
+                    V u = patterns.get(p);
+                    forward.put(v, u);
+                    backward.put(u, v);
+                }
+                GraphMapping<V, E> mapping =
+                    new IsomorphicGraphMapping<>(forward, backward, graph1, graph2);
+                synchronized (run) {
+                    run.consumer.accept(mapping);
+                }
+            }
+        }
+    }
+
+    /**
+     * Copy an adjacency into sorted arrays without self-loops, recording the self-loops.
+     */
+    private static int[][] sortedAdjacency(CompressedAdjacency<?, ?> adjacency, long[] loops)
+    {
+        int n = adjacency.vertexCount();
+        int[] offsets = adjacency.getOffsets();
+        int[] arcs = adjacency.getArcs();
+        int[] newOffsets = new int[n + 1];
+        int[] newArcs = new int[arcs.length];
+        int k = 0;
+        for (int v = 0; v < n; v++) {
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                if (arcs[a] == v) {
+                    loops[v >>> 6] |= 1L << v;
+                } else {
+                    newArcs[k++] = arcs[a];
+                }
+            }
+            newOffsets[v + 1] = k;
+            Arrays.sort(newArcs, newOffsets[v], k);
+        }
+        return new int[][] { newOffsets, Arrays.copyOf(newArcs, k) };
+    }
+
+    /**
+     * Create bitset neighborhoods for the vertices whose degree is large compared to the number of
+     * vertices.
+     */
+    private static long[][] hubs(int[] offsets, int[] arcs)
+    {
+        int n = offsets.length - 1;
+        int words = (n + 63) >>> 6;
+        int threshold = Math.max(MIN_HUB_DEGREE, n / HUB_DENSITY);
+        long[][] hubs = new long[n][];
+        for (int v = 0; v < n; v++) {
+            if (offsets[v + 1] - offsets[v] >= threshold) {
+                long[] row = new long[words];
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    row[arcs[a] >>> 6] |= 1L << arcs[a];
+                }
+                hubs[v] = row;
+            }
+        }
+        return hubs;
+    }
+
+    private static boolean isSet(long[] bitset, int i)
+    {
+        return (bitset[i >>> 6] & (1L << i)) != 0L;
+    }
+}
@@ -19,8 +19,8 @@ package org.jgrapht.alg.scoring;
 
 import org.jgrapht.*;
 import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
 
-import java.lang.reflect.*;
 import java.util.*;
 
 /**
@@ -47,10 +47,19 @@ import java.util.*;
  * of the ordering, in linear time, by using a bucket queue to repeatedly find and remove the vertex
  * of smallest degree.
  *
+ * <p>
+ * The implementation follows the bin-sort algorithm of V. Batagelj and M. Zaversnik. An $O(m)$
+ * algorithm for cores decomposition of networks. arXiv:cs/0310049, 2003. The vertices are mapped
+ * to integers and kept sorted by their current degree in a few integer arrays, thus the running
+ * time is $O(n + m)$ without any hashing after the initial mapping.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
  * @author Dimitrios Michail
+ *
+ * @see ParallelCoreness
+ * @see DynamicCoreness
  */
 public final class Coreness<V, E>
     implements
@@ -110,7 +119,6 @@ public final class Coreness<V, E>
         return degeneracy;
     }
 
-    @SuppressWarnings("unchecked")
     private void lazyRun()
     {
         if (scores != null) {
@@ -121,56 +129,85 @@ public final class Coreness<V, E>
             throw new IllegalArgumentException("Graph must be simple");
         }
 
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(g, false, false);
+        int[] core = coreNumbers(adjacency.getOffsets(), adjacency.getArcs());
+
         scores = new HashMap<>();
         degeneracy = 0;
-
-        /*
-         * Initialize buckets
-         */
-        int n = g.vertexSet().size();
-        int maxDegree = n - 1;
-        Set<V>[] buckets = (Set<V>[]) Array.newInstance(Set.class, maxDegree + 1);
-        for (int i = 0; i < buckets.length; i++) {
-            buckets[i] = new HashSet<>();
-        }
-
-        int minDegree = n;
-        Map<V, Integer> degrees = new HashMap<>();
-        for (V v : g.vertexSet()) {
-            int d = g.degreeOf(v);
-            buckets[d].add(v);
-            degrees.put(v, d);
-            minDegree = Math.min(minDegree, d);
+        for (int v = 0; v < core.length; v++) {
+            scores.put(adjacency.getVertex(v), core[v]);
+            degeneracy = Math.max(degeneracy, core[v]);
         }
+    }
 
-        /*
-         * Extract from buckets
-         */
-        while (minDegree < n) {
-            Set<V> b = buckets[minDegree];
-            if (b.isEmpty()) {
-                minDegree++;
-                continue;
+    /**
+     * Compute the core numbers of a graph given as adjacency arrays over the vertex indices $[0,
+     * n)$, where the neighbors of vertex $v$ are stored in positions $[offsets[v], offsets[v+1])$
+     * of the arcs. Self-loops are ignored.
+     *
+     * @param offsets the offsets of the adjacency of each vertex
+     * @param arcs the neighbors of all vertices
+     * @return the core number of each vertex
+     */
+    static int[] coreNumbers(int[] offsets, int[] arcs)
+    {
+        int n = offsets.length - 1;
+        int[] degree = new int[n];
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                if (arcs[a] != v) {
+                    degree[v]++;
+                }
             }
+            maxDegree = Math.max(maxDegree, degree[v]);
+        }
 
-            V v = b.iterator().next();
-            b.remove(v);
-            scores.put(v, minDegree);
-            degeneracy = Math.max(degeneracy, minDegree);
-
-            for (E e : g.edgesOf(v)) {
-                V u = Graphs.getOppositeVertex(g, e, v);
-                int uDegree = degrees.get(u);
-                if (uDegree > minDegree && !scores.containsKey(u)) {
-                    buckets[uDegree].remove(u);
-                    uDegree--;
-                    degrees.put(u, uDegree);
-                    buckets[uDegree].add(u);
-                    minDegree = Math.min(minDegree, uDegree);
+        // sort vertices by degree, bin[d] is the first position of degree d
+        int[] bin = new int[maxDegree + 1];
+        for (int v = 0; v < n; v++) {
+            bin[degree[v]]++;
+        }
+        int start = 0;
+        for (int d = 0; d <= maxDegree; d++) {
+            int count = bin[d];
+            bin[d] = start;
+            start += count;
+        }
+        int[] position = new int[n];
+        int[] vertex = new int[n];
+        for (int v = 0; v < n; v++) {
+            position[v] = bin[degree[v]];
+            vertex[position[v]] = v;
+            bin[degree[v]]++;
+        }
+        for (int d = maxDegree; d > 0; d--) {
+            bin[d] = bin[d - 1];
+        }
+        bin[0] = 0;
+
+        // remove vertices in order of degree, moving each neighbor to the previous bin
+        for (int i = 0; i < n; i++) {
+            int v = vertex[i];
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = arcs[a];
+                if (degree[u] > degree[v]) {
+                    int du = degree[u];
+                    int pu = position[u];
+                    int pw = bin[du];
+                    int w = vertex[pw];
+                    if (u != w) {
+                        position[u] = pw;
+                        vertex[pu] = w;
+                        position[w] = pu;
+                        vertex[pw] = u;
+                    }
+                    bin[du]++;
+                    degree[u]--;
                 }
             }
         }
-
+        return degree;
     }
 
 }
@@ -0,0 +1,248 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.event.*;
+
+import java.util.*;
+
+/**
+ * Maintains the coreness of each vertex of an undirected graph under edge insertions and
+ * deletions.
+ *
+ * <p>
+ * The initial core numbers are computed using the algorithm of {@link Coreness}. Afterwards, an
+ * edge insertion or deletion changes the core number of a vertex by at most one, and only for
+ * vertices whose core number $K$ equals the smaller core number of the two endpoints of the edge
+ * and which are reachable from such an endpoint through vertices with core number $K$. This set
+ * of vertices is called the subcore. On each update the subcore is traversed and for each of its
+ * vertices the number of neighbors with core number at least $K$ is computed. After an insertion
+ * the vertices of the subcore with at most $K$ such neighbors are repeatedly evicted and the
+ * remaining ones move to core $K+1$. After a deletion the vertices with less than $K$ such
+ * neighbors are repeatedly evicted and move to core $K-1$. See A. E. Sariyuce, B. Gedik, G.
+ * Jacques-Silva, K.-L. Wu and U. V. Catalyurek. Streaming algorithms for k-core decomposition.
+ * Proceedings of the VLDB Endowment, 6(6):433--444, 2013. The cost of an update is linear in the
+ * total degree of the subcore, which is usually much smaller than the graph.
+ *
+ * <p>
+ * The class is a {@link GraphListener} and must be added as a listener to the graph in order to be
+ * notified about changes. If it is added as listener to a graph other than the one it was created
+ * with, results are undefined. Self-loops are ignored and multiple edges are counted with their
+ * multiplicity.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see Coreness
+ *
+ * @author agent
+ */
+public class DynamicCoreness<V, E>
+    implements
+    VertexScoringAlgorithm<V, Integer>,
+    GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final Map<V, Integer> core;
+
+    /**
+     * Constructor
+     *
+     * @param graph the input graph, must be undirected
+     */
+    public DynamicCoreness(Graph<V, E> graph)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.core = new HashMap<>();
+
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, false, false);
+        int[] initial = Coreness.coreNumbers(adjacency.getOffsets(), adjacency.getArcs());
+        for (int v = 0; v < initial.length; v++) {
+            core.put(adjacency.getVertex(v), initial[v]);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Integer> getScores()
+    {
+        return Collections.unmodifiableMap(core);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getVertexScore(V v)
+    {
+        Integer result = core.get(v);
+        if (result == null) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        return result;
+    }
+
+    /**
+     * Compute the degeneracy of the graph, which is the maximum core number of its vertices.
+     *
+     * @return the degeneracy of the graph
+     */
+    public int getDegeneracy()
+    {
+        int degeneracy = 0;
+        for (int c : core.values()) {
+            degeneracy = Math.max(degeneracy, c);
+        }
+        return degeneracy;
+    }
+
+    /**
+     * @see GraphListener#edgeAdded(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        update(e.getEdgeSource(), e.getEdgeTarget(), true);
+    }
+
+    /**
+     * @see GraphListener#edgeRemoved(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        update(e.getEdgeSource(), e.getEdgeTarget(), false);
+    }
+
+    /**
+     * @see VertexSetListener#vertexAdded(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        core.put(e.getVertex(), 0);
+    }
+
+    /**
+     * @see VertexSetListener#vertexRemoved(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        // all incident edges have already been removed
+        core.remove(e.getVertex());
+    }
+
+    /**
+     * Update the core numbers after the graph has gained or lost an edge between two vertices.
+     *
+     * @param u the first endpoint
+     * @param v the second endpoint
+     * @param insertion whether the edge was inserted or deleted
+     */
+    private void update(V u, V v, boolean insertion)
+    {
+        if (u.equals(v)) {
+            return;
+        }
+        int cu = core.get(u);
+        int cv = core.get(v);
+        int k = Math.min(cu, cv);
+
+        // traverse the subcore and count the neighbors with core at least k
+        Map<V, Integer> support = new HashMap<>();
+        Deque<V> queue = new ArrayDeque<>();
+        if (cu == k) {
+            support.put(u, 0);
+            queue.add(u);
+        }
+        if (cv == k) {
+            support.put(v, 0);
+            queue.add(v);
+        }
+        while (!queue.isEmpty()) {
+            V w = queue.poll();
+            int count = 0;
+            for (E e : graph.edgesOf(w)) {
+                V x = Graphs.getOppositeVertex(graph, e, w);
+                if (x.equals(w)) {
+                    continue;
+                }
+                int cx = core.get(x);
+                if (cx >= k) {
+                    count++;
+                }
+                if (cx == k && !support.containsKey(x)) {
+                    support.put(x, 0);
+                    queue.add(x);
+                }
+            }
+            support.put(w, count);
+        }
+
+        // repeatedly evict the vertices without enough support
+        Set<V> evicted = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        for (Map.Entry<V, Integer> entry : support.entrySet()) {
+            if (isEvicted(entry.getValue(), k, insertion)) {
+                evicted.add(entry.getKey());
+                stack.push(entry.getKey());
+            }
+        }
+        while (!stack.isEmpty()) {
+            V w = stack.pop();
+            for (E e : graph.edgesOf(w)) {
+                V x = Graphs.getOppositeVertex(graph, e, w);
+                if (x.equals(w) || evicted.contains(x)) {
+                    continue;
+                }
+                Integer s = support.get(x);
+                if (s == null) {
+                    continue;
+                }
+                support.put(x, s - 1);
+                if (isEvicted(s - 1, k, insertion)) {
+                    evicted.add(x);
+                    stack.push(x);
+                }
+            }
+        }
+
+        if (insertion) {
+            for (V w : support.keySet()) {
+                if (!evicted.contains(w)) {
+                    core.put(w, k + 1);
+                }
+            }
+        } else {
+            for (V w : evicted) {
+                core.put(w, k - 1);
+            }
+        }
+    }
+
+    private static boolean isEvicted(int support, int k, boolean insertion)
+    {
+        return insertion ? support <= k : support < k;
+    }
+}
@@ -0,0 +1,420 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parallel and approximate betweenness centrality.
+ *
+ * <p>
+ * Computes the same scores as {@link BetweennessCentrality} using Brandes' algorithm, but
+ * distributes the single-source computations over the workers of a {@link ForkJoinPool}. The
+ * vertices are mapped once to the integers $[0, n)$ and the adjacency structure is copied into a
+ * {@link CompressedAdjacency}. Each worker keeps its own primitive arrays for the distances, the
+ * number of shortest paths, the dependencies, the predecessors and the partial scores, which are
+ * reused for all sources processed by the worker and reset in time proportional to the vertices
+ * reached from each source. The partial scores of the workers are summed at the end. Since the
+ * order of the summation depends on the scheduling, scores may differ in the last bits between
+ * executions.
+ *
+ * <p>
+ * For graphs where the exact computation is too expensive the algorithm can instead sample $k$
+ * source vertices uniformly at random, and extrapolate the scores by multiplying with $n / k$, as
+ * described in the paper: U. Brandes and C. Pich. Centrality estimation in large networks.
+ * International Journal of Bifurcation and Chaos, 17(7):2303--2318, 2007. The estimator is
+ * unbiased and by Hoeffding's inequality the score of each vertex deviates from its exact value by
+ * more than {@link #getErrorBound(double)} with probability at most $\delta$.
+ *
+ * <p>
+ * The running time of the exact computation is $O(nm/p)$ and $O((nm + n^2 \log n)/p)$ for
+ * unweighted and weighted graphs respectively, where $p$ is the number of workers. The space
+ * complexity is $O(p(n + m))$. Negative edge weights result in an IllegalArgumentException.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BetweennessCentrality
+ *
+ * @author agent
+ */
+public class ParallelBetweennessCentrality<V, E>
+    implements
+    VertexScoringAlgorithm<V, Double>
+{
+    private final Graph<V, E> graph;
+    private final boolean normalize;
+    private final ForkJoinPool pool;
+    private final int samples;
+    private final Random rng;
+    private Map<V, Double> scores;
+
+    /**
+     * Construct a new instance which computes the exact scores using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph)
+    {
+        this(graph, false);
+    }
+
+    /**
+     * Construct a new instance which computes the exact scores using the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the scores by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph, boolean normalize)
+    {
+        this(graph, normalize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance which computes the exact scores.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the scores by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param pool the pool used to parallelize the computation
+     */
+    public ParallelBetweennessCentrality(Graph<V, E> graph, boolean normalize, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        this.samples = 0;
+        this.rng = null;
+    }
+
+    /**
+     * Construct a new instance which approximates the scores by sampling source vertices.
+     *
+     * @param graph the input graph
+     * @param normalize whether to normalize by dividing the scores by $(n-1) \cdot (n-2)$, where
+     *        $n$ is the number of vertices of the graph
+     * @param pool the pool used to parallelize the computation
+     * @param samples the number $k$ of source vertices to sample. If $k \ge n$ the exact scores
+     *        are computed.
+     * @param rng the random number generator used to sample the source vertices
+     */
+    public ParallelBetweennessCentrality(
+        Graph<V, E> graph, boolean normalize, ForkJoinPool pool, int samples, Random rng)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.normalize = normalize;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (samples < 1) {
+            throw new IllegalArgumentException("Number of samples must be positive");
+        }
+        this.samples = samples;
+        this.rng = Objects.requireNonNull(rng, "Random number generator cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Whether the scores are approximated by sampling source vertices.
+     *
+     * @return true if the scores are approximated, false if they are exact
+     */
+    public boolean isApproximate()
+    {
+        return rng != null && samples < graph.vertexSet().size();
+    }
+
+    /**
+     * Get an upper bound on the absolute error of the score of any single vertex, which holds with
+     * probability at least $1 - \delta$. The bound is $c \cdot n(n-2) \sqrt{\ln(2/\delta) / 2k}$
+     * where $c$ is the same scaling factor applied to the scores, that is $1/2$ for undirected
+     * graphs and an additional $1/((n-1)(n-2))$ if the scores are normalized. The bound is zero if
+     * the scores are exact.
+     *
+     * @param delta the failure probability, must be in $(0, 1)$
+     * @return an upper bound on the absolute error of the score of a vertex
+     */
+    public double getErrorBound(double delta)
+    {
+        if (delta <= 0d || delta >= 1d) {
+            throw new IllegalArgumentException("Failure probability must be in (0, 1)");
+        }
+        if (!isApproximate()) {
+            return 0d;
+        }
+        int n = graph.vertexSet().size();
+        double bound = (double) n * (n - 2) * Math.sqrt(Math.log(2d / delta) / (2d * samples));
+        return scale(bound, n);
+    }
+
+    private void compute()
+    {
+        boolean weighted = graph.getType().isWeighted();
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, false, weighted);
+        int n = adjacency.vertexCount();
+        if (weighted) {
+            for (double w : adjacency.getWeights()) {
+                if (w < 0.0) {
+                    throw new IllegalArgumentException("Negative edge weight not allowed");
+                }
+            }
+        }
+
+        // select sources
+        int[] sources;
+        double factor;
+        if (isApproximate()) {
+            sources = new int[samples];
+            for (int i = 0; i < samples; i++) {
+                sources[i] = rng.nextInt(n);
+            }
+            factor = (double) n / samples;
+        } else {
+            sources = new int[n];
+            for (int i = 0; i < n; i++) {
+                sources[i] = i;
+            }
+            factor = 1d;
+        }
+
+        // compute partial scores
+        int[] predOffsets = computePredecessorOffsets(adjacency);
+        Workspace[] workspaces = new Workspace[ConcurrencyUtil.workers(pool, sources.length)];
+        ConcurrencyUtil.parallelFor(pool, sources.length, (w, i) -> {
+            Workspace ws = workspaces[w];
+            if (ws == null) {
+                ws = new Workspace(adjacency, predOffsets);
+                workspaces[w] = ws;
+            }
+            ws.compute(sources[i]);
+        });
+
+        // merge partial scores
+        double[] total = new double[n];
+        for (Workspace ws : workspaces) {
+            if (ws != null) {
+                for (int v = 0; v < n; v++) {
+                    total[v] += ws.scores[v];
+                }
+            }
+        }
+
+        this.scores = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            scores.put(adjacency.getVertex(v), scale(factor * total[v], n));
+        }
+    }
+
+    private double scale(double score, int n)
+    {
+        // For undirected graph, divide scores by two as each shortest path considered twice.
+        if (!graph.getType().isDirected()) {
+            score /= 2;
+        }
+        if (normalize) {
+            int normalizationFactor = (n - 1) * (n - 2);
+            if (normalizationFactor != 0) {
+                score /= normalizationFactor;
+            }
+        }
+        return score;
+    }
+
+    /**
+     * Compute the position of the predecessors of each vertex in the predecessor array. A vertex
+     * has at most as many predecessors as incoming arcs.
+     */
+    private static int[] computePredecessorOffsets(CompressedAdjacency<?, ?> adjacency)
+    {
+        int n = adjacency.vertexCount();
+        int[] offsets = new int[n + 1];
+        for (int target : adjacency.getArcs()) {
+            offsets[target + 1]++;
+        }
+        for (int v = 0; v < n; v++) {
+            offsets[v + 1] += offsets[v];
+        }
+        return offsets;
+    }
+
+    /**
+     * The arrays of a worker.
+     */
+    private static class Workspace
+    {
+        private final int[] offsets;
+        private final int[] arcs;
+        private final double[] weights;
+        private final int[] predOffsets;
+
+        private final double[] distance;
+        private final double[] sigma;
+        private final double[] dependency;
+        private final int[] predCount;
+        private final int[] preds;
+        private final int[] order;
+        private final IndexedDaryHeap heap;
+        private final double[] scores;
+
+        Workspace(CompressedAdjacency<?, ?> adjacency, int[] predOffsets)
+        {
+            int n = adjacency.vertexCount();
+            this.offsets = adjacency.getOffsets();
+            this.arcs = adjacency.getArcs();
+            this.weights = adjacency.getWeights();
+            this.predOffsets = predOffsets;
+
+            this.distance = new double[n];
+            Arrays.fill(distance, Double.POSITIVE_INFINITY);
+            this.sigma = new double[n];
+            this.dependency = new double[n];
+            this.predCount = new int[n];
+            this.preds = new int[predOffsets[n]];
+            this.order = new int[n];
+            this.heap = weights != null ? new IndexedDaryHeap(n) : null;
+            this.scores = new double[n];
+        }
+
+        /**
+         * Add the dependencies of a source to the partial scores.
+         *
+         * @param s the source vertex
+         */
+        void compute(int s)
+        {
+            // 1. compute the length and the number of shortest paths between all s to v
+            int reached = weights != null ? dijkstra(s) : bfs(s);
+
+            // 2. sum all pair dependencies in order of non-increasing distance from s
+            for (int i = reached - 1; i >= 0; i--) {
+                int w = order[i];
+                double coefficient = (1d + dependency[w]) / sigma[w];
+                int start = predOffsets[w];
+                for (int j = start; j < start + predCount[w]; j++) {
+                    int v = preds[j];
+                    dependency[v] += sigma[v] * coefficient;
+                }
+                if (w != s) {
+                    scores[w] += dependency[w];
+                }
+            }
+
+            // reset the touched entries
+            for (int i = 0; i < reached; i++) {
+                int v = order[i];
+                distance[v] = Double.POSITIVE_INFINITY;
+                sigma[v] = 0d;
+                dependency[v] = 0d;
+                predCount[v] = 0;
+            }
+        }
+
+        private int bfs(int s)
+        {
+            distance[s] = 0d;
+            sigma[s] = 1d;
+            order[0] = s;
+            int head = 0;
+            int tail = 1;
+            while (head < tail) {
+                int v = order[head++];
+                double d = distance[v] + 1d;
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    int w = arcs[a];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        order[tail++] = w;
+                    }
+                    if (distance[w] == d) {
+                        sigma[w] += sigma[v];
+                        preds[predOffsets[w] + predCount[w]++] = v;
+                    }
+                }
+            }
+            return tail;
+        }
+
+        private int dijkstra(int s)
+        {
+            distance[s] = 0d;
+            sigma[s] = 1d;
+            heap.insert(s, 0d);
+            int settled = 0;
+            while (!heap.isEmpty()) {
+                int v = heap.deleteMin();
+                order[settled++] = v;
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    int w = arcs[a];
+                    double d = distance[v] + weights[a];
+                    if (distance[w] == Double.POSITIVE_INFINITY) {
+                        distance[w] = d;
+                        heap.insert(w, d);
+                        sigma[w] = sigma[v];
+                        preds[predOffsets[w]] = v;
+                        predCount[w] = 1;
+                    } else if (d < distance[w]) {
+                        distance[w] = d;
+                        heap.decreaseKey(w, d);
+                        sigma[w] = sigma[v];
+                        preds[predOffsets[w]] = v;
+                        predCount[w] = 1;
+                    } else if (d == distance[w] && heap.contains(w)) {
+                        sigma[w] += sigma[v];
+                        preds[predOffsets[w] + predCount[w]++] = v;
+                    }
+                }
+            }
+            return settled;
+        }
+
+    }
+
+}
@@ -0,0 +1,605 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Parallel closeness centrality.
+ *
+ * <p>
+ * Computes the same scores as {@link ClosenessCentrality}, running one single-source shortest
+ * path computation from every vertex. The sources are split among the workers of a
+ * {@link ForkJoinPool} and each worker owns its workspace, so the traversals do not need any
+ * synchronization. The graph is first copied into a {@link CompressedAdjacency}. When the graph
+ * is unweighted, or all its edge weights equal one, the distances are computed by breadth-first
+ * search. Sources are processed in batches of $64$, using a bit-parallel breadth-first search
+ * which advances the frontiers of all sources of a batch at once by keeping one bit per source in
+ * a word per vertex. Thus, a vertex and its arcs are scanned at most once per level of the batch
+ * instead of once per source. Small batches fall back to one breadth-first search per source.
+ * Weighted graphs use Dijkstra's algorithm with an indexed binary heap over primitive arrays.
+ * Negative edge weights are not supported.
+ *
+ * <p>
+ * For very large graphs the scores can be estimated by sampling pivots, see
+ * {@link #approximateScores(int, long)}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ClosenessCentrality
+ * @see ParallelHarmonicCentrality
+ *
+ * @author agent
+ */
+public class ParallelClosenessCentrality<V, E>
+    implements
+    VertexScoringAlgorithm<V, Double>
+{
+    private static final int BATCH_SIZE = 64;
+    private static final int MIN_BIT_PARALLEL_BATCH_SIZE = 8;
+
+    /**
+     * Underlying graph
+     */
+    protected final Graph<V, E> graph;
+    /**
+     * Whether to use incoming or outgoing paths
+     */
+    protected final boolean incoming;
+    /**
+     * Whether to normalize scores
+     */
+    protected final boolean normalize;
+
+    private final ForkJoinPool pool;
+    private Map<V, Double> scores;
+
+    /**
+     * Construct a new instance which uses the common pool. By default the centrality is normalized
+     * and computed using outgoing paths.
+     *
+     * @param graph the input graph
+     */
+    public ParallelClosenessCentrality(Graph<V, E> graph)
+    {
+        this(graph, false, true);
+    }
+
+    /**
+     * Construct a new instance which uses the common pool.
+     *
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize the scores
+     */
+    public ParallelClosenessCentrality(Graph<V, E> graph, boolean incoming, boolean normalize)
+    {
+        this(graph, incoming, normalize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize the scores
+     * @param pool the pool used to run the shortest path computations
+     */
+    public ParallelClosenessCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ForkJoinPool pool)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.incoming = incoming;
+        this.normalize = normalize;
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph has negative edge weights
+     */
+    @Override
+    public Map<V, Double> getScores()
+    {
+        if (scores == null) {
+            compute();
+        }
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalArgumentException if the graph has negative edge weights
+     */
+    @Override
+    public Double getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        if (scores == null) {
+            compute();
+        }
+        return scores.get(v);
+    }
+
+    /**
+     * Estimate the scores by sampling pivots uniformly at random. A single-source shortest path
+     * computation is executed from each pivot in the reverse direction, which gives the distance
+     * of every vertex to the pivot. The sum of distances of each vertex to the other $n-1$
+     * vertices is then estimated from its distances to the pivots, scaled by $(n-1)/k$ where $k$
+     * is the number of pivots other than the vertex itself. See D. Eppstein and J. Wang. Fast
+     * approximation of centrality. Journal of Graph Algorithms and Applications, 8(1):39--45,
+     * 2004. With $k = \Theta(\log n / \epsilon^2)$ pivots the estimated farness of an undirected
+     * connected graph is within an additive error of $\epsilon \Delta$ with high probability,
+     * where $\Delta$ is the diameter of the graph. The running time is proportional to the number
+     * of pivots instead of the number of vertices. At least two pivots are used.
+     *
+     * @param pivots the number of pivots
+     * @param seed the seed of the random number generator
+     * @return the estimated scores
+     * @throws IllegalArgumentException if the graph has negative edge weights
+     */
+    public Map<V, Double> approximateScores(int pivots, long seed)
+    {
+        if (pivots < 1) {
+            throw new IllegalArgumentException("Number of pivots must be positive");
+        }
+        boolean weighted = isWeighted();
+        CompressedAdjacency<V, E> adjacency =
+            new CompressedAdjacency<>(graph, !incoming, weighted);
+        int n = adjacency.vertexCount();
+
+        // sample distinct pivots
+        int k = Math.min(Math.max(pivots, 2), n);
+        int[] permutation = new int[n];
+        for (int v = 0; v < n; v++) {
+            permutation[v] = v;
+        }
+        SplittableRandom rng = new SplittableRandom(seed);
+        boolean[] isPivot = new boolean[n];
+        for (int i = 0; i < k; i++) {
+            int j = i + rng.nextInt(n - i);
+            int tmp = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = tmp;
+            isPivot[permutation[i]] = true;
+        }
+        int[] sources = Arrays.copyOf(permutation, k);
+
+        Sums sums = traverse(adjacency, weighted, sources, true);
+
+        Map<V, Double> result = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            int others = isPivot[v] ? k - 1 : k;
+            double scale = others == 0 ? 0d : (double) (n - 1) / others;
+            double farness = sums.reached[v] < others ? Double.POSITIVE_INFINITY
+                : sums.farness[v] * scale;
+            result.put(adjacency.getVertex(v), score(farness, sums.harmonic[v] * scale, n));
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * Compute the score of a vertex.
+     *
+     * @param farness the sum of the distances from the vertex to all other vertices, which is
+     *        infinite if some vertex is unreachable
+     * @param harmonic the sum of the reciprocals of the distances from the vertex to all other
+     *        vertices
+     * @param n the number of vertices of the graph
+     * @return the score of the vertex
+     */
+    protected double score(double farness, double harmonic, int n)
+    {
+        if (normalize) {
+            return (n - 1) / farness;
+        } else {
+            return 1 / farness;
+        }
+    }
+
+    private void compute()
+    {
+        boolean weighted = isWeighted();
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, incoming, weighted);
+        int n = adjacency.vertexCount();
+        int[] sources = new int[n];
+        for (int v = 0; v < n; v++) {
+            sources[v] = v;
+        }
+
+        Sums sums = traverse(adjacency, weighted, sources, false);
+
+        scores = new HashMap<>();
+        for (int v = 0; v < n; v++) {
+            double farness =
+                sums.reached[v] < n - 1 ? Double.POSITIVE_INFINITY : sums.farness[v];
+            scores.put(adjacency.getVertex(v), score(farness, sums.harmonic[v], n));
+        }
+    }
+
+    private boolean isWeighted()
+    {
+        if (!graph.getType().isWeighted()) {
+            return false;
+        }
+        boolean weighted = false;
+        for (E e : graph.edgeSet()) {
+            double w = graph.getEdgeWeight(e);
+            if (w < 0d) {
+                throw new IllegalArgumentException("Negative edge weights not allowed");
+            }
+            if (w != 1d) {
+                weighted = true;
+            }
+        }
+        return weighted;
+    }
+
+    /**
+     * Run a shortest path computation from each source.
+     *
+     * @param adjacency the adjacency used to traverse the graph
+     * @param weighted whether to use the edge weights
+     * @param sources the sources
+     * @param pivots if true the distances are summed per target vertex, otherwise per source
+     * @return the sums of the distances
+     */
+    private Sums traverse(
+        CompressedAdjacency<V, E> adjacency, boolean weighted, int[] sources, boolean pivots)
+    {
+        int n = adjacency.vertexCount();
+        int batchSize = weighted ? 1 : BATCH_SIZE;
+        int batches = (sources.length + batchSize - 1) / batchSize;
+        int workers = ConcurrencyUtil.workers(pool, batches);
+
+        // sums per source are written by the single worker owning the source, while sums per
+        // target are kept per worker and added at the end
+        Sums shared = pivots ? null : new Sums(n);
+        List<Traversal> traversals = new ArrayList<>(Collections.nCopies(workers, null));
+        ConcurrencyUtil.parallelFor(pool, batches, (w, b) -> {
+            Traversal t = traversals.get(w);
+            if (t == null) {
+                t = new Traversal(adjacency, sources, pivots, pivots ? new Sums(n) : shared);
+                traversals.set(w, t);
+            }
+            int start = b * batchSize;
+            int end = Math.min(sources.length, start + batchSize);
+            if (weighted) {
+                t.dijkstra(sources[start]);
+            } else if (end - start < MIN_BIT_PARALLEL_BATCH_SIZE) {
+                for (int i = start; i < end; i++) {
+                    t.bfs(sources[i]);
+                }
+            } else {
+                t.bitParallelBfs(start, end);
+            }
+        });
+
+        if (!pivots) {
+            return shared;
+        }
+        Sums total = new Sums(n);
+        for (Traversal t : traversals) {
+            if (t != null) {
+                total.add(t.sums);
+            }
+        }
+        return total;
+    }
+
+    /**
+     * The sums of distances, of reciprocals of distances and the number of reached vertices.
+     */
+    private static class Sums
+    {
+        final double[] farness;
+        final double[] harmonic;
+        final int[] reached;
+
+        Sums(int n)
+        {
+            this.farness = new double[n];
+            this.harmonic = new double[n];
+            this.reached = new int[n];
+        }
+
+        void add(Sums other)
+        {
+            for (int v = 0; v < reached.length; v++) {
+                farness[v] += other.farness[v];
+                harmonic[v] += other.harmonic[v];
+                reached[v] += other.reached[v];
+            }
+        }
+    }
+
+    /**
+     * The workspace of a worker.
+     */
+    private static class Traversal
+    {
+        private final int n;
+        private final int[] offsets;
+        private final int[] arcs;
+        private final double[] weights;
+        private final int[] sources;
+        private final boolean pivots;
+        private final Sums sums;
+
+        // breadth-first search
+        private int[] distance;
+        private int[] queue;
+
+        // bit-parallel breadth-first search
+        private long[] visited;
+        private long[] frontier;
+        private long[] next;
+        private int[] current;
+        private int[] following;
+
+        // Dijkstra
+        private double[] weightedDistance;
+        private int[] heap;
+        private int[] position;
+        private int[] touched;
+
+        Traversal(CompressedAdjacency<?, ?> adjacency, int[] sources, boolean pivots, Sums sums)
+        {
+            this.n = adjacency.vertexCount();
+            this.offsets = adjacency.getOffsets();
+            this.arcs = adjacency.getArcs();
+            this.weights = adjacency.getWeights();
+            this.sources = sources;
+            this.pivots = pivots;
+            this.sums = sums;
+        }
+
+        private void record(int source, int target, double d)
+        {
+            int index = pivots ? target : source;
+            sums.farness[index] += d;
+            sums.harmonic[index] += 1d / d;
+            sums.reached[index]++;
+        }
+
+        void bfs(int s)
+        {
+            if (distance == null) {
+                distance = new int[n];
+                Arrays.fill(distance, -1);
+                queue = new int[n];
+            }
+            distance[s] = 0;
+            queue[0] = s;
+            int head = 0;
+            int tail = 1;
+            while (head < tail) {
+                int v = queue[head++];
+                int d = distance[v] + 1;
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    int u = arcs[a];
+                    if (distance[u] < 0) {
+                        distance[u] = d;
+                        queue[tail++] = u;
+                        record(s, u, d);
+                    }
+                }
+            }
+            for (int i = 0; i < tail; i++) {
+                distance[queue[i]] = -1;
+            }
+        }
+
+        void bitParallelBfs(int start, int end)
+        {
+            if (visited == null) {
+                visited = new long[n];
+                frontier = new long[n];
+                next = new long[n];
+                current = new int[n];
+                following = new int[n];
+            }
+            if (touched == null) {
+                touched = new int[n];
+            }
+
+            int touchedSize = 0;
+            int currentSize = 0;
+            for (int j = 0; j < end - start; j++) {
+                int s = sources[start + j];
+                touched[touchedSize++] = s;
+                current[currentSize++] = s;
+                visited[s] = 1L << j;
+                frontier[s] = 1L << j;
+            }
+
+            int level = 0;
+            while (currentSize > 0) {
+                level++;
+                int followingSize = 0;
+                for (int i = 0; i < currentSize; i++) {
+                    int v = current[i];
+                    long f = frontier[v];
+                    for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                        int u = arcs[a];
+                        long bits = f & ~visited[u];
+                        if (bits != 0L) {
+                            if (next[u] == 0L) {
+                                following[followingSize++] = u;
+                            }
+                            next[u] |= bits;
+                        }
+                    }
+                }
+                for (int i = 0; i < currentSize; i++) {
+                    frontier[current[i]] = 0L;
+                }
+                for (int i = 0; i < followingSize; i++) {
+                    int u = following[i];
+                    long bits = next[u];
+                    next[u] = 0L;
+                    if (visited[u] == 0L) {
+                        touched[touchedSize++] = u;
+                    }
+                    visited[u] |= bits;
+                    frontier[u] = bits;
+                    recordAll(start, u, bits, level);
+                }
+
+                int[] tmp = current;
+                current = following;
+                following = tmp;
+                currentSize = followingSize;
+            }
+
+            for (int i = 0; i < touchedSize; i++) {
+                visited[touched[i]] = 0L;
+            }
+        }
+
+        private void recordAll(int start, int u, long bits, int level)
+        {
+            if (pivots) {
+                int count = Long.bitCount(bits);
+                sums.farness[u] += (double) level * count;
+                sums.harmonic[u] += (double) count / level;
+                sums.reached[u] += count;
+            } else {
+                while (bits != 0L) {
+                    int s = sources[start + Long.numberOfTrailingZeros(bits)];
+                    bits &= bits - 1;
+                    sums.farness[s] += level;
+                    sums.harmonic[s] += 1d / level;
+                    sums.reached[s]++;
+                }
+            }
+        }
+
+        void dijkstra(int s)
+        {
+            if (weightedDistance == null) {
+                weightedDistance = new double[n];
+                Arrays.fill(weightedDistance, Double.POSITIVE_INFINITY);
+                heap = new int[n];
+                position = new int[n];
+                Arrays.fill(position, -1);
+            }
+            if (touched == null) {
+                touched = new int[n];
+            }
+
+            int touchedSize = 0;
+            int heapSize = 0;
+            weightedDistance[s] = 0d;
+            touched[touchedSize++] = s;
+            heap[heapSize++] = s;
+            position[s] = 0;
+
+            while (heapSize > 0) {
+                int v = heap[0];
+                position[v] = -1;
+                heapSize--;
+                if (heapSize > 0) {
+                    heap[0] = heap[heapSize];
+                    position[heap[0]] = 0;
+                    siftDown(0, heapSize);
+                }
+
+                double dv = weightedDistance[v];
+                if (v != s) {
+                    record(s, v, dv);
+                }
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    int u = arcs[a];
+                    double du = dv + weights[a];
+                    if (du < weightedDistance[u]) {
+                        if (weightedDistance[u] == Double.POSITIVE_INFINITY) {
+                            touched[touchedSize++] = u;
+                        }
+                        weightedDistance[u] = du;
+                        if (position[u] < 0) {
+                            heap[heapSize] = u;
+                            position[u] = heapSize;
+                            heapSize++;
+                        }
+                        siftUp(position[u]);
+                    }
+                }
+            }
+
+            for (int i = 0; i < touchedSize; i++) {
+                weightedDistance[touched[i]] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        private void siftUp(int i)
+        {
+            int v = heap[i];
+            double key = weightedDistance[v];
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                int p = heap[parent];
+                if (weightedDistance[p] <= key) {
+                    break;
+                }
+                heap[i] = p;
+                position[p] = i;
+                i = parent;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+
+        private void siftDown(int i, int size)
+        {
+            int v = heap[i];
+            double key = weightedDistance[v];
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size
+                    && weightedDistance[heap[child + 1]] < weightedDistance[heap[child]])
+                {
+                    child++;
+                }
+                int c = heap[child];
+                if (key <= weightedDistance[c]) {
+                    break;
+                }
+                heap[i] = c;
+                position[c] = i;
+                i = child;
+            }
+            heap[i] = v;
+            position[v] = i;
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Parallel computation of the coreness of each vertex in an undirected graph.
+ *
+ * <p>
+ * Computes the same values as {@link Coreness} by peeling the graph level by level, following the
+ * algorithm PKC of H. Kabir and K. Madduri. Parallel k-core decomposition on multicore platforms.
+ * In Proceedings of the IEEE International Parallel and Distributed Processing Symposium
+ * Workshops, 1482--1491, 2017. At level $k$ the workers first scan their part of the vertices and
+ * collect in a private buffer the vertices whose current degree equals $k$. Then each worker
+ * removes the vertices of its buffer, atomically decrementing the degree of every neighbor whose
+ * degree is larger than $k$. A neighbor whose degree drops to $k$ is appended to the buffer of the
+ * worker which decremented it, while a decrement below $k$ is undone. When a level is exhausted
+ * the current degree of each removed vertex is its core number. Levels without any vertex are
+ * skipped. The total work is $O(n \cdot d + m)$ where $d$ is the number of distinct core numbers.
+ *
+ * <p>
+ * Self-loops are ignored and multiple edges are counted with their multiplicity.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see Coreness
+ *
+ * @author agent
+ */
+public class ParallelCoreness<V, E>
+    implements
+    VertexScoringAlgorithm<V, Integer>
+{
+    private final Graph<V, E> graph;
+    private final ForkJoinPool pool;
+
+    private Map<V, Integer> scores;
+    private int degeneracy;
+
+    /**
+     * Construct a new instance which uses the common pool.
+     *
+     * @param graph the input graph, must be undirected
+     */
+    public ParallelCoreness(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph, must be undirected
+     * @param pool the pool used to peel the graph
+     */
+    public ParallelCoreness(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this.graph = GraphTests.requireUndirected(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<V, Integer> getScores()
+    {
+        lazyRun();
+        return Collections.unmodifiableMap(scores);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Integer getVertexScore(V v)
+    {
+        if (!graph.containsVertex(v)) {
+            throw new IllegalArgumentException("Cannot return score of unknown vertex");
+        }
+        lazyRun();
+        return scores.get(v);
+    }
+
+    /**
+     * Compute the degeneracy of the graph, which is the maximum core number of its vertices.
+     *
+     * @return the degeneracy of the graph
+     */
+    public int getDegeneracy()
+    {
+        lazyRun();
+        return degeneracy;
+    }
+
+    private void lazyRun()
+    {
+        if (scores != null) {
+            return;
+        }
+
+        CompressedAdjacency<V, E> adjacency = new CompressedAdjacency<>(graph, false, false);
+        int[] core = new Peeling(adjacency.getOffsets(), adjacency.getArcs()).run();
+
+        scores = new HashMap<>();
+        degeneracy = 0;
+        for (int v = 0; v < core.length; v++) {
+            scores.put(adjacency.getVertex(v), core[v]);
+            degeneracy = Math.max(degeneracy, core[v]);
+        }
+    }
+
+    /**
+     * The level synchronous peeling over the adjacency arrays.
+     */
+    private class Peeling
+    {
+        private final int n;
+        private final int[] offsets;
+        private final int[] arcs;
+        private final AtomicIntegerArray degree;
+
+        private final int workers;
+        private final int[][] buffers;
+        private final int[] sizes;
+        private final int[] nextLevel;
+
+        Peeling(int[] offsets, int[] arcs)
+        {
+            this.n = offsets.length - 1;
+            this.offsets = offsets;
+            this.arcs = arcs;
+            this.degree = new AtomicIntegerArray(n);
+            this.workers = ConcurrencyUtil.workers(pool, n);
+            this.buffers = new int[workers][16];
+            this.sizes = new int[workers];
+            this.nextLevel = new int[workers];
+        }
+
+        int[] run()
+        {
+            ConcurrencyUtil.parallelFor(pool, n, (w, v) -> {
+                int d = 0;
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    if (arcs[a] != v) {
+                        d++;
+                    }
+                }
+                degree.set(v, d);
+            });
+
+            int processed = 0;
+            int k = 0;
+            while (processed < n) {
+                final int level = k;
+                Arrays.fill(sizes, 0);
+                Arrays.fill(nextLevel, Integer.MAX_VALUE);
+
+                // collect the vertices of the level
+                ConcurrencyUtil.parallelFor(pool, n, (w, v) -> {
+                    int d = degree.get(v);
+                    if (d == level) {
+                        push(w, v);
+                    } else if (d > level && d < nextLevel[w]) {
+                        nextLevel[w] = d;
+                    }
+                });
+
+                int collected = 0;
+                for (int w = 0; w < workers; w++) {
+                    collected += sizes[w];
+                }
+                if (collected == 0) {
+                    int next = Integer.MAX_VALUE;
+                    for (int w = 0; w < workers; w++) {
+                        next = Math.min(next, nextLevel[w]);
+                    }
+                    k = next;
+                    continue;
+                }
+
+                // remove them, each worker processing its own buffer
+                ConcurrencyUtil.parallelFor(pool, workers, (unused, w) -> {
+                    for (int i = 0; i < sizes[w]; i++) {
+                        int v = buffers[w][i];
+                        for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                            int u = arcs[a];
+                            if (degree.get(u) > level) {
+                                int d = degree.decrementAndGet(u);
+                                if (d == level) {
+                                    push(w, u);
+                                } else if (d < level) {
+                                    degree.incrementAndGet(u);
+                                }
+                            }
+                        }
+                    }
+                });
+
+                for (int w = 0; w < workers; w++) {
+                    processed += sizes[w];
+                }
+                k++;
+            }
+
+            int[] core = new int[n];
+            for (int v = 0; v < n; v++) {
+                core[v] = degree.get(v);
+            }
+            return core;
+        }
+
+        private void push(int w, int v)
+        {
+            int[] buffer = buffers[w];
+            if (sizes[w] == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                buffers[w] = buffer;
+            }
+            buffer[sizes[w]++] = v;
+        }
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Parallel harmonic centrality.
+ *
+ * <p>
+ * Computes the same scores as {@link HarmonicCentrality}, using the parallel shortest path
+ * computations of {@link ParallelClosenessCentrality}. Negative edge weights are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see HarmonicCentrality
+ *
+ * @author agent
+ */
+public final class ParallelHarmonicCentrality<V, E>
+    extends
+    ParallelClosenessCentrality<V, E>
+{
+    /**
+     * Construct a new instance which uses the common pool. By default the centrality is normalized
+     * and computed using outgoing paths.
+     *
+     * @param graph the input graph
+     */
+    public ParallelHarmonicCentrality(Graph<V, E> graph)
+    {
+        this(graph, false, true);
+    }
+
+    /**
+     * Construct a new instance which uses the common pool.
+     *
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the centrality by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     */
+    public ParallelHarmonicCentrality(Graph<V, E> graph, boolean incoming, boolean normalize)
+    {
+        this(graph, incoming, normalize, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Construct a new instance.
+     *
+     * @param graph the input graph
+     * @param incoming if true incoming paths are used, otherwise outgoing paths
+     * @param normalize whether to normalize by dividing the centrality by $n-1$, where $n$ is the
+     *        number of vertices of the graph
+     * @param pool the pool used to run the shortest path computations
+     */
+    public ParallelHarmonicCentrality(
+        Graph<V, E> graph, boolean incoming, boolean normalize, ForkJoinPool pool)
+    {
+        super(graph, incoming, normalize, pool);
+    }
+
+    @Override
+    protected double score(double farness, double harmonic, int n)
+    {
+        if (normalize && n > 1) {
+            return harmonic / (n - 1);
+        } else {
+            return harmonic;
+        }
+    }
+
+}
@@ -0,0 +1,871 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Point-to-point shortest paths using contraction hierarchies.
+ *
+ * <p>
+ * The algorithm is described in the paper: R. Geisberger, P. Sanders, D. Schultes and D. Delling.
+ * Contraction Hierarchies: Faster and Simpler Hierarchical Routing in Road Networks. In
+ * Proceedings of the 7th International Workshop on Experimental Algorithms (WEA 2008), 319--333,
+ * 2008.
+ *
+ * <p>
+ * During construction the vertices are contracted one after the other in order of importance.
+ * Contracting a vertex $v$ removes it from the remaining graph and adds a shortcut $(u, w)$ for
+ * each pair of remaining neighbors for which the path $u, v, w$ is the only shortest path, as
+ * decided by a bounded local Dijkstra search called the witness search. The importance of a
+ * vertex combines the edge difference, that is the number of shortcuts its contraction would add
+ * minus the number of its edges, the number of its already contracted neighbors and its level in
+ * the hierarchy built so far. The result is a hierarchy where each vertex has
+ * a rank, the position in the contraction order, and every shortest path of the graph has an
+ * equivalent path which first goes up and then down the hierarchy.
+ *
+ * <p>
+ * The preprocessing works in rounds. Each round selects an independent set of vertices whose
+ * importance is minimal among their neighbors and contracts them simultaneously. The importance
+ * updates and the witness searches of a round are executed in parallel using a
+ * {@link ForkJoinPool}, with one workspace per worker. Only the insertion of the shortcuts is
+ * sequential. Since the vertices of a round are contracted simultaneously, a witness path of the
+ * same length as the shortcut is accepted only if it avoids the other vertices of the round.
+ *
+ * <p>
+ * A query runs a bidirectional Dijkstra search which only relaxes edges towards vertices of higher
+ * rank. The searches settle very few vertices, which makes a query orders of magnitude faster
+ * than a Dijkstra search on large road networks. Finally, the shortcuts of the path are
+ * recursively unpacked into the edges of the original graph.
+ *
+ * <p>
+ * The graph must not be modified after the construction of the algorithm. Negative edge weights
+ * will result in an IllegalArgumentException during construction.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see IndexedBidirectionalDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class ContractionHierarchyShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Maximum number of vertices settled by a witness search during the contraction of a vertex.
+     */
+    private static final int CONTRACTION_SETTLED_LIMIT = 500;
+
+    /**
+     * Maximum number of vertices settled by a witness search when estimating the importance of a
+     * vertex.
+     */
+    private static final int PRIORITY_SETTLED_LIMIT = 50;
+
+    private final CompressedAdjacency<V, E> adjacency;
+    private final int heapArity;
+
+    // rank of each vertex in the hierarchy
+    private final int[] rank;
+
+    // upward arcs of each vertex, used by the forward search
+    private final int[] upOffsets;
+    private final int[] upTargets;
+    private final double[] upWeights;
+    private final int[] upArcs;
+
+    // downward arcs into each vertex, used by the backward search
+    private final int[] downOffsets;
+    private final int[] downSources;
+    private final double[] downWeights;
+    private final int[] downArcs;
+
+    // the original arc of each arc of the hierarchy, or the two arcs of a shortcut
+    private final int[] arcOriginal;
+    private final int[] arcFirst;
+    private final int[] arcSecond;
+
+    private DijkstraWorkspace forwardWorkspace;
+    private DijkstraWorkspace backwardWorkspace;
+
+    /**
+     * Constructs a new instance for a specified graph. The preprocessing uses the common
+     * {@link ForkJoinPool}.
+     *
+     * @param graph the input graph
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to parallelize the preprocessing
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, IndexedDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to parallelize the preprocessing
+     * @param heapArity the arity of the heaps, use $2$ for binary heaps
+     */
+    public ContractionHierarchyShortestPath(Graph<V, E> graph, ForkJoinPool pool, int heapArity)
+    {
+        super(graph);
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        if (heapArity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2");
+        }
+        this.heapArity = heapArity;
+        this.adjacency = new CompressedAdjacency<>(graph);
+        for (double w : adjacency.getWeights()) {
+            if (w < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+
+        Contractor contractor = new Contractor(adjacency, pool, heapArity);
+        contractor.contract();
+
+        int n = adjacency.vertexCount();
+        int arcCount = contractor.arcCount;
+        this.rank = contractor.rank;
+        this.arcOriginal = Arrays.copyOf(contractor.arcOriginal, arcCount);
+        this.arcFirst = Arrays.copyOf(contractor.arcFirst, arcCount);
+        this.arcSecond = Arrays.copyOf(contractor.arcSecond, arcCount);
+
+        // split arcs into upward and downward
+        int[] arcSource = contractor.arcSource;
+        int[] arcTarget = contractor.arcTarget;
+        double[] arcWeight = contractor.arcWeight;
+        this.upOffsets = new int[n + 1];
+        this.downOffsets = new int[n + 1];
+        for (int a = 0; a < arcCount; a++) {
+            if (rank[arcSource[a]] < rank[arcTarget[a]]) {
+                upOffsets[arcSource[a] + 1]++;
+            } else {
+                downOffsets[arcTarget[a] + 1]++;
+            }
+        }
+        for (int v = 0; v < n; v++) {
+            upOffsets[v + 1] += upOffsets[v];
+            downOffsets[v + 1] += downOffsets[v];
+        }
+        this.upTargets = new int[upOffsets[n]];
+        this.upWeights = new double[upOffsets[n]];
+        this.upArcs = new int[upOffsets[n]];
+        this.downSources = new int[downOffsets[n]];
+        this.downWeights = new double[downOffsets[n]];
+        this.downArcs = new int[downOffsets[n]];
+        int[] upPos = Arrays.copyOf(upOffsets, n);
+        int[] downPos = Arrays.copyOf(downOffsets, n);
+        for (int a = 0; a < arcCount; a++) {
+            int s = arcSource[a];
+            int t = arcTarget[a];
+            if (rank[s] < rank[t]) {
+                int p = upPos[s]++;
+                upTargets[p] = t;
+                upWeights[p] = arcWeight[a];
+                upArcs[p] = a;
+            } else {
+                int p = downPos[t]++;
+                downSources[p] = s;
+                downWeights[p] = arcWeight[a];
+                downArcs[p] = a;
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The search reuses two internal workspaces. Thus, this method must not be called concurrently
+     * from multiple threads. Use
+     * {@link #getPath(Object, Object, DijkstraWorkspace, DijkstraWorkspace)} with separate
+     * workspaces per thread instead.
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (forwardWorkspace == null) {
+            forwardWorkspace = createWorkspace();
+            backwardWorkspace = createWorkspace();
+        }
+        return getPath(source, sink, forwardWorkspace, backwardWorkspace);
+    }
+
+    /**
+     * Get a shortest path from a source vertex to a sink vertex, using specific workspaces for the
+     * forward and the backward search. The workspaces are reset before the search and can be
+     * reused afterwards.
+     *
+     * @param source the source vertex
+     * @param sink the target vertex
+     * @param forward the workspace of the forward search, created using {@link #createWorkspace()}
+     * @param backward the workspace of the backward search, created using
+     *        {@link #createWorkspace()}
+     * @return a shortest path or null if no path exists
+     */
+    public GraphPath<V, E> getPath(
+        V source, V sink, DijkstraWorkspace forward, DijkstraWorkspace backward)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        int n = adjacency.vertexCount();
+        if (forward == backward || forward.capacity() != n || backward.capacity() != n) {
+            throw new IllegalArgumentException("Workspaces do not match the graph");
+        }
+
+        // handle special case if source equals target
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        forward.reset();
+        backward.reset();
+        forward.relax(adjacency.getIndex(source), 0d, -1, -1);
+        backward.relax(adjacency.getIndex(sink), 0d, -1, -1);
+
+        double bestPath = Double.POSITIVE_INFINITY;
+        int bestPathCommonVertex = -1;
+
+        boolean forwardDone = false;
+        boolean backwardDone = false;
+        boolean forwardTurn = true;
+        while (true) {
+            // a search is done when its minimum distance reaches the best path
+            if (!forwardDone && (forward.isHeapEmpty() || forward.findMinKey() >= bestPath)) {
+                forwardDone = true;
+            }
+            if (!backwardDone && (backward.isHeapEmpty() || backward.findMinKey() >= bestPath)) {
+                backwardDone = true;
+            }
+            if (forwardDone && backwardDone) {
+                break;
+            }
+            if (forwardDone) {
+                forwardTurn = false;
+            } else if (backwardDone) {
+                forwardTurn = true;
+            }
+
+            DijkstraWorkspace frontier = forwardTurn ? forward : backward;
+            DijkstraWorkspace otherFrontier = forwardTurn ? backward : forward;
+            int[] offsets = forwardTurn ? upOffsets : downOffsets;
+            int[] neighbors = forwardTurn ? upTargets : downSources;
+            double[] weights = forwardTurn ? upWeights : downWeights;
+
+            int v = frontier.deleteMin();
+            double vDistance = frontier.getDistance(v);
+
+            // the highest ranked vertex of a shortest path is settled by both searches
+            double pathDistance = vDistance + otherFrontier.getDistance(v);
+            if (pathDistance < bestPath) {
+                bestPath = pathDistance;
+                bestPathCommonVertex = v;
+            }
+
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                frontier.relax(neighbors[a], vDistance + weights[a], v, a);
+            }
+
+            forwardTurn = !forwardTurn;
+        }
+
+        if (bestPathCommonVertex == -1) {
+            return createEmptyPath(source, sink);
+        }
+        return createPath(forward, backward, bestPath, source, bestPathCommonVertex, sink);
+    }
+
+    /**
+     * Create a new workspace which can be used for queries on this instance. Each query needs two
+     * distinct workspaces.
+     *
+     * @return a new workspace
+     */
+    public DijkstraWorkspace createWorkspace()
+    {
+        return new DijkstraWorkspace(adjacency.vertexCount(), heapArity);
+    }
+
+    /**
+     * Get the number of arcs of the hierarchy, which includes the arcs of the graph and the
+     * shortcuts added during preprocessing. In undirected graphs each edge is represented by two
+     * arcs. Parallel arcs and self-loops of the graph are not part of the hierarchy.
+     *
+     * @return the number of arcs of the hierarchy
+     */
+    public int getHierarchyArcCount()
+    {
+        return arcOriginal.length;
+    }
+
+    private GraphPath<V, E> createPath(
+        DijkstraWorkspace forward, DijkstraWorkspace backward, double weight, V source,
+        int commonVertex, V sink)
+    {
+        // arcs of the hierarchy from the source to the common vertex
+        Deque<Integer> forwardArcs = new ArrayDeque<>();
+        int v = commonVertex;
+        while (forward.getPredecessorArc(v) != -1) {
+            forwardArcs.addFirst(upArcs[forward.getPredecessorArc(v)]);
+            v = forward.getPredecessor(v);
+        }
+
+        // arcs of the hierarchy from the common vertex to the sink
+        List<Integer> backwardArcs = new ArrayList<>();
+        v = commonVertex;
+        while (backward.getPredecessorArc(v) != -1) {
+            backwardArcs.add(downArcs[backward.getPredecessorArc(v)]);
+            v = backward.getPredecessor(v);
+        }
+
+        List<E> edgeList = new ArrayList<>();
+        for (int a : forwardArcs) {
+            unpack(a, edgeList);
+        }
+        for (int a : backwardArcs) {
+            unpack(a, edgeList);
+        }
+
+        return new GraphWalk<>(graph, source, sink, null, edgeList, weight);
+    }
+
+    /**
+     * Recursively replace a shortcut by the edges of the graph which it represents.
+     *
+     * @param arc the arc of the hierarchy
+     * @param edgeList the list to append the edges to
+     */
+    private void unpack(int arc, List<E> edgeList)
+    {
+        Deque<Integer> stack = new ArrayDeque<>();
+        stack.push(arc);
+        while (!stack.isEmpty()) {
+            int a = stack.pop();
+            if (arcOriginal[a] != -1) {
+                edgeList.add(adjacency.getEdge(arcOriginal[a]));
+            } else {
+                stack.push(arcSecond[a]);
+                stack.push(arcFirst[a]);
+            }
+        }
+    }
+
+    /**
+     * The preprocessing phase which contracts all vertices and computes the shortcuts.
+     */
+    private static class Contractor
+    {
+        private final ForkJoinPool pool;
+        private final int n;
+
+        // arcs of the hierarchy
+        private int arcCount;
+        private int[] arcSource;
+        private int[] arcTarget;
+        private double[] arcWeight;
+        private int[] arcOriginal;
+        private int[] arcFirst;
+        private int[] arcSecond;
+
+        // arcs of the remaining graph
+        private final int[][] outArcs;
+        private final int[] outSize;
+        private final int[][] inArcs;
+        private final int[] inSize;
+
+        private final boolean[] contracted;
+        private final boolean[] inRound;
+        private final boolean[] dirty;
+        private final int[] priority;
+        private final int[] contractedNeighbors;
+        private final int[] level;
+        private final int[] tieBreaker;
+        private final int[] rank;
+
+        private final Worker[] workers;
+
+        Contractor(CompressedAdjacency<?, ?> adjacency, ForkJoinPool pool, int heapArity)
+        {
+            this.pool = pool;
+            this.n = adjacency.vertexCount();
+
+            int capacity = Math.max(16, adjacency.arcCount());
+            this.arcSource = new int[capacity];
+            this.arcTarget = new int[capacity];
+            this.arcWeight = new double[capacity];
+            this.arcOriginal = new int[capacity];
+            this.arcFirst = new int[capacity];
+            this.arcSecond = new int[capacity];
+
+            this.outArcs = new int[n][];
+            this.outSize = new int[n];
+            this.inArcs = new int[n][];
+            this.inSize = new int[n];
+            this.contracted = new boolean[n];
+            this.inRound = new boolean[n];
+            this.dirty = new boolean[n];
+            this.priority = new int[n];
+            this.contractedNeighbors = new int[n];
+            this.level = new int[n];
+            this.rank = new int[n];
+
+            // random tie breaking keeps the independent sets large
+            this.tieBreaker = new int[n];
+            for (int i = 0; i < n; i++) {
+                tieBreaker[i] = i;
+            }
+            Random rng = new Random(17);
+            for (int i = n - 1; i > 0; i--) {
+                int j = rng.nextInt(i + 1);
+                int tmp = tieBreaker[i];
+                tieBreaker[i] = tieBreaker[j];
+                tieBreaker[j] = tmp;
+            }
+
+            for (int v = 0; v < n; v++) {
+                outArcs[v] = new int[4];
+                inArcs[v] = new int[4];
+            }
+
+            // keep only the lightest arc between each pair of vertices and ignore self-loops
+            int[] lightest = new int[n];
+            Arrays.fill(lightest, -1);
+            int[] offsets = adjacency.getOffsets();
+            int[] targets = adjacency.getArcs();
+            double[] weights = adjacency.getWeights();
+            for (int v = 0; v < n; v++) {
+                int first = arcCount;
+                for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                    int u = targets[a];
+                    if (u == v) {
+                        continue;
+                    }
+                    int existing = lightest[u];
+                    if (existing >= first) {
+                        if (weights[a] < arcWeight[existing]) {
+                            arcWeight[existing] = weights[a];
+                            arcOriginal[existing] = a;
+                        }
+                    } else {
+                        lightest[u] = addArc(v, u, weights[a], a, -1, -1);
+                    }
+                }
+            }
+            for (int a = 0; a < arcCount; a++) {
+                link(a);
+            }
+
+            this.workers = new Worker[ConcurrencyUtil.workers(pool, n)];
+            for (int i = 0; i < workers.length; i++) {
+                workers[i] = new Worker(n, heapArity);
+            }
+        }
+
+        /**
+         * Contract all vertices.
+         */
+        void contract()
+        {
+            int[] remaining = new int[n];
+            int remainingCount = n;
+            for (int v = 0; v < n; v++) {
+                remaining[v] = v;
+                dirty[v] = true;
+            }
+
+            int[] round = new int[n];
+            int nextRank = 0;
+            while (remainingCount > 0) {
+                // update importance of vertices whose neighborhood changed
+                int dirtyCount = 0;
+                int[] dirtyVertices = round;
+                for (int i = 0; i < remainingCount; i++) {
+                    int v = remaining[i];
+                    if (dirty[v]) {
+                        dirtyVertices[dirtyCount++] = v;
+                        dirty[v] = false;
+                    }
+                }
+                ConcurrencyUtil.parallelFor(pool, dirtyCount, (w, i) -> {
+                    int v = dirtyVertices[i];
+                    Worker worker = workers[w];
+                    worker.clearShortcuts();
+                    int shortcuts = computeShortcuts(worker, v, PRIORITY_SETTLED_LIMIT);
+                    priority[v] = 2 * (shortcuts - outSize[v] - inSize[v])
+                        + contractedNeighbors[v] + level[v];
+                    worker.clearShortcuts();
+                });
+
+                // select vertices which are local minima
+                int roundCount = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    int v = remaining[i];
+                    if (isLocalMinimum(v)) {
+                        round[roundCount++] = v;
+                        inRound[v] = true;
+                    }
+                }
+
+                // compute the shortcuts of the selected vertices in parallel
+                for (Worker worker : workers) {
+                    worker.clearShortcuts();
+                }
+                int[] roundVertices = round;
+                ConcurrencyUtil.parallelFor(
+                    pool, roundCount,
+                    (w, i) -> computeShortcuts(
+                        workers[w], roundVertices[i], CONTRACTION_SETTLED_LIMIT));
+
+                // contract the selected vertices
+                for (int i = 0; i < roundCount; i++) {
+                    int v = round[i];
+                    rank[v] = nextRank++;
+                    contracted[v] = true;
+                    inRound[v] = false;
+                }
+                for (Worker worker : workers) {
+                    for (int i = 0; i < worker.shortcutCount; i++) {
+                        addShortcut(
+                            worker.shortcutFirst[i], worker.shortcutSecond[i],
+                            worker.shortcutWeight[i]);
+                    }
+                    worker.clearShortcuts();
+                }
+                for (int i = 0; i < roundCount; i++) {
+                    int v = round[i];
+                    for (int j = 0; j < outSize[v]; j++) {
+                        touchNeighbor(v, arcTarget[outArcs[v][j]]);
+                    }
+                    for (int j = 0; j < inSize[v]; j++) {
+                        touchNeighbor(v, arcSource[inArcs[v][j]]);
+                    }
+                }
+                for (int i = 0; i < roundCount; i++) {
+                    int v = round[i];
+                    for (int j = 0; j < outSize[v]; j++) {
+                        removeContracted(arcTarget[outArcs[v][j]]);
+                    }
+                    for (int j = 0; j < inSize[v]; j++) {
+                        removeContracted(arcSource[inArcs[v][j]]);
+                    }
+                }
+                for (int i = 0; i < roundCount; i++) {
+                    int v = round[i];
+                    outArcs[v] = null;
+                    inArcs[v] = null;
+                }
+
+                int newRemainingCount = 0;
+                for (int i = 0; i < remainingCount; i++) {
+                    int v = remaining[i];
+                    if (!contracted[v]) {
+                        remaining[newRemainingCount++] = v;
+                    }
+                }
+                remainingCount = newRemainingCount;
+            }
+        }
+
+        /**
+         * Compute the shortcuts needed when contracting a vertex.
+         *
+         * @param worker the workspace of the current thread
+         * @param v the vertex
+         * @param settledLimit the maximum number of vertices settled by each witness search
+         * @return the number of shortcuts
+         */
+        private int computeShortcuts(Worker worker, int v, int settledLimit)
+        {
+            DijkstraWorkspace ws = worker.workspace;
+            boolean[] tainted = worker.tainted;
+            int[] targetMark = worker.targetMark;
+            int count = 0;
+            int[] vIn = inArcs[v];
+            int[] vOut = outArcs[v];
+            for (int i = 0; i < inSize[v]; i++) {
+                int first = vIn[i];
+                int u = arcSource[first];
+
+                // mark the targets of the witness search
+                int mark = worker.nextMark();
+                int targets = 0;
+                double maxWeight = Double.NEGATIVE_INFINITY;
+                for (int j = 0; j < outSize[v]; j++) {
+                    int second = vOut[j];
+                    int w = arcTarget[second];
+                    if (w != u) {
+                        maxWeight = Math.max(maxWeight, arcWeight[second]);
+                        if (targetMark[w] != mark) {
+                            targetMark[w] = mark;
+                            targets++;
+                        }
+                    }
+                }
+                if (targets == 0) {
+                    continue;
+                }
+                double maxDistance = arcWeight[first] + maxWeight;
+
+                /*
+                 * Witness search from u avoiding v. A path is tainted if it passes through another
+                 * vertex of the current round. Among paths of equal length untainted ones are
+                 * preferred.
+                 */
+                ws.reset();
+                ws.relax(u, 0d, -1, -1);
+                tainted[u] = false;
+                int settled = 0;
+                while (!ws.isHeapEmpty() && ws.findMinKey() <= maxDistance
+                    && settled < settledLimit)
+                {
+                    int x = ws.deleteMin();
+                    settled++;
+                    if (targetMark[x] == mark && --targets == 0) {
+                        break;
+                    }
+                    double xDistance = ws.getDistance(x);
+                    boolean xTainted = tainted[x] || inRound[x];
+                    int[] xOut = outArcs[x];
+                    for (int j = 0; j < outSize[x]; j++) {
+                        int a = xOut[j];
+                        int y = arcTarget[a];
+                        if (y == v || contracted[y]) {
+                            continue;
+                        }
+                        double yDistance = xDistance + arcWeight[a];
+                        if (ws.relax(y, yDistance, x, -1)) {
+                            tainted[y] = xTainted;
+                        } else if (!xTainted && ws.getDistance(y) == yDistance) {
+                            tainted[y] = false;
+                        }
+                    }
+                }
+
+                /*
+                 * A strictly shorter witness shows that the path through v is not a shortest path.
+                 * A witness of equal length must not depend on another vertex of the round, which
+                 * might itself rely on v.
+                 */
+                for (int j = 0; j < outSize[v]; j++) {
+                    int second = vOut[j];
+                    int w = arcTarget[second];
+                    if (w == u) {
+                        continue;
+                    }
+                    double shortcutWeight = arcWeight[first] + arcWeight[second];
+                    double witnessWeight = ws.getDistance(w);
+                    if (witnessWeight > shortcutWeight
+                        || (witnessWeight == shortcutWeight && tainted[w]))
+                    {
+                        worker.addShortcut(first, second, shortcutWeight);
+                        count++;
+                    }
+                }
+            }
+            return count;
+        }
+
+        private boolean isLocalMinimum(int v)
+        {
+            for (int j = 0; j < outSize[v]; j++) {
+                if (precedes(arcTarget[outArcs[v][j]], v)) {
+                    return false;
+                }
+            }
+            for (int j = 0; j < inSize[v]; j++) {
+                if (precedes(arcSource[inArcs[v][j]], v)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private boolean precedes(int u, int v)
+        {
+            return priority[u] < priority[v]
+                || (priority[u] == priority[v] && tieBreaker[u] < tieBreaker[v]);
+        }
+
+        private void touchNeighbor(int v, int u)
+        {
+            if (!contracted[u]) {
+                contractedNeighbors[u]++;
+                level[u] = Math.max(level[u], level[v] + 1);
+                dirty[u] = true;
+            }
+        }
+
+        /**
+         * Remove the arcs of a remaining vertex which lead to or come from contracted vertices.
+         *
+         * @param u the vertex
+         */
+        private void removeContracted(int u)
+        {
+            if (contracted[u]) {
+                return;
+            }
+            int[] out = outArcs[u];
+            int size = 0;
+            for (int j = 0; j < outSize[u]; j++) {
+                if (!contracted[arcTarget[out[j]]]) {
+                    out[size++] = out[j];
+                }
+            }
+            outSize[u] = size;
+            int[] in = inArcs[u];
+            size = 0;
+            for (int j = 0; j < inSize[u]; j++) {
+                if (!contracted[arcSource[in[j]]]) {
+                    in[size++] = in[j];
+                }
+            }
+            inSize[u] = size;
+        }
+
+        private void addShortcut(int first, int second, double weight)
+        {
+            int u = arcSource[first];
+            int w = arcTarget[second];
+
+            // skip if an arc which is not heavier already exists
+            for (int j = 0; j < outSize[u]; j++) {
+                int a = outArcs[u][j];
+                if (arcTarget[a] == w && arcWeight[a] <= weight) {
+                    return;
+                }
+            }
+            link(addArc(u, w, weight, -1, first, second));
+        }
+
+        private int addArc(int source, int target, double weight, int original, int first,
+            int second)
+        {
+            if (arcCount == arcSource.length) {
+                int capacity = 2 * arcCount;
+                arcSource = Arrays.copyOf(arcSource, capacity);
+                arcTarget = Arrays.copyOf(arcTarget, capacity);
+                arcWeight = Arrays.copyOf(arcWeight, capacity);
+                arcOriginal = Arrays.copyOf(arcOriginal, capacity);
+                arcFirst = Arrays.copyOf(arcFirst, capacity);
+                arcSecond = Arrays.copyOf(arcSecond, capacity);
+            }
+            int a = arcCount++;
+            arcSource[a] = source;
+            arcTarget[a] = target;
+            arcWeight[a] = weight;
+            arcOriginal[a] = original;
+            arcFirst[a] = first;
+            arcSecond[a] = second;
+            return a;
+        }
+
+        private void link(int a)
+        {
+            int s = arcSource[a];
+            if (outSize[s] == outArcs[s].length) {
+                outArcs[s] = Arrays.copyOf(outArcs[s], 2 * outSize[s]);
+            }
+            outArcs[s][outSize[s]++] = a;
+            int t = arcTarget[a];
+            if (inSize[t] == inArcs[t].length) {
+                inArcs[t] = Arrays.copyOf(inArcs[t], 2 * inSize[t]);
+            }
+            inArcs[t][inSize[t]++] = a;
+        }
+
+    }
+
+    /**
+     * The state of a thread executing witness searches.
+     */
+    private static class Worker
+    {
+        private final DijkstraWorkspace workspace;
+        private final boolean[] tainted;
+        private final int[] targetMark;
+        private int currentMark;
+        private int shortcutCount;
+        private int[] shortcutFirst;
+        private int[] shortcutSecond;
+        private double[] shortcutWeight;
+
+        Worker(int n, int heapArity)
+        {
+            this.workspace = new DijkstraWorkspace(n, heapArity);
+            this.tainted = new boolean[n];
+            this.targetMark = new int[n];
+            this.shortcutFirst = new int[16];
+            this.shortcutSecond = new int[16];
+            this.shortcutWeight = new double[16];
+        }
+
+        void addShortcut(int first, int second, double weight)
+        {
+            if (shortcutCount == shortcutFirst.length) {
+                int capacity = 2 * shortcutCount;
+                shortcutFirst = Arrays.copyOf(shortcutFirst, capacity);
+                shortcutSecond = Arrays.copyOf(shortcutSecond, capacity);
+                shortcutWeight = Arrays.copyOf(shortcutWeight, capacity);
+            }
+            shortcutFirst[shortcutCount] = first;
+            shortcutSecond[shortcutCount] = second;
+            shortcutWeight[shortcutCount] = weight;
+            shortcutCount++;
+        }
+
+        int nextMark()
+        {
+            if (currentMark == Integer.MAX_VALUE) {
+                Arrays.fill(targetMark, 0);
+                currentMark = 0;
+            }
+            return ++currentMark;
+        }
+
+        void clearShortcuts()
+        {
+            shortcutCount = 0;
+        }
+
+    }
+
+}
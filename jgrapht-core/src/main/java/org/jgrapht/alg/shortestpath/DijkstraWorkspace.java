@@ -0,0 +1,208 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.alg.util.*;
+
+import java.util.*;
+
+/**
+ * A reusable search context for Dijkstra-like searches over vertex indices.
+ *
+ * <p>
+ * The workspace keeps the distance and predecessor arrays and the heap of a search between
+ * queries. Instead of clearing the arrays, each entry is stamped with the version of the search
+ * which wrote it, and entries with an older version are treated as unreached. Resetting the
+ * workspace therefore takes time proportional to the number of vertices left in the heap and not
+ * to the number of vertices of the graph. Throughput-bound applications which execute many
+ * point-to-point queries on the same graph should create one workspace and pass it to every
+ * query, which removes almost all per-query allocation.
+ *
+ * <p>
+ * A workspace must not be used by more than one query at the same time. Applications issuing
+ * queries from multiple threads should use one workspace per thread.
+ *
+ * @see IndexedDijkstraShortestPath
+ * @see IndexedBidirectionalDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class DijkstraWorkspace
+{
+    private final IndexedDaryHeap heap;
+    private final double[] distance;
+    private final int[] predVertex;
+    private final int[] predArc;
+    private final int[] version;
+    private int currentVersion;
+
+    /**
+     * Create a new workspace.
+     *
+     * @param capacity the number of vertices of the graph
+     * @param heapArity the arity of the heap
+     */
+    public DijkstraWorkspace(int capacity, int heapArity)
+    {
+        this.heap = new IndexedDaryHeap(capacity, heapArity);
+        this.distance = new double[capacity];
+        this.predVertex = new int[capacity];
+        this.predArc = new int[capacity];
+        this.version = new int[capacity];
+        this.currentVersion = 1;
+    }
+
+    /**
+     * Get the number of vertices this workspace supports.
+     *
+     * @return the number of vertices this workspace supports
+     */
+    public int capacity()
+    {
+        return distance.length;
+    }
+
+    /**
+     * Reset the workspace for a new search. The running time is proportional to the number of
+     * vertices remaining in the heap from the last search.
+     */
+    public void reset()
+    {
+        heap.clear();
+        if (currentVersion == Integer.MAX_VALUE) {
+            Arrays.fill(version, 0);
+            currentVersion = 1;
+        } else {
+            currentVersion++;
+        }
+    }
+
+    /**
+     * Whether a vertex has been reached in the current search.
+     *
+     * @param v the vertex index
+     * @return true if the vertex has been reached, false otherwise
+     */
+    boolean isReached(int v)
+    {
+        return version[v] == currentVersion;
+    }
+
+    /**
+     * Get the current distance of a vertex.
+     *
+     * @param v the vertex index
+     * @return the current distance or infinity if the vertex has not been reached
+     */
+    double getDistance(int v)
+    {
+        return version[v] == currentVersion ? distance[v] : Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Get the predecessor vertex of a reached vertex.
+     *
+     * @param v the vertex index
+     * @return the predecessor vertex index or -1
+     */
+    int getPredecessor(int v)
+    {
+        return predVertex[v];
+    }
+
+    /**
+     * Get the arc used to reach a reached vertex.
+     *
+     * @param v the vertex index
+     * @return the arc or -1
+     */
+    int getPredecessorArc(int v)
+    {
+        return predArc[v];
+    }
+
+    /**
+     * Relax the distance of a vertex, inserting the vertex in the heap if it has not been reached.
+     *
+     * @param v the vertex index
+     * @param d the new tentative distance
+     * @param pred the predecessor vertex index or -1
+     * @param arc the arc from the predecessor or -1
+     * @return true if the distance improved, false otherwise
+     */
+    boolean relax(int v, double d, int pred, int arc)
+    {
+        if (version[v] != currentVersion) {
+            version[v] = currentVersion;
+            distance[v] = d;
+            predVertex[v] = pred;
+            predArc[v] = arc;
+            heap.insert(v, d);
+            return true;
+        } else if (d < distance[v]) {
+            assert heap.contains(v);
+            distance[v] = d;
+            predVertex[v] = pred;
+            predArc[v] = arc;
+            heap.decreaseKey(v, d);
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Mark a vertex as not reached.
+     *
+     * @param v the vertex index
+     */
+    void unreach(int v)
+    {
+        version[v] = 0;
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    boolean isHeapEmpty()
+    {
+        return heap.isEmpty();
+    }
+
+    /**
+     * Get the minimum key of the heap.
+     *
+     * @return the minimum key of the heap
+     */
+    double findMinKey()
+    {
+        return heap.findMinKey();
+    }
+
+    /**
+     * Remove and return a vertex with minimum distance from the heap.
+     *
+     * @return a vertex with minimum distance
+     */
+    int deleteMin()
+    {
+        return heap.deleteMin();
+    }
+
+}
@@ -25,11 +25,14 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.Graphs;
 import org.jgrapht.graph.GraphWalk;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jgrapht.util.TypeUtil;
 
 /**
@@ -41,6 +44,15 @@ import org.jgrapht.util.TypeUtil;
  * time, no computations are performed! All computations are performed the first time one of the
  * member methods of this class is invoked. The results are stored, so all subsequent calls to the
  * same method are computationally efficient.
+ *
+ * <p>
+ * When constructed with a {@link ForkJoinPool} the matrix is computed by the blocked
+ * Floyd-Warshall algorithm, see G. Venkataraman, S. Sahni and S. Mukhopadhyaya. A blocked
+ * all-pairs shortest-paths algorithm. Journal of Experimental Algorithmics, 8:2.2, 2003. The
+ * matrix is partitioned into square tiles which fit in the cache. For each diagonal tile, first
+ * the diagonal tile is computed, then the tiles of the same row and column in parallel, and
+ * finally all remaining tiles in parallel. The distances are the same as in the sequential
+ * algorithm, but when several shortest paths exist a different one might be returned.
  * 
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
@@ -60,6 +72,14 @@ public class FloydWarshallShortestPaths<V, E>
     private final int minDegreeOne;
     // minimum vertex with degree at least 2    
     private final int minDegreeTwo;
+    // pool for the blocked algorithm, or null
+    private final ForkJoinPool pool;
+    private final int blockSize;
+
+    /**
+     * Default block size of the blocked algorithm
+     */
+    public static final int DEFAULT_BLOCK_SIZE = 64;
 
     private double[][] d = null;
     private Object[][] backtrace = null;
@@ -71,8 +91,38 @@ public class FloydWarshallShortestPaths<V, E>
      * @param graph the input graph
      */
     public FloydWarshallShortestPaths(Graph<V, E> graph)
+    {
+        this(graph, null, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm which computes
+     * the matrix in parallel using the blocked algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to compute the tiles
+     */
+    public FloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, Objects.requireNonNull(pool, "Pool cannot be null"), DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * Create a new instance of the Floyd-Warshall all-pairs shortest path algorithm which computes
+     * the matrix in parallel using the blocked algorithm.
+     *
+     * @param graph the input graph
+     * @param pool the pool used to compute the tiles
+     * @param blockSize the number of rows and columns of each tile
+     */
+    public FloydWarshallShortestPaths(Graph<V, E> graph, ForkJoinPool pool, int blockSize)
     {
         super(graph);
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Block size must be positive");
+        }
+        this.pool = pool;
+        this.blockSize = blockSize;
 
         /*
          * Sort vertices by degree in ascending order and index them. Also compute the minimum
@@ -310,6 +360,11 @@ public class FloydWarshallShortestPaths<V, E>
             }
         }
 
+        if (pool != null) {
+            runBlocked();
+            return;
+        }
+
         // run fw alg
         for (int k = minDegreeTwo; k < n; k++) {
             for (int i = minDegreeOne; i < n; i++) {
@@ -331,6 +386,107 @@ public class FloydWarshallShortestPaths<V, E>
         }
     }
 
+    /**
+     * Run the blocked algorithm over the vertices $[minDegreeOne, n)$, since vertices with degree
+     * zero cannot be part of any path.
+     *
+     * <p>
+     * The blocked algorithm relaxes the entries in a different order than the sequential one. In
+     * the presence of zero weight cycles this could create cycles when following the backtrace
+     * matrix. Thus, ties are broken by the number of edges of the paths, which are kept in an
+     * additional matrix while the algorithm runs.
+     */
+    private void runBlocked()
+    {
+        int n = vertices.size();
+        int first = minDegreeOne;
+        int blocks = (n - first + blockSize - 1) / blockSize;
+
+        int[][] hops = new int[n][n];
+        for (int i = first; i < n; i++) {
+            for (int j = first; j < n; j++) {
+                if (i != j && backtrace[i][j] != null) {
+                    hops[i][j] = 1;
+                }
+            }
+        }
+
+        for (int block = 0; block < blocks; block++) {
+            final int kb = block;
+            final int k0 = first + kb * blockSize;
+            final int k1 = Math.min(n, k0 + blockSize);
+
+            // diagonal tile
+            relaxTile(hops, k0, k1, k0, k1, k0, k1);
+
+            // tiles in the same row or column as the diagonal tile
+            ConcurrencyUtil.parallelFor(pool, 2 * blocks, (worker, index) -> {
+                int b = index >> 1;
+                if (b == kb) {
+                    return;
+                }
+                int b0 = first + b * blockSize;
+                int b1 = Math.min(n, b0 + blockSize);
+                if ((index & 1) == 0) {
+                    relaxTile(hops, k0, k1, b0, b1, k0, k1);
+                } else {
+                    relaxTile(hops, b0, b1, k0, k1, k0, k1);
+                }
+            });
+
+            // all remaining tiles
+            ConcurrencyUtil.parallelFor(pool, blocks * blocks, (worker, index) -> {
+                int ib = index / blocks;
+                int jb = index % blocks;
+                if (ib == kb || jb == kb) {
+                    return;
+                }
+                int i0 = first + ib * blockSize;
+                int j0 = first + jb * blockSize;
+                relaxTile(
+                    hops, i0, Math.min(n, i0 + blockSize), j0, Math.min(n, j0 + blockSize), k0,
+                    k1);
+            });
+        }
+    }
+
+    /**
+     * Relax the entries of the tile $[i0, i1) \times [j0, j1)$ using the intermediate vertices
+     * $[k0, k1)$.
+     */
+    private void relaxTile(int[][] hops, int i0, int i1, int j0, int j1, int k0, int k1)
+    {
+        for (int k = k0; k < k1; k++) {
+            double[] dk = d[k];
+            int[] hk = hops[k];
+            for (int i = i0; i < i1; i++) {
+                if (i == k) {
+                    continue;
+                }
+                double[] di = d[i];
+                double dik = di[k];
+                if (dik == Double.POSITIVE_INFINITY) {
+                    continue;
+                }
+                Object[] bi = backtrace[i];
+                int[] hi = hops[i];
+                int hik = hi[k];
+                for (int j = j0; j < j1; j++) {
+                    if (i == j || j == k) {
+                        continue;
+                    }
+                    double ik_kj = dik + dk[j];
+                    int c = Double.compare(ik_kj, di[j]);
+                    if (c < 0 || c == 0 && hik + hk[j] < hi[j]) {
+                        di[j] = ik_kj;
+                        hi[j] = hik + hk[j];
+                        bi[j] = bi[k];
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Populate the last hop matrix, using the earlier computed backtrace matrix.
      */
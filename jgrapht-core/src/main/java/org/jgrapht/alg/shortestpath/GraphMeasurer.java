@@ -22,6 +22,7 @@ import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.util.*;
 
 import java.util.*;
+import java.util.function.*;
 
 /**
  * Algorithm class which computes a number of distance related metrics. A summary of various
@@ -40,6 +41,8 @@ public class GraphMeasurer<V, E>
     private final Graph<V, E> graph;
     /* All-pairs shortest path algorithm */
     private final ShortestPathAlgorithm<V, E> shortestPathAlgorithm;
+    /* Optional supplier of the vertex eccentricities */
+    private final Supplier<Map<V, Double>> eccentricitySupplier;
 
     /* Vertex eccentricity map */
     private Map<V, Double> eccentricityMap = null;
@@ -71,9 +74,31 @@ public class GraphMeasurer<V, E>
      *        $O(|V|^3)$.
      */
     public GraphMeasurer(Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm)
+    {
+        this(graph, shortestPathAlgorithm, null);
+    }
+
+    /**
+     * Constructs a new instance of GraphMeasurer which obtains the eccentricities of the vertices
+     * from a supplier instead of computing them from the pairwise shortest path weights. This
+     * allows algorithms which compute all eccentricities more efficiently to be used, for example
+     * {@link ParallelBreadthFirstShortestPath#getVertexEccentricityMap()} for unweighted graphs.
+     * The supplier is called at most once and must return the eccentricity of every vertex of the
+     * graph.
+     * 
+     * @param graph input graph
+     * @param shortestPathAlgorithm shortest path algorithm used to compute shortest paths between
+     *        pairs of vertices
+     * @param eccentricitySupplier supplier of the eccentricity of each vertex, or null in order to
+     *        compute the eccentricities using the shortest path algorithm
+     */
+    public GraphMeasurer(
+        Graph<V, E> graph, ShortestPathAlgorithm<V, E> shortestPathAlgorithm,
+        Supplier<Map<V, Double>> eccentricitySupplier)
     {
         this.graph = graph;
         this.shortestPathAlgorithm = shortestPathAlgorithm;
+        this.eccentricitySupplier = eccentricitySupplier;
     }
 
     /**
@@ -196,7 +221,9 @@ public class GraphMeasurer<V, E>
 
         // Compute the eccentricity map
         eccentricityMap = new LinkedHashMap<>();
-        if (graph.getType().isUndirected()) {
+        if (eccentricitySupplier != null) {
+            eccentricityMap.putAll(eccentricitySupplier.get());
+        } else if (graph.getType().isUndirected()) {
             List<V> vertices = new ArrayList<>(graph.vertexSet());
             double[] eccentricityVector = new double[vertices.size()];
             for (int i = 0; i < vertices.size() - 1; i++) {
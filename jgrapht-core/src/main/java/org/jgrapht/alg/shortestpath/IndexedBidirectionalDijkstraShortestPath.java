@@ -0,0 +1,265 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A bidirectional version of Dijkstra's algorithm over vertex indices.
+ *
+ * <p>
+ * This is the same algorithm as {@link BidirectionalDijkstraShortestPath}, alternating between a
+ * forward search from the source and a backward search from the sink. The vertices are mapped
+ * once, during construction, to the integers $[0, n)$ and the outgoing and incoming adjacency
+ * structures are copied into {@link CompressedAdjacency} instances. The two searches keep their
+ * state in two {@link DijkstraWorkspace} instances which are reused between queries. This makes
+ * the algorithm suitable for executing a large number of point-to-point queries on the same
+ * graph.
+ *
+ * <p>
+ * The graph must not be modified after the construction of the algorithm. Negative edge weights
+ * will result in an IllegalArgumentException during construction.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BidirectionalDijkstraShortestPath
+ * @see IndexedDijkstraShortestPath
+ *
+ * @author agent
+ */
+public class IndexedBidirectionalDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final double radius;
+    private final int heapArity;
+    private final CompressedAdjacency<V, E> forwardAdjacency;
+    private final CompressedAdjacency<V, E> backwardAdjacency;
+    private DijkstraWorkspace forwardWorkspace;
+    private DijkstraWorkspace backwardWorkspace;
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     */
+    public IndexedBidirectionalDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     */
+    public IndexedBidirectionalDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, IndexedDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs a new instance for a specified graph.
+     *
+     * @param graph the input graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapArity the arity of the heaps, use $2$ for binary heaps
+     */
+    public IndexedBidirectionalDijkstraShortestPath(
+        Graph<V, E> graph, double radius, int heapArity)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        if (heapArity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2");
+        }
+        this.radius = radius;
+        this.heapArity = heapArity;
+
+        VertexToIntegerMapping<V> mapping = new VertexToIntegerMapping<>(graph.vertexSet());
+        this.forwardAdjacency = new CompressedAdjacency<>(graph, mapping, false, true);
+        if (graph.getType().isDirected()) {
+            this.backwardAdjacency = new CompressedAdjacency<>(graph, mapping, true, true);
+        } else {
+            this.backwardAdjacency = forwardAdjacency;
+        }
+        for (double w : forwardAdjacency.getWeights()) {
+            if (w < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The search reuses two internal workspaces. Thus, this method must not be called concurrently
+     * from multiple threads. Use
+     * {@link #getPath(Object, Object, DijkstraWorkspace, DijkstraWorkspace)} with separate
+     * workspaces per thread instead.
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (forwardWorkspace == null) {
+            forwardWorkspace = createWorkspace();
+            backwardWorkspace = createWorkspace();
+        }
+        return getPath(source, sink, forwardWorkspace, backwardWorkspace);
+    }
+
+    /**
+     * Get a shortest path from a source vertex to a sink vertex, using specific workspaces for the
+     * forward and the backward search. The workspaces are reset before the search and can be
+     * reused afterwards.
+     *
+     * @param source the source vertex
+     * @param sink the target vertex
+     * @param forward the workspace of the forward search, created using {@link #createWorkspace()}
+     * @param backward the workspace of the backward search, created using
+     *        {@link #createWorkspace()}
+     * @return a shortest path or null if no path exists
+     */
+    public GraphPath<V, E> getPath(
+        V source, V sink, DijkstraWorkspace forward, DijkstraWorkspace backward)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        int n = forwardAdjacency.vertexCount();
+        if (forward == backward || forward.capacity() != n || backward.capacity() != n) {
+            throw new IllegalArgumentException("Workspaces do not match the graph");
+        }
+
+        // handle special case if source equals target
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+
+        // initialize both frontiers
+        forward.reset();
+        backward.reset();
+        forward.relax(forwardAdjacency.getIndex(source), 0d, -1, -1);
+        backward.relax(forwardAdjacency.getIndex(sink), 0d, -1, -1);
+
+        // initialize best path
+        double bestPath = Double.POSITIVE_INFINITY;
+        int bestPathCommonVertex = -1;
+
+        DijkstraWorkspace frontier = forward;
+        DijkstraWorkspace otherFrontier = backward;
+        CompressedAdjacency<V, E> frontierAdjacency = forwardAdjacency;
+        CompressedAdjacency<V, E> otherFrontierAdjacency = backwardAdjacency;
+
+        while (true) {
+            // stopping condition
+            if (frontier.isHeapEmpty() || otherFrontier.isHeapEmpty()
+                || frontier.findMinKey() + otherFrontier.findMinKey() >= bestPath)
+            {
+                break;
+            }
+
+            // frontier scan
+            int v = frontier.deleteMin();
+            double vDistance = frontier.getDistance(v);
+            int[] offsets = frontierAdjacency.getOffsets();
+            int[] arcs = frontierAdjacency.getArcs();
+            double[] weights = frontierAdjacency.getWeights();
+
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = arcs[a];
+                frontier.relax(u, vDistance + weights[a], v, a);
+
+                // check path with u's distance from the other frontier
+                double pathDistance = frontier.getDistance(u) + otherFrontier.getDistance(u);
+                if (pathDistance < bestPath) {
+                    bestPath = pathDistance;
+                    bestPathCommonVertex = u;
+                }
+            }
+
+            // swap frontiers
+            DijkstraWorkspace tmpFrontier = frontier;
+            frontier = otherFrontier;
+            otherFrontier = tmpFrontier;
+            CompressedAdjacency<V, E> tmpAdjacency = frontierAdjacency;
+            frontierAdjacency = otherFrontierAdjacency;
+            otherFrontierAdjacency = tmpAdjacency;
+        }
+
+        // create path if found
+        if (Double.isFinite(bestPath) && bestPath <= radius) {
+            return createPath(forward, backward, bestPath, source, bestPathCommonVertex, sink);
+        } else {
+            return createEmptyPath(source, sink);
+        }
+    }
+
+    /**
+     * Create a new workspace which can be used for queries on this instance. Each query needs two
+     * distinct workspaces.
+     *
+     * @return a new workspace
+     */
+    public DijkstraWorkspace createWorkspace()
+    {
+        return new DijkstraWorkspace(forwardAdjacency.vertexCount(), heapArity);
+    }
+
+    private GraphPath<V, E> createPath(
+        DijkstraWorkspace forward, DijkstraWorkspace backward, double weight, V source,
+        int commonVertex, V sink)
+    {
+        LinkedList<E> edgeList = new LinkedList<>();
+        LinkedList<V> vertexList = new LinkedList<>();
+
+        // add common vertex
+        vertexList.add(forwardAdjacency.getVertex(commonVertex));
+
+        // traverse forward path
+        int v = commonVertex;
+        while (forward.getPredecessorArc(v) != -1) {
+            edgeList.addFirst(forwardAdjacency.getEdge(forward.getPredecessorArc(v)));
+            v = forward.getPredecessor(v);
+            vertexList.addFirst(forwardAdjacency.getVertex(v));
+        }
+
+        // traverse reverse path
+        v = commonVertex;
+        while (backward.getPredecessorArc(v) != -1) {
+            edgeList.addLast(backwardAdjacency.getEdge(backward.getPredecessorArc(v)));
+            v = backward.getPredecessor(v);
+            vertexList.addLast(backwardAdjacency.getVertex(v));
+        }
+
+        return new GraphWalk<>(graph, source, sink, vertexList, edgeList, weight);
+    }
+
+}
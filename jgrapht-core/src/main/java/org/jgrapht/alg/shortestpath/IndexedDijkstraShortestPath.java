@@ -0,0 +1,224 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+
+/**
+ * An implementation of <a href="http://mathworld.wolfram.com/DijkstrasAlgorithm.html">Dijkstra's
+ * shortest path algorithm</a> over vertex indices using an indexed d-ary heap.
+ *
+ * <p>
+ * The vertices of the graph are mapped once, during construction, to the integers $[0, n)$ and
+ * the adjacency structure is copied into a {@link CompressedAdjacency}. Each query then runs over
+ * plain arrays of distances and predecessors and an {@link IndexedDaryHeap}, without hashing
+ * vertices or allocating heap nodes. This makes the algorithm considerably faster than
+ * {@link DijkstraShortestPath} when many queries are executed on the same graph, at the cost of
+ * the initial $O(n+m)$ preprocessing.
+ *
+ * <p>
+ * The graph must not be modified after the construction of the algorithm. Since the adjacency
+ * structure is a snapshot, changes are not visible and the results of such modifications are
+ * undefined. Negative edge weights will result in an IllegalArgumentException during construction.
+ *
+ * <p>
+ * Point-to-point queries keep their arrays and heap in a {@link DijkstraWorkspace} which is reused
+ * between queries and reset in time proportional to the vertices touched by the previous query.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    private final double radius;
+    private final int heapArity;
+    private final CompressedAdjacency<V, E> adjacency;
+    private DijkstraWorkspace workspace;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph)
+    {
+        this(graph, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph, double radius)
+    {
+        this(graph, radius, IndexedDaryHeap.DEFAULT_ARITY);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param radius limit on path length, or Double.POSITIVE_INFINITY for unbounded search
+     * @param heapArity the arity of the heap, use $2$ for a binary heap
+     */
+    public IndexedDijkstraShortestPath(Graph<V, E> graph, double radius, int heapArity)
+    {
+        super(graph);
+        if (radius < 0.0) {
+            throw new IllegalArgumentException("Radius must be non-negative");
+        }
+        if (heapArity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2");
+        }
+        this.radius = radius;
+        this.heapArity = heapArity;
+        this.adjacency = new CompressedAdjacency<>(graph);
+        for (double w : adjacency.getWeights()) {
+            if (w < 0.0) {
+                throw new IllegalArgumentException("Negative edge weight not allowed");
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The search reuses an internal {@link DijkstraWorkspace}. Thus, this method must not be
+     * called concurrently from multiple threads. Use {@link #getPath(Object, Object,
+     * DijkstraWorkspace)} with one workspace per thread instead.
+     */
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        if (workspace == null) {
+            workspace = createWorkspace();
+        }
+        return getPath(source, sink, workspace);
+    }
+
+    /**
+     * Get a shortest path from a source vertex to a sink vertex, using a specific workspace for
+     * the search. The workspace is reset before the search and can be reused afterwards.
+     *
+     * @param source the source vertex
+     * @param sink the target vertex
+     * @param workspace the workspace, created using {@link #createWorkspace()}
+     * @return a shortest path or null if no path exists
+     */
+    public GraphPath<V, E> getPath(V source, V sink, DijkstraWorkspace workspace)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        if (!graph.containsVertex(sink)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+        }
+        checkWorkspace(workspace);
+        if (source.equals(sink)) {
+            return createEmptyPath(source, sink);
+        }
+        int t = adjacency.getIndex(sink);
+        if (!run(workspace, adjacency.getIndex(source), t)) {
+            return null;
+        }
+        return IndexedSingleSourcePathsImpl.createPath(adjacency, workspace, source, t);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * Note that in the case of Dijkstra's algorithm it is more efficient to compute all
+     * single-source shortest paths using this method than repeatedly invoking
+     * {@link #getPath(Object, Object)} for the same source but different sink vertex.
+     */
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        DijkstraWorkspace paths = createWorkspace();
+        run(paths, adjacency.getIndex(source), -1);
+        return new IndexedSingleSourcePathsImpl<>(adjacency, source, paths);
+    }
+
+    /**
+     * Create a new workspace which can be used for queries on this instance.
+     *
+     * @return a new workspace
+     */
+    public DijkstraWorkspace createWorkspace()
+    {
+        return new DijkstraWorkspace(adjacency.vertexCount(), heapArity);
+    }
+
+    /**
+     * Run the algorithm. When the search finishes, exactly the settled vertices are marked as
+     * reached in the workspace, unless the search stopped at the sink.
+     *
+     * @param ws the workspace
+     * @param s the source vertex index
+     * @param t the sink vertex index where the search stops, or -1 for a full search
+     * @return whether the sink was settled
+     */
+    private boolean run(DijkstraWorkspace ws, int s, int t)
+    {
+        int[] offsets = adjacency.getOffsets();
+        int[] arcs = adjacency.getArcs();
+        double[] weights = adjacency.getWeights();
+
+        ws.reset();
+        ws.relax(s, 0d, -1, -1);
+
+        while (!ws.isHeapEmpty()) {
+            if (radius < ws.findMinKey()) {
+                break;
+            }
+            int v = ws.deleteMin();
+            if (v == t) {
+                return true;
+            }
+            double vDistance = ws.getDistance(v);
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                ws.relax(arcs[a], vDistance + weights[a], v, a);
+            }
+        }
+
+        // vertices still in the heap are outside the radius
+        while (!ws.isHeapEmpty()) {
+            ws.unreach(ws.deleteMin());
+        }
+
+        return false;
+    }
+
+    private void checkWorkspace(DijkstraWorkspace ws)
+    {
+        if (ws.capacity() != adjacency.vertexCount()) {
+            throw new IllegalArgumentException("Workspace does not match the graph");
+        }
+    }
+
+}
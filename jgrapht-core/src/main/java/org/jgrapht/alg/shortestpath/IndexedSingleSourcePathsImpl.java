@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * An implementation of {@link SingleSourcePaths} over vertex indices.
+ *
+ * <p>
+ * Like {@link TreeSingleSourcePathsImpl} it maintains for each vertex the predecessor in the
+ * shortest path tree, but reads it from the arrays of a {@link DijkstraWorkspace} indexed by the
+ * vertex indices of a {@link CompressedAdjacency} instead of a map. Unreached vertices have
+ * infinite distance. The workspace must not be reset while this instance is in use.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+class IndexedSingleSourcePathsImpl<V, E>
+    implements
+    SingleSourcePaths<V, E>
+{
+    private final CompressedAdjacency<V, E> adjacency;
+    private final V source;
+    private final DijkstraWorkspace workspace;
+
+    /**
+     * Construct a new instance.
+     *
+     * @param adjacency the adjacency which defines the vertex indices and the arcs
+     * @param source the source vertex
+     * @param workspace the workspace containing the shortest path tree
+     */
+    IndexedSingleSourcePathsImpl(
+        CompressedAdjacency<V, E> adjacency, V source, DijkstraWorkspace workspace)
+    {
+        this.adjacency = Objects.requireNonNull(adjacency);
+        this.source = Objects.requireNonNull(source);
+        this.workspace = Objects.requireNonNull(workspace);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Graph<V, E> getGraph()
+    {
+        return adjacency.getGraph();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getSourceVertex()
+    {
+        return source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getWeight(V targetVertex)
+    {
+        int t = adjacency.getIndex(targetVertex);
+        if (t == -1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return workspace.getDistance(t);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphPath<V, E> getPath(V targetVertex)
+    {
+        int t = adjacency.getIndex(targetVertex);
+        if (t == -1) {
+            return null;
+        }
+        return createPath(adjacency, workspace, source, t);
+    }
+
+    /**
+     * Create a path from the source of a search to a vertex, using the shortest path tree stored
+     * in a workspace.
+     *
+     * @param adjacency the adjacency
+     * @param workspace the workspace
+     * @param source the source vertex
+     * @param t the target vertex index
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     * @return the path or null if the target has not been reached
+     */
+    static <V, E> GraphPath<V, E> createPath(
+        CompressedAdjacency<V, E> adjacency, DijkstraWorkspace workspace, V source, int t)
+    {
+        Graph<V, E> g = adjacency.getGraph();
+        V targetVertex = adjacency.getVertex(t);
+        if (source.equals(targetVertex)) {
+            return GraphWalk.singletonWalk(g, source, 0d);
+        }
+        if (!workspace.isReached(t)) {
+            return null;
+        }
+
+        LinkedList<E> edgeList = new LinkedList<>();
+        int cur = t;
+        while (workspace.getPredecessorArc(cur) != -1) {
+            edgeList.addFirst(adjacency.getEdge(workspace.getPredecessorArc(cur)));
+            cur = workspace.getPredecessor(cur);
+        }
+
+        return new GraphWalk<>(g, source, targetVertex, null, edgeList, workspace.getDistance(t));
+    }
+
+}
@@ -22,17 +22,23 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
 
 import org.jgrapht.Graph;
 import org.jgrapht.GraphPath;
 import org.jgrapht.GraphTests;
 import org.jgrapht.Graphs;
+import org.jgrapht.alg.util.CompressedAdjacency;
+import org.jgrapht.alg.util.IndexedDaryHeap;
 import org.jgrapht.alg.util.Pair;
 import org.jgrapht.alg.util.ToleranceDoubleComparator;
 import org.jgrapht.graph.AsGraphUnion;
 import org.jgrapht.graph.AsWeightedGraph;
 import org.jgrapht.graph.GraphWalk;
 import org.jgrapht.graph.builder.GraphTypeBuilder;
+import org.jgrapht.util.ConcurrencyUtil;
 import org.jgrapht.util.TypeUtil;
 
 /**
@@ -55,6 +61,13 @@ import org.jgrapht.util.TypeUtil;
  * In case the algorithm detects a negative weight cycle it will throw an exception of type
  * {@link NegativeCycleDetectedException} which will contain the detected negative weight cycle.
  *
+ * <p>
+ * When constructed with a {@link ForkJoinPool}, the Dijkstra searches from the different sources
+ * run in parallel over an index based copy of the graph, each worker using its own
+ * {@link DijkstraWorkspace}. Independently of the pool, the method
+ * {@link #forEachSource(Consumer)} passes the shortest paths of each source to a consumer as soon
+ * as they are computed, without storing the $O(n^2)$ distance and predecessor matrices.
+ *
  * @param <V> the graph vertex type
  * @param <E> the graph edge type
  *
@@ -70,6 +83,11 @@ public class JohnsonShortestPaths<V, E>
     private Map<V, Integer> vertexIndices;
 
     private final Comparator<Double> comparator;
+    private final ForkJoinPool pool;
+
+    /* Index based representation, used by the parallel and the streaming computation */
+    private CompressedAdjacency<V, E> adjacency;
+    private double[] potentials;
 
     /**
      * Construct a new instance.
@@ -91,6 +109,21 @@ public class JohnsonShortestPaths<V, E>
     {
         super(graph);
         this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.pool = null;
+    }
+
+    /**
+     * Construct a new instance which runs the Dijkstra searches in parallel.
+     *
+     * @param graph the input graph
+     * @param epsilon tolerance when comparing floating point values
+     * @param pool the pool used to run the searches
+     */
+    public JohnsonShortestPaths(Graph<V, E> graph, double epsilon, ForkJoinPool pool)
+    {
+        super(graph);
+        this.comparator = new ToleranceDoubleComparator(epsilon);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
     }
 
     /**
@@ -168,6 +201,26 @@ public class JohnsonShortestPaths<V, E>
         return new JohnsonSingleSourcePaths(source);
     }
 
+    /**
+     * Compute the shortest paths from every vertex of the graph and pass them to a consumer, one
+     * source at a time. In contrast to the other methods, the $O(n^2)$ distance and predecessor
+     * matrices are never stored, which allows the computation on graphs whose matrices do not fit
+     * in memory.
+     *
+     * <p>
+     * The paths passed to the consumer are backed by the workspace of the search and are valid
+     * only during the call of the consumer. When the instance was constructed with a pool, the
+     * consumer is called concurrently from multiple threads and must therefore be thread-safe.
+     *
+     * @param consumer the consumer of the shortest paths of each source
+     * @throws NegativeCycleDetectedException in case a negative weight cycle is detected
+     */
+    public void forEachSource(Consumer<SingleSourcePaths<V, E>> consumer)
+    {
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        forEachSearch((s, ws) -> consumer.accept(new WorkspaceSingleSourcePaths(s, ws)));
+    }
+
     /**
      * Executes the actual algorithm.
      */
@@ -176,8 +229,28 @@ public class JohnsonShortestPaths<V, E>
         if (pred != null) {
             return;
         }
+        if (pool != null) {
+            runIndexed();
+            return;
+        }
         GraphTests.requireDirectedOrUndirected(graph);
 
+        E detectedNegativeEdge = findNegativeEdge();
+        if (detectedNegativeEdge != null) {
+            runWithNegativeEdgeWeights(graph);
+        } else {
+            runWithPositiveEdgeWeights(graph);
+        }
+    }
+
+    /**
+     * Find an edge with negative weight.
+     *
+     * @return an edge with negative weight, or null if none exists
+     * @throws NegativeCycleDetectedException if the graph is undirected and has a negative edge
+     */
+    private E findNegativeEdge()
+    {
         E detectedNegativeEdge = null;
         for (E e : graph.edgeSet()) {
             if (comparator.compare(graph.getEdgeWeight(e), 0.0) < 0) {
@@ -197,9 +270,109 @@ public class JohnsonShortestPaths<V, E>
                 throw new NegativeCycleDetectedException(
                     GRAPH_CONTAINS_A_NEGATIVE_WEIGHT_CYCLE, cycle);
             }
-            runWithNegativeEdgeWeights(graph);
+        }
+        return detectedNegativeEdge;
+    }
+
+    /**
+     * Run the Dijkstra searches over the index based representation and store the results in the
+     * matrices.
+     */
+    private void runIndexed()
+    {
+        vertexIndices = computeVertexIndices(graph);
+        final int n = graph.vertexSet().size();
+        double[][] dist = new double[n][n];
+        E[][] p = TypeUtil.uncheckedCast(new Object[n][n]);
+
+        forEachSearch((s, ws) -> {
+            int row = vertexIndices.get(adjacency.getVertex(s));
+            for (int t = 0; t < n; t++) {
+                int column = vertexIndices.get(adjacency.getVertex(t));
+                if (ws.isReached(t)) {
+                    dist[row][column] = ws.getDistance(t) - potentials[s] + potentials[t];
+                    int arc = ws.getPredecessorArc(t);
+                    p[row][column] = arc == -1 ? null : adjacency.getEdge(arc);
+                } else {
+                    dist[row][column] = Double.POSITIVE_INFINITY;
+                }
+            }
+        });
+
+        distance = dist;
+        pred = p;
+    }
+
+    /**
+     * A search result of a source vertex index, stored in a workspace.
+     */
+    private interface SearchConsumer
+    {
+        void accept(int source, DijkstraWorkspace workspace);
+    }
+
+    /**
+     * Run Dijkstra's algorithm from every vertex over the index based representation, using the
+     * reduced edge weights.
+     */
+    private void forEachSearch(SearchConsumer consumer)
+    {
+        GraphTests.requireDirectedOrUndirected(graph);
+        if (adjacency == null) {
+            CompressedAdjacency<V, E> adj = new CompressedAdjacency<>(graph);
+            double[] h = new double[adj.vertexCount()];
+            if (findNegativeEdge() != null) {
+                Map<V, Double> vertexWeights = computeVertexWeights(graph);
+                for (int v = 0; v < h.length; v++) {
+                    h[v] = vertexWeights.get(adj.getVertex(v));
+                }
+            }
+            potentials = h;
+            adjacency = adj;
+        }
+
+        int n = adjacency.vertexCount();
+        if (pool == null) {
+            DijkstraWorkspace ws = new DijkstraWorkspace(n, IndexedDaryHeap.DEFAULT_ARITY);
+            for (int s = 0; s < n; s++) {
+                search(ws, s);
+                consumer.accept(s, ws);
+            }
         } else {
-            runWithPositiveEdgeWeights(graph);
+            DijkstraWorkspace[] workspaces =
+                new DijkstraWorkspace[ConcurrencyUtil.workers(pool, n)];
+            ConcurrencyUtil.parallelFor(pool, n, (worker, s) -> {
+                DijkstraWorkspace ws = workspaces[worker];
+                if (ws == null) {
+                    ws = new DijkstraWorkspace(n, IndexedDaryHeap.DEFAULT_ARITY);
+                    workspaces[worker] = ws;
+                }
+                search(ws, s);
+                consumer.accept(s, ws);
+            });
+        }
+    }
+
+    /**
+     * Dijkstra's algorithm with the reduced edge weights $w(u,v) + h(u) - h(v)$.
+     */
+    private void search(DijkstraWorkspace ws, int s)
+    {
+        int[] offsets = adjacency.getOffsets();
+        int[] arcs = adjacency.getArcs();
+        double[] weights = adjacency.getWeights();
+
+        ws.reset();
+        ws.relax(s, 0d, -1, -1);
+        while (!ws.isHeapEmpty()) {
+            int v = ws.deleteMin();
+            double vDistance = ws.getDistance(v);
+            for (int a = offsets[v]; a < offsets[v + 1]; a++) {
+                int u = arcs[a];
+                // rounding errors might create tiny negative reduced weights
+                double reduced = Math.max(0d, weights[a] + potentials[v] - potentials[u]);
+                ws.relax(u, vDistance + reduced, v, a);
+            }
         }
     }
 
@@ -372,6 +545,65 @@ public class JohnsonShortestPaths<V, E>
         return numbering;
     }
 
+    /**
+     * The shortest paths of a source, backed by the workspace of the search.
+     */
+    private class WorkspaceSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final int s;
+        private final V source;
+        private final DijkstraWorkspace workspace;
+
+        WorkspaceSingleSourcePaths(int s, DijkstraWorkspace workspace)
+        {
+            this.s = s;
+            this.source = adjacency.getVertex(s);
+            this.workspace = workspace;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            int t = adjacency.getIndex(sink);
+            if (!workspace.isReached(t)) {
+                return Double.POSITIVE_INFINITY;
+            }
+            return workspace.getDistance(t) - potentials[s] + potentials[t];
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            GraphPath<V, E> path = IndexedSingleSourcePathsImpl
+                .createPath(adjacency, workspace, source, adjacency.getIndex(sink));
+            if (path == null || path.getLength() == 0) {
+                return path;
+            }
+            return new GraphWalk<>(
+                graph, source, sink, null, path.getEdgeList(), getWeight(sink));
+        }
+    }
+
     class JohnsonSingleSourcePaths
         implements
         SingleSourcePaths<V, E>
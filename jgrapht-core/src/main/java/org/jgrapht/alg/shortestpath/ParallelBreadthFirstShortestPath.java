@@ -0,0 +1,518 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * A parallel direction-optimizing breadth-first search which computes shortest paths in terms of
+ * the number of edges.
+ *
+ * <p>
+ * The search runs over a {@link CompressedAdjacency} of the graph and expands one level at a time.
+ * Each level is expanded either top-down, where the vertices of the frontier scan their outgoing
+ * edges in parallel and claim unvisited neighbors in an atomic bitset, or bottom-up, where the
+ * unvisited vertices scan their incoming edges in parallel until they find a parent in the
+ * frontier. Following Beamer et al., the search switches to bottom-up when the number of edges
+ * incident to the frontier exceeds the number of unexplored edges divided by $\alpha$, and back to
+ * top-down when the frontier contains less than $n / \beta$ vertices. See S. Beamer, K. Asanović
+ * and D. Patterson. Direction-optimizing breadth-first search. In Proceedings of the International
+ * Conference on High Performance Computing, Networking, Storage and Analysis, 2012.
+ *
+ * <p>
+ * Edge weights are ignored and the weight of each path is its number of edges. The results of a
+ * search are available either as paths, or in the form of distance and parent arrays over the
+ * vertex indices of {@link #getMapping()}. The eccentricities of all vertices are computed by
+ * {@link #getVertexEccentricityMap()}, which runs the searches from the different sources in
+ * parallel. This method can be given as the eccentricity supplier of {@link GraphMeasurer} in order
+ * to compute the diameter, radius and related measures of unweighted graphs.
+ *
+ * <p>
+ * The graph must not be modified after the construction of the algorithm. Since the adjacency
+ * structure is a snapshot, changes are not visible and the results of such modifications are
+ * undefined.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class ParallelBreadthFirstShortestPath<V, E>
+    extends
+    BaseShortestPathAlgorithm<V, E>
+{
+    /**
+     * Default value of the parameter $\alpha$ which controls the switch to bottom-up.
+     */
+    public static final double DEFAULT_ALPHA = 14;
+
+    /**
+     * Default value of the parameter $\beta$ which controls the switch to top-down.
+     */
+    public static final double DEFAULT_BETA = 24;
+
+    private final ForkJoinPool pool;
+    private final double alpha;
+    private final double beta;
+    private final CompressedAdjacency<V, E> out;
+    private final CompressedAdjacency<V, E> in;
+    private final int n;
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph, using the common pool.
+     *
+     * @param graph the graph
+     */
+    public ParallelBreadthFirstShortestPath(Graph<V, E> graph)
+    {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to expand the levels
+     */
+    public ParallelBreadthFirstShortestPath(Graph<V, E> graph, ForkJoinPool pool)
+    {
+        this(graph, pool, DEFAULT_ALPHA, DEFAULT_BETA);
+    }
+
+    /**
+     * Constructs a new instance of the algorithm for a given graph.
+     *
+     * @param graph the graph
+     * @param pool the pool used to expand the levels
+     * @param alpha switch to bottom-up when the frontier has more than $1/\alpha$ of the
+     *        unexplored edges
+     * @param beta switch back to top-down when the frontier has less than $n/\beta$ vertices
+     */
+    public ParallelBreadthFirstShortestPath(
+        Graph<V, E> graph, ForkJoinPool pool, double alpha, double beta)
+    {
+        super(graph);
+        this.pool = Objects.requireNonNull(pool, "Pool cannot be null");
+        if (alpha <= 0d || beta <= 0d) {
+            throw new IllegalArgumentException("Parameters alpha and beta must be positive");
+        }
+        this.alpha = alpha;
+        this.beta = beta;
+        this.out = new CompressedAdjacency<>(graph, false, false);
+        if (graph.getType().isDirected()) {
+            this.in = new CompressedAdjacency<>(graph, out.getMapping(), true, false);
+        } else {
+            this.in = out;
+        }
+        this.n = out.vertexCount();
+    }
+
+    /**
+     * Get the mapping of the vertices to the indices used by
+     * {@link #search(int, int[], int[])}.
+     *
+     * @return the vertex mapping
+     */
+    public VertexToIntegerMapping<V> getMapping()
+    {
+        return out.getMapping();
+    }
+
+    /**
+     * Execute a breadth-first search from a source vertex index.
+     *
+     * @param source the index of the source vertex
+     * @param distance array of length $n$ which is filled with the distance of each vertex from
+     *        the source, or $-1$ if the vertex is not reachable
+     * @param parent array of length $n$ which is filled with the parent of each vertex in the
+     *        breadth-first search tree, or $-1$ for the source and the unreachable vertices. May
+     *        be null if not needed.
+     * @return the number of vertices reachable from the source, including the source
+     */
+    public int search(int source, int[] distance, int[] parent)
+    {
+        if (source < 0 || source >= n) {
+            throw new IllegalArgumentException("Invalid source vertex index");
+        }
+        if (distance.length != n || (parent != null && parent.length != n)) {
+            throw new IllegalArgumentException("Arrays must have length equal to vertex count");
+        }
+        return new Search(distance, parent, pool).run(source);
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V source, V sink)
+    {
+        return getPaths(source).getPath(sink);
+    }
+
+    @Override
+    public double getPathWeight(V source, V sink)
+    {
+        return getPaths(source).getWeight(sink);
+    }
+
+    @Override
+    public SingleSourcePaths<V, E> getPaths(V source)
+    {
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SOURCE_VERTEX);
+        }
+        int[] distance = new int[n];
+        int[] parent = new int[n];
+        new Search(distance, parent, pool).run(out.getIndex(source));
+        return new BreadthFirstSingleSourcePaths(source, distance, parent);
+    }
+
+    /**
+     * Compute the eccentricity of each vertex, which is the maximum distance to any other vertex,
+     * or {@link Double#POSITIVE_INFINITY} if some vertex is not reachable. The searches from the
+     * different sources run in parallel, each one sequentially.
+     *
+     * @return a map containing the eccentricity of each vertex
+     */
+    public Map<V, Double> getVertexEccentricityMap()
+    {
+        double[] eccentricity = new double[n];
+        int workers = ConcurrencyUtil.workers(pool, n);
+        List<Search> searches = new ArrayList<>(Collections.nCopies(workers, null));
+        ConcurrencyUtil.parallelFor(pool, n, (worker, s) -> {
+            Search search = searches.get(worker);
+            if (search == null) {
+                search = new Search(new int[n], null, null);
+                searches.set(worker, search);
+            }
+            int reached = search.run(s);
+            eccentricity[s] = reached < n ? Double.POSITIVE_INFINITY : search.levels;
+        });
+
+        Map<V, Double> result = new LinkedHashMap<>();
+        for (int v = 0; v < n; v++) {
+            result.put(out.getVertex(v), eccentricity[v]);
+        }
+        return result;
+    }
+
+    /**
+     * The state of a search. Without a pool the search runs sequentially in the calling thread.
+     */
+    private class Search
+    {
+        private final int[] distance;
+        private final int[] parent;
+        private final ForkJoinPool searchPool;
+        private final int workers;
+
+        private final AtomicLongArray visited;
+        private final long[] frontierBits;
+        private final long[] nextBits;
+        private int[] frontier;
+        private int[] next;
+        private final int[][] local;
+        private final int[] localSize;
+        private final long[] localEdges;
+
+        // the eccentricity of the source after the search
+        int levels;
+
+        Search(int[] distance, int[] parent, ForkJoinPool searchPool)
+        {
+            this.distance = distance;
+            this.parent = parent;
+            this.searchPool = searchPool;
+            this.workers = searchPool == null ? 1 : ConcurrencyUtil.workers(searchPool, n);
+            int words = (n + 63) >>> 6;
+            this.visited = new AtomicLongArray(words);
+            this.frontierBits = new long[words];
+            this.nextBits = new long[words];
+            this.frontier = new int[n];
+            this.next = new int[n];
+            this.local = new int[workers][];
+            this.localSize = new int[workers];
+            this.localEdges = new long[workers];
+        }
+
+        int run(int s)
+        {
+            int[] outOffsets = out.getOffsets();
+            Arrays.fill(distance, -1);
+            if (parent != null) {
+                Arrays.fill(parent, -1);
+            }
+            for (int w = 0; w < visited.length(); w++) {
+                visited.set(w, 0L);
+            }
+
+            visited.set(s >>> 6, 1L << s);
+            distance[s] = 0;
+            frontier[0] = s;
+            int frontierSize = 1;
+            long frontierEdges = outOffsets[s + 1] - outOffsets[s];
+            long unexploredEdges = outOffsets[n] - frontierEdges;
+            int reached = 1;
+            boolean topDown = true;
+            boolean frontierAsBits = false;
+            levels = 0;
+
+            while (frontierSize > 0) {
+                if (topDown && frontierEdges > unexploredEdges / alpha) {
+                    topDown = false;
+                } else if (!topDown && frontierSize < n / beta) {
+                    topDown = true;
+                }
+
+                int level = levels;
+                if (topDown) {
+                    if (frontierAsBits) {
+                        frontierSize = bitsToList(frontierBits, frontier);
+                    }
+                    expandTopDown(frontierSize, level);
+                    frontierSize = collect();
+                    int[] tmp = frontier;
+                    frontier = next;
+                    next = tmp;
+                    frontierAsBits = false;
+                } else {
+                    if (!frontierAsBits) {
+                        Arrays.fill(frontierBits, 0L);
+                        for (int i = 0; i < frontierSize; i++) {
+                            int v = frontier[i];
+                            frontierBits[v >>> 6] |= 1L << v;
+                        }
+                    }
+                    expandBottomUp(level);
+                    System.arraycopy(nextBits, 0, frontierBits, 0, nextBits.length);
+                    frontierSize = 0;
+                    for (int w = 0; w < workers; w++) {
+                        frontierSize += localSize[w];
+                    }
+                    frontierAsBits = true;
+                }
+
+                frontierEdges = 0;
+                for (int w = 0; w < workers; w++) {
+                    frontierEdges += localEdges[w];
+                }
+                unexploredEdges -= frontierEdges;
+                reached += frontierSize;
+                if (frontierSize > 0) {
+                    levels++;
+                }
+            }
+            return reached;
+        }
+
+        private void expandTopDown(int frontierSize, int level)
+        {
+            int[] outOffsets = out.getOffsets();
+            int[] outArcs = out.getArcs();
+            Arrays.fill(localSize, 0);
+            Arrays.fill(localEdges, 0L);
+            forEach(frontierSize, (worker, i) -> {
+                int v = frontier[i];
+                for (int a = outOffsets[v]; a < outOffsets[v + 1]; a++) {
+                    int u = outArcs[a];
+                    if (claim(u)) {
+                        distance[u] = level + 1;
+                        if (parent != null) {
+                            parent[u] = v;
+                        }
+                        push(worker, u);
+                        localEdges[worker] += outOffsets[u + 1] - outOffsets[u];
+                    }
+                }
+            });
+        }
+
+        private void expandBottomUp(int level)
+        {
+            int[] outOffsets = out.getOffsets();
+            int[] inOffsets = in.getOffsets();
+            int[] inArcs = in.getArcs();
+            Arrays.fill(localSize, 0);
+            Arrays.fill(localEdges, 0L);
+            forEach(nextBits.length, (worker, w) -> {
+                long unvisited = ~visited.get(w);
+                if (w == nextBits.length - 1 && (n & 63) != 0) {
+                    unvisited &= (1L << (n & 63)) - 1;
+                }
+                long found = 0L;
+                while (unvisited != 0L) {
+                    int bit = Long.numberOfTrailingZeros(unvisited);
+                    unvisited &= unvisited - 1;
+                    int u = (w << 6) + bit;
+                    for (int a = inOffsets[u]; a < inOffsets[u + 1]; a++) {
+                        int p = inArcs[a];
+                        if ((frontierBits[p >>> 6] & (1L << p)) != 0L) {
+                            distance[u] = level + 1;
+                            if (parent != null) {
+                                parent[u] = p;
+                            }
+                            found |= 1L << bit;
+                            localSize[worker]++;
+                            localEdges[worker] += outOffsets[u + 1] - outOffsets[u];
+                            break;
+                        }
+                    }
+                }
+                nextBits[w] = found;
+                if (found != 0L) {
+                    // the word is only written by this worker
+                    visited.set(w, visited.get(w) | found);
+                }
+            });
+        }
+
+        private boolean claim(int u)
+        {
+            int w = u >>> 6;
+            long mask = 1L << u;
+            long old = visited.get(w);
+            while ((old & mask) == 0L) {
+                if (visited.compareAndSet(w, old, old | mask)) {
+                    return true;
+                }
+                old = visited.get(w);
+            }
+            return false;
+        }
+
+        private void push(int worker, int u)
+        {
+            int[] buffer = local[worker];
+            if (buffer == null) {
+                buffer = new int[16];
+                local[worker] = buffer;
+            } else if (localSize[worker] == buffer.length) {
+                buffer = Arrays.copyOf(buffer, 2 * buffer.length);
+                local[worker] = buffer;
+            }
+            buffer[localSize[worker]++] = u;
+        }
+
+        /**
+         * Concatenate the next frontier from the buffers of the workers.
+         */
+        private int collect()
+        {
+            int size = 0;
+            for (int w = 0; w < workers; w++) {
+                if (localSize[w] > 0) {
+                    System.arraycopy(local[w], 0, next, size, localSize[w]);
+                    size += localSize[w];
+                }
+            }
+            return size;
+        }
+
+        private int bitsToList(long[] bits, int[] list)
+        {
+            int size = 0;
+            for (int w = 0; w < bits.length; w++) {
+                long word = bits[w];
+                while (word != 0L) {
+                    list[size++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                    word &= word - 1;
+                }
+            }
+            return size;
+        }
+
+        private void forEach(int size, ConcurrencyUtil.IndexConsumer consumer)
+        {
+            if (searchPool == null) {
+                for (int i = 0; i < size; i++) {
+                    consumer.accept(0, i);
+                }
+            } else {
+                ConcurrencyUtil.parallelFor(searchPool, size, consumer);
+            }
+        }
+    }
+
+    /**
+     * The result of a search, in the form of distance and parent arrays.
+     */
+    private class BreadthFirstSingleSourcePaths
+        implements
+        SingleSourcePaths<V, E>
+    {
+        private final V source;
+        private final int[] distance;
+        private final int[] parent;
+
+        BreadthFirstSingleSourcePaths(V source, int[] distance, int[] parent)
+        {
+            this.source = source;
+            this.distance = distance;
+            this.parent = parent;
+        }
+
+        @Override
+        public Graph<V, E> getGraph()
+        {
+            return graph;
+        }
+
+        @Override
+        public V getSourceVertex()
+        {
+            return source;
+        }
+
+        @Override
+        public double getWeight(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            int d = distance[out.getIndex(sink)];
+            return d < 0 ? Double.POSITIVE_INFINITY : d;
+        }
+
+        @Override
+        public GraphPath<V, E> getPath(V sink)
+        {
+            if (!graph.containsVertex(sink)) {
+                throw new IllegalArgumentException(GRAPH_MUST_CONTAIN_THE_SINK_VERTEX);
+            }
+            int t = out.getIndex(sink);
+            if (distance[t] < 0) {
+                return null;
+            }
+            if (distance[t] == 0) {
+                return GraphWalk.singletonWalk(graph, source, 0d);
+            }
+            LinkedList<E> edgeList = new LinkedList<>();
+            int cur = t;
+            while (parent[cur] != -1) {
+                edgeList.addFirst(graph.getEdge(out.getVertex(parent[cur]), out.getVertex(cur)));
+                cur = parent[cur];
+            }
+            return new GraphWalk<>(graph, source, sink, null, edgeList, distance[t]);
+        }
+    }
+
+}
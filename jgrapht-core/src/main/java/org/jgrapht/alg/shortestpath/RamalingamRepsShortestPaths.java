@@ -0,0 +1,325 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.event.*;
+import org.jgrapht.graph.*;
+import org.jheaps.*;
+import org.jheaps.tree.*;
+
+import java.util.*;
+
+/**
+ * Dynamic single-source shortest paths which are maintained under edge insertions, deletions and
+ * weight updates.
+ *
+ * <p>
+ * The shortest paths from the source are stored as a shortest path tree. The algorithm follows the
+ * approach of Ramalingam and Reps and repairs only the part of the tree affected by a change, see
+ * G. Ramalingam and T. Reps. On the computational complexity of dynamic graph problems.
+ * Theoretical Computer Science, 158(1-2):233-277, 1996.
+ * <ul>
+ * <li>When an edge is added or its weight decreases, the distances are propagated from the edge
+ * using Dijkstra's algorithm, visiting only the vertices whose distance improves.</li>
+ * <li>When an edge of the tree is removed or its weight increases, the subtree below the edge is
+ * detached. The distances of the detached vertices are first computed from their incoming edges
+ * which start outside the subtree, and then propagated inside the subtree using Dijkstra's
+ * algorithm. Changes of edges which do not belong to the tree require no work.</li>
+ * </ul>
+ * The running time of an update is therefore proportional to the number of affected vertices and
+ * their incident edges, instead of the size of the graph.
+ *
+ * <p>
+ * The class is a {@link GraphListener} and must be added as a listener to the graph, for example a
+ * {@link DefaultListenableGraph}, in order to receive the changes. The paths returned by
+ * {@link #getPath(Object)} always reflect the current state of the graph. If the class is added as
+ * a listener to a graph other than the one it was constructed with, results are undefined. Edge
+ * weights must be non-negative.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class RamalingamRepsShortestPaths<V, E>
+    implements
+    SingleSourcePaths<V, E>,
+    GraphListener<V, E>
+{
+    private final Graph<V, E> graph;
+    private final V source;
+    private final boolean directed;
+
+    /* distance from the source, missing if not reachable */
+    private final Map<V, Double> distance;
+    /* edge of the shortest path tree which enters a vertex */
+    private final Map<V, E> predecessor;
+
+    /**
+     * Constructs a new instance and computes the initial shortest path tree.
+     *
+     * @param graph the graph
+     * @param source the source vertex
+     * @throws IllegalArgumentException if the graph does not contain the source vertex or if the
+     *         graph contains negative edge weights
+     */
+    public RamalingamRepsShortestPaths(Graph<V, E> graph, V source)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.source = Objects.requireNonNull(source, "Source vertex cannot be null");
+        if (!graph.containsVertex(source)) {
+            throw new IllegalArgumentException("Graph must contain the source vertex!");
+        }
+        this.directed = graph.getType().isDirected();
+        this.distance = new HashMap<>();
+        this.predecessor = new HashMap<>();
+
+        Map<V, AddressableHeap.Handle<Double, V>> handles = new HashMap<>();
+        AddressableHeap<Double, V> heap = new PairingHeap<>();
+        distance.put(source, 0d);
+        handles.put(source, heap.insert(0d, source));
+        propagate(heap, handles);
+    }
+
+    @Override
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    @Override
+    public V getSourceVertex()
+    {
+        return source;
+    }
+
+    @Override
+    public double getWeight(V targetVertex)
+    {
+        Double d = distance.get(targetVertex);
+        return d == null ? Double.POSITIVE_INFINITY : d;
+    }
+
+    @Override
+    public GraphPath<V, E> getPath(V targetVertex)
+    {
+        Double weight = distance.get(targetVertex);
+        if (weight == null) {
+            return null;
+        }
+        if (source.equals(targetVertex)) {
+            return GraphWalk.singletonWalk(graph, source, 0d);
+        }
+
+        LinkedList<E> edgeList = new LinkedList<>();
+        V cur = targetVertex;
+        while (!cur.equals(source)) {
+            E e = predecessor.get(cur);
+            edgeList.addFirst(e);
+            cur = Graphs.getOppositeVertex(graph, e, cur);
+        }
+        return new GraphWalk<>(graph, source, targetVertex, null, edgeList, weight);
+    }
+
+    /**
+     * @see GraphListener#edgeAdded(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeAdded(GraphEdgeChangeEvent<V, E> e)
+    {
+        relax(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * @see GraphListener#edgeRemoved(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeRemoved(GraphEdgeChangeEvent<V, E> e)
+    {
+        detach(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * @see GraphListener#edgeWeightUpdated(GraphEdgeChangeEvent)
+     */
+    @Override
+    public void edgeWeightUpdated(GraphEdgeChangeEvent<V, E> e)
+    {
+        // the previous weight is unknown, thus handle the update as a removal and an insertion
+        detach(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+        relax(e.getEdge(), e.getEdgeSource(), e.getEdgeTarget());
+    }
+
+    /**
+     * @see VertexSetListener#vertexAdded(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexAdded(GraphVertexChangeEvent<V> e)
+    {
+        // a new vertex has no edges and is unreachable
+    }
+
+    /**
+     * @see VertexSetListener#vertexRemoved(GraphVertexChangeEvent)
+     */
+    @Override
+    public void vertexRemoved(GraphVertexChangeEvent<V> e)
+    {
+        V v = e.getVertex();
+        if (source.equals(v)) {
+            distance.clear();
+            predecessor.clear();
+        } else {
+            // all edges have already been removed
+            distance.remove(v);
+            predecessor.remove(v);
+        }
+    }
+
+    /**
+     * Propagate improved distances after the insertion of an edge or the decrease of its weight.
+     */
+    private void relax(E e, V s, V t)
+    {
+        Map<V, AddressableHeap.Handle<Double, V>> handles = new HashMap<>();
+        AddressableHeap<Double, V> heap = new PairingHeap<>();
+        double w = weight(e);
+        improve(s, t, e, w, heap, handles);
+        if (!directed) {
+            improve(t, s, e, w, heap, handles);
+        }
+        propagate(heap, handles);
+    }
+
+    private void improve(
+        V s, V t, E e, double w, AddressableHeap<Double, V> heap,
+        Map<V, AddressableHeap.Handle<Double, V>> handles)
+    {
+        Double ds = distance.get(s);
+        if (ds != null && ds + w < getWeight(t)) {
+            distance.put(t, ds + w);
+            predecessor.put(t, e);
+            handles.put(t, heap.insert(ds + w, t));
+        }
+    }
+
+    /**
+     * Repair the tree after the removal of an edge or the increase of its weight. The edge is
+     * ignored while repairing, since its new weight is handled afterwards by
+     * {@link #relax(Object, Object, Object)}.
+     */
+    private void detach(E e, V s, V t)
+    {
+        V root;
+        if (e.equals(predecessor.get(t))) {
+            root = t;
+        } else if (!directed && e.equals(predecessor.get(s))) {
+            root = s;
+        } else {
+            // not a tree edge
+            return;
+        }
+
+        // collect the subtree below the edge
+        Set<V> affected = new HashSet<>();
+        Deque<V> stack = new ArrayDeque<>();
+        affected.add(root);
+        stack.push(root);
+        while (!stack.isEmpty()) {
+            V v = stack.pop();
+            for (E f : graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, f, v);
+                if (f.equals(predecessor.get(u)) && affected.add(u)) {
+                    stack.push(u);
+                }
+            }
+        }
+        for (V v : affected) {
+            distance.remove(v);
+            predecessor.remove(v);
+        }
+
+        // best distance using an edge from outside of the subtree
+        Map<V, AddressableHeap.Handle<Double, V>> handles = new HashMap<>();
+        AddressableHeap<Double, V> heap = new PairingHeap<>();
+        for (V v : affected) {
+            double best = Double.POSITIVE_INFINITY;
+            E bestEdge = null;
+            for (E f : graph.incomingEdgesOf(v)) {
+                if (f.equals(e)) {
+                    continue;
+                }
+                Double du = distance.get(Graphs.getOppositeVertex(graph, f, v));
+                if (du != null) {
+                    double d = du + weight(f);
+                    if (d < best) {
+                        best = d;
+                        bestEdge = f;
+                    }
+                }
+            }
+            if (bestEdge != null) {
+                distance.put(v, best);
+                predecessor.put(v, bestEdge);
+                handles.put(v, heap.insert(best, v));
+            }
+        }
+        propagate(heap, handles);
+    }
+
+    /**
+     * Dijkstra's algorithm starting from the vertices in the heap.
+     */
+    private void propagate(
+        AddressableHeap<Double, V> heap, Map<V, AddressableHeap.Handle<Double, V>> handles)
+    {
+        while (!heap.isEmpty()) {
+            AddressableHeap.Handle<Double, V> min = heap.deleteMin();
+            V v = min.getValue();
+            double dv = min.getKey();
+            handles.remove(v);
+
+            for (E e : graph.outgoingEdgesOf(v)) {
+                V u = Graphs.getOppositeVertex(graph, e, v);
+                double du = dv + weight(e);
+                if (du < getWeight(u)) {
+                    distance.put(u, du);
+                    predecessor.put(u, e);
+                    AddressableHeap.Handle<Double, V> handle = handles.get(u);
+                    if (handle == null) {
+                        handles.put(u, heap.insert(du, u));
+                    } else {
+                        handle.decreaseKey(du);
+                    }
+                }
+            }
+        }
+    }
+
+    private double weight(E e)
+    {
+        double w = graph.getEdgeWeight(e);
+        if (w < 0.0) {
+            throw new IllegalArgumentException("Negative edge weight not allowed");
+        }
+        return w;
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.jgrapht.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A snapshot of the adjacency structure of a graph in compressed sparse row format over vertex
+ * indices.
+ *
+ * <p>
+ * Vertices are mapped once to the integers $[0, n)$ using a {@link VertexToIntegerMapping}. The
+ * arcs of vertex $v$ occupy positions $[\mathrm{start}(v), \mathrm{end}(v))$ of the arc arrays.
+ * Each arc stores the index of the opposite vertex, the original edge and optionally the edge
+ * weight. For directed graphs the arcs of a vertex are either its outgoing or its incoming edges.
+ * For undirected graphs the arcs of a vertex are all its incident edges, self-loops included once.
+ *
+ * <p>
+ * Algorithms which repeatedly traverse the same graph can use this class in order to avoid
+ * hashing vertices, boxing weights and allocating iterators in their inner loops. The snapshot is
+ * not updated if the graph is modified after construction.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+public class CompressedAdjacency<V, E>
+{
+    private final Graph<V, E> graph;
+    private final VertexToIntegerMapping<V> mapping;
+    private final boolean incoming;
+    private final int[] offsets;
+    private final int[] arcs;
+    private final double[] weights;
+    private final Object[] edges;
+
+    /**
+     * Create the outgoing adjacency of a graph, including edge weights.
+     *
+     * @param graph the graph
+     */
+    public CompressedAdjacency(Graph<V, E> graph)
+    {
+        this(graph, new VertexToIntegerMapping<>(graph.vertexSet()), false, true);
+    }
+
+    /**
+     * Create the adjacency of a graph.
+     *
+     * @param graph the graph
+     * @param incoming if true the arcs of a vertex are its incoming edges, otherwise its outgoing
+     *        edges. Irrelevant for undirected graphs.
+     * @param weighted whether to also store the edge weights
+     */
+    public CompressedAdjacency(Graph<V, E> graph, boolean incoming, boolean weighted)
+    {
+        this(graph, new VertexToIntegerMapping<>(graph.vertexSet()), incoming, weighted);
+    }
+
+    /**
+     * Create the adjacency of a graph using an existing vertex mapping.
+     *
+     * @param graph the graph
+     * @param mapping a mapping of the vertices of the graph to the integers $[0, n)$
+     * @param incoming if true the arcs of a vertex are its incoming edges, otherwise its outgoing
+     *        edges. Irrelevant for undirected graphs.
+     * @param weighted whether to also store the edge weights
+     */
+    public CompressedAdjacency(
+        Graph<V, E> graph, VertexToIntegerMapping<V> mapping, boolean incoming, boolean weighted)
+    {
+        this.graph = Objects.requireNonNull(graph, "Graph cannot be null");
+        this.mapping = Objects.requireNonNull(mapping, "Mapping cannot be null");
+        this.incoming = incoming && graph.getType().isDirected();
+
+        List<V> indexList = mapping.getIndexList();
+        Map<V, Integer> vertexMap = mapping.getVertexMap();
+        int n = indexList.size();
+
+        this.offsets = new int[n + 1];
+        for (int i = 0; i < n; i++) {
+            V v = indexList.get(i);
+            offsets[i + 1] = offsets[i] + edgesOf(v).size();
+        }
+
+        int m = offsets[n];
+        this.arcs = new int[m];
+        this.weights = weighted ? new double[m] : null;
+        this.edges = new Object[m];
+
+        int a = 0;
+        for (int i = 0; i < n; i++) {
+            V v = indexList.get(i);
+            for (E e : edgesOf(v)) {
+                arcs[a] = vertexMap.get(Graphs.getOppositeVertex(graph, e, v));
+                if (weighted) {
+                    weights[a] = graph.getEdgeWeight(e);
+                }
+                edges[a] = e;
+                a++;
+            }
+        }
+    }
+
+    /**
+     * Get the graph.
+     *
+     * @return the graph
+     */
+    public Graph<V, E> getGraph()
+    {
+        return graph;
+    }
+
+    /**
+     * Get the vertex mapping.
+     *
+     * @return the vertex mapping
+     */
+    public VertexToIntegerMapping<V> getMapping()
+    {
+        return mapping;
+    }
+
+    /**
+     * Get the number of vertices.
+     *
+     * @return the number of vertices
+     */
+    public int vertexCount()
+    {
+        return offsets.length - 1;
+    }
+
+    /**
+     * Get the total number of arcs.
+     *
+     * @return the total number of arcs
+     */
+    public int arcCount()
+    {
+        return arcs.length;
+    }
+
+    /**
+     * Whether the arcs are the incoming edges of each vertex.
+     *
+     * @return true if the arcs are the incoming edges of each vertex, false otherwise
+     */
+    public boolean isIncoming()
+    {
+        return incoming;
+    }
+
+    /**
+     * Whether edge weights are stored.
+     *
+     * @return true if edge weights are stored, false otherwise
+     */
+    public boolean isWeighted()
+    {
+        return weights != null;
+    }
+
+    /**
+     * Get the index of a vertex.
+     *
+     * @param v the vertex
+     * @return the index of the vertex or -1 if the vertex is not in the mapping
+     */
+    public int getIndex(V v)
+    {
+        Integer index = mapping.getVertexMap().get(v);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Get the vertex with a specific index.
+     *
+     * @param index the index
+     * @return the vertex
+     */
+    public V getVertex(int index)
+    {
+        return mapping.getIndexList().get(index);
+    }
+
+    /**
+     * Get the first arc of a vertex.
+     *
+     * @param v the vertex index
+     * @return the first arc of a vertex
+     */
+    public int start(int v)
+    {
+        return offsets[v];
+    }
+
+    /**
+     * Get the position after the last arc of a vertex.
+     *
+     * @param v the vertex index
+     * @return the position after the last arc of a vertex
+     */
+    public int end(int v)
+    {
+        return offsets[v + 1];
+    }
+
+    /**
+     * Get the index of the opposite vertex of an arc.
+     *
+     * @param arc the arc
+     * @return the index of the opposite vertex
+     */
+    public int getOpposite(int arc)
+    {
+        return arcs[arc];
+    }
+
+    /**
+     * Get the weight of an arc.
+     *
+     * @param arc the arc
+     * @return the weight of the arc
+     * @throws IllegalStateException if weights are not stored
+     */
+    public double getWeight(int arc)
+    {
+        if (weights == null) {
+            throw new IllegalStateException("Weights are not stored");
+        }
+        return weights[arc];
+    }
+
+    /**
+     * Get the edge of an arc.
+     *
+     * @param arc the arc
+     * @return the edge of the arc
+     */
+    public E getEdge(int arc)
+    {
+        return TypeUtil.uncheckedCast(edges[arc]);
+    }
+
+    /**
+     * Get the internal offsets array. Position $v$ contains the first arc of vertex $v$ and
+     * position $n$ the total number of arcs. The array must not be modified.
+     *
+     * @return the internal offsets array
+     */
+    public int[] getOffsets()
+    {
+        return offsets;
+    }
+
+    /**
+     * Get the internal array with the opposite vertex index of each arc. The array must not be
+     * modified.
+     *
+     * @return the internal arcs array
+     */
+    public int[] getArcs()
+    {
+        return arcs;
+    }
+
+    /**
+     * Get the internal array with the weight of each arc. The array must not be modified.
+     *
+     * @return the internal weights array or null if weights are not stored
+     */
+    public double[] getWeights()
+    {
+        return weights;
+    }
+
+    private Set<E> edgesOf(V v)
+    {
+        return incoming ? graph.incomingEdgesOf(v) : graph.outgoingEdgesOf(v);
+    }
+
+}
@@ -0,0 +1,273 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import java.util.*;
+
+/**
+ * Primitive but efficient implementation of an indexed d-ary min-heap. The elements are the
+ * integers $[0, N)$ where $N$ is the capacity of the heap, and their keys are doubles. Since each
+ * element has a fixed position in the index arrays, the heap supports decrease-key without
+ * allocating any handles, which makes it suitable for graph algorithms on vertex indices such as
+ * Dijkstra's algorithm.
+ *
+ * <p>
+ * The operations insert, decrease-key and delete-min run in $O(d \log_d n)$ time in the worst case.
+ * A larger arity makes decrease-key cheaper and delete-min more expensive; values between $2$ and
+ * $8$ work well in practice. Clearing the heap is linear in its current size and not in its
+ * capacity.
+ *
+ * @author agent
+ */
+public final class IndexedDaryHeap
+{
+    /**
+     * Default arity of the heap
+     */
+    public static final int DEFAULT_ARITY = 4;
+
+    /* Arity of the heap */
+    private final int d;
+    /* The heap, holds elements in heap order */
+    private final int[] heap;
+    /* Position of each element in the heap or -1 if not present */
+    private final int[] position;
+    /* Key of each element, valid only if the element is in the heap */
+    private final double[] keys;
+    /* Number of elements in the heap */
+    private int size;
+
+    /**
+     * Create a heap with the default arity.
+     *
+     * @param capacity the capacity of the heap, the elements are the integers in [0, capacity)
+     */
+    public IndexedDaryHeap(int capacity)
+    {
+        this(capacity, DEFAULT_ARITY);
+    }
+
+    /**
+     * Create a heap.
+     *
+     * @param capacity the capacity of the heap, the elements are the integers in [0, capacity)
+     * @param d the arity of the heap
+     * @throws IllegalArgumentException if the capacity is negative or the arity less than two
+     */
+    public IndexedDaryHeap(int capacity, int d)
+    {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Capacity must be non-negative");
+        }
+        if (d < 2) {
+            throw new IllegalArgumentException("Arity must be at least 2");
+        }
+        this.d = d;
+        this.heap = new int[capacity];
+        this.position = new int[capacity];
+        this.keys = new double[capacity];
+        this.size = 0;
+        Arrays.fill(position, -1);
+    }
+
+    /**
+     * Get the capacity of the heap.
+     *
+     * @return the capacity of the heap
+     */
+    public int capacity()
+    {
+        return heap.length;
+    }
+
+    /**
+     * Check if the heap is empty.
+     *
+     * @return true if the heap is empty, false otherwise
+     */
+    public boolean isEmpty()
+    {
+        return size == 0;
+    }
+
+    /**
+     * Returns the number of elements in the heap.
+     *
+     * @return number of elements in the heap
+     */
+    public int size()
+    {
+        return size;
+    }
+
+    /**
+     * Check if an element is in the heap.
+     *
+     * @param element the element
+     * @return true if the element is in the heap, false otherwise
+     */
+    public boolean contains(int element)
+    {
+        return position[element] != -1;
+    }
+
+    /**
+     * Get the key of an element which is in the heap.
+     *
+     * @param element the element
+     * @return the key of the element
+     */
+    public double getKey(int element)
+    {
+        assert position[element] != -1;
+        return keys[element];
+    }
+
+    /**
+     * Insert an element which is not in the heap.
+     *
+     * @param element the element
+     * @param key the key of the element
+     */
+    public void insert(int element, double key)
+    {
+        assert position[element] == -1;
+        keys[element] = key;
+        heap[size] = element;
+        position[element] = size;
+        size++;
+        siftUp(size - 1);
+    }
+
+    /**
+     * Decrease the key of an element which is in the heap.
+     *
+     * @param element the element
+     * @param key the new key which must not be larger than the current key
+     */
+    public void decreaseKey(int element, double key)
+    {
+        assert position[element] != -1;
+        assert key <= keys[element];
+        keys[element] = key;
+        siftUp(position[element]);
+    }
+
+    /**
+     * Get an element with the minimum key.
+     *
+     * @return an element with the minimum key
+     */
+    public int findMin()
+    {
+        assert size > 0;
+        return heap[0];
+    }
+
+    /**
+     * Get the minimum key.
+     *
+     * @return the minimum key
+     */
+    public double findMinKey()
+    {
+        assert size > 0;
+        return keys[heap[0]];
+    }
+
+    /**
+     * Remove and return an element with the minimum key.
+     *
+     * @return an element with the minimum key
+     */
+    public int deleteMin()
+    {
+        assert size > 0;
+        int min = heap[0];
+        position[min] = -1;
+        size--;
+        if (size > 0) {
+            int last = heap[size];
+            heap[0] = last;
+            position[last] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * Empty the heap. The running time is linear in the number of elements currently in the heap.
+     */
+    public void clear()
+    {
+        for (int i = 0; i < size; i++) {
+            position[heap[i]] = -1;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int i)
+    {
+        int element = heap[i];
+        double key = keys[element];
+        while (i > 0) {
+            int p = (i - 1) / d;
+            int parent = heap[p];
+            if (keys[parent] <= key) {
+                break;
+            }
+            heap[i] = parent;
+            position[parent] = i;
+            i = p;
+        }
+        heap[i] = element;
+        position[element] = i;
+    }
+
+    private void siftDown(int i)
+    {
+        int element = heap[i];
+        double key = keys[element];
+        while (true) {
+            int first = d * i + 1;
+            if (first >= size) {
+                break;
+            }
+            int last = Math.min(first + d, size);
+            int minChild = first;
+            double minKey = keys[heap[first]];
+            for (int c = first + 1; c < last; c++) {
+                double cKey = keys[heap[c]];
+                if (cKey < minKey) {
+                    minChild = c;
+                    minKey = cKey;
+                }
+            }
+            if (key <= minKey) {
+                break;
+            }
+            int child = heap[minChild];
+            heap[i] = child;
+            position[child] = i;
+            i = minChild;
+        }
+        heap[i] = element;
+        position[element] = i;
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An immutable snapshot of the edges touching a vertex.
+ *
+ * <p>
+ * For directed graphs the outgoing and incoming edges are kept in two separate arrays, and
+ * self-loops appear in both. For undirected graphs all touching edges are kept in the outgoing
+ * array and self-loops appear once. In both cases the number of self-loops is maintained in order
+ * to compute degrees in constant time.
+ *
+ * @author agent
+ */
+final class Adjacency
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -6041539722432766457L;
+
+    static final Adjacency EMPTY = new Adjacency(EdgeArray.EMPTY, EdgeArray.EMPTY, 0);
+
+    final EdgeArray out;
+    final EdgeArray in;
+    final int loops;
+
+    private Adjacency(EdgeArray out, EdgeArray in, int loops)
+    {
+        this.out = out;
+        this.in = in;
+        this.loops = loops;
+    }
+
+    Adjacency addOutgoing(Object e, Object target)
+    {
+        return new Adjacency(out.append(e, target), in, loops);
+    }
+
+    Adjacency addIncoming(Object e, Object source)
+    {
+        return new Adjacency(out, in.append(e, source), loops);
+    }
+
+    Adjacency addLoop(Object e, Object v, boolean directed)
+    {
+        return new Adjacency(out.append(e, v), directed ? in.append(e, v) : in, loops + 1);
+    }
+
+    Adjacency removeOutgoing(Object e)
+    {
+        return new Adjacency(out.remove(e), in, loops);
+    }
+
+    Adjacency removeIncoming(Object e)
+    {
+        return new Adjacency(out, in.remove(e), loops);
+    }
+
+    Adjacency removeLoop(Object e, boolean directed)
+    {
+        return new Adjacency(out.remove(e), directed ? in.remove(e) : in, loops - 1);
+    }
+
+    boolean isEmpty()
+    {
+        return out.size == 0 && in.size == 0;
+    }
+
+    int degree(boolean directed)
+    {
+        return directed ? out.size + in.size : out.size + loops;
+    }
+
+    int inDegree(boolean directed)
+    {
+        return directed ? in.size : degree(false);
+    }
+
+    int outDegree(boolean directed)
+    {
+        return directed ? out.size : degree(false);
+    }
+
+    <E> Set<E> edges(boolean directed, Object vertex)
+    {
+        if (directed) {
+            return new EdgeArraySet<>(out, in, loops, vertex);
+        }
+        return new EdgeArraySet<>(out, null, 0, vertex);
+    }
+
+    <E> Set<E> incomingEdges(boolean directed, Object vertex)
+    {
+        return directed ? new EdgeArraySet<>(in, null, 0, vertex) : edges(false, vertex);
+    }
+
+    <E> Set<E> outgoingEdges(boolean directed, Object vertex)
+    {
+        return directed ? new EdgeArraySet<>(out, null, 0, vertex) : edges(false, vertex);
+    }
+
+    <E> E findEdge(Object target)
+    {
+        int index = out.indexOfOpposite(target);
+        return index == -1 ? null : TypeUtil.uncheckedCast(out.edges[index]);
+    }
+
+    <E> Set<E> findAllEdges(Object target)
+    {
+        Set<E> result = new LinkedHashSet<>();
+        for (int i = 0; i < out.size; i++) {
+            if (target.equals(out.opposites[i])) {
+                result.add(TypeUtil.uncheckedCast(out.edges[i]));
+            }
+        }
+        return result;
+    }
+
+}
@@ -0,0 +1,654 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph designed for workloads with many concurrent readers and concurrent writers.
+ *
+ * <p>
+ * In contrast with {@link AsSynchronizedGraph}, which guards every operation with a single
+ * read-write lock, this graph never blocks readers. Vertices and edges are kept in
+ * {@link ConcurrentHashMap} instances, which provide lock-free lookups. The edges touching a vertex
+ * are kept in an immutable adjacency snapshot which is published through a volatile reference and
+ * replaced on each modification. Appending an edge shares the underlying arrays with the previous
+ * snapshot and thus takes amortized constant time, while removing an edge copies the arrays of the
+ * two endpoints. Writers synchronize on a fixed number of striped locks, selected by the hash codes
+ * of the endpoints, so writers touching disjoint vertices proceed in parallel.
+ *
+ * <p>
+ * The sets returned by {@link #edgesOf(Object)}, {@link #incomingEdgesOf(Object)} and
+ * {@link #outgoingEdgesOf(Object)} are unmodifiable snapshots of the adjacency of the vertex at the
+ * time of the call. They are never affected by subsequent modifications and are created in constant
+ * time without copying. Note that their {@link Set#contains(Object)} method performs a linear scan.
+ * The sets returned by {@link #vertexSet()} and {@link #edgeSet()} are unmodifiable views backed by
+ * the graph. Their iterators are weakly consistent: they never throw
+ * {@link ConcurrentModificationException} and reflect the state of the graph at some point at or
+ * since the creation of the iterator. Consequently, iterating over both sets does not necessarily
+ * observe a state which the graph actually had; for example an edge may be seen whose endpoint was
+ * not seen in the vertex set. Use {@link SnapshotGraph} when consistent iteration over the whole
+ * graph is required.
+ *
+ * <p>
+ * Similarly to {@link AsSynchronizedGraph}, a vertex or edge obtained from the graph may be removed
+ * concurrently by another thread, in which case subsequent calls using it will throw an
+ * {@link IllegalArgumentException}. The vertex and edge suppliers must be thread-safe if
+ * {@link #addVertex()} or {@link #addEdge(Object, Object)} are called concurrently.
+ *
+ * <p>
+ * The graph supports directed and undirected graph types, with or without self-loops, multiple
+ * edges and weights. Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see AsSynchronizedGraph
+ * @see SnapshotGraph
+ *
+ * @author agent
+ */
+public class ConcurrentGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = 4380372011577812035L;
+
+    /**
+     * The default number of lock stripes.
+     */
+    public static final int DEFAULT_CONCURRENCY_LEVEL = 64;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final ConcurrentHashMap<V, VertexEntry> vertices;
+    private final ConcurrentHashMap<E, EdgeEntry<V>> edges;
+    private final ReentrantLock[] locks;
+    private final Set<V> unmodifiableVertexSet;
+    private final Set<E> unmodifiableEdgeSet;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     *
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public ConcurrentGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this(vertexSupplier, edgeSupplier, type, DEFAULT_CONCURRENCY_LEVEL);
+    }
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     * @param concurrencyLevel the number of lock stripes, rounded up to a power of two
+     *
+     * @throws IllegalArgumentException if the graph type is mixed or the concurrency level is not
+     *         positive
+     */
+    public ConcurrentGraph(
+        Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type,
+        int concurrencyLevel)
+    {
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        if (concurrencyLevel < 1) {
+            throw new IllegalArgumentException("Concurrency level must be positive");
+        }
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.vertices = new ConcurrentHashMap<>();
+        this.edges = new ConcurrentHashMap<>();
+
+        int stripes = 1;
+        while (stripes < concurrencyLevel && stripes < (1 << 16)) {
+            stripes <<= 1;
+        }
+        this.locks = new ReentrantLock[stripes];
+        for (int i = 0; i < stripes; i++) {
+            locks[i] = new ReentrantLock();
+        }
+
+        this.unmodifiableVertexSet = Collections.unmodifiableSet(vertices.keySet());
+        this.unmodifiableEdgeSet = Collections.unmodifiableSet(edges.keySet());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        VertexEntry source = sourceVertex == null ? null : vertices.get(sourceVertex);
+        if (source == null || targetVertex == null || !vertices.containsKey(targetVertex)) {
+            return null;
+        }
+        return source.adjacency.findAllEdges(targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        VertexEntry source = sourceVertex == null ? null : vertices.get(sourceVertex);
+        if (source == null || targetVertex == null) {
+            return null;
+        }
+        return source.adjacency.findEdge(targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+            return null;
+        }
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        E e = edgeSupplier.get();
+        if (addEdgeInternal(sourceVertex, targetVertex, e)) {
+            return e;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        return addEdgeInternal(sourceVertex, targetVertex, e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(
+                INVALID_VERTEX_SUPPLIER);
+        }
+        return v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        return vertices.putIfAbsent(v, new VertexEntry()) == null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return e != null && edges.containsKey(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return v != null && vertices.containsKey(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return unmodifiableEdgeSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        return getAdjacency(vertex).degree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return getAdjacency(vertex).edges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return getAdjacency(vertex).inDegree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return getAdjacency(vertex).incomingEdges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return getAdjacency(vertex).outDegree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return getAdjacency(vertex).outgoingEdges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        while (true) {
+            E e = getEdge(sourceVertex, targetVertex);
+            if (e == null) {
+                return null;
+            }
+            if (removeEdge(e)) {
+                return e;
+            }
+            // removed concurrently by another thread, retry
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        EdgeEntry<V> entry = e == null ? null : edges.get(e);
+        if (entry == null) {
+            return false;
+        }
+        int first = stripe(entry.source);
+        int second = stripe(entry.target);
+        lock(first, second);
+        try {
+            if (!edges.remove(e, entry)) {
+                return false;
+            }
+            unlink(e, entry.source, entry.target);
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        while (true) {
+            VertexEntry entry = v == null ? null : vertices.get(v);
+            if (entry == null) {
+                return false;
+            }
+
+            // remove touching edges without holding the vertex lock
+            Adjacency a = entry.adjacency;
+            removeAll(a.out);
+            removeAll(a.in);
+
+            ReentrantLock lock = locks[stripe(v)];
+            lock.lock();
+            try {
+                if (vertices.get(v) == entry && entry.adjacency.isEmpty()) {
+                    vertices.remove(v, entry);
+                    return true;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // edges were added or the vertex was replaced concurrently, retry
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return unmodifiableVertexSet;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return getEdgeEntry(e).source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return getEdgeEntry(e).target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            return Graph.DEFAULT_EDGE_WEIGHT;
+        }
+        return getEdgeEntry(e).weight;
+    }
+
+    /**
+     * Set an edge weight.
+     *
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        getEdgeEntry(e).weight = weight;
+    }
+
+    private boolean addEdgeInternal(V sourceVertex, V targetVertex, E e)
+    {
+        int first = stripe(sourceVertex);
+        int second = stripe(targetVertex);
+        lock(first, second);
+        try {
+            // vertices are only removed while holding their lock
+            VertexEntry source = vertices.get(sourceVertex);
+            VertexEntry target = vertices.get(targetVertex);
+            if (source == null) {
+                assertVertexExist(sourceVertex);
+            }
+            if (target == null) {
+                assertVertexExist(targetVertex);
+            }
+            if (!type.isAllowingMultipleEdges()
+                && source.adjacency.findEdge(targetVertex) != null)
+            {
+                return false;
+            }
+            if (edges.putIfAbsent(e, new EdgeEntry<>(sourceVertex, targetVertex)) != null) {
+                return false;
+            }
+
+            boolean directed = type.isDirected();
+            if (source == target) {
+                source.adjacency = source.adjacency.addLoop(e, sourceVertex, directed);
+            } else {
+                source.adjacency = source.adjacency.addOutgoing(e, targetVertex);
+                target.adjacency = directed ? target.adjacency.addIncoming(e, sourceVertex)
+                    : target.adjacency.addOutgoing(e, sourceVertex);
+            }
+            return true;
+        } finally {
+            unlock(first, second);
+        }
+    }
+
+    /**
+     * Remove an edge from the adjacency of its endpoints. Must be called while holding the locks
+     * of both endpoints.
+     */
+    private void unlink(E e, V sourceVertex, V targetVertex)
+    {
+        VertexEntry source = vertices.get(sourceVertex);
+        VertexEntry target = vertices.get(targetVertex);
+        boolean directed = type.isDirected();
+        if (source == target) {
+            source.adjacency = source.adjacency.removeLoop(e, directed);
+        } else {
+            source.adjacency = source.adjacency.removeOutgoing(e);
+            target.adjacency = directed ? target.adjacency.removeIncoming(e)
+                : target.adjacency.removeOutgoing(e);
+        }
+    }
+
+    private void removeAll(EdgeArray array)
+    {
+        for (int i = 0; i < array.size; i++) {
+            removeEdge(TypeUtil.<E> uncheckedCast(array.edges[i]));
+        }
+    }
+
+    private Adjacency getAdjacency(V vertex)
+    {
+        VertexEntry entry = vertex == null ? null : vertices.get(vertex);
+        if (entry == null) {
+            assertVertexExist(vertex);
+        }
+        return entry.adjacency;
+    }
+
+    private EdgeEntry<V> getEdgeEntry(E e)
+    {
+        EdgeEntry<V> entry = edges.get(e);
+        if (entry == null) {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+        return entry;
+    }
+
+    private int stripe(V v)
+    {
+        int h = v.hashCode();
+        h ^= (h >>> 16);
+        return h & (locks.length - 1);
+    }
+
+    /**
+     * Acquire the locks of two stripes, always in increasing stripe order to avoid deadlocks.
+     */
+    private void lock(int first, int second)
+    {
+        if (first == second) {
+            locks[first].lock();
+        } else {
+            locks[Math.min(first, second)].lock();
+            locks[Math.max(first, second)].lock();
+        }
+    }
+
+    private void unlock(int first, int second)
+    {
+        locks[first].unlock();
+        if (first != second) {
+            locks[second].unlock();
+        }
+    }
+
+    /**
+     * The state of a vertex.
+     */
+    private static final class VertexEntry
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -2263524519024838413L;
+
+        volatile Adjacency adjacency = Adjacency.EMPTY;
+    }
+
+    /**
+     * The state of an edge.
+     */
+    private static final class EdgeEntry<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 6512377316209834163L;
+
+        final V source;
+        final V target;
+        volatile double weight;
+
+        EdgeEntry(V source, V target)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = Graph.DEFAULT_EDGE_WEIGHT;
+        }
+    }
+
+}
@@ -0,0 +1,131 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An immutable prefix of two arrays containing edges and their opposite vertices.
+ *
+ * <p>
+ * Appending writes past the end of the prefix and shares the arrays with the previous instance,
+ * which therefore still sees exactly its own prefix. This is safe as long as only the newest
+ * instance of each adjacency is ever appended to, which holds since removals always copy the
+ * arrays. Instances can thus be published to readers as snapshots which are never affected by
+ * subsequent modifications.
+ *
+ * @author agent
+ */
+final class EdgeArray
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 3212850716066633124L;
+
+    static final EdgeArray EMPTY = new EdgeArray(new Object[0], new Object[0], 0);
+
+    final Object[] edges;
+    final Object[] opposites;
+    final int size;
+
+    private EdgeArray(Object[] edges, Object[] opposites, int size)
+    {
+        this.edges = edges;
+        this.opposites = opposites;
+        this.size = size;
+    }
+
+    /**
+     * Append an edge.
+     *
+     * @param e the edge
+     * @param opposite the opposite vertex
+     * @return the new edge array
+     */
+    EdgeArray append(Object e, Object opposite)
+    {
+        Object[] newEdges = edges;
+        Object[] newOpposites = opposites;
+        if (size == edges.length) {
+            int capacity = Math.max(4, size + (size >> 1));
+            newEdges = Arrays.copyOf(edges, capacity);
+            newOpposites = Arrays.copyOf(opposites, capacity);
+        }
+        newEdges[size] = e;
+        newOpposites[size] = opposite;
+        return new EdgeArray(newEdges, newOpposites, size + 1);
+    }
+
+    /**
+     * Remove an edge.
+     *
+     * @param e the edge
+     * @return the new edge array, or this instance if the edge is not contained
+     */
+    EdgeArray remove(Object e)
+    {
+        int index = indexOf(e);
+        if (index == -1) {
+            return this;
+        }
+        if (size == 1) {
+            return EMPTY;
+        }
+        Object[] newEdges = new Object[size - 1];
+        Object[] newOpposites = new Object[size - 1];
+        System.arraycopy(edges, 0, newEdges, 0, index);
+        System.arraycopy(edges, index + 1, newEdges, index, size - index - 1);
+        System.arraycopy(opposites, 0, newOpposites, 0, index);
+        System.arraycopy(opposites, index + 1, newOpposites, index, size - index - 1);
+        return new EdgeArray(newEdges, newOpposites, size - 1);
+    }
+
+    /**
+     * Find the position of an edge.
+     *
+     * @param e the edge
+     * @return the position of the edge or -1 if not contained
+     */
+    int indexOf(Object e)
+    {
+        for (int i = 0; i < size; i++) {
+            if (edges[i].equals(e)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Find the position of the first edge with a specific opposite vertex.
+     *
+     * @param opposite the opposite vertex
+     * @return the position of the edge or -1 if no such edge exists
+     */
+    int indexOfOpposite(Object opposite)
+    {
+        for (int i = 0; i < size; i++) {
+            if (opposite.equals(opposites[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,107 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * An unmodifiable set over one or two edge arrays. Edges of the second array whose opposite is the
+ * vertex itself are self-loops which already appear in the first array and are skipped. Method
+ * {@link #contains(Object)} performs a linear scan.
+ *
+ * @param <E> the graph edge type
+ *
+ * @author agent
+ */
+final class EdgeArraySet<E>
+    extends
+    AbstractSet<E>
+{
+    private final EdgeArray first;
+    private final EdgeArray second;
+    private final Object vertex;
+    private final int size;
+
+    EdgeArraySet(EdgeArray first, EdgeArray second, int loops, Object vertex)
+    {
+        this.first = first;
+        this.second = second;
+        this.vertex = vertex;
+        this.size = first.size + (second == null ? 0 : second.size - loops);
+    }
+
+    @Override
+    public int size()
+    {
+        return size;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        return first.indexOf(o) != -1 || (second != null && second.indexOf(o) != -1);
+    }
+
+    @Override
+    public Iterator<E> iterator()
+    {
+        return new Iterator<E>()
+        {
+            private EdgeArray current = first;
+            private int next = advance(0);
+
+            @Override
+            public boolean hasNext()
+            {
+                return next != -1;
+            }
+
+            @Override
+            public E next()
+            {
+                if (next == -1) {
+                    throw new NoSuchElementException();
+                }
+                E e = TypeUtil.uncheckedCast(current.edges[next]);
+                next = advance(next + 1);
+                return e;
+            }
+
+            private int advance(int i)
+            {
+                if (current == first) {
+                    if (i < first.size) {
+                        return i;
+                    }
+                    if (second == null) {
+                        return -1;
+                    }
+                    current = second;
+                    i = 0;
+                }
+                while (i < second.size && vertex.equals(second.opposites[i])) {
+                    i++;
+                }
+                return i < second.size ? i : -1;
+            }
+        };
+    }
+
+}
@@ -0,0 +1,506 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An immutable hash map with structural sharing, implemented as a hash array mapped trie.
+ *
+ * <p>
+ * Each level of the trie consumes $5$ bits of the hash code and stores its entries and children in
+ * a compact array indexed by a bitmap. Keys whose hash codes are equal are stored in collision
+ * nodes. Methods {@link #put(Object, Object)} and {@link #remove(Object)} never modify an instance
+ * but return a new map which shares all unaffected nodes with the original one. Thus an update
+ * allocates $O(\log n)$ memory and all previous versions of the map remain valid. Null keys are
+ * not supported.
+ *
+ * @param <K> the key type
+ * @param <V> the value type
+ *
+ * @author agent
+ */
+final class PersistentHashMap<K, V>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -1582380553413287012L;
+
+    private static final int BITS = 5;
+    private static final int MASK = (1 << BITS) - 1;
+    private static final Object NOT_FOUND = new Object();
+
+    private static final PersistentHashMap<?, ?> EMPTY = new PersistentHashMap<>(null, 0);
+
+    private final Node root;
+    private final int size;
+
+    private PersistentHashMap(Node root, int size)
+    {
+        this.root = root;
+        this.size = size;
+    }
+
+    /**
+     * Get the empty map.
+     *
+     * @param <K> the key type
+     * @param <V> the value type
+     * @return the empty map
+     */
+    static <K, V> PersistentHashMap<K, V> empty()
+    {
+        return TypeUtil.uncheckedCast(EMPTY);
+    }
+
+    /**
+     * Get the number of entries.
+     *
+     * @return the number of entries
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the value of a key.
+     *
+     * @param key the key
+     * @return the value or null if the key is not contained
+     */
+    V get(Object key)
+    {
+        if (root == null) {
+            return null;
+        }
+        Object value = root.get(key, hash(key), 0);
+        return value == NOT_FOUND ? null : TypeUtil.uncheckedCast(value);
+    }
+
+    /**
+     * Check whether a key is contained.
+     *
+     * @param key the key
+     * @return true if the key is contained, false otherwise
+     */
+    boolean containsKey(Object key)
+    {
+        return root != null && root.get(key, hash(key), 0) != NOT_FOUND;
+    }
+
+    /**
+     * Associate a key with a value.
+     *
+     * @param key the key
+     * @param value the value
+     * @return the new map, or this instance if the key was already associated with the value
+     */
+    PersistentHashMap<K, V> put(K key, V value)
+    {
+        Objects.requireNonNull(key);
+        boolean[] added = new boolean[1];
+        Node newRoot = (root == null ? BitmapNode.EMPTY : root)
+            .put(key, value, hash(key), 0, added);
+        if (newRoot == root) {
+            return this;
+        }
+        return new PersistentHashMap<>(newRoot, added[0] ? size + 1 : size);
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @param key the key
+     * @return the new map, or this instance if the key was not contained
+     */
+    PersistentHashMap<K, V> remove(Object key)
+    {
+        if (root == null) {
+            return this;
+        }
+        Node newRoot = root.remove(key, hash(key), 0);
+        if (newRoot == root) {
+            return this;
+        }
+        if (newRoot == null) {
+            return empty();
+        }
+        return new PersistentHashMap<>(newRoot, size - 1);
+    }
+
+    /**
+     * Get an iterator over the keys.
+     *
+     * @return an iterator over the keys
+     */
+    Iterator<K> keyIterator()
+    {
+        return new EntryIterator<>(root, true);
+    }
+
+    /**
+     * Get an iterator over the values.
+     *
+     * @return an iterator over the values
+     */
+    Iterator<V> valueIterator()
+    {
+        return new EntryIterator<>(root, false);
+    }
+
+    /**
+     * Get an unmodifiable set view of the keys of this map.
+     *
+     * @return an unmodifiable set view of the keys
+     */
+    Set<K> keySet()
+    {
+        return new AbstractSet<K>()
+        {
+            @Override
+            public int size()
+            {
+                return size;
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o != null && containsKey(o);
+            }
+
+            @Override
+            public Iterator<K> iterator()
+            {
+                return keyIterator();
+            }
+        };
+    }
+
+    private static int hash(Object key)
+    {
+        int h = key.hashCode();
+        return h ^ (h >>> 16);
+    }
+
+    private static Object[] cloneAndSet(Object[] array, int i, Object value)
+    {
+        Object[] copy = array.clone();
+        copy[i] = value;
+        return copy;
+    }
+
+    private static Object[] removePair(Object[] array, int i)
+    {
+        Object[] copy = new Object[array.length - 2];
+        System.arraycopy(array, 0, copy, 0, 2 * i);
+        System.arraycopy(array, 2 * i + 2, copy, 2 * i, array.length - 2 * i - 2);
+        return copy;
+    }
+
+    /**
+     * A node of the trie. The array contains pairs of slots. In a pair either the first slot is a
+     * key and the second its value, or the first slot is null and the second a child node.
+     */
+    private abstract static class Node
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 4601512213442432416L;
+
+        final Object[] array;
+
+        Node(Object[] array)
+        {
+            this.array = array;
+        }
+
+        abstract Object get(Object key, int hash, int shift);
+
+        abstract Node put(Object key, Object value, int hash, int shift, boolean[] added);
+
+        abstract Node remove(Object key, int hash, int shift);
+    }
+
+    private static final class BitmapNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = -3052314870862938870L;
+
+        static final BitmapNode EMPTY = new BitmapNode(0, new Object[0]);
+
+        final int bitmap;
+
+        BitmapNode(int bitmap, Object[] array)
+        {
+            super(array);
+            this.bitmap = bitmap;
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return NOT_FOUND;
+            }
+            int i = index(bit);
+            Object k = array[2 * i];
+            Object v = array[2 * i + 1];
+            if (k == null) {
+                return ((Node) v).get(key, hash, shift + BITS);
+            }
+            return key.equals(k) ? v : NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, boolean[] added)
+        {
+            int bit = bit(hash, shift);
+            int i = index(bit);
+            if ((bitmap & bit) == 0) {
+                Object[] newArray = new Object[array.length + 2];
+                System.arraycopy(array, 0, newArray, 0, 2 * i);
+                newArray[2 * i] = key;
+                newArray[2 * i + 1] = value;
+                System.arraycopy(array, 2 * i, newArray, 2 * i + 2, array.length - 2 * i);
+                added[0] = true;
+                return new BitmapNode(bitmap | bit, newArray);
+            }
+
+            Object k = array[2 * i];
+            Object v = array[2 * i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node newChild = child.put(key, value, hash, shift + BITS, added);
+                if (newChild == child) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, newChild));
+            }
+            if (key.equals(k)) {
+                if (value == v) {
+                    return this;
+                }
+                return new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, value));
+            }
+
+            // split the slot into a child node containing both keys
+            Node child;
+            int h = hash(k);
+            if (h == hash) {
+                child = new CollisionNode(hash, new Object[] { k, v, key, value });
+            } else {
+                boolean[] ignored = new boolean[1];
+                child = EMPTY
+                    .put(k, v, h, shift + BITS, ignored)
+                    .put(key, value, hash, shift + BITS, ignored);
+            }
+            added[0] = true;
+            Object[] newArray = array.clone();
+            newArray[2 * i] = null;
+            newArray[2 * i + 1] = child;
+            return new BitmapNode(bitmap, newArray);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift)
+        {
+            int bit = bit(hash, shift);
+            if ((bitmap & bit) == 0) {
+                return this;
+            }
+            int i = index(bit);
+            Object k = array[2 * i];
+            Object v = array[2 * i + 1];
+            if (k == null) {
+                Node child = (Node) v;
+                Node newChild = child.remove(key, hash, shift + BITS);
+                if (newChild == child) {
+                    return this;
+                }
+                if (newChild != null) {
+                    return new BitmapNode(bitmap, cloneAndSet(array, 2 * i + 1, newChild));
+                }
+            } else if (!key.equals(k)) {
+                return this;
+            }
+            if (bitmap == bit) {
+                return null;
+            }
+            return new BitmapNode(bitmap ^ bit, removePair(array, i));
+        }
+
+        private int index(int bit)
+        {
+            return Integer.bitCount(bitmap & (bit - 1));
+        }
+
+        private static int bit(int hash, int shift)
+        {
+            return 1 << ((hash >>> shift) & MASK);
+        }
+    }
+
+    private static final class CollisionNode
+        extends
+        Node
+    {
+        private static final long serialVersionUID = 2934876427193659211L;
+
+        final int hash;
+
+        CollisionNode(int hash, Object[] array)
+        {
+            super(array);
+            this.hash = hash;
+        }
+
+        @Override
+        Object get(Object key, int hash, int shift)
+        {
+            if (hash == this.hash) {
+                int i = indexOf(key);
+                if (i != -1) {
+                    return array[2 * i + 1];
+                }
+            }
+            return NOT_FOUND;
+        }
+
+        @Override
+        Node put(Object key, Object value, int hash, int shift, boolean[] added)
+        {
+            if (hash != this.hash) {
+                // nest this node below a new bitmap node which distinguishes the hashes
+                BitmapNode parent = new BitmapNode(
+                    BitmapNode.bit(this.hash, shift), new Object[] { null, this });
+                return parent.put(key, value, hash, shift, added);
+            }
+            int i = indexOf(key);
+            if (i != -1) {
+                if (array[2 * i + 1] == value) {
+                    return this;
+                }
+                return new CollisionNode(hash, cloneAndSet(array, 2 * i + 1, value));
+            }
+            Object[] newArray = Arrays.copyOf(array, array.length + 2);
+            newArray[array.length] = key;
+            newArray[array.length + 1] = value;
+            added[0] = true;
+            return new CollisionNode(hash, newArray);
+        }
+
+        @Override
+        Node remove(Object key, int hash, int shift)
+        {
+            if (hash != this.hash) {
+                return this;
+            }
+            int i = indexOf(key);
+            if (i == -1) {
+                return this;
+            }
+            if (array.length == 2) {
+                return null;
+            }
+            return new CollisionNode(hash, removePair(array, i));
+        }
+
+        private int indexOf(Object key)
+        {
+            for (int i = 0; i < array.length; i += 2) {
+                if (key.equals(array[i])) {
+                    return i / 2;
+                }
+            }
+            return -1;
+        }
+    }
+
+    /**
+     * Depth-first iterator over the entries of the trie.
+     */
+    private static final class EntryIterator<T>
+        implements
+        Iterator<T>
+    {
+        // the trie has at most 7 bitmap levels and one collision level
+        private final Object[][] stack = new Object[8][];
+        private final int[] positions = new int[8];
+        private final boolean keys;
+        private int depth;
+        private Object next;
+
+        EntryIterator(Node root, boolean keys)
+        {
+            this.keys = keys;
+            if (root == null) {
+                depth = -1;
+            } else {
+                stack[0] = root.array;
+            }
+            advance();
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            return next != NOT_FOUND;
+        }
+
+        @Override
+        public T next()
+        {
+            if (next == NOT_FOUND) {
+                throw new NoSuchElementException();
+            }
+            T result = TypeUtil.uncheckedCast(next);
+            advance();
+            return result;
+        }
+
+        private void advance()
+        {
+            while (depth >= 0) {
+                Object[] array = stack[depth];
+                int p = positions[depth];
+                if (p >= array.length) {
+                    depth--;
+                    continue;
+                }
+                positions[depth] = p + 2;
+                if (array[p] == null) {
+                    depth++;
+                    stack[depth] = ((Node) array[p + 1]).array;
+                    positions[depth] = 0;
+                } else {
+                    next = keys ? array[p] : array[p + 1];
+                    return;
+                }
+            }
+            next = NOT_FOUND;
+        }
+    }
+
+}
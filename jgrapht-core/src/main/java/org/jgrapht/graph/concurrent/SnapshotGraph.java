@@ -0,0 +1,869 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.function.*;
+
+/**
+ * A thread-safe graph which supports taking immutable snapshots in constant time.
+ *
+ * <p>
+ * The graph uses multi-version concurrency control. Its whole state is an immutable version,
+ * consisting of a persistent hash map from vertices to their touching edges and a persistent hash
+ * map from edges to their endpoints and weight. Each modification creates a new version which
+ * shares all unaffected parts with the previous one and publishes it through a volatile reference.
+ * Adding a vertex or an edge allocates $O(\log n)$ memory for the path copies of the hash maps and
+ * amortized constant memory for the adjacency of the endpoints. Removing an edge additionally
+ * copies the adjacency of its endpoints.
+ *
+ * <p>
+ * Method {@link #snapshot()} returns an unmodifiable graph over the current version in constant
+ * time. Snapshots are never affected by subsequent modifications of the graph and are thus
+ * suitable for long running algorithms such as traversals or shortest path computations, while
+ * other threads keep modifying the graph. A snapshot retains only the memory of the parts of the
+ * graph which have been modified since it was taken. Readers never block, neither on the graph
+ * nor on a snapshot. Writers serialize on a single lock but never wait for readers.
+ *
+ * <p>
+ * Every individual method of the graph observes a consistent version. In particular the iterators
+ * of {@link #vertexSet()} and {@link #edgeSet()} iterate over the version at the time of their
+ * creation, and the sets returned by {@link #edgesOf(Object)}, {@link #incomingEdgesOf(Object)} and
+ * {@link #outgoingEdgesOf(Object)} are snapshots. Note that their {@link Set#contains(Object)}
+ * method performs a linear scan. Sequences of method calls on the graph itself may observe
+ * different versions. Algorithms which need a consistent view across calls should run on a
+ * snapshot.
+ *
+ * <p>
+ * The graph supports directed and undirected graph types, with or without self-loops, multiple
+ * edges and weights. Mixed graphs are not supported.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see ConcurrentGraph
+ *
+ * @author agent
+ */
+public class SnapshotGraph<V, E>
+    extends
+    AbstractGraph<V, E>
+    implements
+    Graph<V, E>,
+    Serializable
+{
+    private static final long serialVersionUID = -6405738915632184209L;
+
+    private static final String LOOPS_NOT_ALLOWED = "loops not allowed";
+    private static final String MIXED_GRAPH_NOT_SUPPORTED = "Mixed graph not supported";
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final String THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER =
+        "The graph contains no vertex supplier";
+    private static final String THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER =
+        "The graph contains no edge supplier";
+    private static final String INVALID_VERTEX_SUPPLIER =
+        "Invalid vertex supplier (does not return unique vertices on each call).";
+
+    private final GraphType type;
+    private final Supplier<V> vertexSupplier;
+    private final Supplier<E> edgeSupplier;
+    private final ReentrantLock writeLock;
+    private volatile Version<V, E> version;
+
+    /**
+     * Construct a new graph.
+     *
+     * @param vertexSupplier the vertex supplier, can be null
+     * @param edgeSupplier the edge supplier, can be null
+     * @param type the graph type
+     *
+     * @throws IllegalArgumentException if the graph type is mixed
+     */
+    public SnapshotGraph(Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type)
+    {
+        this.type = Objects.requireNonNull(type);
+        if (type.isMixed()) {
+            throw new IllegalArgumentException(MIXED_GRAPH_NOT_SUPPORTED);
+        }
+        this.vertexSupplier = vertexSupplier;
+        this.edgeSupplier = edgeSupplier;
+        this.writeLock = new ReentrantLock();
+        this.version = new Version<>(PersistentHashMap.empty(), PersistentHashMap.empty());
+    }
+
+    /**
+     * Get an immutable snapshot of the current state of the graph. The snapshot is taken in
+     * constant time and is not affected by subsequent modifications of this graph. All modifying
+     * methods of the snapshot throw {@link UnsupportedOperationException}.
+     *
+     * @return an immutable snapshot of the graph
+     */
+    public Graph<V, E> snapshot()
+    {
+        return new Snapshot<>(version, type, vertexSupplier, edgeSupplier);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+    {
+        return version.getAllEdges(sourceVertex, targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E getEdge(V sourceVertex, V targetVertex)
+    {
+        return version.getEdge(sourceVertex, targetVertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<V> getVertexSupplier()
+    {
+        return vertexSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Supplier<E> getEdgeSupplier()
+    {
+        return edgeSupplier;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E addEdge(V sourceVertex, V targetVertex)
+    {
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingMultipleEdges() && containsEdge(sourceVertex, targetVertex)) {
+            return null;
+        }
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        if (edgeSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_EDGE_SUPPLIER);
+        }
+
+        E e = edgeSupplier.get();
+        if (addEdgeInternal(sourceVertex, targetVertex, e)) {
+            return e;
+        }
+        return null;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addEdge(V sourceVertex, V targetVertex, E e)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+
+        assertVertexExist(sourceVertex);
+        assertVertexExist(targetVertex);
+
+        if (!type.isAllowingSelfLoops() && sourceVertex.equals(targetVertex)) {
+            throw new IllegalArgumentException(LOOPS_NOT_ALLOWED);
+        }
+
+        return addEdgeInternal(sourceVertex, targetVertex, e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V addVertex()
+    {
+        if (vertexSupplier == null) {
+            throw new UnsupportedOperationException(THE_GRAPH_CONTAINS_NO_VERTEX_SUPPLIER);
+        }
+
+        V v = vertexSupplier.get();
+        if (!addVertex(v)) {
+            throw new IllegalArgumentException(INVALID_VERTEX_SUPPLIER);
+        }
+        return v;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean addVertex(V v)
+    {
+        if (v == null) {
+            throw new NullPointerException();
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            if (current.vertices.containsKey(v)) {
+                return false;
+            }
+            version = new Version<>(current.vertices.put(v, Adjacency.EMPTY), current.edges);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsEdge(E e)
+    {
+        return version.containsEdge(e);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean containsVertex(V v)
+    {
+        return version.containsVertex(v);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is a view of the edges of the graph. Its iterators iterate over the edges
+     * at the time of their creation.
+     */
+    @Override
+    public Set<E> edgeSet()
+    {
+        return new AbstractSet<E>()
+        {
+            @Override
+            public int size()
+            {
+                return version.edges.size();
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o != null && version.edges.containsKey(o);
+            }
+
+            @Override
+            public Iterator<E> iterator()
+            {
+                return version.edges.keyIterator();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int degreeOf(V vertex)
+    {
+        return version.getAdjacency(vertex).degree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> edgesOf(V vertex)
+    {
+        return version.getAdjacency(vertex).edges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int inDegreeOf(V vertex)
+    {
+        return version.getAdjacency(vertex).inDegree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> incomingEdgesOf(V vertex)
+    {
+        return version.getAdjacency(vertex).incomingEdges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int outDegreeOf(V vertex)
+    {
+        return version.getAdjacency(vertex).outDegree(type.isDirected());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is an unmodifiable snapshot.
+     */
+    @Override
+    public Set<E> outgoingEdgesOf(V vertex)
+    {
+        return version.getAdjacency(vertex).outgoingEdges(type.isDirected(), vertex);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public E removeEdge(V sourceVertex, V targetVertex)
+    {
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            E e = current.getEdge(sourceVertex, targetVertex);
+            if (e == null) {
+                return null;
+            }
+            version = unlink(current, e, current.edges.get(e));
+            return e;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean removeEdge(E e)
+    {
+        if (e == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            EdgeEntry<V> entry = current.edges.get(e);
+            if (entry == null) {
+                return false;
+            }
+            version = unlink(current, e, entry);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The vertex and all its touching edges are removed atomically.
+     */
+    @Override
+    public boolean removeVertex(V v)
+    {
+        if (v == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            Adjacency a = current.vertices.get(v);
+            if (a == null) {
+                return false;
+            }
+            current = unlinkAll(current, a.out);
+            current = unlinkAll(current, a.in);
+            version = new Version<>(current.vertices.remove(v), current.edges);
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The returned set is a view of the vertices of the graph. Its iterators iterate over the
+     * vertices at the time of their creation.
+     */
+    @Override
+    public Set<V> vertexSet()
+    {
+        return new AbstractSet<V>()
+        {
+            @Override
+            public int size()
+            {
+                return version.vertices.size();
+            }
+
+            @Override
+            public boolean contains(Object o)
+            {
+                return o != null && version.vertices.containsKey(o);
+            }
+
+            @Override
+            public Iterator<V> iterator()
+            {
+                return version.vertices.keyIterator();
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeSource(E e)
+    {
+        return version.getEdgeEntry(e).source;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public V getEdgeTarget(E e)
+    {
+        return version.getEdgeEntry(e).target;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public GraphType getType()
+    {
+        return type;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public double getEdgeWeight(E e)
+    {
+        return version.getEdgeWeight(e, type);
+    }
+
+    /**
+     * Set an edge weight. Snapshots taken before the change keep the previous weight.
+     *
+     * @param e the edge
+     * @param weight the weight
+     * @throws UnsupportedOperationException if the graph is not weighted
+     */
+    @Override
+    public void setEdgeWeight(E e, double weight)
+    {
+        if (e == null) {
+            throw new NullPointerException();
+        }
+        if (!type.isWeighted()) {
+            throw new UnsupportedOperationException();
+        }
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            EdgeEntry<V> entry = current.getEdgeEntry(e);
+            version = new Version<>(
+                current.vertices,
+                current.edges.put(e, new EdgeEntry<>(entry.source, entry.target, weight)));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private boolean addEdgeInternal(V sourceVertex, V targetVertex, E e)
+    {
+        writeLock.lock();
+        try {
+            Version<V, E> current = version;
+            // the vertices may have been removed concurrently
+            Adjacency source = current.getAdjacency(sourceVertex);
+            Adjacency target = current.getAdjacency(targetVertex);
+            if (!type.isAllowingMultipleEdges() && source.findEdge(targetVertex) != null) {
+                return false;
+            }
+            if (current.edges.containsKey(e)) {
+                return false;
+            }
+
+            PersistentHashMap<V, Adjacency> vertices = current.vertices;
+            boolean directed = type.isDirected();
+            if (sourceVertex.equals(targetVertex)) {
+                vertices = vertices.put(sourceVertex, source.addLoop(e, sourceVertex, directed));
+            } else {
+                vertices = vertices.put(sourceVertex, source.addOutgoing(e, targetVertex));
+                vertices = vertices.put(
+                    targetVertex, directed ? target.addIncoming(e, sourceVertex)
+                        : target.addOutgoing(e, sourceVertex));
+            }
+            version = new Version<>(
+                vertices, current.edges.put(
+                    e, new EdgeEntry<>(sourceVertex, targetVertex, Graph.DEFAULT_EDGE_WEIGHT)));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private Version<V, E> unlink(Version<V, E> current, E e, EdgeEntry<V> entry)
+    {
+        PersistentHashMap<V, Adjacency> vertices = current.vertices;
+        boolean directed = type.isDirected();
+        Adjacency source = vertices.get(entry.source);
+        if (entry.source.equals(entry.target)) {
+            vertices = vertices.put(entry.source, source.removeLoop(e, directed));
+        } else {
+            vertices = vertices.put(entry.source, source.removeOutgoing(e));
+            Adjacency target = vertices.get(entry.target);
+            vertices = vertices.put(
+                entry.target, directed ? target.removeIncoming(e) : target.removeOutgoing(e));
+        }
+        return new Version<>(vertices, current.edges.remove(e));
+    }
+
+    private Version<V, E> unlinkAll(Version<V, E> current, EdgeArray array)
+    {
+        for (int i = 0; i < array.size; i++) {
+            E e = TypeUtil.uncheckedCast(array.edges[i]);
+            EdgeEntry<V> entry = current.edges.get(e);
+            if (entry != null) {
+                current = unlink(current, e, entry);
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The endpoints and weight of an edge.
+     */
+    private static final class EdgeEntry<V>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -4217006442355963016L;
+
+        final V source;
+        final V target;
+        final double weight;
+
+        EdgeEntry(V source, V target, double weight)
+        {
+            this.source = source;
+            this.target = target;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * An immutable version of the graph.
+     */
+    private static final class Version<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 1986478617012434761L;
+
+        final PersistentHashMap<V, Adjacency> vertices;
+        final PersistentHashMap<E, EdgeEntry<V>> edges;
+
+        Version(PersistentHashMap<V, Adjacency> vertices, PersistentHashMap<E, EdgeEntry<V>> edges)
+        {
+            this.vertices = vertices;
+            this.edges = edges;
+        }
+
+        boolean containsVertex(V v)
+        {
+            return v != null && vertices.containsKey(v);
+        }
+
+        boolean containsEdge(E e)
+        {
+            return e != null && edges.containsKey(e);
+        }
+
+        E getEdge(V sourceVertex, V targetVertex)
+        {
+            Adjacency source = sourceVertex == null ? null : vertices.get(sourceVertex);
+            if (source == null || targetVertex == null) {
+                return null;
+            }
+            return source.findEdge(targetVertex);
+        }
+
+        Set<E> getAllEdges(V sourceVertex, V targetVertex)
+        {
+            Adjacency source = sourceVertex == null ? null : vertices.get(sourceVertex);
+            if (source == null || !containsVertex(targetVertex)) {
+                return null;
+            }
+            return source.findAllEdges(targetVertex);
+        }
+
+        Adjacency getAdjacency(V v)
+        {
+            if (v == null) {
+                throw new NullPointerException();
+            }
+            Adjacency a = vertices.get(v);
+            if (a == null) {
+                throw new IllegalArgumentException("no such vertex in graph: " + v.toString());
+            }
+            return a;
+        }
+
+        EdgeEntry<V> getEdgeEntry(E e)
+        {
+            EdgeEntry<V> entry = edges.get(e);
+            if (entry == null) {
+                throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+            }
+            return entry;
+        }
+
+        double getEdgeWeight(E e, GraphType type)
+        {
+            if (e == null) {
+                throw new NullPointerException();
+            }
+            if (!type.isWeighted()) {
+                return Graph.DEFAULT_EDGE_WEIGHT;
+            }
+            return getEdgeEntry(e).weight;
+        }
+    }
+
+    /**
+     * An unmodifiable graph over a fixed version.
+     */
+    private static final class Snapshot<V, E>
+        extends
+        AbstractGraph<V, E>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = -2874283160911232432L;
+
+        private final Version<V, E> version;
+        private final GraphType type;
+        private final Supplier<V> vertexSupplier;
+        private final Supplier<E> edgeSupplier;
+
+        Snapshot(
+            Version<V, E> version, GraphType type, Supplier<V> vertexSupplier,
+            Supplier<E> edgeSupplier)
+        {
+            this.version = version;
+            this.type = type.asUnmodifiable();
+            this.vertexSupplier = vertexSupplier;
+            this.edgeSupplier = edgeSupplier;
+        }
+
+        @Override
+        public Set<E> getAllEdges(V sourceVertex, V targetVertex)
+        {
+            return version.getAllEdges(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public E getEdge(V sourceVertex, V targetVertex)
+        {
+            return version.getEdge(sourceVertex, targetVertex);
+        }
+
+        @Override
+        public Supplier<V> getVertexSupplier()
+        {
+            return vertexSupplier;
+        }
+
+        @Override
+        public Supplier<E> getEdgeSupplier()
+        {
+            return edgeSupplier;
+        }
+
+        @Override
+        public E addEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addEdge(V sourceVertex, V targetVertex, E e)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public V addVertex()
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean addVertex(V v)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean containsEdge(E e)
+        {
+            return version.containsEdge(e);
+        }
+
+        @Override
+        public boolean containsVertex(V v)
+        {
+            return version.containsVertex(v);
+        }
+
+        @Override
+        public Set<E> edgeSet()
+        {
+            return version.edges.keySet();
+        }
+
+        @Override
+        public int degreeOf(V vertex)
+        {
+            return version.getAdjacency(vertex).degree(type.isDirected());
+        }
+
+        @Override
+        public Set<E> edgesOf(V vertex)
+        {
+            return version.getAdjacency(vertex).edges(type.isDirected(), vertex);
+        }
+
+        @Override
+        public int inDegreeOf(V vertex)
+        {
+            return version.getAdjacency(vertex).inDegree(type.isDirected());
+        }
+
+        @Override
+        public Set<E> incomingEdgesOf(V vertex)
+        {
+            return version.getAdjacency(vertex).incomingEdges(type.isDirected(), vertex);
+        }
+
+        @Override
+        public int outDegreeOf(V vertex)
+        {
+            return version.getAdjacency(vertex).outDegree(type.isDirected());
+        }
+
+        @Override
+        public Set<E> outgoingEdgesOf(V vertex)
+        {
+            return version.getAdjacency(vertex).outgoingEdges(type.isDirected(), vertex);
+        }
+
+        @Override
+        public E removeEdge(V sourceVertex, V targetVertex)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeEdge(E e)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public boolean removeVertex(V v)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+
+        @Override
+        public Set<V> vertexSet()
+        {
+            return version.vertices.keySet();
+        }
+
+        @Override
+        public V getEdgeSource(E e)
+        {
+            return version.getEdgeEntry(e).source;
+        }
+
+        @Override
+        public V getEdgeTarget(E e)
+        {
+            return version.getEdgeEntry(e).target;
+        }
+
+        @Override
+        public GraphType getType()
+        {
+            return type;
+        }
+
+        @Override
+        public double getEdgeWeight(E e)
+        {
+            return version.getEdgeWeight(e, type);
+        }
+
+        @Override
+        public void setEdgeWeight(E e, double weight)
+        {
+            throw new UnsupportedOperationException(UNMODIFIABLE);
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Utilities for executing work in parallel.
+ *
+ * <p>
+ * Parallel algorithms of the library accept a {@link ForkJoinPool} and split their work using
+ * {@link #parallelFor(ForkJoinPool, int, IndexConsumer)}. Each worker of the pool gets its own
+ * identifier in the range $[0, p)$ where $p$ is the value of {@link #workers(ForkJoinPool, int)}.
+ * Algorithms use this identifier in order to give each worker its own workspace, so that the
+ * workers never share mutable state while the loop runs.
+ *
+ * @author agent
+ */
+public class ConcurrencyUtil
+{
+    private static final int BLOCKS_PER_WORKER = 16;
+
+    /**
+     * A consumer of loop indices which also receives the identifier of the executing worker.
+     */
+    @FunctionalInterface
+    public interface IndexConsumer
+    {
+        /**
+         * Process an index.
+         *
+         * @param worker the identifier of the worker
+         * @param index the index
+         */
+        void accept(int worker, int index);
+    }
+
+    private ConcurrencyUtil()
+    {
+    }
+
+    /**
+     * Get the number of workers used by {@link #parallelFor(ForkJoinPool, int, IndexConsumer)} for
+     * a loop of a given size.
+     *
+     * @param pool the pool
+     * @param size the size of the loop
+     * @return the number of workers, which is at least one
+     */
+    public static int workers(ForkJoinPool pool, int size)
+    {
+        return Math.max(1, Math.min(pool.getParallelism(), size));
+    }
+
+    /**
+     * Execute a loop over the integers $[0, size)$ in parallel. The workers repeatedly claim
+     * blocks of consecutive indices until all indices have been processed. The method returns
+     * after all indices have been processed. If only one worker is needed the loop executes in the
+     * calling thread.
+     *
+     * @param pool the pool
+     * @param size the size of the loop
+     * @param consumer the loop body
+     * @throws RuntimeException any unchecked exception thrown by the loop body
+     */
+    public static void parallelFor(ForkJoinPool pool, int size, IndexConsumer consumer)
+    {
+        Objects.requireNonNull(pool, "Pool cannot be null");
+        Objects.requireNonNull(consumer, "Consumer cannot be null");
+        if (size <= 0) {
+            return;
+        }
+
+        int workers = workers(pool, size);
+        if (workers == 1) {
+            for (int i = 0; i < size; i++) {
+                consumer.accept(0, i);
+            }
+            return;
+        }
+
+        int blockSize = Math.max(1, size / (workers * BLOCKS_PER_WORKER));
+        AtomicInteger next = new AtomicInteger();
+        List<Callable<Void>> tasks = new ArrayList<>(workers);
+        for (int w = 0; w < workers; w++) {
+            final int worker = w;
+            tasks.add(() -> {
+                int start;
+                while ((start = next.getAndAdd(blockSize)) < size) {
+                    int end = Math.min(size, start + blockSize);
+                    for (int i = start; i < end; i++) {
+                        consumer.accept(worker, i);
+                    }
+                }
+                return null;
+            });
+        }
+        invokeAll(pool, tasks);
+    }
+
+    /**
+     * Execute a collection of tasks in a pool and wait for all of them to complete.
+     *
+     * @param pool the pool
+     * @param tasks the tasks
+     * @param <T> the result type of the tasks
+     * @return the results of the tasks in the iteration order of the collection
+     * @throws RuntimeException any unchecked exception thrown by a task
+     */
+    public static <T> List<T> invokeAll(
+        ForkJoinPool pool, Collection<? extends Callable<T>> tasks)
+    {
+        List<T> results = new ArrayList<>(tasks.size());
+        try {
+            for (Future<T> f : pool.invokeAll(tasks)) {
+                results.add(f.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for tasks", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelBitsetBronKerboschCliqueFinder}.
+ *
+ * @author agent
+ */
+public class ParallelBitsetBronKerboschCliqueFinderTest
+    extends
+    BaseBronKerboschCliqueFinderTest
+{
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<String, DefaultEdge> createFinder1(
+        Graph<String, DefaultEdge> graph)
+    {
+        return new ParallelBitsetBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph)
+    {
+        return new ParallelBitsetBronKerboschCliqueFinder<>(graph);
+    }
+
+    @Override
+    protected BaseBronKerboschCliqueFinder<Object, DefaultEdge> createFinder2(
+        Graph<Object, DefaultEdge> graph, long timeout, TimeUnit unit)
+    {
+        return new ParallelBitsetBronKerboschCliqueFinder<>(graph, timeout, unit);
+    }
+
+    @Test
+    public void testParallelStreaming()
+    {
+        Random rng = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                // dense enough for bitsets of several words
+                int n = 60 + rng.nextInt(150);
+                int m = n * (2 + rng.nextInt(20));
+                Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                    n, Math.min(m, n * (n - 1) / 2), rng.nextLong()).generateGraph(g);
+                g.addVertex(n);
+
+                Set<Set<Integer>> expected = new HashSet<>();
+                new DegeneracyBronKerboschCliqueFinder<>(g).forEach(expected::add);
+
+                ParallelBitsetBronKerboschCliqueFinder<Integer, DefaultEdge> alg =
+                    new ParallelBitsetBronKerboschCliqueFinder<>(g, 0L, TimeUnit.SECONDS, pool);
+                List<Set<Integer>> streamed = new ArrayList<>();
+                assertTrue(alg.forEachClique(streamed::add));
+                assertEquals(expected.size(), streamed.size());
+                assertEquals(expected, new HashSet<>(streamed));
+
+                Set<Set<Integer>> iterated = new HashSet<>();
+                alg.forEach(iterated::add);
+                assertEquals(expected, iterated);
+                assertFalse(alg.isTimeLimitReached());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.connectivity;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DynamicConnectivityInspector}.
+ *
+ * @author agent
+ */
+public class DynamicConnectivityInspectorTest
+{
+
+    @Test
+    public void testPath()
+    {
+        DefaultListenableGraph<Integer, DefaultEdge> g =
+            new DefaultListenableGraph<>(new Pseudograph<>(DefaultEdge.class));
+        DynamicConnectivityInspector<Integer, DefaultEdge> inspector =
+            new DynamicConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+        assertFalse(inspector.isConnected());
+
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        assertEquals(4, inspector.getNumberOfConnectedComponents());
+        g.addEdge(0, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+        g.addEdge(2, 3);
+        g.addEdge(3, 3);
+        assertTrue(inspector.isConnected());
+        assertTrue(inspector.pathExists(0, 3));
+        assertEquals(4, inspector.connectedSetSizeOf(2));
+
+        // parallel edge replaces the removed tree edge
+        DefaultEdge e21 = g.addEdge(2, 1);
+        g.removeEdge(e12);
+        assertTrue(inspector.isConnected());
+
+        g.removeEdge(e21);
+        assertFalse(inspector.pathExists(0, 3));
+        assertEquals(2, inspector.getNumberOfConnectedComponents());
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), inspector.connectedSetOf(3));
+
+        g.addEdge(3, 0);
+        assertTrue(inspector.pathExists(1, 2));
+        g.removeVertex(0);
+        assertEquals(2, inspector.getNumberOfConnectedComponents());
+        assertFalse(inspector.pathExists(1, 2));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new DynamicConnectivityInspector<>(g).pathExists(0, 1);
+    }
+
+    @Test
+    public void testRandomUpdatesUndirected()
+    {
+        testRandomUpdates(
+            new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+    }
+
+    @Test
+    public void testRandomUpdatesDirected()
+    {
+        testRandomUpdates(
+            new DirectedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+    }
+
+    private void testRandomUpdates(Graph<Integer, DefaultEdge> base)
+    {
+        Random rng = new Random(7);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 250, 11).generateGraph(base);
+        DefaultListenableGraph<Integer, DefaultEdge> g = new DefaultListenableGraph<>(base);
+        DynamicConnectivityInspector<Integer, DefaultEdge> inspector =
+            new DynamicConnectivityInspector<>(g);
+        g.addGraphListener(inspector);
+        assertSameComponents(g, inspector);
+
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        for (int i = 0; i < 2000; i++) {
+            int op = rng.nextInt(10);
+            if (op < 4 || g.edgeSet().isEmpty()) {
+                g.addEdge(
+                    vertices.get(rng.nextInt(vertices.size())),
+                    vertices.get(rng.nextInt(vertices.size())));
+            } else if (op < 9) {
+                List<DefaultEdge> edges = new ArrayList<>(g.edgeSet());
+                g.removeEdge(edges.get(rng.nextInt(edges.size())));
+            } else {
+                Integer v = vertices.get(rng.nextInt(vertices.size()));
+                g.removeVertex(v);
+                g.addVertex(v);
+            }
+            if (i % 10 == 0) {
+                assertSameComponents(g, inspector);
+            }
+        }
+        assertSameComponents(g, inspector);
+    }
+
+    private void assertSameComponents(
+        Graph<Integer, DefaultEdge> g, DynamicConnectivityInspector<Integer, DefaultEdge> inspector)
+    {
+        List<Set<Integer>> expected = new ConnectivityInspector<>(g).connectedSets();
+        assertEquals(expected.size(), inspector.getNumberOfConnectedComponents());
+        assertEquals(new HashSet<>(expected), new HashSet<>(inspector.connectedSets()));
+        for (Set<Integer> component : expected) {
+            Integer first = component.iterator().next();
+            assertEquals(component.size(), inspector.connectedSetSizeOf(first));
+            for (Integer v : component) {
+                assertTrue(inspector.pathExists(first, v));
+            }
+        }
+    }
+
+}
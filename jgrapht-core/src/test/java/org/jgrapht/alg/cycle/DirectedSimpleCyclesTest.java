@@ -18,10 +18,12 @@
 package org.jgrapht.alg.cycle;
 
 import org.jgrapht.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.*;
 import org.junit.*;
 
+import java.util.*;
 import java.util.function.*;
 
 import static org.junit.Assert.*;
@@ -131,4 +133,76 @@ public class DirectedSimpleCyclesTest
         }
     }
 
+    @Test
+    public void testStreaming()
+    {
+        testStreaming(g -> new TiernanSimpleCycles<>(g));
+        testStreaming(g -> new TarjanSimpleCycles<>(g));
+        testStreaming(g -> new JohnsonSimpleCycles<>(g));
+        testStreaming(g -> new SzwarcfiterLauerSimpleCycles<>(g));
+        testStreaming(g -> new HawickJamesSimpleCycles<>(g));
+
+        // implementation providing only findSimpleCycles uses the default streaming methods
+        testStreaming(g -> {
+            DirectedSimpleCycles<Integer, DefaultEdge> alg = new TiernanSimpleCycles<>(g);
+            return () -> alg.findSimpleCycles();
+        });
+    }
+
+    private void testStreaming(
+        Function<Graph<Integer, DefaultEdge>,
+            DirectedSimpleCycles<Integer, DefaultEdge>> algProvider)
+    {
+        Graph<Integer, DefaultEdge> graph = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(12, 40, 17, true, false)
+            .generateGraph(graph);
+        DirectedSimpleCycles<Integer, DefaultEdge> alg = algProvider.apply(graph);
+
+        List<List<Integer>> all = alg.findSimpleCycles();
+        assertTrue(all.size() > 10);
+
+        // streaming reports the same cycles
+        List<List<Integer>> streamed = new ArrayList<>();
+        alg.simpleCycles(streamed::add);
+        assertEquals(all.size(), streamed.size());
+
+        // bounded length
+        for (int maxLength = 1; maxLength <= 6; maxLength++) {
+            int bound = maxLength;
+            long expected = all.stream().filter(c -> c.size() <= bound).count();
+            List<List<Integer>> bounded = new ArrayList<>();
+            assertTrue(alg.simpleCycles(c -> bounded.add(c), maxLength));
+            assertEquals(expected, bounded.size());
+            for (List<Integer> cycle : bounded) {
+                assertTrue(cycle.size() <= maxLength);
+                assertTrue(isCycle(graph, cycle));
+            }
+        }
+
+        // early termination
+        List<List<Integer>> first = new ArrayList<>();
+        assertFalse(alg.simpleCycles(c -> {
+            first.add(c);
+            return first.size() < 5;
+        }, Integer.MAX_VALUE));
+        assertEquals(5, first.size());
+    }
+
+    private static boolean isCycle(Graph<Integer, DefaultEdge> graph, List<Integer> cycle)
+    {
+        // some algorithms report the vertices in reverse order
+        if (new HashSet<>(cycle).size() != cycle.size()) {
+            return false;
+        }
+        boolean forward = true, backward = true;
+        for (int i = 0; i < cycle.size(); i++) {
+            Integer u = cycle.get(i);
+            Integer v = cycle.get((i + 1) % cycle.size());
+            forward &= graph.containsEdge(u, v);
+            backward &= graph.containsEdge(v, u);
+        }
+        return forward || backward;
+    }
+
 }
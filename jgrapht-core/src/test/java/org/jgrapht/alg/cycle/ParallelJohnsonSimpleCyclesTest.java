@@ -0,0 +1,157 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.cycle;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelJohnsonSimpleCycles}.
+ *
+ * @author agent
+ */
+public class ParallelJohnsonSimpleCyclesTest
+{
+
+    private static Graph<Integer, DefaultEdge> randomGraph(int n, int m, long seed)
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, seed, true, false)
+            .generateGraph(g);
+        return g;
+    }
+
+    /*
+     * Rotate a cycle so that it starts with its minimum vertex.
+     */
+    private static List<Integer> canonical(List<Integer> cycle)
+    {
+        int min = cycle.indexOf(Collections.min(cycle));
+        List<Integer> result = new ArrayList<>(cycle.size());
+        for (int i = 0; i < cycle.size(); i++) {
+            result.add(cycle.get((min + i) % cycle.size()));
+        }
+        return result;
+    }
+
+    private static Set<List<Integer>> canonical(Collection<List<Integer>> cycles)
+    {
+        Set<List<Integer>> result = new HashSet<>();
+        for (List<Integer> cycle : cycles) {
+            assertTrue(result.add(canonical(cycle)));
+        }
+        return result;
+    }
+
+    @Test
+    public void testAgainstJohnson()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (long seed = 0; seed < 5; seed++) {
+                Graph<Integer, DefaultEdge> g = randomGraph(14, 45, seed);
+                Set<List<Integer>> expected =
+                    canonical(new JohnsonSimpleCycles<>(g).findSimpleCycles());
+                Set<List<Integer>> actual =
+                    canonical(new ParallelJohnsonSimpleCycles<>(g, pool).findSimpleCycles());
+                assertEquals(expected, actual);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCompleteGraphs()
+    {
+        int[] results = { 0, 1, 3, 8, 24, 89, 415, 2372, 16072 };
+        for (int size = 1; size < results.length; size++) {
+            Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+            for (int i = 0; i < size; i++) {
+                g.addVertex(i);
+            }
+            for (int i = 0; i < size; i++) {
+                for (int j = 0; j < size; j++) {
+                    g.addEdge(i, j);
+                }
+            }
+            assertEquals(
+                results[size], new ParallelJohnsonSimpleCycles<>(g).findSimpleCycles().size());
+        }
+    }
+
+    @Test
+    public void testMaxLength()
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(14, 45, 7);
+        List<List<Integer>> all = new JohnsonSimpleCycles<>(g).findSimpleCycles();
+        ParallelJohnsonSimpleCycles<Integer, DefaultEdge> alg =
+            new ParallelJohnsonSimpleCycles<>(g);
+        for (int maxLength = 1; maxLength <= 8; maxLength++) {
+            int bound = maxLength;
+            Set<List<Integer>> expected = new HashSet<>();
+            for (List<Integer> cycle : all) {
+                if (cycle.size() <= bound) {
+                    expected.add(canonical(cycle));
+                }
+            }
+            Queue<List<Integer>> sink = new ConcurrentLinkedQueue<>();
+            assertTrue(alg.simpleCycles(sink::add, maxLength));
+            assertEquals(expected, canonical(sink));
+        }
+    }
+
+    @Test
+    public void testEarlyTermination()
+    {
+        Graph<Integer, DefaultEdge> g = randomGraph(14, 60, 3);
+        AtomicInteger count = new AtomicInteger();
+        boolean completed = new ParallelJohnsonSimpleCycles<>(g, ForkJoinPool.commonPool())
+            .simpleCycles(c -> count.incrementAndGet() < 10, Integer.MAX_VALUE);
+        assertFalse(completed);
+        assertTrue(count.get() >= 10);
+        assertTrue(count.get() < new JohnsonSimpleCycles<>(g).findSimpleCycles().size());
+    }
+
+    @Test
+    public void testLongCycle()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        int n = 10000;
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < n; i++) {
+            g.addEdge(i, (i + 1) % n);
+        }
+        List<List<Integer>> cycles = new ParallelJohnsonSimpleCycles<>(g).findSimpleCycles();
+        assertEquals(1, cycles.size());
+        assertEquals(n, cycles.get(0).size());
+    }
+
+}
@@ -21,9 +21,13 @@ import org.jgrapht.*;
 import org.jgrapht.alg.*;
 import org.jgrapht.alg.interfaces.*;
 import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -80,4 +84,41 @@ public class GusfieldEquivalentFlowTreeTest
             }
         }
     }
+
+    @Test
+    public void testParallel()
+    {
+        Random rand = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 5; i++) {
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> network =
+                    new SimpleWeightedGraph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(60, 240, rand.nextLong())
+                    .generateGraph(network);
+                for (DefaultWeightedEdge edge : network.edgeSet())
+                    network.setEdgeWeight(edge, rand.nextInt(10));
+
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> expected =
+                    new GusfieldEquivalentFlowTree<>(network).getEquivalentFlowTree();
+                SimpleWeightedGraph<Integer, DefaultWeightedEdge> actual =
+                    new GusfieldEquivalentFlowTree<>(
+                        network, MaximumFlowAlgorithmBase.DEFAULT_EPSILON, pool)
+                            .getEquivalentFlowTree();
+
+                // the parallel construction must produce exactly the same tree
+                assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+                for (DefaultWeightedEdge e : expected.edgeSet()) {
+                    DefaultWeightedEdge f =
+                        actual.getEdge(expected.getEdgeSource(e), expected.getEdgeTarget(e));
+                    assertNotNull(f);
+                    assertEquals(expected.getEdgeWeight(e), actual.getEdgeWeight(f), 0);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
 }
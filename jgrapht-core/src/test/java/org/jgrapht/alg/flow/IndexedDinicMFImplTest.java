@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDinicMFImpl}.
+ *
+ * @author agent
+ */
+public class IndexedDinicMFImplTest
+    extends
+    MaximumFlowAlgorithmTest
+{
+
+    @Override
+    MaximumFlowAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new IndexedDinicMFImpl<>(network);
+    }
+
+    @Test
+    public void testRepeatedComputations()
+    {
+        for (int test = 0; test < 50; test++) {
+            Graph<Integer, DefaultWeightedEdge> network =
+                test % 2 == 0 ? generateDirectedGraph() : generateUndirectedGraph();
+            int n = network.vertexSet().size();
+
+            IndexedDinicMFImpl<Integer, DefaultWeightedEdge> solver =
+                new IndexedDinicMFImpl<>(network);
+            PushRelabelMFImpl<Integer, DefaultWeightedEdge> expected =
+                new PushRelabelMFImpl<>(network);
+            for (int s = 0; s < n; s++) {
+                int t = (s + 1 + test) % n;
+                if (s == t) {
+                    continue;
+                }
+                assertEquals(
+                    expected.calculateMaximumFlow(s, t), solver.calculateMaximumFlow(s, t),
+                    MaximumFlowAlgorithmBase.DEFAULT_EPSILON);
+            }
+        }
+    }
+
+    @Test
+    public void testSharedNetwork()
+    {
+        Graph<Integer, DefaultWeightedEdge> network = generateUndirectedGraph();
+        int n = network.vertexSet().size();
+        IndexedDinicMFImpl<Integer, DefaultWeightedEdge> first =
+            new IndexedDinicMFImpl<>(network);
+        IndexedDinicMFImpl<Integer, DefaultWeightedEdge> second = new IndexedDinicMFImpl<>(first);
+
+        double value = first.calculateMaximumFlow(0, n - 1);
+        assertEquals(value, second.calculateMaximumFlow(0, n - 1), 0d);
+        second.calculateMaximumFlow(1, n - 1);
+        assertEquals(value, first.getMaximumFlowValue(), 0d);
+        assertTrue(first.getSourcePartition().contains(0));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeCapacity()
+    {
+        Graph<Integer, DefaultWeightedEdge> network =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        network.addVertex(0);
+        network.addVertex(1);
+        network.setEdgeWeight(network.addEdge(0, 1), -1d);
+        new IndexedDinicMFImpl<>(network);
+    }
+
+}
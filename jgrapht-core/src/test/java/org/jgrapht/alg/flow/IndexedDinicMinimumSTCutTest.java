@@ -0,0 +1,41 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.*;
+import org.jgrapht.graph.*;
+
+/**
+ * Tests for the minimum cuts of {@link IndexedDinicMFImpl}.
+ *
+ * @author agent
+ */
+public class IndexedDinicMinimumSTCutTest
+    extends
+    MinimumSourceSinkCutTest
+{
+
+    @Override
+    MinimumSTCutAlgorithm<Integer, DefaultWeightedEdge> createSolver(
+        Graph<Integer, DefaultWeightedEdge> network)
+    {
+        return new IndexedDinicMFImpl<>(network);
+    }
+
+}
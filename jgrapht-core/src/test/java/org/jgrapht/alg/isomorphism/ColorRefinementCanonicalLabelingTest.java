@@ -0,0 +1,196 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.VertexColoringAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ColorRefinementCanonicalLabeling}.
+ *
+ * @author agent
+ */
+public class ColorRefinementCanonicalLabelingTest
+{
+
+    @Test
+    public void testIsomorphismClasses()
+    {
+        // number of non-isomorphic graphs with n vertices
+        int[] classes = { 1, 1, 2, 4, 11, 34 };
+        for (int n = 0; n < classes.length; n++) {
+            List<int[]> pairs = new ArrayList<>();
+            for (int j = 0; j < n; j++) {
+                for (int i = 0; i < j; i++) {
+                    pairs.add(new int[] { i, j });
+                }
+            }
+            Set<String> forms = new HashSet<>();
+            for (int mask = 0; mask < 1 << pairs.size(); mask++) {
+                Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+                for (int v = 0; v < n; v++) {
+                    graph.addVertex(v);
+                }
+                for (int p = 0; p < pairs.size(); p++) {
+                    if ((mask & (1 << p)) != 0) {
+                        graph.addEdge(pairs.get(p)[0], pairs.get(p)[1]);
+                    }
+                }
+                forms.add(new ColorRefinementCanonicalLabeling<>(graph).getCanonicalForm());
+            }
+            assertEquals(classes[n], forms.size());
+        }
+    }
+
+    @Test
+    public void testRandomPermutations()
+    {
+        Random rand = new Random(13);
+        for (int i = 0; i < 20; i++) {
+            Graph<Integer, DefaultEdge> graph = new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            int n = 5 + rand.nextInt(30);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                n, rand.nextInt(3 * n), rand.nextLong(), i % 2 == 0, i % 2 == 0)
+                    .generateGraph(graph);
+            assertCanonical(graph, rand);
+        }
+    }
+
+    @Test
+    public void testRegularGraphs()
+    {
+        Random rand = new Random(17);
+        assertCanonical(NamedGraphGenerator.petersenGraph(), rand);
+        assertCanonical(NamedGraphGenerator.dodecahedronGraph(), rand);
+
+        Graph<Integer, DefaultEdge> cycle = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new RingGraphGenerator<Integer, DefaultEdge>(12).generateGraph(cycle);
+        assertCanonical(cycle, rand);
+
+        // two triangles and a hexagon are both 2-regular but not isomorphic
+        Graph<Integer, DefaultEdge> triangles = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(triangles, Arrays.asList(0, 1, 2, 3, 4, 5));
+        triangles.addEdge(0, 1);
+        triangles.addEdge(1, 2);
+        triangles.addEdge(2, 0);
+        triangles.addEdge(3, 4);
+        triangles.addEdge(4, 5);
+        triangles.addEdge(5, 3);
+        Graph<Integer, DefaultEdge> hexagon = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new RingGraphGenerator<Integer, DefaultEdge>(6).generateGraph(hexagon);
+        assertNotEquals(
+            new ColorRefinementCanonicalLabeling<>(triangles).getCanonicalForm(),
+            new ColorRefinementCanonicalLabeling<>(hexagon).getCanonicalForm());
+    }
+
+    @Test
+    public void testColoring()
+    {
+        Graph<Integer, DefaultEdge> path = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(path, Arrays.asList(0, 1, 2));
+        path.addEdge(0, 1);
+        path.addEdge(1, 2);
+
+        // an endpoint colored differently, in two isomorphic ways, and the center
+        String first = coloredCanonicalForm(path, 1, 1, 2);
+        String second = coloredCanonicalForm(path, 2, 1, 1);
+        String third = coloredCanonicalForm(path, 1, 2, 1);
+        assertEquals(first, second);
+        assertNotEquals(first, third);
+    }
+
+    @Test
+    public void testFormat()
+    {
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(0, 1));
+        graph.addEdge(0, 1);
+        assertEquals("A_", new ColorRefinementCanonicalLabeling<>(graph).getCanonicalForm());
+
+        graph.addEdge(0, 1);
+        String form = new ColorRefinementCanonicalLabeling<>(graph).getCanonicalForm();
+        assertTrue(form.startsWith(":"));
+    }
+
+    private static String coloredCanonicalForm(
+        Graph<Integer, DefaultEdge> graph, int... colors)
+    {
+        Map<Integer, Integer> alpha = new HashMap<>();
+        for (int v = 0; v < colors.length; v++) {
+            alpha.put(v, colors[v]);
+        }
+        ColorRefinementCanonicalLabeling<Integer, DefaultEdge> alg =
+            new ColorRefinementCanonicalLabeling<>(
+                graph, new ColoringImpl<>(alpha, new HashSet<>(alpha.values()).size()));
+        StringBuilder sb = new StringBuilder(alg.getCanonicalForm());
+        for (Integer v : alg.getCanonicalOrder()) {
+            sb.append(' ').append(alpha.get(v));
+        }
+        return sb.toString();
+    }
+
+    private static void assertCanonical(Graph<Integer, DefaultEdge> graph, Random rand)
+    {
+        ColorRefinementCanonicalLabeling<Integer, DefaultEdge> alg =
+            new ColorRefinementCanonicalLabeling<>(graph);
+        String form = alg.getCanonicalForm();
+
+        // the relabeled graph has the same canonical form
+        Graph<Integer, DefaultEdge> relabeled = new Pseudograph<>(DefaultEdge.class);
+        for (int v = 0; v < graph.vertexSet().size(); v++) {
+            relabeled.addVertex(v);
+        }
+        Map<Integer, Integer> labeling = alg.getLabeling();
+        for (DefaultEdge e : graph.edgeSet()) {
+            relabeled.addEdge(
+                labeling.get(graph.getEdgeSource(e)), labeling.get(graph.getEdgeTarget(e)));
+        }
+        assertEquals(form, new ColorRefinementCanonicalLabeling<>(relabeled).getCanonicalForm());
+
+        // so does a random permutation inserted in random order
+        List<Integer> vertices = new ArrayList<>(graph.vertexSet());
+        List<Integer> permutation = new ArrayList<>(vertices);
+        Collections.shuffle(permutation, rand);
+        Map<Integer, Integer> map = new HashMap<>();
+        for (int i = 0; i < vertices.size(); i++) {
+            map.put(vertices.get(i), 1000 + permutation.get(i));
+        }
+        Graph<Integer, DefaultEdge> permuted = new Pseudograph<>(DefaultEdge.class);
+        Collections.shuffle(vertices, rand);
+        for (Integer v : vertices) {
+            permuted.addVertex(map.get(v));
+        }
+        List<DefaultEdge> edges = new ArrayList<>(graph.edgeSet());
+        Collections.shuffle(edges, rand);
+        for (DefaultEdge e : edges) {
+            permuted.addEdge(map.get(graph.getEdgeSource(e)), map.get(graph.getEdgeTarget(e)));
+        }
+        assertEquals(form, new ColorRefinementCanonicalLabeling<>(permuted).getCanonicalForm());
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelVF2SubgraphIsomorphismInspector}.
+ *
+ * @author agent
+ */
+public class ParallelVF2SubgraphIsomorphismInspectorTest
+{
+
+    @Test
+    public void testRandomDirected()
+    {
+        testRandom(() -> new DefaultDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testRandomUndirected()
+    {
+        testRandom(() -> new DefaultUndirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testHub()
+    {
+        // a sparse graph with a vertex adjacent to all others
+        Graph<Integer, DefaultWeightedEdge> target = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(70, 0.05, 7)
+            .generateGraph(target);
+        int hub = target.addVertex();
+        for (Integer v : target.vertexSet()) {
+            if (v != hub) {
+                target.addEdge(hub, v);
+            }
+        }
+        Graph<Integer, DefaultWeightedEdge> pattern =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(pattern, Arrays.asList(0, 1, 2, 3));
+        pattern.addEdge(0, 1);
+        pattern.addEdge(1, 2);
+        pattern.addEdge(2, 0);
+        pattern.addEdge(2, 3);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            assertSameMappings(target, pattern, null, null, pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testSelfLoops()
+    {
+        Graph<Integer, DefaultEdge> target = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(target, Arrays.asList(0, 1, 2, 3, 4));
+        target.addEdge(0, 1);
+        target.addEdge(1, 1);
+        target.addEdge(1, 2);
+        target.addEdge(3, 4);
+
+        // only the edge (3,4) has no self-loops at its endpoints
+        Graph<Integer, DefaultEdge> pattern = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(pattern, Arrays.asList(0, 1));
+        pattern.addEdge(0, 1);
+        Iterator<GraphMapping<Integer, DefaultEdge>> it =
+            new ParallelVF2SubgraphIsomorphismInspector<>(target, pattern).getMappings();
+        GraphMapping<Integer, DefaultEdge> mapping = it.next();
+        assertEquals(Integer.valueOf(3), mapping.getVertexCorrespondence(0, false));
+        assertEquals(Integer.valueOf(4), mapping.getVertexCorrespondence(1, false));
+        assertFalse(it.hasNext());
+
+        // only the edge (0,1) has a self-loop at its target
+        pattern.addEdge(1, 1);
+        it = new ParallelVF2SubgraphIsomorphismInspector<>(target, pattern).getMappings();
+        mapping = it.next();
+        assertEquals(Integer.valueOf(0), mapping.getVertexCorrespondence(0, false));
+        assertEquals(Integer.valueOf(1), mapping.getVertexCorrespondence(1, false));
+        assertFalse(it.hasNext());
+    }
+
+    @Test
+    public void testManyLabels()
+    {
+        // more label classes than fit into a signature
+        Graph<Integer, DefaultWeightedEdge> target = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(80, 0.05, 3)
+            .generateGraph(target);
+
+        ParallelVF2SubgraphIsomorphismInspector<Integer, DefaultWeightedEdge> inspector =
+            new ParallelVF2SubgraphIsomorphismInspector<>(
+                target, target, Integer::compare, null);
+        List<GraphMapping<Integer, DefaultWeightedEdge>> mappings = new ArrayList<>();
+        inspector.getMappings().forEachRemaining(mappings::add);
+        assertEquals(1, mappings.size());
+        for (Integer v : target.vertexSet()) {
+            assertEquals(v, mappings.get(0).getVertexCorrespondence(v, true));
+        }
+    }
+
+    @Test
+    public void testTrivial()
+    {
+        Graph<Integer, DefaultWeightedEdge> target =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(target, Arrays.asList(0, 1));
+        Graph<Integer, DefaultWeightedEdge> pattern =
+            new SimpleWeightedGraph<>(DefaultWeightedEdge.class);
+
+        assertSameMappings(target, pattern, null, null, ForkJoinPool.commonPool());
+
+        Graphs.addAllVertices(pattern, Arrays.asList(0, 1, 2));
+        ParallelVF2SubgraphIsomorphismInspector<Integer, DefaultWeightedEdge> inspector =
+            new ParallelVF2SubgraphIsomorphismInspector<>(target, pattern);
+        assertFalse(inspector.isomorphismExists());
+        assertEquals(0, inspector.countMappings());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMultipleEdges()
+    {
+        new ParallelVF2SubgraphIsomorphismInspector<>(
+            new Multigraph<Integer, DefaultEdge>(DefaultEdge.class),
+            new SimpleGraph<Integer, DefaultEdge>(DefaultEdge.class));
+    }
+
+    private static void testRandom(Supplier<Graph<Integer, DefaultWeightedEdge>> supplier)
+    {
+        Random rng = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 40; i++) {
+                Graph<Integer, DefaultWeightedEdge> target = supplier.get();
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    12, 0.3, rng.nextLong(), false).generateGraph(target);
+                for (DefaultWeightedEdge e : target.edgeSet()) {
+                    target.setEdgeWeight(e, rng.nextInt(2));
+                }
+
+                // an induced subgraph, such that at least one mapping exists
+                Graph<Integer, DefaultWeightedEdge> pattern = supplier.get();
+                for (Integer v : target.vertexSet()) {
+                    if (rng.nextInt(3) == 0) {
+                        pattern.addVertex(v);
+                    }
+                }
+                for (DefaultWeightedEdge e : target.edgeSet()) {
+                    Integer s = target.getEdgeSource(e);
+                    Integer t = target.getEdgeTarget(e);
+                    if (pattern.containsVertex(s) && pattern.containsVertex(t)) {
+                        pattern.setEdgeWeight(pattern.addEdge(s, t), target.getEdgeWeight(e));
+                    }
+                }
+
+                Comparator<Integer> vertexComparator = Comparator.comparingInt(v -> v % 3);
+                Comparator<DefaultWeightedEdge> edgeComparator = Comparator.comparingDouble(
+                    e -> target.containsEdge(e) ? target.getEdgeWeight(e)
+                        : pattern.getEdgeWeight(e));
+
+                assertSameMappings(target, pattern, null, null, pool);
+                assertSameMappings(target, pattern, vertexComparator, null, pool);
+                assertSameMappings(target, pattern, vertexComparator, edgeComparator, pool);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static <V, E> void assertSameMappings(
+        Graph<V, E> target, Graph<V, E> pattern, Comparator<V> vertexComparator,
+        Comparator<E> edgeComparator, ForkJoinPool pool)
+    {
+        Set<Map<V, V>> expected = new HashSet<>();
+        new VF2SubgraphIsomorphismInspector<>(target, pattern, vertexComparator, edgeComparator)
+            .getMappings().forEachRemaining(m -> expected.add(toMap(m, pattern)));
+
+        ParallelVF2SubgraphIsomorphismInspector<V, E> inspector =
+            new ParallelVF2SubgraphIsomorphismInspector<>(
+                target, pattern, vertexComparator, edgeComparator, pool);
+        List<Map<V, V>> actual = new ArrayList<>();
+        inspector.getMappings().forEachRemaining(m -> actual.add(toMap(m, pattern)));
+
+        assertEquals(expected.size(), actual.size());
+        assertEquals(expected, new HashSet<>(actual));
+        assertEquals(expected.size(), inspector.countMappings());
+        assertEquals(!expected.isEmpty(), inspector.isomorphismExists());
+    }
+
+    private static <V, E> Map<V, V> toMap(GraphMapping<V, E> mapping, Graph<V, E> pattern)
+    {
+        Map<V, V> result = new HashMap<>();
+        for (V v : pattern.vertexSet()) {
+            result.put(v, mapping.getVertexCorrespondence(v, false));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link DynamicCoreness}.
+ *
+ * @author agent
+ */
+public class DynamicCorenessTest
+{
+
+    @Test
+    public void testInsertAndDelete()
+    {
+        ListenableGraph<Integer, DefaultEdge> graph =
+            new DefaultListenableGraph<>(new SimpleGraph<>(DefaultEdge.class));
+        Graphs.addAllVertices(graph, Arrays.asList(1, 2, 3, 4));
+        graph.addEdge(1, 2);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+
+        DynamicCoreness<Integer, DefaultEdge> alg = new DynamicCoreness<>(graph);
+        graph.addGraphListener(alg);
+        assertEquals(1, alg.getDegeneracy());
+
+        graph.addEdge(1, 3);
+        assertEquals(Integer.valueOf(2), alg.getVertexScore(1));
+        assertEquals(Integer.valueOf(2), alg.getVertexScore(2));
+        assertEquals(Integer.valueOf(2), alg.getVertexScore(3));
+        assertEquals(Integer.valueOf(1), alg.getVertexScore(4));
+
+        graph.addVertex(5);
+        assertEquals(Integer.valueOf(0), alg.getVertexScore(5));
+
+        graph.removeVertex(2);
+        assertEquals(Integer.valueOf(1), alg.getVertexScore(1));
+        assertEquals(Integer.valueOf(1), alg.getVertexScore(3));
+        assertFalse(alg.getScores().containsKey(2));
+        assertEquals(1, alg.getDegeneracy());
+    }
+
+    @Test
+    public void testRandomUpdates()
+    {
+        Random rand = new Random(17);
+        Graph<Integer, DefaultEdge> base = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(40, 120, 11).generateGraph(base);
+        ListenableGraph<Integer, DefaultEdge> graph = new DefaultListenableGraph<>(base);
+
+        DynamicCoreness<Integer, DefaultEdge> alg = new DynamicCoreness<>(graph);
+        graph.addGraphListener(alg);
+
+        for (int i = 0; i < 500; i++) {
+            int u = rand.nextInt(40);
+            int v = rand.nextInt(40);
+            if (u != v) {
+                if (graph.containsEdge(u, v)) {
+                    graph.removeEdge(u, v);
+                } else {
+                    graph.addEdge(u, v);
+                }
+            }
+            assertEquals(new Coreness<>(graph).getScores(), alg.getScores());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelBetweennessCentrality}.
+ *
+ * @author agent
+ */
+public class ParallelBetweennessCentralityTest
+{
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        assertTrue(new ParallelBetweennessCentrality<>(g, true).getScores().isEmpty());
+    }
+
+    @Test
+    public void testWeightedDecrease()
+    {
+        Graph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c", "d"));
+        g.setEdgeWeight(g.addEdge("a", "c"), 5d);
+        g.setEdgeWeight(g.addEdge("a", "b"), 1d);
+        g.setEdgeWeight(g.addEdge("b", "c"), 1d);
+        g.setEdgeWeight(g.addEdge("c", "d"), 1d);
+
+        Map<String, Double> scores = new ParallelBetweennessCentrality<>(g).getScores();
+        assertEquals(0d, scores.get("a"), 1e-9);
+        assertEquals(2d, scores.get("b"), 1e-9);
+        assertEquals(2d, scores.get("c"), 1e-9);
+        assertEquals(0d, scores.get("d"), 1e-9);
+    }
+
+    @Test
+    public void testSameAsSequential()
+    {
+        Random rng = new Random(17);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(100, 300, rng, true, true)
+                    .generateGraph(g);
+
+                for (boolean normalize : new boolean[] { true, false }) {
+                    Map<Integer, Double> expected =
+                        new BetweennessCentrality<>(g, normalize).getScores();
+                    Map<Integer, Double> actual =
+                        new ParallelBetweennessCentrality<>(g, normalize, pool).getScores();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.get(v), actual.get(v), 1e-9);
+                    }
+                }
+
+                // all weights equal to two give the same scores
+                Graph<Integer, DefaultEdge> wg = new AsWeightedGraph<>(g, new HashMap<>());
+                for (DefaultEdge e : g.edgeSet()) {
+                    wg.setEdgeWeight(e, 2d);
+                }
+                Map<Integer, Double> expected = new BetweennessCentrality<>(g).getScores();
+                Map<Integer, Double> actual =
+                    new ParallelBetweennessCentrality<>(wg, false, pool).getScores();
+                for (Integer v : g.vertexSet()) {
+                    assertEquals(expected.get(v), actual.get(v), 1e-9);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testApproximate()
+    {
+        Random rng = new Random(33);
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 800, rng, false, false)
+            .generateGraph(g);
+
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            Map<Integer, Double> exact =
+                new ParallelBetweennessCentrality<>(g, true, pool).getScores();
+            ParallelBetweennessCentrality<Integer, DefaultEdge> alg =
+                new ParallelBetweennessCentrality<>(g, true, pool, 100, rng);
+            assertTrue(alg.isApproximate());
+            double bound = alg.getErrorBound(0.01);
+            assertTrue(bound > 0d);
+            Map<Integer, Double> approx = alg.getScores();
+            for (Integer v : g.vertexSet()) {
+                assertEquals(exact.get(v), approx.get(v), bound);
+            }
+
+            ParallelBetweennessCentrality<Integer, DefaultEdge> all =
+                new ParallelBetweennessCentrality<>(g, true, pool, 500, rng);
+            assertFalse(all.isApproximate());
+            assertEquals(0d, all.getErrorBound(0.01), 0d);
+            for (Integer v : g.vertexSet()) {
+                assertEquals(exact.get(v), all.getVertexScore(v), 1e-9);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,151 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelClosenessCentrality} and {@link ParallelHarmonicCentrality}.
+ *
+ * @author agent
+ */
+public class ParallelClosenessCentralityTest
+{
+
+    @Test
+    public void testUnweighted()
+    {
+        Random rand = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 6; i++) {
+                boolean directed = i % 2 == 0;
+                Graph<Integer, DefaultEdge> graph = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                int n = 20 + rand.nextInt(200);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                    n, 2 * n + rand.nextInt(4 * n), rand.nextLong(), true, true)
+                        .generateGraph(graph);
+
+                for (boolean incoming : new boolean[] { false, true }) {
+                    for (boolean normalize : new boolean[] { false, true }) {
+                        assertScores(
+                            new ClosenessCentrality<>(graph, incoming, normalize).getScores(),
+                            new ParallelClosenessCentrality<>(graph, incoming, normalize, pool)
+                                .getScores());
+                        assertScores(
+                            new HarmonicCentrality<>(graph, incoming, normalize).getScores(),
+                            new ParallelHarmonicCentrality<>(graph, incoming, normalize, pool)
+                                .getScores());
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        Random rand = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 4; i++) {
+                Graph<Integer, DefaultWeightedEdge> graph = new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                    100, 600, rand.nextLong(), true, true).generateGraph(graph);
+                for (DefaultWeightedEdge e : graph.edgeSet()) {
+                    graph.setEdgeWeight(e, rand.nextInt(10));
+                }
+
+                assertScores(
+                    new ClosenessCentrality<>(graph).getScores(),
+                    new ParallelClosenessCentrality<>(graph, false, true, pool).getScores());
+                assertScores(
+                    new HarmonicCentrality<>(graph, true, false).getScores(),
+                    new ParallelHarmonicCentrality<>(graph, true, false, pool).getScores());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testApproximate()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(500, 3000, 17).generateGraph(graph);
+        assertTrue(GraphTests.isConnected(graph));
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ParallelClosenessCentrality<Integer, DefaultEdge> closeness =
+                new ParallelClosenessCentrality<>(graph, false, true, pool);
+            ParallelHarmonicCentrality<Integer, DefaultEdge> harmonic =
+                new ParallelHarmonicCentrality<>(graph, false, true, pool);
+
+            // all pivots give the exact scores
+            assertScores(closeness.getScores(), closeness.approximateScores(500, 1));
+            assertScores(harmonic.getScores(), harmonic.approximateScores(500, 1));
+
+            Map<Integer, Double> estimate = closeness.approximateScores(200, 1);
+            for (Integer v : graph.vertexSet()) {
+                assertEquals(closeness.getVertexScore(v), estimate.get(v), 0.05);
+            }
+            assertEquals(estimate, closeness.approximateScores(200, 1));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        Graph<Integer, DefaultWeightedEdge> graph =
+            new SimpleDirectedWeightedGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(1, 2));
+        Graphs.addEdge(graph, 1, 2, -1d);
+        new ParallelClosenessCentrality<>(graph).getScores();
+    }
+
+    private static void assertScores(Map<Integer, Double> expected, Map<Integer, Double> actual)
+    {
+        assertEquals(expected.keySet(), actual.keySet());
+        for (Integer v : expected.keySet()) {
+            assertEquals(expected.get(v), actual.get(v), 1e-9);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelClusteringCoefficient}.
+ *
+ * @author agent
+ */
+public class ParallelClusteringCoefficientTest
+{
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(1, 2, 3, 4, 5));
+        graph.addEdge(1, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(2, 4);
+        graph.addEdge(3, 4);
+        // ignored
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 4);
+
+        ParallelClusteringCoefficient<Integer, DefaultEdge> alg =
+            new ParallelClusteringCoefficient<>(graph);
+        assertEquals(2, alg.getNumberOfTriangles());
+        assertEquals(Long.valueOf(2), alg.getVertexTriangles().get(2));
+        assertEquals(Long.valueOf(0), alg.getVertexTriangles().get(5));
+        assertEquals(1d, alg.getVertexScore(1), 1e-9);
+        assertEquals(2d / 3, alg.getVertexScore(2), 1e-9);
+        assertEquals(0d, alg.getVertexScore(5), 1e-9);
+        assertEquals(6d / 8, alg.getGlobalClusteringCoefficient(), 1e-9);
+        assertEquals((1d + 2d / 3 + 2d / 3 + 1d) / 5, alg.getAverageClusteringCoefficient(), 1e-9);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testDirected()
+    {
+        new ParallelClusteringCoefficient<>(new SimpleDirectedGraph<>(DefaultEdge.class));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(11);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 10; i++) {
+                int n = 30 + rng.nextInt(100);
+                int m = Math.min(n * (n - 1) / 2, n * (1 + rng.nextInt(15)));
+                Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rng.nextLong())
+                    .generateGraph(graph);
+
+                ClusteringCoefficient<Integer, DefaultEdge> expected =
+                    new ClusteringCoefficient<>(graph);
+                ParallelClusteringCoefficient<Integer, DefaultEdge> actual =
+                    new ParallelClusteringCoefficient<>(graph, pool);
+
+                assertEquals(
+                    GraphMetrics.getNumberOfTriangles(graph), actual.getNumberOfTriangles());
+                assertEquals(
+                    expected.getGlobalClusteringCoefficient(),
+                    actual.getGlobalClusteringCoefficient(), 1e-9);
+                assertEquals(
+                    expected.getAverageClusteringCoefficient(),
+                    actual.getAverageClusteringCoefficient(), 1e-9);
+                for (Integer v : graph.vertexSet()) {
+                    assertEquals(expected.getVertexScore(v), actual.getScores().get(v), 1e-9);
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testWedgeSampling()
+    {
+        // a hub connected to every vertex of a sparse random graph
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(2000, 20000, 5).generateGraph(graph);
+        Integer hub = graph.addVertex();
+        for (int v = 0; v < 2000; v++) {
+            graph.addEdge(hub, v);
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            ParallelClusteringCoefficient<Integer, DefaultEdge> alg =
+                new ParallelClusteringCoefficient<>(graph, pool);
+            int samples = 100000;
+            double global = alg.approximateGlobalClusteringCoefficient(samples, 17);
+            assertEquals(alg.getGlobalClusteringCoefficient(), global, 0.01);
+            double average = alg.approximateAverageClusteringCoefficient(samples, 17);
+            assertEquals(alg.getAverageClusteringCoefficient(), average, 0.01);
+
+            // estimates depend only on the seed
+            assertEquals(
+                global, new ParallelClusteringCoefficient<>(graph, ForkJoinPool.commonPool())
+                    .approximateGlobalClusteringCoefficient(samples, 17),
+                0d);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelCoreness}.
+ *
+ * @author agent
+ */
+public class ParallelCorenessTest
+{
+
+    @Test
+    public void testSmallGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new Pseudograph<>(DefaultEdge.class);
+        Graphs.addAllVertices(graph, Arrays.asList(1, 2, 3, 4, 5, 6));
+        graph.addEdge(1, 2);
+        graph.addEdge(1, 3);
+        graph.addEdge(2, 3);
+        graph.addEdge(3, 4);
+        graph.addEdge(4, 4);
+        // counted twice
+        graph.addEdge(4, 5);
+        graph.addEdge(4, 5);
+
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            ParallelCoreness<Integer, DefaultEdge> alg = new ParallelCoreness<>(graph, pool);
+            assertEquals(Integer.valueOf(2), alg.getVertexScore(1));
+            assertEquals(Integer.valueOf(2), alg.getVertexScore(3));
+            assertEquals(Integer.valueOf(2), alg.getVertexScore(4));
+            assertEquals(Integer.valueOf(2), alg.getVertexScore(5));
+            assertEquals(Integer.valueOf(0), alg.getVertexScore(6));
+            assertEquals(2, alg.getDegeneracy());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rand = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(
+                    SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                    false);
+                int n = 50 + rand.nextInt(200);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                    n, rand.nextInt(10 * n), rand.nextLong()).generateGraph(graph);
+
+                Coreness<Integer, DefaultEdge> expected = new Coreness<>(graph);
+                ParallelCoreness<Integer, DefaultEdge> actual =
+                    new ParallelCoreness<>(graph, pool);
+                assertEquals(expected.getScores(), actual.getScores());
+                assertEquals(expected.getDegeneracy(), actual.getDegeneracy());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEmptyGraph()
+    {
+        Graph<Integer, DefaultEdge> graph = new SimpleGraph<>(DefaultEdge.class);
+        ParallelCoreness<Integer, DefaultEdge> alg = new ParallelCoreness<>(graph);
+        assertTrue(alg.getScores().isEmpty());
+        assertEquals(0, alg.getDegeneracy());
+    }
+}
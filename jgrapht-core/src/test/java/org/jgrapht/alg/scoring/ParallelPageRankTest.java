@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelPageRank}.
+ *
+ * @author agent
+ */
+public class ParallelPageRankTest
+{
+
+    @Test
+    public void testSameAsPageRank()
+    {
+        Random rng = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier())
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.createDefaultWeightedEdgeSupplier());
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(300, 1200, rng, true, true)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, 1d + rng.nextInt(10));
+                }
+                Graph<Integer, DefaultWeightedEdge> unweighted = new AsUnweightedGraph<>(g);
+
+                for (Graph<Integer, DefaultWeightedEdge> input : Arrays.asList(g, unweighted)) {
+                    Map<Integer, Double> expected =
+                        new PageRank<>(input, 0.85, 100, 1e-8).getScores();
+                    Map<Integer, Double> actual =
+                        new ParallelPageRank<>(input, 0.85, 100, 1e-8, pool).getScores();
+                    for (Integer v : g.vertexSet()) {
+                        assertEquals(expected.get(v), actual.get(v), 1e-12);
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testPersonalization()
+    {
+        Graph<String, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList("a", "b", "c"));
+
+        // without edges the scores are exactly the teleport distribution
+        Map<String, Double> personalization = new HashMap<>();
+        personalization.put("a", 3d);
+        personalization.put("b", 1d);
+        ParallelPageRank<String, DefaultEdge> pr = new ParallelPageRank<>(
+            g, 0.85, 100, 1e-10, ForkJoinPool.commonPool(), personalization, null);
+        assertEquals(0.75, pr.getVertexScore("a"), 1e-9);
+        assertEquals(0.25, pr.getVertexScore("b"), 1e-9);
+        assertEquals(0d, pr.getVertexScore("c"), 1e-9);
+
+        // uniform personalization is the same as the default
+        g.addEdge("a", "b");
+        g.addEdge("b", "c");
+        g.addEdge("c", "a");
+        g.addEdge("c", "b");
+        Map<String, Double> uniform = new HashMap<>();
+        for (String v : g.vertexSet()) {
+            uniform.put(v, 2d);
+        }
+        Map<String, Double> expected = new PageRank<>(g, 0.85, 100, 1e-10).getScores();
+        Map<String, Double> actual = new ParallelPageRank<>(
+            g, 0.85, 100, 1e-10, ForkJoinPool.commonPool(), uniform, null).getScores();
+        for (String v : g.vertexSet()) {
+            assertEquals(expected.get(v), actual.get(v), 1e-9);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativePersonalization()
+    {
+        Graph<String, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        new ParallelPageRank<>(
+            g, 0.85, 100, 1e-10, ForkJoinPool.commonPool(), Collections.singletonMap("a", -1d),
+            null);
+    }
+
+    @Test
+    public void testWarmStart()
+    {
+        Random rng = new Random(5);
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(200, 1000, rng, true, true)
+            .generateGraph(g);
+
+        ParallelPageRank<Integer, DefaultEdge> cold =
+            new ParallelPageRank<>(g, 0.85, 100, 1e-6, ForkJoinPool.commonPool());
+        assertTrue(cold.getIterations() > 1);
+
+        ParallelPageRank<Integer, DefaultEdge> warm = new ParallelPageRank<>(
+            g, 0.85, 100, 1e-6, ForkJoinPool.commonPool(), null, cold.getScores());
+        assertTrue(warm.getIterations() < cold.getIterations());
+        for (Integer v : g.vertexSet()) {
+            assertEquals(cold.getVertexScore(v), warm.getVertexScore(v), 1e-5);
+        }
+    }
+
+}
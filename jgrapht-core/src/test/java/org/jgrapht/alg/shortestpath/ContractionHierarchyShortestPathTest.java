@@ -0,0 +1,173 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ContractionHierarchyShortestPath}.
+ *
+ * @author agent
+ */
+public class ContractionHierarchyShortestPathTest
+{
+
+    @Test
+    public void testGraphDirected()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addVertex("4");
+        g.addVertex("5");
+        g.setEdgeWeight(g.addEdge("1", "2"), 3.0);
+        g.setEdgeWeight(g.addEdge("3", "1"), 3.0);
+        g.setEdgeWeight(g.addEdge("2", "4"), 3.0);
+        g.setEdgeWeight(g.addEdge("3", "5"), 5.0);
+        g.setEdgeWeight(g.addEdge("5", "4"), 5.0);
+
+        ContractionHierarchyShortestPath<String, DefaultWeightedEdge> alg =
+            new ContractionHierarchyShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> p = alg.getPath("3", "4");
+
+        assertEquals("3", p.getStartVertex());
+        assertEquals("4", p.getEndVertex());
+        assertEquals(9.0, p.getWeight(), 0);
+        assertEquals(Arrays.asList("3", "1", "2", "4"), p.getVertexList());
+        assertEquals(
+            Arrays.asList(g.getEdge("3", "1"), g.getEdge("1", "2"), g.getEdge("2", "4")),
+            p.getEdgeList());
+
+        assertNull(alg.getPath("4", "3"));
+        assertEquals(0d, alg.getPath("4", "4").getWeight(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        g.addVertex("1");
+        g.addVertex("2");
+        g.setEdgeWeight(g.addEdge("1", "2"), -1.0);
+
+        new ContractionHierarchyShortestPath<>(g);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(11);
+        ForkJoinPool sequential = new ForkJoinPool(1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                for (int parallelism : new int[] { 1, 4 }) {
+                    Graph<Integer, DefaultWeightedEdge> g = directed
+                        ? new DirectedWeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.createDefaultWeightedEdgeSupplier())
+                        : new WeightedPseudograph<>(
+                            SupplierUtil.createIntegerSupplier(),
+                            SupplierUtil.createDefaultWeightedEdgeSupplier());
+                    new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(
+                        200, 600, rng, true, true).generateGraph(g);
+                    for (DefaultWeightedEdge e : g.edgeSet()) {
+                        g.setEdgeWeight(e, rng.nextInt(50));
+                    }
+                    assertSameDistances(
+                        g, new ContractionHierarchyShortestPath<>(
+                            g, parallelism == 1 ? sequential : pool),
+                        rng, 500);
+                }
+            }
+        } finally {
+            sequential.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testGridGraph()
+    {
+        Random rng = new Random(5);
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.createDefaultWeightedEdgeSupplier());
+        new GridGraphGenerator<Integer, DefaultWeightedEdge>(20, 20).generateGraph(g);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, 1d + rng.nextDouble());
+        }
+
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> alg =
+            new ContractionHierarchyShortestPath<>(g);
+        assertTrue(alg.getHierarchyArcCount() >= 2 * g.edgeSet().size());
+        assertSameDistances(g, alg, rng, 500);
+    }
+
+    private static void assertSameDistances(
+        Graph<Integer, DefaultWeightedEdge> g,
+        ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> alg, Random rng,
+        int queries)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra = new DijkstraShortestPath<>(g);
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        DijkstraWorkspace forward = alg.createWorkspace();
+        DijkstraWorkspace backward = alg.createWorkspace();
+
+        for (int i = 0; i < queries; i++) {
+            Integer s = vertices.get(rng.nextInt(vertices.size()));
+            Integer t = vertices.get(rng.nextInt(vertices.size()));
+            double expected = dijkstra.getPathWeight(s, t);
+
+            assertEquals(expected, alg.getPathWeight(s, t), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> p = alg.getPath(s, t, forward, backward);
+            if (expected == Double.POSITIVE_INFINITY) {
+                assertNull(p);
+            } else {
+                assertEquals(s, p.getStartVertex());
+                assertEquals(t, p.getEndVertex());
+                assertEquals(expected, p.getWeight(), 1e-9);
+                double w = 0d;
+                Integer cur = s;
+                for (DefaultWeightedEdge e : p.getEdgeList()) {
+                    if (g.getType().isDirected()) {
+                        assertEquals(cur, g.getEdgeSource(e));
+                    }
+                    cur = Graphs.getOppositeVertex(g, e, cur);
+                    w += g.getEdgeWeight(e);
+                }
+                assertEquals(t, cur);
+                assertEquals(expected, w, 1e-9);
+            }
+        }
+    }
+
+}
@@ -24,6 +24,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 
 import static org.junit.Assert.*;
 
@@ -162,6 +163,65 @@ public class FloydWarshallShortestPathsTest
         assertEquals(fw.getLastHop("a", "b"), vertexPath.get(vertexPath.size() - 2));
         assertNull(fw.getPath("b", "a"));
     }
+
+    @Test
+    public void testBlocked()
+    {
+        Random rng = new Random(3);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (boolean directed : new boolean[] { true, false }) {
+                Graph<Integer, DefaultWeightedEdge> g = directed
+                    ? new DirectedWeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER)
+                    : new WeightedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(),
+                        SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+                new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(70, 200, 7, true, true)
+                    .generateGraph(g);
+                g.addVertex();
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    g.setEdgeWeight(e, rng.nextInt(5));
+                }
+
+                FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                    new FloydWarshallShortestPaths<>(g);
+                for (int blockSize : new int[] { 1, 7, 64 }) {
+                    FloydWarshallShortestPaths<Integer, DefaultWeightedEdge> blocked =
+                        new FloydWarshallShortestPaths<>(g, pool, blockSize);
+                    assertEquals(
+                        sequential.getShortestPathsCount(), blocked.getShortestPathsCount());
+                    for (Integer v : g.vertexSet()) {
+                        for (Integer u : g.vertexSet()) {
+                            double expected = sequential.getPathWeight(v, u);
+                            assertEquals(expected, blocked.getPathWeight(v, u), 0);
+                            GraphPath<Integer, DefaultWeightedEdge> path = blocked.getPath(v, u);
+                            if (path == null) {
+                                assertEquals(Double.POSITIVE_INFINITY, expected, 0);
+                            } else {
+                                double weight = path
+                                    .getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum();
+                                assertEquals(expected, weight, 0);
+                                assertEquals(v, path.getStartVertex());
+                                assertEquals(u, path.getEndVertex());
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidBlockSize()
+    {
+        new FloydWarshallShortestPaths<>(
+            new DirectedPseudograph<Integer, DefaultEdge>(DefaultEdge.class),
+            ForkJoinPool.commonPool(), 0);
+    }
 }
 
 // End FloydWarshallShortestPathsTest.java
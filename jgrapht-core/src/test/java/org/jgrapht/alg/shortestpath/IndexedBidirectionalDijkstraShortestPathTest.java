@@ -0,0 +1,139 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedBidirectionalDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IndexedBidirectionalDijkstraShortestPathTest
+{
+
+    @Test
+    public void testGraphDirected()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+
+        g.addVertex("1");
+        g.addVertex("2");
+        g.addVertex("3");
+        g.addVertex("4");
+        g.addVertex("5");
+        g.setEdgeWeight(g.addEdge("1", "2"), 3.0);
+        g.setEdgeWeight(g.addEdge("3", "1"), 3.0);
+        g.setEdgeWeight(g.addEdge("2", "4"), 3.0);
+        g.setEdgeWeight(g.addEdge("3", "5"), 5.0);
+        g.setEdgeWeight(g.addEdge("5", "4"), 5.0);
+
+        IndexedBidirectionalDijkstraShortestPath<String, DefaultWeightedEdge> alg =
+            new IndexedBidirectionalDijkstraShortestPath<>(g);
+        GraphPath<String, DefaultWeightedEdge> p = alg.getPath("3", "4");
+
+        assertEquals("3", p.getStartVertex());
+        assertEquals("4", p.getEndVertex());
+        assertEquals(9.0, p.getWeight(), 0);
+        assertEquals(Arrays.asList("3", "1", "2", "4"), p.getVertexList());
+        assertEquals(
+            Arrays.asList(g.getEdge("3", "1"), g.getEdge("1", "2"), g.getEdge("2", "4")),
+            p.getEdgeList());
+
+        assertNull(alg.getPath("4", "3"));
+        assertEquals(0d, alg.getPath("4", "4").getWeight(), 0d);
+        assertNull(new IndexedBidirectionalDijkstraShortestPath<>(g, 8.5).getPath("3", "4"));
+    }
+
+    @Test
+    public void testWorkspaceReuse()
+    {
+        Random rng = new Random(7);
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultWeightedEdge> g = directed
+                ? new DirectedWeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier())
+                : new WeightedPseudograph<>(
+                    SupplierUtil.createIntegerSupplier(),
+                    SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(200, 600, rng, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(50));
+            }
+
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+            IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> indexed =
+                new IndexedDijkstraShortestPath<>(g);
+            IndexedBidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> bidirectional =
+                new IndexedBidirectionalDijkstraShortestPath<>(g);
+            DijkstraWorkspace ws = indexed.createWorkspace();
+            DijkstraWorkspace forward = bidirectional.createWorkspace();
+            DijkstraWorkspace backward = bidirectional.createWorkspace();
+
+            for (int i = 0; i < 500; i++) {
+                int s = rng.nextInt(200);
+                int t = rng.nextInt(200);
+                double expected = dijkstra.getPathWeight(s, t);
+
+                assertEquals(expected, indexed.getPathWeight(s, t), 1e-9);
+                assertEquals(expected, bidirectional.getPathWeight(s, t), 1e-9);
+
+                GraphPath<Integer, DefaultWeightedEdge> p1 = indexed.getPath(s, t, ws);
+                GraphPath<Integer, DefaultWeightedEdge> p2 =
+                    bidirectional.getPath(s, t, forward, backward);
+                if (expected == Double.POSITIVE_INFINITY) {
+                    assertNull(p1);
+                    assertNull(p2);
+                } else {
+                    assertPath(g, s, t, expected, p1);
+                    assertPath(g, s, t, expected, p2);
+                }
+            }
+        }
+    }
+
+    private static void assertPath(
+        Graph<Integer, DefaultWeightedEdge> g, Integer s, Integer t, double weight,
+        GraphPath<Integer, DefaultWeightedEdge> p)
+    {
+        assertEquals(s, p.getStartVertex());
+        assertEquals(t, p.getEndVertex());
+        assertEquals(weight, p.getWeight(), 1e-9);
+        double w = 0d;
+        Integer cur = s;
+        for (DefaultWeightedEdge e : p.getEdgeList()) {
+            cur = Graphs.getOppositeVertex(g, e, cur);
+            w += g.getEdgeWeight(e);
+        }
+        assertEquals(t, cur);
+        assertEquals(weight, w, 1e-9);
+    }
+
+}
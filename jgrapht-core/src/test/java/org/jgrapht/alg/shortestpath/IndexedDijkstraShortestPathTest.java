@@ -0,0 +1,154 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDijkstraShortestPath}.
+ *
+ * @author agent
+ */
+public class IndexedDijkstraShortestPathTest
+    extends
+    ShortestPathTestCase
+{
+
+    @Override
+    protected List<DefaultWeightedEdge> findPathBetween(
+        Graph<String, DefaultWeightedEdge> g, String src, String dest)
+    {
+        return new IndexedDijkstraShortestPath<>(g).getPath(src, dest).getEdgeList();
+    }
+
+    @Test
+    public void testRadius()
+    {
+        Graph<String, DefaultWeightedEdge> g = create();
+
+        GraphPath<String, DefaultWeightedEdge> path =
+            new IndexedDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY).getPath(V3, V4);
+        assertEquals(Arrays.asList(e13, e12, e24), path.getEdgeList());
+        assertEquals(10.0, path.getWeight(), 0);
+
+        assertNull(new IndexedDijkstraShortestPath<>(g, 7.0).getPath(V3, V4));
+
+        SingleSourcePaths<String, DefaultWeightedEdge> paths =
+            new IndexedDijkstraShortestPath<>(g, 7.0).getPaths(V3);
+        assertEquals(5.0, paths.getWeight(V2), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(V4), 1e-9);
+        assertNull(paths.getPath(V4));
+    }
+
+    @Test
+    public void testShortestPathTree()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2, V3, V4, V5));
+
+        DefaultWeightedEdge we12 = g.addEdge(V1, V2);
+        DefaultWeightedEdge we24 = g.addEdge(V2, V4);
+        DefaultWeightedEdge we13 = g.addEdge(V1, V3);
+        DefaultWeightedEdge we32 = g.addEdge(V3, V2);
+        DefaultWeightedEdge we34 = g.addEdge(V3, V4);
+
+        g.setEdgeWeight(we12, 3.0);
+        g.setEdgeWeight(we24, 1.0);
+        g.setEdgeWeight(we13, 1.0);
+        g.setEdgeWeight(we32, 1.0);
+        g.setEdgeWeight(we34, 3.0);
+
+        SingleSourcePaths<String, DefaultWeightedEdge> pathsTree =
+            new IndexedDijkstraShortestPath<>(g).getPaths(V1);
+        assertEquals(g, pathsTree.getGraph());
+        assertEquals(V1, pathsTree.getSourceVertex());
+        assertEquals(0d, pathsTree.getWeight(V1), 1e-9);
+        assertEquals(2d, pathsTree.getWeight(V2), 1e-9);
+        assertEquals(1d, pathsTree.getWeight(V3), 1e-9);
+        assertEquals(3d, pathsTree.getWeight(V4), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, pathsTree.getWeight(V5), 1e-9);
+
+        assertTrue(pathsTree.getPath(V1).getEdgeList().isEmpty());
+        assertEquals(Arrays.asList(we13, we32), pathsTree.getPath(V2).getEdgeList());
+        assertEquals(Arrays.asList(we13, we32, we24), pathsTree.getPath(V4).getEdgeList());
+        assertEquals(3d, pathsTree.getPath(V4).getWeight(), 1e-9);
+        assertNull(pathsTree.getPath(V5));
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(17);
+        for (int i = 0; i < 10; i++) {
+            Graph<Integer, DefaultWeightedEdge> g = new DirectedWeightedPseudograph<>(
+                SupplierUtil.createIntegerSupplier(),
+                SupplierUtil.createDefaultWeightedEdgeSupplier());
+            new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 500, rng, true, true)
+                .generateGraph(g);
+            for (DefaultWeightedEdge e : g.edgeSet()) {
+                g.setEdgeWeight(e, rng.nextInt(100));
+            }
+
+            IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> indexed =
+                new IndexedDijkstraShortestPath<>(g, Double.POSITIVE_INFINITY, 2);
+            DijkstraShortestPath<Integer, DefaultWeightedEdge> dijkstra =
+                new DijkstraShortestPath<>(g);
+
+            for (Integer s : Arrays.asList(0, 13, 42)) {
+                SingleSourcePaths<Integer, DefaultWeightedEdge> expected = dijkstra.getPaths(s);
+                SingleSourcePaths<Integer, DefaultWeightedEdge> actual = indexed.getPaths(s);
+                for (Integer t : g.vertexSet()) {
+                    assertEquals(expected.getWeight(t), actual.getWeight(t), 1e-9);
+                    assertEquals(expected.getWeight(t), indexed.getPathWeight(s, t), 1e-9);
+                    GraphPath<Integer, DefaultWeightedEdge> p = actual.getPath(t);
+                    if (p != null) {
+                        assertEquals(s, p.getStartVertex());
+                        assertEquals(t, p.getEndVertex());
+                        double w = 0d;
+                        for (DefaultWeightedEdge e : p.getEdgeList()) {
+                            w += g.getEdgeWeight(e);
+                        }
+                        assertEquals(expected.getWeight(t), w, 1e-9);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeights()
+    {
+        DirectedWeightedPseudograph<String, DefaultWeightedEdge> g =
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(V1, V2));
+        Graphs.addEdge(g, V1, V2, -100.0);
+
+        new IndexedDijkstraShortestPath<>(g);
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.alg.shortestpath;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.graph.builder.*;
@@ -25,6 +26,7 @@ import org.jgrapht.util.*;
 import org.junit.*;
 
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.function.*;
 
 import static org.junit.Assert.*;
@@ -91,6 +93,40 @@ public class JohnsonShortestPathsTest
         assertEquals(-7, alg.getPathWeight("z", "x"), 1e-9);
     }
 
+    @Test
+    public void testForEachSourceUnknownSink()
+    {
+        Graph<Integer,
+            DefaultEdge> graph = GraphTypeBuilder
+                .directed().edgeClass(DefaultEdge.class)
+                .vertexSupplier(SupplierUtil.createIntegerSupplier()).allowingMultipleEdges(false)
+                .allowingSelfLoops(false).buildGraph();
+        for (int i = 0; i < 3; i++) {
+            graph.addVertex();
+        }
+        graph.addEdge(0, 1);
+        graph.addEdge(1, 2);
+
+        JohnsonShortestPaths<Integer, DefaultEdge> alg = new JohnsonShortestPaths<>(graph);
+        List<Integer> sources = new ArrayList<>();
+        alg.forEachSource(paths -> {
+            sources.add(paths.getSourceVertex());
+            try {
+                paths.getWeight(3);
+                fail("getWeight with unknown sink should throw");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+            try {
+                paths.getPath(3);
+                fail("getPath with unknown sink should throw");
+            } catch (IllegalArgumentException e) {
+                // expected
+            }
+        });
+        assertEquals(3, sources.size());
+    }
+
     @Test
     public void testRandomGraphsCompareWithFloydWarshall()
     {
@@ -155,4 +191,71 @@ public class JohnsonShortestPathsTest
 
     }
 
+    @Test
+    public void testParallelAndStreaming()
+    {
+        final int n = 40;
+        Random rng = new Random(5);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 10; i++) {
+                Graph<Integer, DefaultWeightedEdge> g = GraphTypeBuilder
+                    .directed().vertexSupplier(SupplierUtil.createIntegerSupplier())
+                    .edgeClass(DefaultWeightedEdge.class).weighted(true)
+                    .allowingMultipleEdges(true).allowingSelfLoops(true).buildGraph();
+                new GnpRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, 0.3, rng, false)
+                    .generateGraph(g);
+                for (DefaultWeightedEdge e : g.edgeSet()) {
+                    // negative weights only on edges towards larger vertices, thus no cycles
+                    boolean forward = g.getEdgeSource(e) < g.getEdgeTarget(e);
+                    g.setEdgeWeight(e, forward ? rng.nextDouble() - 0.5 : n + n * rng.nextDouble());
+                }
+
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> sequential =
+                    new JohnsonShortestPaths<>(g);
+                JohnsonShortestPaths<Integer, DefaultWeightedEdge> parallel =
+                    new JohnsonShortestPaths<>(g, ToleranceDoubleComparator.DEFAULT_EPSILON, pool);
+
+                for (Integer v : g.vertexSet()) {
+                    for (Integer u : g.vertexSet()) {
+                        double expected = sequential.getPathWeight(v, u);
+                        assertEquals(expected, parallel.getPathWeight(v, u), 1e-9);
+                        GraphPath<Integer, DefaultWeightedEdge> path = parallel.getPath(v, u);
+                        if (path != null) {
+                            assertEquals(expected, path.getWeight(), 1e-9);
+                            assertEquals(u, path.getEndVertex());
+                        }
+                    }
+                }
+
+                // streaming, both sequential and parallel
+                for (JohnsonShortestPaths<Integer, DefaultWeightedEdge> alg : Arrays
+                    .asList(new JohnsonShortestPaths<>(g), parallel))
+                {
+                    Map<Integer, Boolean> sources = new ConcurrentHashMap<>();
+                    alg.forEachSource(paths -> {
+                        Integer v = paths.getSourceVertex();
+                        sources.put(v, true);
+                        for (Integer u : g.vertexSet()) {
+                            double expected = sequential.getPathWeight(v, u);
+                            assertEquals(expected, paths.getWeight(u), 1e-9);
+                            GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(u);
+                            if (path == null) {
+                                assertEquals(Double.POSITIVE_INFINITY, expected, 0);
+                            } else {
+                                double weight = path
+                                    .getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum();
+                                assertEquals(expected, weight, 1e-9);
+                                assertEquals(expected, path.getWeight(), 1e-9);
+                            }
+                        }
+                    });
+                    assertEquals(g.vertexSet(), sources.keySet());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
 }
@@ -0,0 +1,170 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ParallelBreadthFirstShortestPath}.
+ *
+ * @author agent
+ */
+public class ParallelBreadthFirstShortestPathTest
+{
+
+    @Test
+    public void testSimple()
+    {
+        Graph<Integer, DefaultEdge> g = new DefaultDirectedGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3, 4));
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+        g.addEdge(0, 2);
+        g.addEdge(2, 3);
+
+        ParallelBreadthFirstShortestPath<Integer, DefaultEdge> alg =
+            new ParallelBreadthFirstShortestPath<>(g);
+        SingleSourcePaths<Integer, DefaultEdge> paths = alg.getPaths(0);
+        assertEquals(0d, paths.getWeight(0), 0d);
+        assertEquals(1d, paths.getWeight(2), 0d);
+        assertEquals(2d, paths.getWeight(3), 0d);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(4), 0d);
+        assertNull(paths.getPath(4));
+        assertEquals(Arrays.asList(0, 2, 3), paths.getPath(3).getVertexList());
+        assertEquals(Arrays.asList(0), alg.getPath(0, 0).getVertexList());
+        assertEquals(Double.POSITIVE_INFINITY, alg.getPathWeight(3, 0), 0d);
+
+        int[] distance = new int[5];
+        int[] parent = new int[5];
+        VertexToIntegerMapping<Integer> mapping = alg.getMapping();
+        assertEquals(4, alg.search(mapping.getVertexMap().get(0), distance, parent));
+        assertEquals(-1, parent[mapping.getVertexMap().get(0)]);
+        assertEquals(-1, distance[mapping.getVertexMap().get(4)]);
+        assertEquals(
+            mapping.getVertexMap().get(2).intValue(), parent[mapping.getVertexMap().get(3)]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidSource()
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        new ParallelBreadthFirstShortestPath<>(g).getPaths(1);
+    }
+
+    @Test
+    public void testRandomGraphs()
+    {
+        Random rng = new Random(31);
+        ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (int i = 0; i < 20; i++) {
+                boolean directed = i % 2 == 0;
+                int n = 50 + rng.nextInt(100);
+                int m = n / 2 + rng.nextInt(4 * n);
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new DirectedPseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new Pseudograph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                    n, m, rng.nextLong(), true, true).generateGraph(g);
+
+                // small parameters switch direction often, large ones never leave top-down
+                List<ParallelBreadthFirstShortestPath<Integer, DefaultEdge>> algs = Arrays.asList(
+                    new ParallelBreadthFirstShortestPath<>(g, pool),
+                    new ParallelBreadthFirstShortestPath<>(g, pool, 1, 2),
+                    new ParallelBreadthFirstShortestPath<>(g, pool, 1e9, 1e9));
+                DijkstraShortestPath<Integer, DefaultEdge> dijkstra = new DijkstraShortestPath<>(g);
+
+                for (int k = 0; k < 5; k++) {
+                    Integer source = rng.nextInt(n);
+                    SingleSourcePaths<Integer, DefaultEdge> expected = dijkstra.getPaths(source);
+                    for (ParallelBreadthFirstShortestPath<Integer, DefaultEdge> alg : algs) {
+                        SingleSourcePaths<Integer, DefaultEdge> actual = alg.getPaths(source);
+                        for (Integer v : g.vertexSet()) {
+                            assertEquals(expected.getWeight(v), actual.getWeight(v), 0d);
+                            GraphPath<Integer, DefaultEdge> path = actual.getPath(v);
+                            if (path == null) {
+                                assertNull(expected.getPath(v));
+                                continue;
+                            }
+                            assertEquals(expected.getWeight(v), path.getLength(), 0d);
+                            List<Integer> vertices = path.getVertexList();
+                            assertEquals(source, vertices.get(0));
+                            assertEquals(v, vertices.get(vertices.size() - 1));
+                            for (int j = 0; j < vertices.size() - 1; j++) {
+                                assertTrue(g.containsEdge(vertices.get(j), vertices.get(j + 1)));
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testEccentricity()
+    {
+        Random rng = new Random(7);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int i = 0; i < 10; i++) {
+                boolean directed = i % 2 == 1;
+                int n = 20 + rng.nextInt(40);
+                int m = n + rng.nextInt(3 * n);
+                Graph<Integer, DefaultEdge> g = directed
+                    ? new SimpleDirectedGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false)
+                    : new SimpleGraph<>(
+                        SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+                        false);
+                new GnmRandomGraphGenerator<Integer, DefaultEdge>(n, m, rng.nextLong())
+                    .generateGraph(g);
+
+                GraphMeasurer<Integer, DefaultEdge> expected = new GraphMeasurer<>(g);
+                ParallelBreadthFirstShortestPath<Integer, DefaultEdge> alg =
+                    new ParallelBreadthFirstShortestPath<>(g, pool);
+                GraphMeasurer<Integer, DefaultEdge> actual =
+                    new GraphMeasurer<>(g, alg, alg::getVertexEccentricityMap);
+                assertEquals(
+                    expected.getVertexEccentricityMap(), actual.getVertexEccentricityMap());
+                assertEquals(expected.getDiameter(), actual.getDiameter(), 0d);
+                assertEquals(expected.getRadius(), actual.getRadius(), 0d);
+                assertEquals(expected.getGraphCenter(), actual.getGraphCenter());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link RamalingamRepsShortestPaths}.
+ *
+ * @author agent
+ */
+public class RamalingamRepsShortestPathsTest
+{
+
+    @Test
+    public void testSmall()
+    {
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g = new DefaultListenableGraph<>(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2, 3));
+        DefaultWeightedEdge e01 = Graphs.addEdge(g, 0, 1, 1.0);
+        DefaultWeightedEdge e12 = Graphs.addEdge(g, 1, 2, 1.0);
+        Graphs.addEdge(g, 0, 2, 5.0);
+
+        RamalingamRepsShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new RamalingamRepsShortestPaths<>(g, 0);
+        g.addGraphListener(paths);
+
+        assertEquals(2.0, paths.getWeight(2), 0);
+        assertEquals(Arrays.asList(e01, e12), paths.getPath(2).getEdgeList());
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(3), 0);
+        assertNull(paths.getPath(3));
+
+        g.setEdgeWeight(e12, 10.0);
+        assertEquals(5.0, paths.getWeight(2), 0);
+        assertEquals(1, paths.getPath(2).getLength());
+
+        DefaultWeightedEdge e23 = Graphs.addEdge(g, 2, 3, 1.0);
+        assertEquals(6.0, paths.getWeight(3), 0);
+
+        g.setEdgeWeight(e01, 0.0);
+        g.setEdgeWeight(e12, 0.0);
+        assertEquals(1.0, paths.getWeight(3), 0);
+        assertEquals(Arrays.asList(e01, e12, e23), paths.getPath(3).getEdgeList());
+
+        g.removeVertex(1);
+        assertEquals(6.0, paths.getWeight(3), 0);
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(1), 0);
+
+        g.removeVertex(0);
+        assertNull(paths.getPath(0));
+        assertEquals(Double.POSITIVE_INFINITY, paths.getWeight(3), 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testNegativeWeight()
+    {
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g = new DefaultListenableGraph<>(
+            new DirectedWeightedPseudograph<>(DefaultWeightedEdge.class));
+        Graphs.addAllVertices(g, Arrays.asList(0, 1));
+        RamalingamRepsShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new RamalingamRepsShortestPaths<>(g, 0);
+        g.addGraphListener(paths);
+        Graphs.addEdge(g, 0, 1, -1.0);
+    }
+
+    @Test
+    public void testRandomUpdatesDirected()
+    {
+        testRandomUpdates(new DirectedWeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    @Test
+    public void testRandomUpdatesUndirected()
+    {
+        testRandomUpdates(new WeightedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(),
+            SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+    }
+
+    private void testRandomUpdates(Graph<Integer, DefaultWeightedEdge> base)
+    {
+        Random rng = new Random(33);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(100, 300, 17).generateGraph(base);
+        for (DefaultWeightedEdge e : base.edgeSet()) {
+            base.setEdgeWeight(e, rng.nextInt(5));
+        }
+        DefaultListenableGraph<Integer, DefaultWeightedEdge> g = new DefaultListenableGraph<>(base);
+
+        RamalingamRepsShortestPaths<Integer, DefaultWeightedEdge> paths =
+            new RamalingamRepsShortestPaths<>(g, 0);
+        g.addGraphListener(paths);
+        assertSamePaths(g, paths);
+
+        List<Integer> vertices = new ArrayList<>(g.vertexSet());
+        for (int i = 0; i < 500; i++) {
+            List<DefaultWeightedEdge> edges = new ArrayList<>(g.edgeSet());
+            switch (rng.nextInt(4)) {
+            case 0:
+                Graphs.addEdge(
+                    g, vertices.get(rng.nextInt(vertices.size())),
+                    vertices.get(rng.nextInt(vertices.size())), rng.nextInt(5));
+                break;
+            case 1:
+                g.removeEdge(edges.get(rng.nextInt(edges.size())));
+                break;
+            case 2:
+                g.setEdgeWeight(edges.get(rng.nextInt(edges.size())), rng.nextInt(5));
+                break;
+            default:
+                Integer v = vertices.get(1 + rng.nextInt(vertices.size() - 1));
+                g.removeVertex(v);
+                g.addVertex(v);
+                break;
+            }
+            assertSamePaths(g, paths);
+        }
+    }
+
+    private void assertSamePaths(
+        Graph<Integer, DefaultWeightedEdge> g,
+        SingleSourcePaths<Integer, DefaultWeightedEdge> paths)
+    {
+        SingleSourcePaths<Integer, DefaultWeightedEdge> expected =
+            new DijkstraShortestPath<>(g).getPaths(0);
+        for (Integer v : g.vertexSet()) {
+            assertEquals(expected.getWeight(v), paths.getWeight(v), 1e-9);
+            GraphPath<Integer, DefaultWeightedEdge> path = paths.getPath(v);
+            if (path == null) {
+                assertEquals(Double.POSITIVE_INFINITY, expected.getWeight(v), 0);
+            } else {
+                assertEquals(v, path.getEndVertex());
+                double weight = path.getEdgeList().stream().mapToDouble(g::getEdgeWeight).sum();
+                assertEquals(expected.getWeight(v), weight, 1e-9);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.alg.util;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link IndexedDaryHeap}
+ *
+ * @author agent
+ */
+public class IndexedDaryHeapTest
+{
+
+    @Test
+    public void testHeap()
+    {
+        IndexedDaryHeap heap = new IndexedDaryHeap(10, 2);
+        assertTrue(heap.isEmpty());
+
+        heap.insert(3, 5.0);
+        heap.insert(7, 2.0);
+        heap.insert(1, 9.0);
+        assertEquals(3, heap.size());
+        assertTrue(heap.contains(1));
+        assertFalse(heap.contains(2));
+        assertEquals(7, heap.findMin());
+        assertEquals(2.0, heap.findMinKey(), 0.0);
+
+        heap.decreaseKey(1, 1.0);
+        assertEquals(1, heap.deleteMin());
+        assertEquals(7, heap.deleteMin());
+        assertEquals(3, heap.deleteMin());
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+
+        heap.insert(3, 1.0);
+        heap.insert(4, 1.0);
+        heap.clear();
+        assertTrue(heap.isEmpty());
+        assertFalse(heap.contains(3));
+        assertFalse(heap.contains(4));
+    }
+
+    @Test
+    public void testSorting()
+    {
+        Random rng = new Random(33);
+        for (int d = 2; d <= 5; d++) {
+            int n = 1000;
+            IndexedDaryHeap heap = new IndexedDaryHeap(n, d);
+            double[] keys = new double[n];
+            for (int i = 0; i < n; i++) {
+                keys[i] = rng.nextDouble();
+                heap.insert(i, keys[i]);
+            }
+            for (int i = 0; i < n; i += 3) {
+                keys[i] /= 2;
+                heap.decreaseKey(i, keys[i]);
+            }
+            double prev = Double.NEGATIVE_INFINITY;
+            while (!heap.isEmpty()) {
+                double key = heap.findMinKey();
+                int min = heap.deleteMin();
+                assertEquals(keys[min], key, 0.0);
+                assertTrue(prev <= key);
+                prev = key;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,358 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrentGraph}.
+ *
+ * @author agent
+ */
+public class ConcurrentGraphTest
+{
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph());
+        for (int i = 0; i < 4; i++) {
+            g.addVertex();
+        }
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e01b = g.addEdge(0, 1);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        DefaultEdge e21 = g.addEdge(2, 1);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(new HashSet<>(Arrays.asList(e01, e01b)), g.getAllEdges(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertNull(g.getAllEdges(0, 7));
+        assertEquals(e11, g.getEdge(1, 1));
+
+        assertEquals(2, g.outDegreeOf(0));
+        assertEquals(4, g.inDegreeOf(1));
+        assertEquals(1, g.outDegreeOf(1));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(
+            new HashSet<>(Arrays.asList(e01, e01b, e11, e21)), new HashSet<>(g.edgesOf(1)));
+        assertEquals(4, g.edgesOf(1).size());
+        assertTrue(g.edgesOf(1).contains(e21));
+        assertFalse(g.outgoingEdgesOf(1).contains(e21));
+
+        assertEquals(Integer.valueOf(2), g.getEdgeSource(e21));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(e21));
+
+        assertTrue(g.removeEdge(e11));
+        assertFalse(g.removeEdge(e11));
+        assertEquals(3, g.degreeOf(1));
+        assertEquals(0, g.outDegreeOf(1));
+        assertEquals(e01, g.removeEdge(0, 1));
+        assertEquals(1, g.outDegreeOf(0));
+
+        assertTrue(g.removeVertex(1));
+        assertFalse(g.containsVertex(1));
+        assertFalse(g.containsEdge(e21));
+        assertEquals(0, g.edgeSet().size());
+        assertEquals(0, g.outDegreeOf(2));
+    }
+
+    @Test
+    public void testUndirectedPseudograph()
+    {
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.pseudograph());
+        Graphs.addAllVertices(g, Arrays.asList(0, 1, 2));
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        DefaultEdge e12 = g.addEdge(1, 2);
+
+        assertEquals(e01, g.getEdge(1, 0));
+        assertEquals(4, g.degreeOf(1));
+        assertEquals(4, g.inDegreeOf(1));
+        assertEquals(3, g.edgesOf(1).size());
+        assertEquals(new HashSet<>(Arrays.asList(e01, e11, e12)), new HashSet<>(g.edgesOf(1)));
+        assertEquals(g.edgesOf(1), g.incomingEdgesOf(1));
+
+        assertTrue(g.removeEdge(e11));
+        assertEquals(2, g.degreeOf(1));
+    }
+
+    @Test
+    public void testSimpleWeighted()
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.createDefaultWeightedEdgeSupplier(),
+            DefaultGraphType.simple().asWeighted());
+        g.addVertex(0);
+        g.addVertex(1);
+        assertFalse(g.addVertex(1));
+        DefaultWeightedEdge e = g.addEdge(0, 1);
+        assertNull(g.addEdge(1, 0));
+        assertFalse(g.addEdge(0, 1, new DefaultWeightedEdge()));
+        assertFalse(g.addEdge(0, 1, e));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(e), 0d);
+        g.setEdgeWeight(e, 3.5);
+        assertEquals(3.5, g.getEdgeWeight(e), 0d);
+        assertEquals(1, g.edgeSet().size());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addEdge(0, 0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMissingVertex()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.edgesOf(1);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnweightedSetWeight()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addVertex(1);
+        g.setEdgeWeight(g.addEdge(0, 1), 2d);
+    }
+
+    @Test
+    public void testSnapshotIteration()
+    {
+        Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph());
+        for (int i = 0; i < 10; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 1; i < 5; i++) {
+            g.addEdge(0, i);
+        }
+        Set<DefaultEdge> snapshot = g.outgoingEdgesOf(0);
+        List<DefaultEdge> before = new ArrayList<>(snapshot);
+
+        Iterator<DefaultEdge> it = snapshot.iterator();
+        it.next();
+        for (int i = 5; i < 10; i++) {
+            g.addEdge(0, i);
+        }
+        g.removeEdge(before.get(2));
+        while (it.hasNext()) {
+            it.next();
+        }
+
+        assertEquals(before, new ArrayList<>(snapshot));
+        assertEquals(4, snapshot.size());
+        assertEquals(8, g.outDegreeOf(0));
+    }
+
+    @Test
+    public void testSameAsPseudograph()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> expected = GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(
+                    directed ? DefaultGraphType.directedPseudograph()
+                        : DefaultGraphType.pseudograph())
+                .edgeSupplier(SupplierUtil.DEFAULT_EDGE_SUPPLIER).buildGraph();
+            Graph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+                null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, expected.getType(), 4);
+
+            Random rng = new Random(17);
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                expected.addVertex(i);
+                g.addVertex(i);
+            }
+            for (int step = 0; step < 2000; step++) {
+                int op = rng.nextInt(10);
+                int u = rng.nextInt(30);
+                int v = rng.nextInt(30);
+                if (op < 6) {
+                    if (expected.containsVertex(u) && expected.containsVertex(v)) {
+                        DefaultEdge e = new DefaultEdge();
+                        assertEquals(expected.addEdge(u, v, e), g.addEdge(u, v, e));
+                        edges.add(e);
+                    }
+                } else if (op < 8) {
+                    if (!edges.isEmpty()) {
+                        DefaultEdge e = edges.remove(rng.nextInt(edges.size()));
+                        assertEquals(expected.removeEdge(e), g.removeEdge(e));
+                    }
+                } else if (op < 9) {
+                    assertEquals(expected.removeVertex(u), g.removeVertex(u));
+                } else {
+                    assertEquals(expected.addVertex(u), g.addVertex(u));
+                }
+            }
+
+            assertEquals(expected.vertexSet(), g.vertexSet());
+            assertEquals(expected.edgeSet(), g.edgeSet());
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(expected.degreeOf(v), g.degreeOf(v));
+                assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+                assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+                assertEquals(expected.edgesOf(v), g.edgesOf(v));
+                assertEquals(expected.incomingEdgesOf(v), g.incomingEdgesOf(v));
+                assertEquals(expected.outgoingEdgesOf(v), g.outgoingEdgesOf(v));
+                for (Integer u : expected.vertexSet()) {
+                    assertEquals(expected.getAllEdges(v, u), g.getAllEdges(v, u));
+                }
+            }
+            for (DefaultEdge e : expected.edgeSet()) {
+                assertEquals(expected.getEdgeSource(e), g.getEdgeSource(e));
+                assertEquals(expected.getEdgeTarget(e), g.getEdgeTarget(e));
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentModifications()
+        throws Exception
+    {
+        final int n = 200;
+        final int threads = 4;
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.directedPseudograph(), 8);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threads + 1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                final int seed = t;
+                futures.add(executor.submit(() -> {
+                    Random rng = new Random(seed);
+                    for (int i = 0; i < 5000; i++) {
+                        int u = rng.nextInt(n);
+                        int v = rng.nextInt(n);
+                        if (rng.nextInt(4) == 0) {
+                            g.removeEdge(u, v);
+                        } else {
+                            g.addEdge(u, v);
+                        }
+                    }
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                Random rng = new Random(42);
+                for (int i = 0; i < 5000; i++) {
+                    int v = rng.nextInt(n);
+                    Set<DefaultEdge> out = g.outgoingEdgesOf(v);
+                    int count = 0;
+                    for (DefaultEdge e : out) {
+                        // edges may be removed concurrently, but never disappear from a snapshot
+                        assertTrue(out.contains(e));
+                        count++;
+                    }
+                    assertEquals(out.size(), count);
+                }
+            }));
+            for (Future<?> f : futures) {
+                f.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        int out = 0;
+        int in = 0;
+        for (Integer v : g.vertexSet()) {
+            out += g.outDegreeOf(v);
+            in += g.inDegreeOf(v);
+            for (DefaultEdge e : g.outgoingEdgesOf(v)) {
+                assertTrue(g.containsEdge(e));
+                assertEquals(v, g.getEdgeSource(e));
+                assertTrue(g.incomingEdgesOf(g.getEdgeTarget(e)).contains(e));
+            }
+        }
+        assertEquals(g.edgeSet().size(), out);
+        assertEquals(g.edgeSet().size(), in);
+    }
+
+    @Test
+    public void testConcurrentVertexRemoval()
+        throws Exception
+    {
+        final int n = 100;
+        ConcurrentGraph<Integer, DefaultEdge> g = new ConcurrentGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.pseudograph(), 4);
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> adder = executor.submit(() -> {
+                Random rng = new Random(1);
+                for (int i = 0; i < 20000; i++) {
+                    int u = rng.nextInt(n);
+                    int v = rng.nextInt(n);
+                    try {
+                        g.addEdge(u, v);
+                    } catch (IllegalArgumentException e) {
+                        // vertex removed concurrently
+                    }
+                }
+            });
+            Future<?> remover = executor.submit(() -> {
+                for (int v = 0; v < n; v += 2) {
+                    assertTrue(g.removeVertex(v));
+                }
+            });
+            adder.get();
+            remover.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertEquals(n / 2, g.vertexSet().size());
+        for (DefaultEdge e : g.edgeSet()) {
+            assertTrue(g.containsVertex(g.getEdgeSource(e)));
+            assertTrue(g.containsVertex(g.getEdgeTarget(e)));
+        }
+        int degrees = 0;
+        for (Integer v : g.vertexSet()) {
+            degrees += g.degreeOf(v);
+        }
+        assertEquals(2 * g.edgeSet().size(), degrees);
+    }
+
+}
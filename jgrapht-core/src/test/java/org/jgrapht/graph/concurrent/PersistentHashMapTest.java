@@ -0,0 +1,170 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link PersistentHashMap}.
+ *
+ * @author agent
+ */
+public class PersistentHashMapTest
+{
+
+    @Test
+    public void testEmpty()
+    {
+        PersistentHashMap<Integer, String> map = PersistentHashMap.empty();
+        assertEquals(0, map.size());
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(1));
+        assertSame(map, map.remove(1));
+        assertFalse(map.keyIterator().hasNext());
+        assertTrue(map.keySet().isEmpty());
+    }
+
+    @Test
+    public void testRandomOperations()
+    {
+        Random rng = new Random(7);
+        Map<Integer, Integer> expected = new HashMap<>();
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+
+        for (int step = 0; step < 20000; step++) {
+            int key = rng.nextInt(2000) - 1000;
+            if (rng.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                int value = rng.nextInt();
+                expected.put(key, value);
+                map = map.put(key, value);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+
+        assertMapEquals(expected, map);
+    }
+
+    @Test
+    public void testCollisions()
+    {
+        Map<CollidingKey, Integer> expected = new HashMap<>();
+        PersistentHashMap<CollidingKey, Integer> map = PersistentHashMap.empty();
+        Random rng = new Random(11);
+        for (int step = 0; step < 5000; step++) {
+            // few distinct hash codes, many keys per hash code
+            CollidingKey key = new CollidingKey(rng.nextInt(200), rng.nextInt(3) << 25);
+            if (rng.nextInt(3) == 0) {
+                expected.remove(key);
+                map = map.remove(key);
+            } else {
+                expected.put(key, step);
+                map = map.put(key, step);
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertMapEquals(expected, map);
+    }
+
+    @Test
+    public void testPersistence()
+    {
+        PersistentHashMap<Integer, Integer> map = PersistentHashMap.empty();
+        List<PersistentHashMap<Integer, Integer>> versions = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            map = map.put(i, i);
+            versions.add(map);
+        }
+        for (int i = 0; i < 500; i += 2) {
+            map = map.remove(i);
+        }
+        map = map.put(1, -1);
+
+        for (int v = 0; v < versions.size(); v++) {
+            PersistentHashMap<Integer, Integer> version = versions.get(v);
+            assertEquals(v + 1, version.size());
+            for (int i = 0; i < 500; i++) {
+                assertEquals(i <= v ? Integer.valueOf(i) : null, version.get(i));
+            }
+        }
+        assertEquals(250, map.size());
+        assertEquals(Integer.valueOf(-1), map.get(1));
+        assertSame(map, map.put(1, map.get(1)));
+    }
+
+    private static <K> void assertMapEquals(
+        Map<K, Integer> expected, PersistentHashMap<K, Integer> map)
+    {
+        for (Map.Entry<K, Integer> entry : expected.entrySet()) {
+            assertTrue(map.containsKey(entry.getKey()));
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+        }
+        Set<K> keys = new HashSet<>();
+        Iterator<K> it = map.keyIterator();
+        while (it.hasNext()) {
+            assertTrue(keys.add(it.next()));
+        }
+        assertEquals(expected.keySet(), keys);
+        assertEquals(expected.keySet(), map.keySet());
+
+        List<Integer> values = new ArrayList<>();
+        Iterator<Integer> vit = map.valueIterator();
+        while (vit.hasNext()) {
+            values.add(vit.next());
+        }
+        List<Integer> expectedValues = new ArrayList<>(expected.values());
+        Collections.sort(values);
+        Collections.sort(expectedValues);
+        assertEquals(expectedValues, values);
+    }
+
+    private static class CollidingKey
+    {
+        private final int id;
+        private final int hash;
+
+        CollidingKey(int id, int hash)
+        {
+            this.id = id;
+            this.hash = hash;
+        }
+
+        @Override
+        public int hashCode()
+        {
+            return hash;
+        }
+
+        @Override
+        public boolean equals(Object o)
+        {
+            if (!(o instanceof CollidingKey)) {
+                return false;
+            }
+            CollidingKey other = (CollidingKey) o;
+            return id == other.id && hash == other.hash;
+        }
+    }
+
+}
@@ -0,0 +1,241 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.graph.concurrent;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.builder.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SnapshotGraph}.
+ *
+ * @author agent
+ */
+public class SnapshotGraphTest
+{
+
+    @Test
+    public void testDirectedPseudograph()
+    {
+        SnapshotGraph<Integer, DefaultEdge> g = new SnapshotGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER,
+            DefaultGraphType.directedPseudograph());
+        for (int i = 0; i < 4; i++) {
+            g.addVertex();
+        }
+        DefaultEdge e01 = g.addEdge(0, 1);
+        DefaultEdge e01b = g.addEdge(0, 1);
+        DefaultEdge e11 = g.addEdge(1, 1);
+        DefaultEdge e21 = g.addEdge(2, 1);
+
+        assertEquals(4, g.edgeSet().size());
+        assertEquals(new HashSet<>(Arrays.asList(e01, e01b)), g.getAllEdges(0, 1));
+        assertNull(g.getEdge(1, 0));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(4, g.inDegreeOf(1));
+        assertEquals(4, g.edgesOf(1).size());
+
+        assertTrue(g.removeVertex(1));
+        assertFalse(g.containsEdge(e11));
+        assertFalse(g.containsEdge(e21));
+        assertEquals(0, g.edgeSet().size());
+        assertEquals(3, g.vertexSet().size());
+    }
+
+    @Test
+    public void testSnapshotIsolation()
+    {
+        SnapshotGraph<Integer, DefaultWeightedEdge> g = new SnapshotGraph<>(
+            null, SupplierUtil.createDefaultWeightedEdgeSupplier(),
+            DefaultGraphType.simple().asWeighted());
+        for (int i = 0; i < 5; i++) {
+            g.addVertex(i);
+        }
+        DefaultWeightedEdge e01 = g.addEdge(0, 1);
+        DefaultWeightedEdge e12 = g.addEdge(1, 2);
+        g.setEdgeWeight(e01, 2d);
+
+        Graph<Integer, DefaultWeightedEdge> snapshot = g.snapshot();
+        Set<DefaultWeightedEdge> edgesOfOne = g.edgesOf(1);
+
+        g.setEdgeWeight(e01, 5d);
+        g.addEdge(1, 3);
+        g.removeEdge(e12);
+        g.removeVertex(4);
+        g.addVertex(5);
+
+        assertEquals(5, snapshot.vertexSet().size());
+        assertTrue(snapshot.containsVertex(4));
+        assertFalse(snapshot.containsVertex(5));
+        assertEquals(2, snapshot.edgeSet().size());
+        assertTrue(snapshot.containsEdge(e12));
+        assertEquals(2d, snapshot.getEdgeWeight(e01), 0d);
+        assertEquals(2, snapshot.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(e01, e12)), new HashSet<>(edgesOfOne));
+        assertFalse(snapshot.getType().isModifiable());
+
+        assertEquals(5d, g.getEdgeWeight(e01), 0d);
+        assertEquals(2, g.degreeOf(1));
+        assertFalse(g.containsEdge(e12));
+        assertEquals(5, g.vertexSet().size());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testSnapshotUnmodifiable()
+    {
+        SnapshotGraph<Integer, DefaultEdge> g = new SnapshotGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.snapshot().addVertex(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testLoopsNotAllowed()
+    {
+        SnapshotGraph<Integer, DefaultEdge> g = new SnapshotGraph<>(
+            null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, DefaultGraphType.simple());
+        g.addVertex(0);
+        g.addEdge(0, 0);
+    }
+
+    @Test
+    public void testSameAsPseudograph()
+    {
+        for (boolean directed : new boolean[] { true, false }) {
+            Graph<Integer, DefaultEdge> expected = GraphTypeBuilder
+                .<Integer, DefaultEdge> forGraphType(
+                    directed ? DefaultGraphType.directedPseudograph()
+                        : DefaultGraphType.pseudograph())
+                .edgeSupplier(SupplierUtil.DEFAULT_EDGE_SUPPLIER).buildGraph();
+            SnapshotGraph<Integer, DefaultEdge> g =
+                new SnapshotGraph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, expected.getType());
+
+            Random rng = new Random(17);
+            List<DefaultEdge> edges = new ArrayList<>();
+            for (int i = 0; i < 30; i++) {
+                expected.addVertex(i);
+                g.addVertex(i);
+            }
+            for (int step = 0; step < 2000; step++) {
+                int op = rng.nextInt(10);
+                int u = rng.nextInt(30);
+                int v = rng.nextInt(30);
+                if (op < 6) {
+                    if (expected.containsVertex(u) && expected.containsVertex(v)) {
+                        DefaultEdge e = new DefaultEdge();
+                        assertEquals(expected.addEdge(u, v, e), g.addEdge(u, v, e));
+                        edges.add(e);
+                    }
+                } else if (op < 8) {
+                    if (!edges.isEmpty()) {
+                        DefaultEdge e = edges.remove(rng.nextInt(edges.size()));
+                        assertEquals(expected.removeEdge(e), g.removeEdge(e));
+                    }
+                } else if (op < 9) {
+                    assertEquals(expected.removeVertex(u), g.removeVertex(u));
+                } else {
+                    assertEquals(expected.addVertex(u), g.addVertex(u));
+                }
+            }
+
+            Graph<Integer, DefaultEdge> snapshot = g.snapshot();
+            for (Graph<Integer, DefaultEdge> actual : Arrays.asList(g, snapshot)) {
+                assertEquals(expected.vertexSet(), actual.vertexSet());
+                assertEquals(expected.edgeSet(), actual.edgeSet());
+                for (Integer v : expected.vertexSet()) {
+                    assertEquals(expected.degreeOf(v), actual.degreeOf(v));
+                    assertEquals(expected.inDegreeOf(v), actual.inDegreeOf(v));
+                    assertEquals(expected.outDegreeOf(v), actual.outDegreeOf(v));
+                    assertEquals(expected.edgesOf(v), actual.edgesOf(v));
+                    assertEquals(expected.incomingEdgesOf(v), actual.incomingEdgesOf(v));
+                    assertEquals(expected.outgoingEdgesOf(v), actual.outgoingEdgesOf(v));
+                    for (Integer u : expected.vertexSet()) {
+                        assertEquals(expected.getAllEdges(v, u), actual.getAllEdges(v, u));
+                    }
+                }
+                for (DefaultEdge e : expected.edgeSet()) {
+                    assertEquals(expected.getEdgeSource(e), actual.getEdgeSource(e));
+                    assertEquals(expected.getEdgeTarget(e), actual.getEdgeTarget(e));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testAnalyticsDuringWrites()
+        throws Exception
+    {
+        final int n = 200;
+        SnapshotGraph<Integer, DefaultWeightedEdge> g = new SnapshotGraph<>(
+            null, SupplierUtil.createDefaultWeightedEdgeSupplier(),
+            DefaultGraphType.directedPseudograph().asWeighted());
+        for (int i = 0; i < n; i++) {
+            g.addVertex(i);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> writer = executor.submit(() -> {
+                Random rng = new Random(3);
+                for (int i = 0; i < 20000; i++) {
+                    int u = rng.nextInt(n);
+                    int v = rng.nextInt(n);
+                    if (rng.nextInt(4) == 0) {
+                        g.removeEdge(u, v);
+                    } else {
+                        g.setEdgeWeight(g.addEdge(u, v), rng.nextDouble());
+                    }
+                }
+            });
+            Future<?> reader = executor.submit(() -> {
+                for (int i = 0; i < 50; i++) {
+                    Graph<Integer, DefaultWeightedEdge> snapshot = g.snapshot();
+                    int edges = snapshot.edgeSet().size();
+                    int out = 0;
+                    for (Integer v : snapshot.vertexSet()) {
+                        out += snapshot.outDegreeOf(v);
+                    }
+                    assertEquals(edges, out);
+
+                    // a full computation on a stable view
+                    new DijkstraShortestPath<>(snapshot).getPaths(0);
+                    assertEquals(edges, snapshot.edgeSet().size());
+                }
+            });
+            writer.get();
+            reader.get();
+        } finally {
+            executor.shutdown();
+        }
+
+        int out = 0;
+        for (Integer v : g.vertexSet()) {
+            out += g.outDegreeOf(v);
+        }
+        assertEquals(g.edgeSet().size(), out);
+    }
+
+}
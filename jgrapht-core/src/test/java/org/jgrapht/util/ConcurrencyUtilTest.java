@@ -0,0 +1,71 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.util;
+
+import org.junit.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link ConcurrencyUtil}.
+ *
+ * @author agent
+ */
+public class ConcurrencyUtilTest
+{
+
+    @Test
+    public void testParallelFor()
+    {
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int size : new int[] { 0, 1, 3, 1000 }) {
+                AtomicIntegerArray visits = new AtomicIntegerArray(size);
+                int workers = ConcurrencyUtil.workers(pool, size);
+                ConcurrencyUtil.parallelFor(pool, size, (w, i) -> {
+                    assertTrue(w >= 0 && w < workers);
+                    visits.incrementAndGet(i);
+                });
+                for (int i = 0; i < size; i++) {
+                    assertEquals(1, visits.get(i));
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testParallelForException()
+    {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            ConcurrencyUtil.parallelFor(pool, 100, (w, i) -> {
+                if (i == 42) {
+                    throw new IllegalArgumentException();
+                }
+            });
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
@@ -0,0 +1,401 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Exporter which writes graphs in a compact binary format.
+ *
+ * <p>
+ * The format starts with a header containing a magic number, the format version, a set of flags
+ * and the number of vertices and edges, which importers can use in order to pre-size their data
+ * structures. The header is optionally followed by a vertex section which contains, for each
+ * vertex, its identifier as given by a {@link ComponentNameProvider} and its attributes as given by
+ * a {@link ComponentAttributeProvider}. Then follows the adjacency section which contains, for
+ * each vertex $u$ in the order of the vertex section, the number of edges whose source is $u$ and
+ * then these edges sorted by their target. Targets are stored as vertex indices using delta
+ * encoding, the first as the difference from $u$ and the remaining as the difference from the
+ * previous target. All integers are written using variable length encoding, which results in a
+ * single byte for most targets in graphs with good locality. Each edge is optionally followed by
+ * its weight, stored as an 8-byte double, and its attributes. Undirected edges are written once,
+ * under the vertex returned by {@link Graph#getEdgeSource(Object)}.
+ *
+ * <p>
+ * Binary data cannot be written to a {@link Writer}. Use {@link #exportGraph(Graph, OutputStream)}
+ * or {@link #exportGraph(Graph, File)} instead. The latter writes directly through a
+ * {@link FileChannel}.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BinaryImporter
+ *
+ * @author agent
+ */
+public class BinaryExporter<V, E>
+    implements
+    GraphExporter<V, E>
+{
+    static final byte[] MAGIC = { 'J', 'G', 'B', 'F' };
+    static final int VERSION = 1;
+    static final int FLAG_DIRECTED = 1;
+    static final int FLAG_WEIGHTED = 1 << 1;
+    static final int FLAG_VERTEX_IDS = 1 << 2;
+    static final int FLAG_VERTEX_ATTRIBUTES = 1 << 3;
+    static final int FLAG_EDGE_ATTRIBUTES = 1 << 4;
+    static final int BUFFER_SIZE = 1 << 16;
+
+    private ComponentNameProvider<V> vertexIDProvider;
+    private ComponentAttributeProvider<V> vertexAttributeProvider;
+    private ComponentAttributeProvider<E> edgeAttributeProvider;
+
+    /**
+     * Constructs a new exporter which writes only the structure of the graph and the edge weights
+     * if the graph is weighted.
+     */
+    public BinaryExporter()
+    {
+        this(null, null, null);
+    }
+
+    /**
+     * Constructs a new exporter.
+     *
+     * @param vertexIDProvider provider of the vertex identifiers, can be null
+     * @param vertexAttributeProvider provider of the vertex attributes, can be null
+     * @param edgeAttributeProvider provider of the edge attributes, can be null
+     */
+    public BinaryExporter(
+        ComponentNameProvider<V> vertexIDProvider,
+        ComponentAttributeProvider<V> vertexAttributeProvider,
+        ComponentAttributeProvider<E> edgeAttributeProvider)
+    {
+        this.vertexIDProvider = vertexIDProvider;
+        this.vertexAttributeProvider = vertexAttributeProvider;
+        this.edgeAttributeProvider = edgeAttributeProvider;
+    }
+
+    /**
+     * Get the vertex id provider.
+     *
+     * @return the vertex id provider or null
+     */
+    public ComponentNameProvider<V> getVertexIDProvider()
+    {
+        return vertexIDProvider;
+    }
+
+    /**
+     * Set the vertex id provider.
+     *
+     * @param vertexIDProvider the vertex id provider, can be null
+     */
+    public void setVertexIDProvider(ComponentNameProvider<V> vertexIDProvider)
+    {
+        this.vertexIDProvider = vertexIDProvider;
+    }
+
+    /**
+     * Get the vertex attribute provider.
+     *
+     * @return the vertex attribute provider or null
+     */
+    public ComponentAttributeProvider<V> getVertexAttributeProvider()
+    {
+        return vertexAttributeProvider;
+    }
+
+    /**
+     * Set the vertex attribute provider.
+     *
+     * @param vertexAttributeProvider the vertex attribute provider, can be null
+     */
+    public void setVertexAttributeProvider(ComponentAttributeProvider<V> vertexAttributeProvider)
+    {
+        this.vertexAttributeProvider = vertexAttributeProvider;
+    }
+
+    /**
+     * Get the edge attribute provider.
+     *
+     * @return the edge attribute provider or null
+     */
+    public ComponentAttributeProvider<E> getEdgeAttributeProvider()
+    {
+        return edgeAttributeProvider;
+    }
+
+    /**
+     * Set the edge attribute provider.
+     *
+     * @param edgeAttributeProvider the edge attribute provider, can be null
+     */
+    public void setEdgeAttributeProvider(ComponentAttributeProvider<E> edgeAttributeProvider)
+    {
+        this.edgeAttributeProvider = edgeAttributeProvider;
+    }
+
+    /**
+     * Export a graph. The output stream is flushed but not closed.
+     *
+     * @param g the graph to export
+     * @param out the output stream
+     * @throws ExportException in case any error occurs
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, OutputStream out)
+        throws ExportException
+    {
+        try {
+            writeGraph(g, Channels.newChannel(out));
+            out.flush();
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    /**
+     * Always throws an {@link ExportException} since binary data cannot be written to a character
+     * stream.
+     *
+     * @param g the graph to export
+     * @param writer the output writer
+     * @throws ExportException always
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, Writer writer)
+        throws ExportException
+    {
+        throw new ExportException("Binary format cannot be written to a character stream");
+    }
+
+    /**
+     * Export a graph to a file, writing through a {@link FileChannel}.
+     *
+     * @param g the graph to export
+     * @param file the file to write to
+     * @throws ExportException in case any error occurs
+     */
+    @Override
+    public void exportGraph(Graph<V, E> g, File file)
+        throws ExportException
+    {
+        try (FileChannel channel = FileChannel.open(
+            file.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING))
+        {
+            writeGraph(g, channel);
+        } catch (IOException e) {
+            throw new ExportException(e);
+        }
+    }
+
+    private void writeGraph(Graph<V, E> g, WritableByteChannel channel)
+        throws IOException
+    {
+        Objects.requireNonNull(g, "Graph cannot be null");
+        GraphType type = g.getType();
+        if (type.isMixed()) {
+            throw new IOException("Mixed graphs are not supported");
+        }
+
+        int flags = 0;
+        if (type.isDirected()) {
+            flags |= FLAG_DIRECTED;
+        }
+        if (type.isWeighted()) {
+            flags |= FLAG_WEIGHTED;
+        }
+        if (vertexIDProvider != null) {
+            flags |= FLAG_VERTEX_IDS;
+        }
+        if (vertexAttributeProvider != null) {
+            flags |= FLAG_VERTEX_ATTRIBUTES;
+        }
+        if (edgeAttributeProvider != null) {
+            flags |= FLAG_EDGE_ATTRIBUTES;
+        }
+
+        int n = g.vertexSet().size();
+        List<V> vertices = new ArrayList<>(n);
+        Map<V, Integer> vertexIndex = new HashMap<>(2 * n);
+        for (V v : g.vertexSet()) {
+            vertexIndex.put(v, vertices.size());
+            vertices.add(v);
+        }
+
+        Output out = new Output(channel);
+
+        // header
+        out.ensure(MAGIC.length + 2);
+        out.buffer.put(MAGIC);
+        out.buffer.put((byte) VERSION);
+        out.buffer.put((byte) flags);
+        out.writeVarInt(n);
+        out.writeVarInt(g.edgeSet().size());
+
+        // vertex section
+        if (vertexIDProvider != null || vertexAttributeProvider != null) {
+            for (V v : vertices) {
+                if (vertexIDProvider != null) {
+                    out.writeString(vertexIDProvider.getName(v));
+                }
+                if (vertexAttributeProvider != null) {
+                    out.writeAttributes(vertexAttributeProvider.getComponentAttributes(v));
+                }
+            }
+        }
+
+        // adjacency section
+        boolean weighted = type.isWeighted();
+        long[] keys = new long[16];
+        List<E> edges = new ArrayList<>();
+        for (int u = 0; u < n; u++) {
+            V uVertex = vertices.get(u);
+
+            // collect edges with source u, sorted by target
+            edges.clear();
+            Set<E> candidates =
+                type.isDirected() ? g.outgoingEdgesOf(uVertex) : g.edgesOf(uVertex);
+            for (E e : candidates) {
+                if (g.getEdgeSource(e).equals(uVertex)) {
+                    int target = vertexIndex.get(g.getEdgeTarget(e));
+                    if (edges.size() == keys.length) {
+                        keys = Arrays.copyOf(keys, 2 * keys.length);
+                    }
+                    keys[edges.size()] = ((long) target << 32) | edges.size();
+                    edges.add(e);
+                }
+            }
+            int count = edges.size();
+            Arrays.sort(keys, 0, count);
+
+            out.writeVarInt(count);
+            int previous = u;
+            for (int i = 0; i < count; i++) {
+                int target = (int) (keys[i] >>> 32);
+                E e = edges.get((int) keys[i]);
+                if (i == 0) {
+                    out.writeVarInt(zigZag(target - u));
+                } else {
+                    out.writeVarInt(target - previous);
+                }
+                previous = target;
+                if (weighted) {
+                    out.ensure(8);
+                    out.buffer.putDouble(g.getEdgeWeight(e));
+                }
+                if (edgeAttributeProvider != null) {
+                    out.writeAttributes(edgeAttributeProvider.getComponentAttributes(e));
+                }
+            }
+        }
+
+        out.flush();
+    }
+
+    private static int zigZag(int value)
+    {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    /**
+     * A buffered writer of primitive values to a channel.
+     */
+    private static class Output
+    {
+        private final WritableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Output(WritableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+
+        void ensure(int bytes)
+            throws IOException
+        {
+            if (buffer.remaining() < bytes) {
+                flush();
+            }
+        }
+
+        void flush()
+            throws IOException
+        {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+
+        void writeVarInt(int value)
+            throws IOException
+        {
+            ensure(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void writeString(String value)
+            throws IOException
+        {
+            byte[] bytes = (value == null ? "" : value).getBytes(StandardCharsets.UTF_8);
+            writeVarInt(bytes.length);
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        void writeAttributes(Map<String, Attribute> attributes)
+            throws IOException
+        {
+            if (attributes == null) {
+                writeVarInt(0);
+                return;
+            }
+            writeVarInt(attributes.size());
+            for (Map.Entry<String, Attribute> entry : attributes.entrySet()) {
+                Attribute attribute = entry.getValue();
+                writeString(entry.getKey());
+                writeString(attribute.getType().toString());
+                writeString(attribute.getValue());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,312 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+
+/**
+ * Importer which reads graphs in the binary format written by {@link BinaryExporter}.
+ *
+ * <p>
+ * The input is streamed through a fixed size buffer and is never loaded in memory as a whole.
+ * When importing from a {@link File} the data is read directly through a {@link FileChannel}. The
+ * vertex and edge counts from the header are used in order to pre-size the internal vertex table.
+ *
+ * <p>
+ * Vertices are created using the vertex provider with their identifier from the file, or with
+ * their index if identifiers were not exported, together with their attributes if present. Edges
+ * are created using the edge provider with a label of the form "e_i_j" where $i$ and $j$ are the
+ * indices of the source and target vertices. If the file contains edge weights and the graph is
+ * weighted, the weights are also set.
+ *
+ * <p>
+ * Binary data cannot be read from a {@link Reader}. Use {@link #importGraph(Graph, InputStream)}
+ * or {@link #importGraph(Graph, File)} instead.
+ *
+ * @param <V> the graph vertex type
+ * @param <E> the graph edge type
+ *
+ * @see BinaryExporter
+ *
+ * @author agent
+ */
+public class BinaryImporter<V, E>
+    extends
+    AbstractBaseImporter<V, E>
+    implements
+    GraphImporter<V, E>
+{
+    private static final int MAX_INITIAL_CAPACITY = 1 << 20;
+
+    /**
+     * Constructs a new importer.
+     *
+     * @param vertexProvider provider for the generation of vertices. Must not be null.
+     * @param edgeProvider provider for the generation of edges. Must not be null.
+     */
+    public BinaryImporter(VertexProvider<V> vertexProvider, EdgeProvider<V, E> edgeProvider)
+    {
+        super(vertexProvider, edgeProvider);
+    }
+
+    /**
+     * Import a graph. The input stream is not closed.
+     *
+     * @param g the graph
+     * @param in the input stream
+     * @throws ImportException in case any error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> g, InputStream in)
+        throws ImportException
+    {
+        try {
+            readGraph(g, Channels.newChannel(in));
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+    /**
+     * Always throws an {@link ImportException} since binary data cannot be read from a character
+     * stream.
+     *
+     * @param g the graph
+     * @param input the input reader
+     * @throws ImportException always
+     */
+    @Override
+    public void importGraph(Graph<V, E> g, Reader input)
+        throws ImportException
+    {
+        throw new ImportException("Binary format cannot be read from a character stream");
+    }
+
+    /**
+     * Import a graph from a file, reading through a {@link FileChannel}.
+     *
+     * @param g the graph
+     * @param file the file to read from
+     * @throws ImportException in case any error occurs, such as I/O or parse error
+     */
+    @Override
+    public void importGraph(Graph<V, E> g, File file)
+        throws ImportException
+    {
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            readGraph(g, channel);
+        } catch (IOException e) {
+            throw new ImportException(e);
+        }
+    }
+
+    private void readGraph(Graph<V, E> g, ReadableByteChannel channel)
+        throws IOException, ImportException
+    {
+        Objects.requireNonNull(g, "Graph cannot be null");
+        Input in = new Input(channel);
+
+        // header
+        in.ensure(BinaryExporter.MAGIC.length + 2);
+        for (byte b : BinaryExporter.MAGIC) {
+            if (in.buffer.get() != b) {
+                throw new ImportException("Not a binary graph file");
+            }
+        }
+        int version = in.buffer.get() & 0xFF;
+        if (version != BinaryExporter.VERSION) {
+            throw new ImportException("Unsupported format version " + version);
+        }
+        int flags = in.buffer.get() & 0xFF;
+        int n = in.readVarInt();
+        int m = in.readVarInt();
+        if (n < 0 || m < 0) {
+            throw new ImportException("Invalid vertex or edge count");
+        }
+
+        boolean directed = (flags & BinaryExporter.FLAG_DIRECTED) != 0;
+        boolean weighted = (flags & BinaryExporter.FLAG_WEIGHTED) != 0;
+        boolean vertexIds = (flags & BinaryExporter.FLAG_VERTEX_IDS) != 0;
+        boolean vertexAttributes = (flags & BinaryExporter.FLAG_VERTEX_ATTRIBUTES) != 0;
+        boolean edgeAttributes = (flags & BinaryExporter.FLAG_EDGE_ATTRIBUTES) != 0;
+        if (directed != g.getType().isDirected()) {
+            throw new ImportException(
+                "Cannot import a " + (directed ? "directed" : "undirected") + " graph into a "
+                    + (directed ? "undirected" : "directed") + " graph");
+        }
+
+        // vertices
+        List<V> vertices = new ArrayList<>(Math.min(n, MAX_INITIAL_CAPACITY));
+        for (int i = 0; i < n; i++) {
+            String id = vertexIds ? in.readString() : String.valueOf(i);
+            Map<String, Attribute> attributes =
+                vertexAttributes ? in.readAttributes() : new HashMap<>();
+            V v = vertexProvider.buildVertex(id, attributes);
+            g.addVertex(v);
+            vertices.add(v);
+        }
+
+        // adjacency
+        boolean setWeights = weighted && g.getType().isWeighted();
+        long edges = 0;
+        for (int u = 0; u < n; u++) {
+            int count = in.readVarInt();
+            if (count < 0 || edges + count > m) {
+                throw new ImportException("Invalid edge count for vertex " + u);
+            }
+            edges += count;
+            long target = u;
+            for (int i = 0; i < count; i++) {
+                int delta = in.readVarInt();
+                if (i == 0) {
+                    target += (delta >>> 1) ^ -(delta & 1);
+                } else {
+                    target += delta & 0xFFFFFFFFL;
+                }
+                if (target < 0 || target >= n) {
+                    throw new ImportException("Invalid target vertex " + target);
+                }
+                double weight = weighted ? in.readDouble() : Graph.DEFAULT_EDGE_WEIGHT;
+                Map<String, Attribute> attributes =
+                    edgeAttributes ? in.readAttributes() : new HashMap<>();
+
+                V from = vertices.get(u);
+                V to = vertices.get((int) target);
+                String label = "e_" + u + "_" + target;
+                E e = edgeProvider.buildEdge(from, to, label, attributes);
+                if (g.addEdge(from, to, e) && setWeights) {
+                    g.setEdgeWeight(e, weight);
+                }
+            }
+        }
+        if (edges != m) {
+            throw new ImportException("Expected " + m + " edges but found " + edges);
+        }
+    }
+
+    /**
+     * A buffered reader of primitive values from a channel.
+     */
+    private static class Input
+    {
+        private final ReadableByteChannel channel;
+        private final ByteBuffer buffer;
+
+        Input(ReadableByteChannel channel)
+        {
+            this.channel = channel;
+            this.buffer = ByteBuffer.allocate(BinaryExporter.BUFFER_SIZE);
+            this.buffer.flip();
+        }
+
+        void ensure(int bytes)
+            throws IOException, ImportException
+        {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+            buffer.compact();
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    throw new ImportException("Unexpected end of input");
+                }
+            }
+            buffer.flip();
+        }
+
+        int readVarInt()
+            throws IOException, ImportException
+        {
+            int value = 0;
+            for (int shift = 0; shift < 35; shift += 7) {
+                if (!buffer.hasRemaining()) {
+                    ensure(1);
+                }
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new ImportException("Malformed variable length integer");
+        }
+
+        double readDouble()
+            throws IOException, ImportException
+        {
+            ensure(8);
+            return buffer.getDouble();
+        }
+
+        String readString()
+            throws IOException, ImportException
+        {
+            int length = readVarInt();
+            if (length < 0) {
+                throw new ImportException("Invalid string length");
+            }
+            if (length <= buffer.capacity()) {
+                ensure(length);
+                String value = new String(
+                    buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length);
+                return value;
+            }
+            byte[] bytes = new byte[length];
+            int offset = 0;
+            while (offset < length) {
+                if (!buffer.hasRemaining()) {
+                    ensure(1);
+                }
+                int chunk = Math.min(buffer.remaining(), length - offset);
+                buffer.get(bytes, offset, chunk);
+                offset += chunk;
+            }
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        Map<String, Attribute> readAttributes()
+            throws IOException, ImportException
+        {
+            int count = readVarInt();
+            if (count < 0) {
+                throw new ImportException("Invalid attribute count");
+            }
+            Map<String, Attribute> attributes = new HashMap<>();
+            for (int i = 0; i < count; i++) {
+                String key = readString();
+                AttributeType type;
+                try {
+                    type = AttributeType.create(readString());
+                } catch (IllegalArgumentException e) {
+                    throw new ImportException(e);
+                }
+                attributes.put(key, new DefaultAttribute<>(readString(), type));
+            }
+            return attributes;
+        }
+    }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+
+import java.io.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryExporter}.
+ *
+ * @author agent
+ */
+public class BinaryExporterTest
+{
+
+    @Test
+    public void testHeader()
+        throws ExportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        g.addVertex(0);
+        g.addVertex(1);
+        g.addVertex(2);
+        g.addEdge(0, 1);
+        g.addEdge(1, 2);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<Integer, DefaultWeightedEdge>().exportGraph(g, out);
+        byte[] bytes = out.toByteArray();
+
+        assertEquals('J', bytes[0]);
+        assertEquals('G', bytes[1]);
+        assertEquals('B', bytes[2]);
+        assertEquals('F', bytes[3]);
+        assertEquals(BinaryExporter.VERSION, bytes[4]);
+        assertEquals(BinaryExporter.FLAG_DIRECTED | BinaryExporter.FLAG_WEIGHTED, bytes[5]);
+        assertEquals(3, bytes[6]);
+        assertEquals(2, bytes[7]);
+
+        // header, three counts, two targets and two weights
+        assertEquals(8 + 3 + 2 + 2 * 8, bytes.length);
+    }
+
+    @Test
+    public void testDeltaEncoding()
+        throws ExportException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        for (int i = 0; i < 1000; i++) {
+            g.addVertex(i);
+        }
+        for (int i = 0; i < 999; i++) {
+            g.addEdge(i, i + 1);
+        }
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, out);
+
+        // header with two byte counts, one byte per count and one byte per target
+        assertEquals(6 + 2 + 2 + 1000 + 999, out.size());
+    }
+
+    @Test(expected = ExportException.class)
+    public void testWriterNotSupported()
+        throws ExportException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, new StringWriter());
+    }
+
+}
@@ -0,0 +1,229 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.io;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link BinaryImporter}.
+ *
+ * @author agent
+ */
+public class BinaryImporterTest
+{
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private static <E> Graph<Integer, E> roundTrip(
+        Graph<Integer, E> source, Graph<Integer, E> target)
+        throws ExportException, ImportException
+    {
+        BinaryExporter<Integer, E> exporter =
+            new BinaryExporter<>(v -> String.valueOf(v), null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(source, out);
+
+        BinaryImporter<Integer, E> importer = new BinaryImporter<>(
+            (l, a) -> Integer.parseInt(l), (f, t, l, a) -> target.getEdgeSupplier().get());
+        importer.importGraph(target, new ByteArrayInputStream(out.toByteArray()));
+        return target;
+    }
+
+    private static <E> void assertSameGraph(Graph<Integer, E> expected, Graph<Integer, E> actual)
+    {
+        assertEquals(expected.vertexSet(), actual.vertexSet());
+        assertEquals(expected.edgeSet().size(), actual.edgeSet().size());
+        for (Integer u : expected.vertexSet()) {
+            for (Integer v : expected.vertexSet()) {
+                assertEquals(
+                    expected.getAllEdges(u, v).size(), actual.getAllEdges(u, v).size());
+            }
+        }
+    }
+
+    @Test
+    public void testDirectedRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new DirectedPseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(50, 300, 17, true, true)
+            .generateGraph(g);
+
+        Graph<Integer, DefaultEdge> h = roundTrip(
+            g, new DirectedPseudograph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        assertSameGraph(g, h);
+    }
+
+    @Test
+    public void testUndirectedRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new Pseudograph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(50, 300, 17, true, true)
+            .generateGraph(g);
+
+        Graph<Integer, DefaultEdge> h = roundTrip(
+            g, new Pseudograph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false));
+        assertSameGraph(g, h);
+    }
+
+    @Test
+    public void testWeightedRoundTrip()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultWeightedEdge> g = new SimpleDirectedWeightedGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(30, 200, 7, false, false)
+            .generateGraph(g);
+        Random rng = new Random(7);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble() * 100);
+        }
+
+        Graph<Integer, DefaultWeightedEdge> h = roundTrip(
+            g, new SimpleDirectedWeightedGraph<>(
+                null, SupplierUtil.DEFAULT_WEIGHTED_EDGE_SUPPLIER));
+        assertSameGraph(g, h);
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            DefaultWeightedEdge f = h.getEdge(g.getEdgeSource(e), g.getEdgeTarget(e));
+            assertEquals(g.getEdgeWeight(e), h.getEdgeWeight(f), 0.0);
+        }
+    }
+
+    @Test
+    public void testAttributes()
+        throws ExportException, ImportException
+    {
+        Graph<String, DefaultEdge> g = new SimpleGraph<>(DefaultEdge.class);
+        g.addVertex("a");
+        g.addVertex("b");
+        g.addEdge("a", "b");
+
+        BinaryExporter<String, DefaultEdge> exporter = new BinaryExporter<>(
+            v -> v, v -> Collections.singletonMap("color", DefaultAttribute.createAttribute(v)),
+            e -> Collections.singletonMap("cost", DefaultAttribute.createAttribute(3)));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exporter.exportGraph(g, out);
+
+        Map<String, Map<String, Attribute>> vertexAttributes = new HashMap<>();
+        List<Map<String, Attribute>> edgeAttributes = new ArrayList<>();
+        Graph<String, DefaultEdge> h = new SimpleGraph<>(DefaultEdge.class);
+        BinaryImporter<String, DefaultEdge> importer = new BinaryImporter<>((l, a) -> {
+            vertexAttributes.put(l, a);
+            return l;
+        }, (f, t, l, a) -> {
+            edgeAttributes.add(a);
+            return new DefaultEdge();
+        });
+        importer.importGraph(h, new ByteArrayInputStream(out.toByteArray()));
+
+        assertTrue(h.containsEdge("a", "b"));
+        assertEquals("a", vertexAttributes.get("a").get("color").getValue());
+        assertEquals(AttributeType.STRING, vertexAttributes.get("b").get("color").getType());
+        assertEquals(1, edgeAttributes.size());
+        assertEquals("3", edgeAttributes.get(0).get("cost").getValue());
+        assertEquals(AttributeType.INT, edgeAttributes.get(0).get("cost").getType());
+    }
+
+    @Test
+    public void testFileRoundTrip()
+        throws ExportException, ImportException, IOException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(5000, 40000, 3, false, false)
+            .generateGraph(g);
+
+        File file = folder.newFile("graph.bin");
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, file);
+
+        Graph<Integer, DefaultEdge> h =
+            new SimpleGraph<>(null, SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new BinaryImporter<Integer, DefaultEdge>(
+            (l, a) -> Integer.parseInt(l), (f, t, l, a) -> new DefaultEdge())
+                .importGraph(h, file);
+
+        assertEquals(g.vertexSet(), h.vertexSet());
+        assertEquals(g.edgeSet().size(), h.edgeSet().size());
+        for (DefaultEdge e : g.edgeSet()) {
+            assertTrue(h.containsEdge(g.getEdgeSource(e), g.getEdgeTarget(e)));
+        }
+    }
+
+    @Test
+    public void testTruncatedInput()
+        throws ExportException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleGraph<>(
+            SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+        new GnmRandomGraphGenerator<Integer, DefaultEdge>(10, 20, 3, false, false)
+            .generateGraph(g);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, out);
+        byte[] bytes = Arrays.copyOf(out.toByteArray(), out.size() - 3);
+
+        BinaryImporter<Integer, DefaultEdge> importer = new BinaryImporter<>(
+            (l, a) -> Integer.parseInt(l), (f, t, l, a) -> new DefaultEdge());
+        try {
+            importer.importGraph(
+                new SimpleGraph<>(DefaultEdge.class), new ByteArrayInputStream(bytes));
+            fail("Truncated input not detected");
+        } catch (ImportException e) {
+            // expected
+        }
+    }
+
+    @Test(expected = ImportException.class)
+    public void testBadMagic()
+        throws ImportException
+    {
+        byte[] bytes = { 'X', 'G', 'B', 'F', 1, 0, 0, 0 };
+        new BinaryImporter<Integer, DefaultEdge>(
+            (l, a) -> Integer.parseInt(l), (f, t, l, a) -> new DefaultEdge())
+                .importGraph(new SimpleGraph<>(DefaultEdge.class), new ByteArrayInputStream(bytes));
+    }
+
+    @Test(expected = ImportException.class)
+    public void testDirectionMismatch()
+        throws ExportException, ImportException
+    {
+        Graph<Integer, DefaultEdge> g = new SimpleDirectedGraph<>(DefaultEdge.class);
+        g.addVertex(0);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        new BinaryExporter<Integer, DefaultEdge>().exportGraph(g, out);
+        new BinaryImporter<Integer, DefaultEdge>(
+            (l, a) -> Integer.parseInt(l), (f, t, l, a) -> new DefaultEdge())
+                .importGraph(
+                    new SimpleGraph<>(DefaultEdge.class),
+                    new ByteArrayInputStream(out.toByteArray()));
+    }
+
+}
@@ -18,6 +18,7 @@
 package org.jgrapht.io;
 
 import org.jgrapht.*;
+import org.jgrapht.alg.isomorphism.*;
 import org.jgrapht.generate.*;
 import org.jgrapht.graph.*;
 import org.jgrapht.util.SupplierUtil;
@@ -207,6 +208,33 @@ public class Graph6Sparse6ExporterTest
         }
     }
 
+    @Test
+    public void testCanonicalForm()
+        throws UnsupportedEncodingException,
+        ExportException
+    {
+        Random rand = new Random(5);
+        for (int i = 0; i < 10; i++) {
+            boolean simple = i % 2 == 0;
+            Graph<Integer, DefaultEdge> orig = new Pseudograph<>(
+                SupplierUtil.createIntegerSupplier(), SupplierUtil.DEFAULT_EDGE_SUPPLIER, false);
+            new GnmRandomGraphGenerator<Integer, DefaultEdge>(
+                10 + rand.nextInt(70), 150, rand.nextLong(), !simple, !simple)
+                    .generateGraph(orig);
+
+            // the canonical form is the export of the graph in canonical order
+            ColorRefinementCanonicalLabeling<Integer, DefaultEdge> alg =
+                new ColorRefinementCanonicalLabeling<>(orig);
+            Graph<Integer, DefaultEdge> canonical = new Pseudograph<>(DefaultEdge.class);
+            Graphs.addAllVertices(canonical, alg.getCanonicalOrder());
+            Graphs.addAllEdges(canonical, orig, orig.edgeSet());
+            String res = exportGraph(
+                canonical, GraphTests.isSimple(orig) ? Graph6Sparse6Exporter.Format.GRAPH6
+                    : Graph6Sparse6Exporter.Format.SPARSE6);
+            assertEquals(alg.getCanonicalForm(), res);
+        }
+    }
+
     // -------------------helper methods--------------------
 
     private <V, E> String exportGraph(Graph<V, E> g, Graph6Sparse6Exporter.Format format)
@@ -0,0 +1,122 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+/**
+ * Reads a stream of bits, most significant bit first, from mapped segments. This is the
+ * counterpart of {@link BitWriter}. A reader keeps a position and thus cannot be shared among
+ * threads.
+ *
+ * @author agent
+ */
+class BitReader
+{
+    private final MappedSegments segments;
+    private final long base;
+    private long position;
+    private int current;
+    private int remaining;
+
+    /**
+     * Create a new reader.
+     *
+     * @param segments the mapped segments
+     * @param base the byte position where the stream starts
+     */
+    BitReader(MappedSegments segments, long base)
+    {
+        this.segments = segments;
+        this.base = base;
+    }
+
+    /**
+     * Move to a bit position relative to the start of the stream.
+     *
+     * @param bit the bit position
+     */
+    void position(long bit)
+    {
+        position = base + (bit >>> 3);
+        remaining = 0;
+        int skip = (int) (bit & 7);
+        if (skip != 0) {
+            current = segments.get(position++) & 0xFF;
+            remaining = 8 - skip;
+        }
+    }
+
+    int readBit()
+    {
+        if (remaining == 0) {
+            current = segments.get(position++) & 0xFF;
+            remaining = 8;
+        }
+        return (current >>> --remaining) & 1;
+    }
+
+    long readBits(int length)
+    {
+        long value = 0;
+        for (int i = 0; i < length; i++) {
+            value = (value << 1) | readBit();
+        }
+        return value;
+    }
+
+    int readUnary()
+    {
+        int x = 0;
+        while (readBit() == 0) {
+            x++;
+        }
+        return x;
+    }
+
+    long readGamma()
+    {
+        int length = readUnary();
+        return ((1L << length) | readBits(length)) - 1;
+    }
+
+    long readZeta(int k)
+    {
+        int h = readUnary();
+        long left = 1L << (h * k);
+        long range = (1L << ((h + 1) * k)) - left;
+        int s = 64 - Long.numberOfLeadingZeros(range - 1);
+        long threshold = (1L << s) - range;
+        long z = readBits(s - 1);
+        if (s > 0 && z >= threshold) {
+            z = ((z << 1) | readBit()) - threshold;
+        }
+        return left + z - 1;
+    }
+
+    long readSignedGamma()
+    {
+        long x = readGamma();
+        return (x >>> 1) ^ -(x & 1);
+    }
+
+    long readSignedZeta(int k)
+    {
+        long x = readZeta(k);
+        return (x >>> 1) ^ -(x & 1);
+    }
+
+}
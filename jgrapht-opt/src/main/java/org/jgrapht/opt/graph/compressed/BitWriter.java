@@ -0,0 +1,185 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import java.io.*;
+
+/**
+ * Writes a stream of bits, most significant bit first, together with the instantaneous codes
+ * used by the compressed graph format. Without an underlying stream the writer only counts the
+ * bits, which is used in order to compare alternative encodings.
+ *
+ * @author agent
+ */
+class BitWriter
+{
+    private final OutputStream out;
+    private int current;
+    private int filled;
+    private long bits;
+
+    /**
+     * Create a new writer.
+     *
+     * @param out the underlying stream, or null in order to only count the bits
+     */
+    BitWriter(OutputStream out)
+    {
+        this.out = out;
+    }
+
+    /**
+     * Get the number of bits written so far.
+     *
+     * @return the number of bits written
+     */
+    long bits()
+    {
+        return bits;
+    }
+
+    void writeBit(int bit)
+        throws IOException
+    {
+        bits++;
+        if (out == null) {
+            return;
+        }
+        current = (current << 1) | bit;
+        if (++filled == 8) {
+            out.write(current);
+            current = 0;
+            filled = 0;
+        }
+    }
+
+    /**
+     * Write the lowest bits of a value, most significant first.
+     *
+     * @param value the value
+     * @param length the number of bits, at most 64
+     * @throws IOException in case of an I/O error
+     */
+    void writeBits(long value, int length)
+        throws IOException
+    {
+        for (int i = length - 1; i >= 0; i--) {
+            writeBit((int) (value >>> i) & 1);
+        }
+    }
+
+    /**
+     * Write a natural number in unary, as that many zeros followed by a one.
+     *
+     * @param x the number
+     * @throws IOException in case of an I/O error
+     */
+    void writeUnary(int x)
+        throws IOException
+    {
+        for (int i = 0; i < x; i++) {
+            writeBit(0);
+        }
+        writeBit(1);
+    }
+
+    /**
+     * Write a natural number using the Elias $\gamma$ code of $x+1$.
+     *
+     * @param x the number
+     * @throws IOException in case of an I/O error
+     */
+    void writeGamma(long x)
+        throws IOException
+    {
+        long y = x + 1;
+        int length = 64 - Long.numberOfLeadingZeros(y);
+        writeUnary(length - 1);
+        writeBits(y, length - 1);
+    }
+
+    /**
+     * Write a natural number using the $\zeta_k$ code of $x+1$. See P. Boldi and S. Vigna. Codes
+     * for the World-Wide Web. Internet Mathematics, 2(4):405--427, 2005.
+     *
+     * @param x the number
+     * @param k the shrinking factor
+     * @throws IOException in case of an I/O error
+     */
+    void writeZeta(long x, int k)
+        throws IOException
+    {
+        long y = x + 1;
+        int h = (63 - Long.numberOfLeadingZeros(y)) / k;
+        writeUnary(h);
+        long left = 1L << (h * k);
+        long range = (1L << ((h + 1) * k)) - left;
+        long z = y - left;
+        int s = 64 - Long.numberOfLeadingZeros(range - 1);
+        long threshold = (1L << s) - range;
+        if (z < threshold) {
+            writeBits(z, s - 1);
+        } else {
+            writeBits(z + threshold, s);
+        }
+    }
+
+    /**
+     * Write a signed number as a natural number, mapping $0, -1, 1, -2, \dots$ to $0, 1, 2, 3,
+     * \dots$, using the Elias $\gamma$ code.
+     *
+     * @param x the number
+     * @throws IOException in case of an I/O error
+     */
+    void writeSignedGamma(long x)
+        throws IOException
+    {
+        writeGamma((x << 1) ^ (x >> 63));
+    }
+
+    /**
+     * Write a signed number using the $\zeta_k$ code, with the same mapping to natural numbers as
+     * {@link #writeSignedGamma(long)}.
+     *
+     * @param x the number
+     * @param k the shrinking factor
+     * @throws IOException in case of an I/O error
+     */
+    void writeSignedZeta(long x, int k)
+        throws IOException
+    {
+        writeZeta((x << 1) ^ (x >> 63), k);
+    }
+
+    /**
+     * Pad with zeros up to the next byte boundary.
+     *
+     * @throws IOException in case of an I/O error
+     */
+    void align()
+        throws IOException
+    {
+        while (filled != 0) {
+            writeBit(0);
+        }
+        if (out == null) {
+            bits = (bits + 7) & ~7L;
+        }
+    }
+
+}
@@ -0,0 +1,620 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+import static org.jgrapht.opt.graph.compressed.CompressedIntGraphWriter.*;
+
+/**
+ * A compressed directed graph which is memory-mapped from a file written by
+ * {@link CompressedIntGraphWriter}.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. The successor
+ * lists are sorted and edges are numbered from $0$ to $m-1$ by source and then by target, thus the
+ * outgoing edges of each vertex are a range of consecutive integers and are returned without any
+ * decoding. The successor lists are stored using gap, interval and reference compression as in
+ * the BV format of WebGraph and are decoded lazily, when the target of an edge is requested or an
+ * edge is searched by its endpoints. Each thread keeps the last decoded list, so that iterating
+ * over the outgoing edges of a vertex and requesting their targets decodes the list once.
+ *
+ * <p>
+ * The whole file is mapped into memory and only a few objects are kept on the heap. Besides the
+ * compressed lists the file contains three Elias-Fano sequences with the first edge and the
+ * positions of the lists of each vertex. The graph can be used by multiple threads
+ * concurrently.
+ *
+ * <p>
+ * The graph supports self-loops but not multiple edges. The graph is unmodifiable.
+ *
+ * @author agent
+ */
+public class CompressedIntDirectedGraph
+    extends
+    AbstractGraph<Integer, Integer>
+{
+    private static final String UNMODIFIABLE = "this graph is unmodifiable";
+    private static final int[] EMPTY = new int[0];
+
+    private final MappedSegments segments;
+    private final int numVertices;
+    private final int numEdges;
+    private final int windowSize;
+    private final int minIntervalLength;
+    private final int zetaK;
+    private final long outStream;
+    private final long inStream;
+    private final EliasFanoSequence edgeOffsets;
+    private final EliasFanoSequence outBitOffsets;
+    private final EliasFanoSequence inBitOffsets;
+    private final ThreadLocal<Decoder> decoders;
+
+    /**
+     * Open a graph from a file.
+     *
+     * @param file the file written by {@link CompressedIntGraphWriter}
+     * @throws IOException in case of an I/O error or if the file is not a compressed graph
+     */
+    public CompressedIntDirectedGraph(Path file)
+        throws IOException
+    {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            this.segments = new MappedSegments(channel);
+        }
+        if (segments.size() < HEADER_SIZE || segments.getInt(0) != MAGIC) {
+            throw new IOException("Not a compressed graph file: " + file);
+        }
+        if (segments.getInt(4) != VERSION) {
+            throw new IOException("Unsupported compressed graph version: " + segments.getInt(4));
+        }
+        this.numVertices = segments.getInt(8);
+        this.windowSize = segments.getInt(12);
+        this.minIntervalLength = segments.getInt(16);
+        this.zetaK = segments.getInt(20);
+        this.numEdges = (int) segments.getLong(24);
+        this.outStream = segments.getLong(32);
+        this.inStream = segments.getLong(40);
+        try {
+            this.edgeOffsets = new EliasFanoSequence(segments, segments.getLong(48));
+            this.outBitOffsets = new EliasFanoSequence(segments, edgeOffsets.end());
+            this.inBitOffsets = new EliasFanoSequence(segments, outBitOffsets.end());
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Truncated compressed graph file: " + file, e);
+        }
+        if (inBitOffsets.end() > segments.size()) {
+            throw new IOException("Truncated compressed graph file: " + file);
+        }
+        this.decoders = ThreadLocal.withInitial(Decoder::new);
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> removeAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeAllVertices(Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < numEdges;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < numVertices;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new RangeSet(0, numEdges);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new RangeSet(0, numVertices);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return decoders.get().sourceOf(e);
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return decoders.get().targetOf(e);
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Integer e = getEdge(sourceVertex, targetVertex);
+        return e == null ? Collections.emptySet() : Collections.singleton(e);
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        int[] successors = decoders.get().successors(sourceVertex);
+        int k = Arrays.binarySearch(successors, targetVertex);
+        return k < 0 ? null : (int) edgeOffset(sourceVertex) + k;
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        return outDegreeOf(vertex) + inDegreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        return new UnmodifiableUnionSet<>(outgoingEdgesOf(vertex), incomingEdgesOf(vertex));
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return decoders.get().inDegree(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new ArraySet(decoders.get().incoming(vertex));
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return (int) (edgeOffset(vertex + 1) - edgeOffset(vertex));
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new RangeSet((int) edgeOffset(vertex), (int) edgeOffset(vertex + 1));
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(false).modifiable(false).allowMultipleEdges(false)
+            .allowSelfLoops(true).build();
+    }
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+    private long edgeOffset(int v)
+    {
+        return edgeOffsets.get(v);
+    }
+
+    /**
+     * The decoding state of a thread.
+     */
+    private class Decoder
+    {
+        private final BitReader out = new BitReader(segments, outStream);
+        private final BitReader in = new BitReader(segments, inStream);
+        private int cachedVertex = -1;
+        private int[] cachedSuccessors;
+        // the last vertex found by its edges, and the range of its edges
+        private int source = -1;
+        private int sourceFrom;
+        private int sourceTo;
+
+        int sourceOf(int e)
+        {
+            if (source >= 0 && sourceFrom <= e && e < sourceTo) {
+                return source;
+            }
+            // the last vertex whose edges start at or before e
+            int lo = 0;
+            int hi = numVertices - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (edgeOffset(mid) <= e) {
+                    lo = mid;
+                } else {
+                    hi = mid - 1;
+                }
+            }
+            source = lo;
+            sourceFrom = (int) edgeOffset(lo);
+            sourceTo = (int) edgeOffset(lo + 1);
+            return lo;
+        }
+
+        int targetOf(int e)
+        {
+            int v = sourceOf(e);
+            return successors(v)[e - sourceFrom];
+        }
+
+        int[] successors(int v)
+        {
+            if (v != cachedVertex) {
+                cachedSuccessors = decode(v);
+                cachedVertex = v;
+            }
+            return cachedSuccessors;
+        }
+
+        int inDegree(int v)
+        {
+            in.position(inBitOffsets.get(v));
+            return (int) in.readGamma();
+        }
+
+        int[] incoming(int v)
+        {
+            in.position(inBitOffsets.get(v));
+            int degree = (int) in.readGamma();
+            int[] edges = new int[degree];
+            long u = v;
+            for (int i = 0; i < degree; i++) {
+                if (i == 0) {
+                    u += in.readSignedZeta(zetaK);
+                } else {
+                    u += in.readZeta(zetaK) + 1;
+                }
+                edges[i] = (int) (edgeOffset((int) u) + in.readGamma());
+            }
+            return edges;
+        }
+
+        /**
+         * Decode the successor list of a vertex, following its chain of references.
+         */
+        private int[] decode(int x)
+        {
+            out.position(outBitOffsets.get(x));
+            int degree = (int) out.readGamma();
+            if (degree == 0) {
+                return EMPTY;
+            }
+            int r = windowSize > 0 ? (int) out.readGamma() : 0;
+
+            // copy blocks, the last one is implied by the length of the reference
+            int[] blocks = EMPTY;
+            int copied = 0;
+            if (r > 0) {
+                int blockCount = (int) out.readGamma();
+                blocks = new int[blockCount + 1];
+                int total = 0;
+                for (int b = 0; b < blockCount; b++) {
+                    blocks[b] = (int) out.readGamma() + (b == 0 ? 0 : 1);
+                    total += blocks[b];
+                }
+                blocks[blockCount] = (int) (edgeOffset(x - r + 1) - edgeOffset(x - r)) - total;
+                for (int b = 0; b <= blockCount; b += 2) {
+                    copied += blocks[b];
+                }
+            }
+
+            // intervals
+            int[] intervals = EMPTY;
+            int intervalCount = 0;
+            if (minIntervalLength > 0) {
+                int count = (int) out.readGamma();
+                if (count > 0) {
+                    intervals = new int[degree - copied];
+                }
+                long previousRight = 0;
+                for (int q = 0; q < count; q++) {
+                    long left;
+                    if (q == 0) {
+                        left = x + out.readSignedGamma();
+                    } else {
+                        left = previousRight + 2 + out.readGamma();
+                    }
+                    int length = (int) out.readGamma() + minIntervalLength;
+                    for (int i = 0; i < length; i++) {
+                        intervals[intervalCount++] = (int) (left + i);
+                    }
+                    previousRight = left + length - 1;
+                }
+            }
+
+            // residuals
+            int[] residuals = new int[degree - copied - intervalCount];
+            long previous = x;
+            for (int q = 0; q < residuals.length; q++) {
+                if (q == 0) {
+                    previous += out.readSignedZeta(zetaK);
+                } else {
+                    previous += out.readZeta(zetaK) + 1;
+                }
+                residuals[q] = (int) previous;
+            }
+
+            // the reference is decoded last since it moves the reader
+            int[] copies = EMPTY;
+            if (r > 0) {
+                int[] reference = x - r == cachedVertex ? cachedSuccessors : decode(x - r);
+                copies = new int[copied];
+                int c = 0;
+                int i = 0;
+                for (int b = 0; b < blocks.length; b++) {
+                    if ((b & 1) == 0) {
+                        System.arraycopy(reference, i, copies, c, blocks[b]);
+                        c += blocks[b];
+                    }
+                    i += blocks[b];
+                }
+            }
+
+            return merge(copies, intervals, intervalCount, residuals, degree);
+        }
+
+        private int[] merge(int[] a, int[] b, int bSize, int[] c, int size)
+        {
+            int[] result = new int[size];
+            int i = 0;
+            int j = 0;
+            int k = 0;
+            for (int p = 0; p < size; p++) {
+                int x = i < a.length ? a[i] : Integer.MAX_VALUE;
+                int y = j < bSize ? b[j] : Integer.MAX_VALUE;
+                int z = k < c.length ? c[k] : Integer.MAX_VALUE;
+                if (x <= y && x <= z && i < a.length) {
+                    result[p] = a[i++];
+                } else if (y <= z && j < bSize) {
+                    result[p] = b[j++];
+                } else {
+                    result[p] = c[k++];
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * An unmodifiable set containing all integers in a range.
+     */
+    private static class RangeSet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int from;
+        private final int to;
+
+        RangeSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int cur = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return cur < to;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (cur >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return cur++;
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            int x = (Integer) o;
+            return x >= from && x < to;
+        }
+    }
+
+    /**
+     * An unmodifiable set over a sorted array of integers.
+     */
+    private static class ArraySet
+        extends
+        AbstractSet<Integer>
+    {
+        private final int[] elements;
+
+        ArraySet(int[] elements)
+        {
+            this.elements = elements;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int cur = 0;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return cur < elements.length;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (cur >= elements.length) {
+                        throw new NoSuchElementException();
+                    }
+                    return elements[cur++];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return elements.length;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return Arrays.binarySearch(elements, (Integer) o) >= 0;
+        }
+    }
+
+}
@@ -0,0 +1,452 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import org.jgrapht.*;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Writes a graph in the compressed format read by {@link CompressedIntDirectedGraph}.
+ *
+ * <p>
+ * The successor lists are sorted, without duplicates, and compressed in the manner of the BV
+ * format of WebGraph. See P. Boldi and S. Vigna. The WebGraph Framework I: Compression
+ * Techniques. In Proceedings of the 13th International World Wide Web Conference, 595--601, 2004.
+ * The list of each vertex may be expressed as a copy of a list among the previous vertices of a
+ * window, called the reference, using copy blocks and a set of extra successors. Among the extra
+ * successors, runs of consecutive integers are stored as intervals and the remaining ones as
+ * gaps. Numbers are stored using $\gamma$ and $\zeta_3$ codes. Graphs with locality, such as web
+ * graphs with vertices numbered in lexicographic URL order, typically need a few bits per edge.
+ * The predecessor lists are also stored, as gaps together with the position of each edge in the
+ * successor list of its source, so that incoming edges can be reported without decoding other
+ * lists.
+ *
+ * <p>
+ * The first edge and the positions of the two lists of each vertex are stored as Elias-Fano
+ * sequences, using a few bits per vertex.
+ *
+ * <p>
+ * The writer consumes the successor lists in vertex order and keeps in memory only the lists of
+ * the reference window, three offsets and the in-degree per vertex. The predecessor lists are
+ * built in batches of a bounded number of edges, requesting the successor lists once more per
+ * batch. Multiple edges are merged.
+ *
+ * @author agent
+ */
+public class CompressedIntGraphWriter
+{
+    /**
+     * Default number of previous vertices considered as references
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 7;
+
+    /**
+     * Default maximum length of a chain of references
+     */
+    public static final int DEFAULT_MAX_REFERENCE_COUNT = 3;
+
+    /**
+     * Default minimum length of an interval
+     */
+    public static final int DEFAULT_MIN_INTERVAL_LENGTH = 4;
+
+    /**
+     * Default maximum number of edges held in memory while building the predecessor lists
+     */
+    public static final int DEFAULT_TRANSPOSE_BATCH_SIZE = 1 << 24;
+
+    static final int MAGIC = 0x4A47435A;
+    static final int VERSION = 1;
+    static final int ZETA_K = 3;
+    static final int HEADER_SIZE = 64;
+
+    private final int windowSize;
+    private final int maxReferenceCount;
+    private final int minIntervalLength;
+    private final int transposeBatchSize;
+
+    /**
+     * Create a new writer with the default parameters.
+     */
+    public CompressedIntGraphWriter()
+    {
+        this(DEFAULT_WINDOW_SIZE, DEFAULT_MAX_REFERENCE_COUNT, DEFAULT_MIN_INTERVAL_LENGTH);
+    }
+
+    /**
+     * Create a new writer.
+     *
+     * @param windowSize the number of previous vertices considered as references, zero disables
+     *        reference compression
+     * @param maxReferenceCount the maximum length of a chain of references, which bounds the work
+     *        needed to decode a list
+     * @param minIntervalLength the minimum length of an interval, zero disables intervals
+     */
+    public CompressedIntGraphWriter(int windowSize, int maxReferenceCount, int minIntervalLength)
+    {
+        this(windowSize, maxReferenceCount, minIntervalLength, DEFAULT_TRANSPOSE_BATCH_SIZE);
+    }
+
+    /**
+     * Create a new writer.
+     *
+     * @param windowSize the number of previous vertices considered as references, zero disables
+     *        reference compression
+     * @param maxReferenceCount the maximum length of a chain of references, which bounds the work
+     *        needed to decode a list
+     * @param minIntervalLength the minimum length of an interval, zero disables intervals
+     * @param transposeBatchSize the maximum number of edges held in memory while building the
+     *        predecessor lists
+     */
+    public CompressedIntGraphWriter(
+        int windowSize, int maxReferenceCount, int minIntervalLength, int transposeBatchSize)
+    {
+        if (windowSize < 0) {
+            throw new IllegalArgumentException("Window size must be non-negative");
+        }
+        if (maxReferenceCount < 0) {
+            throw new IllegalArgumentException("Maximum reference count must be non-negative");
+        }
+        if (minIntervalLength < 0) {
+            throw new IllegalArgumentException("Minimum interval length must be non-negative");
+        }
+        if (transposeBatchSize < 1) {
+            throw new IllegalArgumentException("Transpose batch size must be positive");
+        }
+        this.windowSize = windowSize;
+        this.maxReferenceCount = maxReferenceCount;
+        this.minIntervalLength = minIntervalLength;
+        this.transposeBatchSize = transposeBatchSize;
+    }
+
+    /**
+     * Write a graph whose vertices are the integers $[0, n)$. The outgoing edges of each vertex
+     * become its successor list, thus an undirected graph is written with each edge in both
+     * directions.
+     *
+     * @param graph the graph
+     * @param file the output file
+     * @param <E> the graph edge type
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if the vertices are not the integers $[0, n)$
+     */
+    public <E> void write(Graph<Integer, E> graph, Path file)
+        throws IOException
+    {
+        int n = graph.vertexSet().size();
+        for (int v = 0; v < n; v++) {
+            if (!graph.containsVertex(v)) {
+                throw new IllegalArgumentException("Vertices must be the integers [0, n)");
+            }
+        }
+        write(n, v -> {
+            int[] successors = new int[graph.outDegreeOf(v)];
+            int k = 0;
+            for (E e : graph.outgoingEdgesOf(v)) {
+                successors[k++] = Graphs.getOppositeVertex(graph, e, v);
+            }
+            return successors;
+        }, file);
+    }
+
+    /**
+     * Write a graph given by its successor lists. The function is called once for each vertex in
+     * increasing order, and once more for each batch of the predecessor lists. It must return
+     * the same successors every time, in any order.
+     *
+     * @param numVertices the number of vertices
+     * @param successors a function from each vertex to its successors
+     * @param file the output file
+     * @throws IOException in case of an I/O error
+     * @throws IllegalArgumentException if a successor is not a valid vertex or the graph has
+     *         more than {@link Integer#MAX_VALUE} edges
+     */
+    public void write(int numVertices, IntFunction<int[]> successors, Path file)
+        throws IOException
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        Objects.requireNonNull(successors, "Successors cannot be null");
+        int n = numVertices;
+        long[] edgeOffsets = new long[n + 1];
+        long[] outBits = new long[n + 1];
+        long[] inBits = new long[n + 1];
+        int[] inDegree = new int[n];
+
+        try (FileChannel channel = FileChannel.open(
+            file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE))
+        {
+            channel.position(HEADER_SIZE);
+            // the channel is closed by the enclosing try, the stream is only flushed
+            OutputStream stream = new BufferedOutputStream(Channels.newOutputStream(channel));
+
+            // successor lists
+            BitWriter out = new BitWriter(stream);
+            int[][] window = new int[windowSize + 1][];
+            int[] referenceCount = new int[windowSize + 1];
+            long m = 0;
+            for (int x = 0; x < n; x++) {
+                int[] list = normalize(successors.apply(x), n);
+
+                int best = 0;
+                long bestBits = Long.MAX_VALUE;
+                for (int r = 0; r <= Math.min(windowSize, x); r++) {
+                    int slot = (x - r) % window.length;
+                    if (r > 0 && (window[slot].length == 0
+                        || referenceCount[slot] >= maxReferenceCount))
+                    {
+                        continue;
+                    }
+                    BitWriter counter = new BitWriter(null);
+                    encode(counter, x, list, r, r > 0 ? window[slot] : null);
+                    if (counter.bits() < bestBits) {
+                        bestBits = counter.bits();
+                        best = r;
+                    }
+                }
+                int slot = x % window.length;
+                int bestSlot = (x - best) % window.length;
+                outBits[x] = out.bits();
+                encode(out, x, list, best, best > 0 ? window[bestSlot] : null);
+                referenceCount[slot] = best > 0 ? referenceCount[bestSlot] + 1 : 0;
+                window[slot] = list;
+
+                m += list.length;
+                if (m > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("Too many edges");
+                }
+                edgeOffsets[x + 1] = m;
+                for (int t : list) {
+                    inDegree[t]++;
+                }
+            }
+            outBits[n] = out.bits();
+            out.align();
+            stream.flush();
+            long inStreamPosition = channel.position();
+
+            // predecessor lists, in batches of targets
+            BitWriter in = new BitWriter(stream);
+            int lo = 0;
+            while (lo < n) {
+                int hi = lo;
+                int count = 0;
+                while (hi < n && (hi == lo || count + inDegree[hi] <= transposeBatchSize)) {
+                    count += inDegree[hi++];
+                }
+                int[] start = new int[hi - lo + 1];
+                for (int t = lo; t < hi; t++) {
+                    start[t - lo + 1] = start[t - lo] + inDegree[t];
+                }
+                int[] cursor = Arrays.copyOf(start, hi - lo);
+                int[] predecessors = new int[count];
+                int[] positions = new int[count];
+                if (count > 0) {
+                    for (int x = 0; x < n; x++) {
+                        int[] list = normalize(successors.apply(x), n);
+                        for (int k = 0; k < list.length; k++) {
+                            int t = list[k];
+                            if (t >= lo && t < hi) {
+                                int i = cursor[t - lo]++;
+                                predecessors[i] = x;
+                                positions[i] = k;
+                            }
+                        }
+                    }
+                }
+                for (int t = lo; t < hi; t++) {
+                    inBits[t] = in.bits();
+                    encodeIncoming(
+                        in, t, predecessors, positions, start[t - lo], start[t - lo + 1]);
+                }
+                lo = hi;
+            }
+            inBits[n] = in.bits();
+            in.align();
+            stream.flush();
+
+            // offsets, aligned to eight bytes
+            long offsetsPosition = (channel.position() + Long.BYTES - 1) & -Long.BYTES;
+            for (long p = channel.position(); p < offsetsPosition; p++) {
+                stream.write(0);
+            }
+            DataOutputStream data = new DataOutputStream(stream);
+            for (long[] offsets : Arrays.asList(edgeOffsets, outBits, inBits)) {
+                EliasFanoSequence.write(data, offsets);
+            }
+            data.flush();
+
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header
+                .putInt(MAGIC).putInt(VERSION).putInt(n).putInt(windowSize)
+                .putInt(minIntervalLength).putInt(ZETA_K).putLong(m).putLong(HEADER_SIZE)
+                .putLong(inStreamPosition).putLong(offsetsPosition);
+            header.clear();
+            long position = 0;
+            while (header.hasRemaining()) {
+                position += channel.write(header, position);
+            }
+        }
+    }
+
+    /**
+     * Sort a successor list, remove duplicates and check the vertices.
+     */
+    private static int[] normalize(int[] successors, int n)
+    {
+        int[] list = successors.clone();
+        Arrays.sort(list);
+        int size = 0;
+        for (int i = 0; i < list.length; i++) {
+            int t = list[i];
+            if (t < 0 || t >= n) {
+                throw new IllegalArgumentException("no such vertex in graph: " + t);
+            }
+            if (size == 0 || list[size - 1] != t) {
+                list[size++] = t;
+            }
+        }
+        return size == list.length ? list : Arrays.copyOf(list, size);
+    }
+
+    /**
+     * Encode the successor list of a vertex, possibly using a reference list.
+     */
+    private void encode(BitWriter w, int x, int[] list, int r, int[] reference)
+        throws IOException
+    {
+        w.writeGamma(list.length);
+        if (list.length == 0) {
+            return;
+        }
+        if (windowSize > 0) {
+            w.writeGamma(r);
+        }
+
+        int[] extra = list;
+        if (r > 0) {
+            // alternating copy and skip blocks over the reference, starting with a copy block
+            int[] blocks = new int[reference.length + 1];
+            int blockCount = 0;
+            boolean copying = true;
+            int length = 0;
+            int[] remaining = new int[list.length];
+            int extraCount = 0;
+            int j = 0;
+            for (int y : reference) {
+                while (j < list.length && list[j] < y) {
+                    remaining[extraCount++] = list[j++];
+                }
+                boolean copied = j < list.length && list[j] == y;
+                if (copied) {
+                    j++;
+                }
+                if (copied != copying) {
+                    blocks[blockCount++] = length;
+                    length = 0;
+                    copying = copied;
+                }
+                length++;
+            }
+            while (j < list.length) {
+                remaining[extraCount++] = list[j++];
+            }
+
+            // the last block is implied by the length of the reference
+            w.writeGamma(blockCount);
+            for (int b = 0; b < blockCount; b++) {
+                w.writeGamma(b == 0 ? blocks[0] : blocks[b] - 1);
+            }
+            extra = Arrays.copyOf(remaining, extraCount);
+        }
+
+        int[] residuals = extra;
+        if (minIntervalLength > 0) {
+            int[] left = new int[extra.length];
+            int[] lengths = new int[extra.length];
+            int intervals = 0;
+            residuals = new int[extra.length];
+            int residualCount = 0;
+            int i = 0;
+            while (i < extra.length) {
+                int k = i + 1;
+                while (k < extra.length && extra[k] == extra[k - 1] + 1) {
+                    k++;
+                }
+                if (k - i >= minIntervalLength) {
+                    left[intervals] = extra[i];
+                    lengths[intervals++] = k - i;
+                } else {
+                    for (int q = i; q < k; q++) {
+                        residuals[residualCount++] = extra[q];
+                    }
+                }
+                i = k;
+            }
+            residuals = Arrays.copyOf(residuals, residualCount);
+
+            w.writeGamma(intervals);
+            long previousRight = 0;
+            for (int q = 0; q < intervals; q++) {
+                if (q == 0) {
+                    w.writeSignedGamma((long) left[q] - x);
+                } else {
+                    w.writeGamma(left[q] - previousRight - 2);
+                }
+                w.writeGamma(lengths[q] - minIntervalLength);
+                previousRight = (long) left[q] + lengths[q] - 1;
+            }
+        }
+
+        for (int q = 0; q < residuals.length; q++) {
+            if (q == 0) {
+                w.writeSignedZeta((long) residuals[0] - x, ZETA_K);
+            } else {
+                w.writeZeta((long) residuals[q] - residuals[q - 1] - 1, ZETA_K);
+            }
+        }
+    }
+
+    /**
+     * Encode the predecessor list of a vertex together with the position of each edge in the
+     * successor list of its source.
+     */
+    private static void encodeIncoming(
+        BitWriter w, int t, int[] predecessors, int[] positions, int from, int to)
+        throws IOException
+    {
+        w.writeGamma(to - from);
+        for (int i = from; i < to; i++) {
+            if (i == from) {
+                w.writeSignedZeta((long) predecessors[i] - t, ZETA_K);
+            } else {
+                w.writeZeta((long) predecessors[i] - predecessors[i - 1] - 1, ZETA_K);
+            }
+            w.writeGamma(positions[i]);
+        }
+    }
+
+}
@@ -0,0 +1,181 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import java.io.*;
+
+/**
+ * A non-decreasing sequence of non-negative longs stored using the Elias-Fano representation,
+ * which needs $2 + \lceil \log (U / n) \rceil$ bits per element where $U$ is the largest element.
+ * See P. Elias. Efficient storage and retrieval by content and address of static files. Journal
+ * of the ACM, 21(2):246--260, 1974.
+ *
+ * <p>
+ * Each element is split into its lower $\ell$ bits, stored explicitly, and its upper bits, stored
+ * in unary as gaps in a bit vector. The position of every {@value #SAMPLING}-th one of the bit
+ * vector is sampled, so that an element is retrieved in constant time. The sequence is read
+ * directly from mapped segments.
+ *
+ * @author agent
+ */
+class EliasFanoSequence
+{
+    private static final int SAMPLING = 64;
+    private static final int HEADER_LONGS = 5;
+
+    private final MappedSegments segments;
+    private final int size;
+    private final int lowerBits;
+    private final long lowerMask;
+    private final long lower;
+    private final long upper;
+    private final long samples;
+    private final long end;
+
+    /**
+     * Read a sequence which starts at a given position.
+     *
+     * @param segments the mapped segments
+     * @param position the byte position of the sequence, aligned to eight bytes
+     */
+    EliasFanoSequence(MappedSegments segments, long position)
+    {
+        this.segments = segments;
+        this.size = (int) segments.getLong(position);
+        this.lowerBits = (int) segments.getLong(position + Long.BYTES);
+        this.lowerMask = (1L << lowerBits) - 1;
+        long lowerWords = segments.getLong(position + 2 * Long.BYTES);
+        long upperWords = segments.getLong(position + 3 * Long.BYTES);
+        long sampleCount = segments.getLong(position + 4 * Long.BYTES);
+        this.lower = position + HEADER_LONGS * Long.BYTES;
+        this.upper = lower + lowerWords * Long.BYTES;
+        this.samples = upper + upperWords * Long.BYTES;
+        this.end = samples + sampleCount * Long.BYTES;
+    }
+
+    /**
+     * Get the number of elements.
+     *
+     * @return the number of elements
+     */
+    int size()
+    {
+        return size;
+    }
+
+    /**
+     * Get the byte position right after the sequence.
+     *
+     * @return the byte position after the sequence
+     */
+    long end()
+    {
+        return end;
+    }
+
+    /**
+     * Get an element.
+     *
+     * @param i the index of the element
+     * @return the element
+     */
+    long get(int i)
+    {
+        // position of the i-th one in the upper bits
+        long p = segments.getLong(samples + (long) (i / SAMPLING) * Long.BYTES);
+        int skip = i % SAMPLING;
+        long word = (p >>> 6);
+        long bits = segments.getLong(upper + word * Long.BYTES) & (-1L << (p & 63));
+        int count = Long.bitCount(bits);
+        while (count <= skip) {
+            skip -= count;
+            bits = segments.getLong(upper + ++word * Long.BYTES);
+            count = Long.bitCount(bits);
+        }
+        for (int k = 0; k < skip; k++) {
+            bits &= bits - 1;
+        }
+        long position = (word << 6) + Long.numberOfTrailingZeros(bits);
+        long high = position - i;
+
+        if (lowerBits == 0) {
+            return high;
+        }
+        long bit = (long) i * lowerBits;
+        long w = bit >>> 6;
+        int offset = (int) (bit & 63);
+        long value = segments.getLong(lower + w * Long.BYTES) >>> offset;
+        if (offset + lowerBits > 64) {
+            value |= segments.getLong(lower + (w + 1) * Long.BYTES) << (64 - offset);
+        }
+        return (high << lowerBits) | (value & lowerMask);
+    }
+
+    /**
+     * Write a sequence.
+     *
+     * @param out the output, positioned at a multiple of eight bytes
+     * @param values the non-decreasing non-negative values
+     * @throws IOException in case of an I/O error
+     */
+    static void write(DataOutputStream out, long[] values)
+        throws IOException
+    {
+        int n = values.length;
+        long universe = n == 0 ? 0 : values[n - 1];
+        int lowerBits = 0;
+        if (n > 0 && universe / n > 0) {
+            lowerBits = 63 - Long.numberOfLeadingZeros(universe / n);
+        }
+        long lowerMask = (1L << lowerBits) - 1;
+
+        long[] lower = new long[(int) (((long) n * lowerBits + 63) >>> 6)];
+        long upperLength = n + (universe >>> lowerBits) + 1;
+        long[] upper = new long[(int) ((upperLength + 63) >>> 6)];
+        long[] samples = new long[(n + SAMPLING - 1) / SAMPLING];
+        for (int i = 0; i < n; i++) {
+            long v = values[i];
+            if (lowerBits > 0) {
+                long bit = (long) i * lowerBits;
+                int w = (int) (bit >>> 6);
+                int offset = (int) (bit & 63);
+                lower[w] |= (v & lowerMask) << offset;
+                if (offset + lowerBits > 64) {
+                    lower[w + 1] |= (v & lowerMask) >>> (64 - offset);
+                }
+            }
+            long position = (v >>> lowerBits) + i;
+            upper[(int) (position >>> 6)] |= 1L << (position & 63);
+            if (i % SAMPLING == 0) {
+                samples[i / SAMPLING] = position;
+            }
+        }
+
+        out.writeLong(n);
+        out.writeLong(lowerBits);
+        out.writeLong(lower.length);
+        out.writeLong(upper.length);
+        out.writeLong(samples.length);
+        for (long[] array : new long[][] { lower, upper, samples }) {
+            for (long x : array) {
+                out.writeLong(x);
+            }
+        }
+    }
+
+}
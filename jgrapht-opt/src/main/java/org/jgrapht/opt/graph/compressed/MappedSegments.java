@@ -0,0 +1,81 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.channels.FileChannel.*;
+
+/**
+ * A read-only file mapped into memory as a sequence of segments, since a single mapping is
+ * limited to $2^{31}$ bytes.
+ *
+ * @author agent
+ */
+class MappedSegments
+{
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final ByteBuffer[] segments;
+    private final long size;
+
+    /**
+     * Map a whole file.
+     *
+     * @param channel the file channel
+     * @throws IOException in case of an I/O error
+     */
+    MappedSegments(FileChannel channel)
+        throws IOException
+    {
+        this.size = channel.size();
+        int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+        this.segments = new ByteBuffer[count];
+        for (int i = 0; i < count; i++) {
+            long start = (long) i << SEGMENT_SHIFT;
+            // map one extra long so that aligned longs never cross a segment boundary
+            long length = Math.min(size - start, (1L << SEGMENT_SHIFT) + Long.BYTES);
+            segments[i] = channel.map(MapMode.READ_ONLY, start, length);
+        }
+    }
+
+    long size()
+    {
+        return size;
+    }
+
+    byte get(long position)
+    {
+        return segments[(int) (position >>> SEGMENT_SHIFT)].get((int) (position & SEGMENT_MASK));
+    }
+
+    int getInt(long position)
+    {
+        return segments[(int) (position >>> SEGMENT_SHIFT)]
+            .getInt((int) (position & SEGMENT_MASK));
+    }
+
+    long getLong(long position)
+    {
+        return segments[(int) (position >>> SEGMENT_SHIFT)]
+            .getLong((int) (position & SEGMENT_MASK));
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Compressed immutable graph implementations which are memory-mapped from disk
+ */
+package org.jgrapht.opt.graph.compressed;
@@ -0,0 +1,268 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Common base of the sparse immutable graphs with integer vertices and edges.
+ *
+ * <p>
+ * Vertices are the integers $[0, n)$ and edges are the integers $[0, m)$ in the order they were
+ * given during construction. The endpoints of each edge are stored in two plain integer arrays.
+ *
+ * @author agent
+ */
+abstract class BaseSparseIntGraph
+    extends
+    AbstractGraph<Integer, Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = 4405627340213914528L;
+
+    protected static final String UNMODIFIABLE = "this graph is unmodifiable";
+
+    protected final int numVertices;
+    protected final int numEdges;
+    protected final int[] source;
+    protected final int[] target;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @throws IllegalArgumentException if the number of vertices is negative or an edge endpoint
+     *         is not a valid vertex
+     */
+    BaseSparseIntGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        if (numVertices < 0) {
+            throw new IllegalArgumentException("Number of vertices must be non-negative");
+        }
+        Objects.requireNonNull(edges, "Edge list cannot be null");
+        this.numVertices = numVertices;
+        this.numEdges = edges.size();
+        this.source = new int[numEdges];
+        this.target = new int[numEdges];
+
+        int e = 0;
+        for (Pair<Integer, Integer> p : edges) {
+            int s = p.getFirst();
+            int t = p.getSecond();
+            if (s < 0 || s >= numVertices) {
+                throw new IllegalArgumentException("no such vertex in graph: " + s);
+            }
+            if (t < 0 || t >= numVertices) {
+                throw new IllegalArgumentException("no such vertex in graph: " + t);
+            }
+            source[e] = s;
+            target[e] = t;
+            e++;
+        }
+    }
+
+    @Override
+    public Supplier<Integer> getVertexSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Supplier<Integer> getEdgeSupplier()
+    {
+        return null;
+    }
+
+    @Override
+    public Integer addEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addEdge(Integer sourceVertex, Integer targetVertex, Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer addVertex()
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean addVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeAllEdges(Collection<? extends Integer> edges)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Set<Integer> removeAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeAllVertices(Collection<? extends Integer> vertices)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public Integer removeEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeEdge(Integer e)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean removeVertex(Integer v)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    @Override
+    public boolean containsEdge(Integer e)
+    {
+        return e != null && e >= 0 && e < numEdges;
+    }
+
+    @Override
+    public boolean containsVertex(Integer v)
+    {
+        return v != null && v >= 0 && v < numVertices;
+    }
+
+    @Override
+    public Set<Integer> edgeSet()
+    {
+        return new CompleteIntegerSet(numEdges);
+    }
+
+    @Override
+    public Set<Integer> vertexSet()
+    {
+        return new CompleteIntegerSet(numVertices);
+    }
+
+    @Override
+    public Integer getEdgeSource(Integer e)
+    {
+        assertEdgeExist(e);
+        return source[e];
+    }
+
+    @Override
+    public Integer getEdgeTarget(Integer e)
+    {
+        assertEdgeExist(e);
+        return target[e];
+    }
+
+    @Override
+    public Set<Integer> getAllEdges(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        Set<Integer> result = new ArrayUnenforcedSet<>();
+        for (Integer e : outgoingEdgesOf(sourceVertex)) {
+            if (connects(e, sourceVertex, targetVertex)) {
+                result.add(e);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Integer getEdge(Integer sourceVertex, Integer targetVertex)
+    {
+        if (!containsVertex(sourceVertex) || !containsVertex(targetVertex)) {
+            return null;
+        }
+        for (Integer e : outgoingEdgesOf(sourceVertex)) {
+            if (connects(e, sourceVertex, targetVertex)) {
+                return e;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        return Graph.DEFAULT_EDGE_WEIGHT;
+    }
+
+    @Override
+    public void setEdgeWeight(Integer e, double weight)
+    {
+        throw new UnsupportedOperationException(UNMODIFIABLE);
+    }
+
+    /**
+     * Whether an outgoing edge of the source vertex leads to the target vertex.
+     *
+     * @param e the edge
+     * @param sourceVertex the source vertex
+     * @param targetVertex the target vertex
+     * @return true if the edge connects the two vertices, false otherwise
+     */
+    protected abstract boolean connects(int e, int sourceVertex, int targetVertex);
+
+    /**
+     * Ensures that the specified edge exists in this graph, or else throws exception.
+     *
+     * @param e edge
+     * @return <code>true</code> if this assertion holds.
+     * @throws NullPointerException if specified edge is <code>null</code>.
+     * @throws IllegalArgumentException if specified edge does not exist in this graph.
+     */
+    protected boolean assertEdgeExist(Integer e)
+    {
+        if (containsEdge(e)) {
+            return true;
+        } else if (e == null) {
+            throw new NullPointerException();
+        } else {
+            throw new IllegalArgumentException("no such edge in graph: " + e.toString());
+        }
+    }
+
+}
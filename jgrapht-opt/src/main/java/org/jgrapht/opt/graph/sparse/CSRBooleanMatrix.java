@@ -0,0 +1,217 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * A boolean matrix in compressed sparse row format.
+ *
+ * <p>
+ * The non-zero entries of row $i$ are stored sorted in positions
+ * $[\mathrm{rowOffsets}[i], \mathrm{rowOffsets}[i+1])$ of a single column index array. The
+ * matrix is immutable after construction.
+ *
+ * @author agent
+ */
+class CSRBooleanMatrix
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -2651458727014418393L;
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowOffsets;
+    private final int[] columnIndices;
+
+    /**
+     * Create a new matrix from a list of non-zero entries.
+     *
+     * @param rows number of rows
+     * @param columns number of columns
+     * @param entryRows the row of each non-zero entry
+     * @param entryColumns the column of each non-zero entry
+     * @param entries the number of non-zero entries, only the first {@code entries} positions of
+     *        the entry arrays are read
+     * @throws IllegalArgumentException if an entry is out of range
+     */
+    CSRBooleanMatrix(int rows, int columns, int[] entryRows, int[] entryColumns, int entries)
+    {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Number of rows and columns must be non-negative");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.rowOffsets = new int[rows + 1];
+        this.columnIndices = new int[entries];
+
+        // count
+        for (int i = 0; i < entries; i++) {
+            int r = entryRows[i];
+            if (r < 0 || r >= rows) {
+                throw new IllegalArgumentException("Row index " + r + " out of range");
+            }
+            int c = entryColumns[i];
+            if (c < 0 || c >= columns) {
+                throw new IllegalArgumentException("Column index " + c + " out of range");
+            }
+            rowOffsets[r + 1]++;
+        }
+
+        // prefix sums
+        for (int r = 0; r < rows; r++) {
+            rowOffsets[r + 1] += rowOffsets[r];
+        }
+
+        // place, using a cursor per row
+        int[] cursor = Arrays.copyOf(rowOffsets, rows);
+        for (int i = 0; i < entries; i++) {
+            columnIndices[cursor[entryRows[i]]++] = entryColumns[i];
+        }
+
+        // sort each row, usually already sorted
+        for (int r = 0; r < rows; r++) {
+            int from = rowOffsets[r];
+            int to = rowOffsets[r + 1];
+            for (int i = from + 1; i < to; i++) {
+                if (columnIndices[i - 1] > columnIndices[i]) {
+                    Arrays.sort(columnIndices, from, to);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Get the number of rows.
+     *
+     * @return the number of rows
+     */
+    int rows()
+    {
+        return rows;
+    }
+
+    /**
+     * Get the number of columns.
+     *
+     * @return the number of columns
+     */
+    int columns()
+    {
+        return columns;
+    }
+
+    /**
+     * Get the number of non-zero entries of a row.
+     *
+     * @param row the row
+     * @return the number of non-zero entries of a row
+     */
+    int nonZeros(int row)
+    {
+        return rowOffsets[row + 1] - rowOffsets[row];
+    }
+
+    /**
+     * Get the column of the $i$-th non-zero entry of a row.
+     *
+     * @param row the row
+     * @param i the index of the entry inside the row
+     * @return the column of the entry
+     */
+    int nonZero(int row, int i)
+    {
+        return columnIndices[rowOffsets[row] + i];
+    }
+
+    /**
+     * Get a live unmodifiable set view of the columns of the non-zero entries of a row. The view
+     * does not copy any data.
+     *
+     * @param row the row
+     * @return a set view of the columns of the non-zero entries of a row
+     */
+    Set<Integer> nonZerosSet(int row)
+    {
+        return new RowSet(rowOffsets[row], rowOffsets[row + 1]);
+    }
+
+    /**
+     * A set view over a range of the column indices array.
+     */
+    private class RowSet
+        extends
+        AbstractSet<Integer>
+        implements
+        Serializable
+    {
+        private static final long serialVersionUID = 7291418960367290125L;
+
+        private final int from;
+        private final int to;
+
+        RowSet(int from, int to)
+        {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public Iterator<Integer> iterator()
+        {
+            return new Iterator<Integer>()
+            {
+                private int cur = from;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return cur < to;
+                }
+
+                @Override
+                public Integer next()
+                {
+                    if (cur >= to) {
+                        throw new NoSuchElementException();
+                    }
+                    return columnIndices[cur++];
+                }
+            };
+        }
+
+        @Override
+        public int size()
+        {
+            return to - from;
+        }
+
+        @Override
+        public boolean contains(Object o)
+        {
+            if (!(o instanceof Integer)) {
+                return false;
+            }
+            return Arrays.binarySearch(columnIndices, from, to, (Integer) o) >= 0;
+        }
+    }
+
+}
@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import java.io.*;
+import java.util.*;
+
+/**
+ * An unmodifiable set containing all integers in $[0, n)$ which uses constant memory.
+ *
+ * @author agent
+ */
+class CompleteIntegerSet
+    extends
+    AbstractSet<Integer>
+    implements
+    Serializable
+{
+    private static final long serialVersionUID = -4145217483093285422L;
+
+    private final int n;
+
+    /**
+     * Create a new set.
+     *
+     * @param n the number of elements
+     */
+    CompleteIntegerSet(int n)
+    {
+        this.n = n;
+    }
+
+    @Override
+    public Iterator<Integer> iterator()
+    {
+        return new Iterator<Integer>()
+        {
+            private int cur = 0;
+
+            @Override
+            public boolean hasNext()
+            {
+                return cur < n;
+            }
+
+            @Override
+            public Integer next()
+            {
+                if (cur >= n) {
+                    throw new NoSuchElementException();
+                }
+                return cur++;
+            }
+        };
+    }
+
+    @Override
+    public int size()
+    {
+        return n;
+    }
+
+    @Override
+    public boolean contains(Object o)
+    {
+        if (!(o instanceof Integer)) {
+            return false;
+        }
+        int x = (Integer) o;
+        return x >= 0 && x < n;
+    }
+
+}
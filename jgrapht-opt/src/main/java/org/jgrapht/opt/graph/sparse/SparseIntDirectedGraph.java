@@ -0,0 +1,142 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+
+/**
+ * A sparse directed graph.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. Similarly,
+ * edges are numbered from $0$ to $m-1$ where $m$ is the total number of edges, in the order they
+ * appear in the edge list given to the constructor.
+ *
+ * <p>
+ * It stores the boolean incidence matrix of the graph (rows are vertices and columns are edges)
+ * as Compressed Sparse Rows (CSR), once for outgoing and once for incoming edges. The graph uses
+ * a few integers per edge and no per vertex or per edge objects. Outgoing and incoming edge sets
+ * are views over ranges of the CSR arrays and are returned without copying. This is a classic
+ * format for write-once read-many use cases. Thus, the graph is unmodifiable.
+ *
+ * <p>
+ * The graph supports self-loops and multiple edges.
+ *
+ * @author agent
+ */
+public class SparseIntDirectedGraph
+    extends
+    BaseSparseIntGraph
+{
+    private static final long serialVersionUID = -7601401110000642930L;
+
+    /**
+     * Outgoing incidence matrix
+     */
+    private final CSRBooleanMatrix outIncidenceMatrix;
+
+    /**
+     * Incoming incidence matrix
+     */
+    private final CSRBooleanMatrix inIncidenceMatrix;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @throws IllegalArgumentException if the number of vertices is negative or an edge endpoint
+     *         is not a valid vertex
+     */
+    public SparseIntDirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        super(numVertices, edges);
+
+        int[] edgeIds = new int[numEdges];
+        for (int e = 0; e < numEdges; e++) {
+            edgeIds[e] = e;
+        }
+        this.outIncidenceMatrix =
+            new CSRBooleanMatrix(numVertices, numEdges, source, edgeIds, numEdges);
+        this.inIncidenceMatrix =
+            new CSRBooleanMatrix(numVertices, numEdges, target, edgeIds, numEdges);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZeros(vertex) + inIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return new UnmodifiableUnionSet<>(
+            outIncidenceMatrix.nonZerosSet(vertex), inIncidenceMatrix.nonZerosSet(vertex));
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return inIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZeros(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return outIncidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .directed().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    protected boolean connects(int e, int sourceVertex, int targetVertex)
+    {
+        return target[e] == targetVertex;
+    }
+
+}
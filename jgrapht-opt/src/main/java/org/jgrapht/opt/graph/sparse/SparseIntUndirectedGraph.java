@@ -0,0 +1,145 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A sparse undirected graph.
+ *
+ * <p>
+ * Assuming the graph has $n$ vertices, the vertices are numbered from $0$ to $n-1$. Similarly,
+ * edges are numbered from $0$ to $m-1$ where $m$ is the total number of edges, in the order they
+ * appear in the edge list given to the constructor.
+ *
+ * <p>
+ * It stores the boolean incidence matrix of the graph (rows are vertices and columns are edges)
+ * as Compressed Sparse Rows (CSR). The edge set of a vertex is a view over a range of the CSR
+ * arrays and is returned without copying. This is a classic format for write-once read-many use
+ * cases. Thus, the graph is unmodifiable.
+ *
+ * <p>
+ * The graph supports self-loops and multiple edges. As in the rest of the library, self-loops are
+ * counted twice in the degree of a vertex.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraph
+    extends
+    BaseSparseIntGraph
+{
+    private static final long serialVersionUID = 3162935829838463924L;
+
+    /**
+     * Incidence matrix
+     */
+    private final CSRBooleanMatrix incidenceMatrix;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @throws IllegalArgumentException if the number of vertices is negative or an edge endpoint
+     *         is not a valid vertex
+     */
+    public SparseIntUndirectedGraph(int numVertices, List<Pair<Integer, Integer>> edges)
+    {
+        super(numVertices, edges);
+
+        int[] rows = new int[2 * numEdges];
+        int[] columns = new int[2 * numEdges];
+        int entries = 0;
+        for (int e = 0; e < numEdges; e++) {
+            rows[entries] = source[e];
+            columns[entries++] = e;
+            if (source[e] != target[e]) {
+                rows[entries] = target[e];
+                columns[entries++] = e;
+            }
+        }
+        this.incidenceMatrix = new CSRBooleanMatrix(numVertices, numEdges, rows, columns, entries);
+    }
+
+    @Override
+    public int degreeOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        int v = vertex;
+        int k = incidenceMatrix.nonZeros(v);
+        int degree = k;
+        for (int i = 0; i < k; i++) {
+            int e = incidenceMatrix.nonZero(v, i);
+            if (source[e] == target[e]) {
+                degree++;
+            }
+        }
+        return degree;
+    }
+
+    @Override
+    public Set<Integer> edgesOf(Integer vertex)
+    {
+        assertVertexExist(vertex);
+        return incidenceMatrix.nonZerosSet(vertex);
+    }
+
+    @Override
+    public int inDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> incomingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public int outDegreeOf(Integer vertex)
+    {
+        return degreeOf(vertex);
+    }
+
+    @Override
+    public Set<Integer> outgoingEdgesOf(Integer vertex)
+    {
+        return edgesOf(vertex);
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(false).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+    @Override
+    protected boolean connects(int e, int sourceVertex, int targetVertex)
+    {
+        return (source[e] == sourceVertex && target[e] == targetVertex)
+            || (source[e] == targetVertex && target[e] == sourceVertex);
+    }
+
+}
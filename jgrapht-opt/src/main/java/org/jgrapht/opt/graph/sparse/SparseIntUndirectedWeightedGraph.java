@@ -0,0 +1,82 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+
+import java.util.*;
+
+/**
+ * A sparse undirected weighted graph.
+ *
+ * <p>
+ * The structure is the same as in {@link SparseIntUndirectedGraph}. Edge weights are stored in a
+ * plain double array indexed by edge. The graph is unmodifiable, including its edge weights.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedWeightedGraph
+    extends
+    SparseIntUndirectedGraph
+{
+    private static final long serialVersionUID = -6148702412583549271L;
+
+    /**
+     * The edge weights
+     */
+    protected final double[] weights;
+
+    /**
+     * Create a new graph from an edge list.
+     *
+     * @param numVertices the number of vertices
+     * @param edges the edge list
+     * @param weights the edge weights, where the weight of the $i$-th edge of the edge list is at
+     *        position $i$
+     * @throws IllegalArgumentException if the number of vertices is negative, an edge endpoint is
+     *         not a valid vertex or the number of weights does not match the number of edges
+     */
+    public SparseIntUndirectedWeightedGraph(
+        int numVertices, List<Pair<Integer, Integer>> edges, double[] weights)
+    {
+        super(numVertices, edges);
+        Objects.requireNonNull(weights, "Weights cannot be null");
+        if (weights.length != numEdges) {
+            throw new IllegalArgumentException("Number of weights must match number of edges");
+        }
+        this.weights = Arrays.copyOf(weights, numEdges);
+    }
+
+    @Override
+    public double getEdgeWeight(Integer e)
+    {
+        assertEdgeExist(e);
+        return weights[e];
+    }
+
+    @Override
+    public GraphType getType()
+    {
+        return new DefaultGraphType.Builder()
+            .undirected().weighted(true).modifiable(false).allowMultipleEdges(true)
+            .allowSelfLoops(true).build();
+    }
+
+}
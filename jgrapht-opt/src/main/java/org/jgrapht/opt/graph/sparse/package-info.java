@@ -0,0 +1,4 @@
+/**
+ * Sparse immutable graph implementations using compressed sparse rows
+ */
+package org.jgrapht.opt.graph.sparse;
@@ -0,0 +1,221 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.compressed;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.interfaces.ShortestPathAlgorithm.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.junit.*;
+import org.junit.rules.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link CompressedIntDirectedGraph} and {@link CompressedIntGraphWriter}.
+ *
+ * @author agent
+ */
+public class CompressedIntDirectedGraphTest
+{
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testStructure()
+        throws IOException
+    {
+        int[][] lists = { { 1, 2, 2 }, { 2, 3 }, {}, { 3 }, { 4, 1, 4 } };
+        Path file = folder.newFile().toPath();
+        new CompressedIntGraphWriter().write(5, v -> lists[v], file);
+        Graph<Integer, Integer> g = new CompressedIntDirectedGraph(file);
+
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isModifiable());
+        assertFalse(g.getType().isWeighted());
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(7, g.edgeSet().size());
+        assertTrue(g.containsVertex(4));
+        assertFalse(g.containsVertex(5));
+        assertFalse(g.containsEdge(7));
+
+        // edges are numbered by source and target
+        assertEquals(new HashSet<>(Arrays.asList(0, 1)), g.outgoingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(2, 3)), g.outgoingEdgesOf(1));
+        assertEquals(new HashSet<>(), g.outgoingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(4)), g.outgoingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6)), g.outgoingEdgesOf(4));
+        assertEquals(Integer.valueOf(4), g.getEdgeSource(6));
+        assertEquals(Integer.valueOf(4), g.getEdgeTarget(6));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(5));
+        assertEquals(Integer.valueOf(3), g.getEdge(1, 3));
+        assertNull(g.getEdge(3, 1));
+        assertEquals(Collections.singleton(4), g.getAllEdges(3, 3));
+
+        assertEquals(new HashSet<>(Arrays.asList(0, 5)), g.incomingEdgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.incomingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.incomingEdgesOf(3));
+        assertEquals(2, g.inDegreeOf(2));
+        assertEquals(4, g.degreeOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6)), g.edgesOf(4));
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        new CompressedIntGraphWriter().write(2, v -> new int[] { 1 - v }, file);
+        new CompressedIntDirectedGraph(file).addVertex(2);
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidFile()
+        throws IOException
+    {
+        Path file = folder.newFile().toPath();
+        Files.write(file, new byte[100]);
+        new CompressedIntDirectedGraph(file);
+    }
+
+    @Test
+    public void testLocalityGraphs()
+        throws IOException
+    {
+        Random rng = new Random(7);
+        List<CompressedIntGraphWriter> writers = Arrays.asList(
+            new CompressedIntGraphWriter(), new CompressedIntGraphWriter(0, 0, 0),
+            new CompressedIntGraphWriter(3, 1, 2, 50), new CompressedIntGraphWriter(10, 100, 0));
+
+        for (int i = 0; i < 4; i++) {
+            int n = 300 + rng.nextInt(300);
+            int[][] lists = localityLists(n, rng);
+            Graph<Integer, DefaultEdge> expected = new DefaultDirectedGraph<>(DefaultEdge.class);
+            for (int v = 0; v < n; v++) {
+                expected.addVertex(v);
+            }
+            for (int v = 0; v < n; v++) {
+                for (int u : lists[v]) {
+                    expected.addEdge(v, u);
+                }
+            }
+
+            for (CompressedIntGraphWriter writer : writers) {
+                Path file = folder.newFile().toPath();
+                writer.write(n, v -> lists[v], file);
+                Graph<Integer, Integer> g = new CompressedIntDirectedGraph(file);
+                assertSameGraph(expected, g);
+
+                // algorithms run unchanged
+                Integer s = rng.nextInt(n);
+                SingleSourcePaths<Integer, DefaultEdge> expectedPaths =
+                    new DijkstraShortestPath<>(expected).getPaths(s);
+                SingleSourcePaths<Integer, Integer> paths =
+                    new DijkstraShortestPath<>(g).getPaths(s);
+                for (int v = 0; v < n; v++) {
+                    assertEquals(expectedPaths.getWeight(v), paths.getWeight(v), 0d);
+                }
+                assertEquals(
+                    new KosarajuStrongConnectivityInspector<>(expected).stronglyConnectedSets(),
+                    new KosarajuStrongConnectivityInspector<>(g).stronglyConnectedSets());
+            }
+        }
+    }
+
+    @Test
+    public void testWriteUndirectedGraph()
+        throws IOException
+    {
+        Graph<Integer, DefaultEdge> expected = new SimpleGraph<>(DefaultEdge.class);
+        Graphs.addAllVertices(expected, Arrays.asList(0, 1, 2, 3));
+        expected.addEdge(0, 1);
+        expected.addEdge(1, 2);
+        expected.addEdge(2, 0);
+
+        Path file = folder.newFile().toPath();
+        new CompressedIntGraphWriter().write(expected, file);
+        Graph<Integer, Integer> g = new CompressedIntDirectedGraph(file);
+        assertEquals(6, g.edgeSet().size());
+        assertEquals(0, g.degreeOf(3));
+        for (DefaultEdge e : expected.edgeSet()) {
+            int u = expected.getEdgeSource(e);
+            int v = expected.getEdgeTarget(e);
+            assertTrue(g.containsEdge(u, v));
+            assertTrue(g.containsEdge(v, u));
+        }
+    }
+
+    /**
+     * Successor lists which mostly copy a recent list and contain runs of consecutive vertices,
+     * as web graphs in URL order.
+     */
+    private static int[][] localityLists(int n, Random rng)
+    {
+        int[][] lists = new int[n][];
+        for (int v = 0; v < n; v++) {
+            Set<Integer> successors = new TreeSet<>();
+            if (v > 0 && rng.nextBoolean()) {
+                for (int u : lists[v - 1 - rng.nextInt(Math.min(v, 5))]) {
+                    if (rng.nextInt(5) > 0) {
+                        successors.add(u);
+                    }
+                }
+            }
+            int start = Math.max(0, v - 10 + rng.nextInt(20));
+            for (int u = start; u < Math.min(n, start + rng.nextInt(8)); u++) {
+                successors.add(u);
+            }
+            for (int k = rng.nextInt(4); k > 0; k--) {
+                successors.add(rng.nextInt(n));
+            }
+            lists[v] = successors.stream().mapToInt(Integer::intValue).toArray();
+        }
+        return lists;
+    }
+
+    private static void assertSameGraph(
+        Graph<Integer, DefaultEdge> expected, Graph<Integer, Integer> g)
+    {
+        assertEquals(expected.vertexSet().size(), g.vertexSet().size());
+        assertEquals(expected.edgeSet().size(), g.edgeSet().size());
+        for (Integer v : expected.vertexSet()) {
+            assertEquals(expected.outDegreeOf(v), g.outDegreeOf(v));
+            assertEquals(expected.inDegreeOf(v), g.inDegreeOf(v));
+            Set<Integer> targets = new HashSet<>();
+            for (Integer e : g.outgoingEdgesOf(v)) {
+                assertEquals(v, g.getEdgeSource(e));
+                targets.add(g.getEdgeTarget(e));
+                assertEquals(e, g.getEdge(v, g.getEdgeTarget(e)));
+            }
+            assertEquals(Graphs.successorListOf(expected, v).size(), targets.size());
+            assertEquals(new HashSet<>(Graphs.successorListOf(expected, v)), targets);
+            Set<Integer> sources = new HashSet<>();
+            for (Integer e : g.incomingEdgesOf(v)) {
+                assertEquals(v, g.getEdgeTarget(e));
+                sources.add(g.getEdgeSource(e));
+            }
+            assertEquals(new HashSet<>(Graphs.predecessorListOf(expected, v)), sources);
+        }
+    }
+
+}
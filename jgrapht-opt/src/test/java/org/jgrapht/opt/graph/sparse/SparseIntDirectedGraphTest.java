@@ -0,0 +1,141 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntDirectedGraph} and {@link SparseIntDirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntDirectedGraphTest
+{
+
+    private static List<Pair<Integer, Integer>> edges()
+    {
+        return Arrays.asList(
+            Pair.of(0, 1), Pair.of(1, 2), Pair.of(1, 2), Pair.of(1, 3), Pair.of(3, 3),
+            Pair.of(4, 4), Pair.of(4, 1), Pair.of(4, 4));
+    }
+
+    @Test
+    public void testStructure()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+
+        assertTrue(g.getType().isDirected());
+        assertFalse(g.getType().isModifiable());
+        assertFalse(g.getType().isWeighted());
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(8, g.edgeSet().size());
+        assertTrue(g.containsVertex(4));
+        assertFalse(g.containsVertex(5));
+        assertFalse(g.containsEdge(8));
+
+        assertEquals(1, g.degreeOf(0));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(2, g.degreeOf(2));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(5, g.degreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.edgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 6)), g.edgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.edgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.edgesOf(4));
+
+        assertEquals(0, g.inDegreeOf(0));
+        assertEquals(2, g.inDegreeOf(1));
+        assertEquals(2, g.inDegreeOf(2));
+        assertEquals(2, g.inDegreeOf(3));
+        assertEquals(2, g.inDegreeOf(4));
+
+        assertEquals(new HashSet<>(), g.incomingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 6)), g.incomingEdgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.incomingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.incomingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 7)), g.incomingEdgesOf(4));
+
+        assertEquals(1, g.outDegreeOf(0));
+        assertEquals(3, g.outDegreeOf(1));
+        assertEquals(0, g.outDegreeOf(2));
+        assertEquals(1, g.outDegreeOf(3));
+        assertEquals(3, g.outDegreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.outgoingEdgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2, 3)), g.outgoingEdgesOf(1));
+        assertEquals(new HashSet<>(), g.outgoingEdgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(4)), g.outgoingEdgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.outgoingEdgesOf(4));
+        assertTrue(g.outgoingEdgesOf(4).contains(6));
+        assertFalse(g.outgoingEdgesOf(4).contains(0));
+
+        assertEquals(Integer.valueOf(4), g.getEdgeSource(6));
+        assertEquals(Integer.valueOf(1), g.getEdgeTarget(6));
+        assertEquals(Integer.valueOf(3), g.getEdge(1, 3));
+        assertNull(g.getEdge(3, 1));
+        assertNull(g.getEdge(3, 7));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.getAllEdges(1, 2));
+        assertTrue(g.getAllEdges(2, 1).isEmpty());
+        assertTrue(g.containsEdge(4, 4));
+        assertFalse(g.containsEdge(2, 1));
+        assertEquals(Graph.DEFAULT_EDGE_WEIGHT, g.getEdgeWeight(0), 1e-9);
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        double[] weights = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0 };
+        Graph<Integer, Integer> g = new SparseIntDirectedWeightedGraph(5, edges(), weights);
+
+        assertTrue(g.getType().isWeighted());
+        assertEquals(7.0, g.getEdgeWeight(6), 1e-9);
+
+        GraphPath<Integer, Integer> path = new DijkstraShortestPath<>(g).getPath(4, 3);
+        assertEquals(Arrays.asList(6, 3), path.getEdgeList());
+        assertEquals(11.0, path.getWeight(), 1e-9);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiable()
+    {
+        Graph<Integer, Integer> g = new SparseIntDirectedGraph(5, edges());
+        g.addEdge(0, 4);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidEdge()
+    {
+        new SparseIntDirectedGraph(3, Arrays.asList(Pair.of(0, 3)));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testInvalidWeights()
+    {
+        new SparseIntDirectedWeightedGraph(5, edges(), new double[3]);
+    }
+
+}
@@ -0,0 +1,99 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.opt.graph.sparse;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.connectivity.*;
+import org.jgrapht.alg.util.*;
+import org.junit.*;
+
+import java.util.*;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests for {@link SparseIntUndirectedGraph} and {@link SparseIntUndirectedWeightedGraph}.
+ *
+ * @author agent
+ */
+public class SparseIntUndirectedGraphTest
+{
+
+    private static List<Pair<Integer, Integer>> edges()
+    {
+        return Arrays.asList(
+            Pair.of(0, 1), Pair.of(1, 2), Pair.of(1, 2), Pair.of(1, 3), Pair.of(3, 3),
+            Pair.of(4, 4), Pair.of(4, 1), Pair.of(4, 4));
+    }
+
+    @Test
+    public void testStructure()
+    {
+        Graph<Integer, Integer> g = new SparseIntUndirectedGraph(5, edges());
+
+        assertTrue(g.getType().isUndirected());
+        assertFalse(g.getType().isModifiable());
+        assertEquals(5, g.vertexSet().size());
+        assertEquals(8, g.edgeSet().size());
+
+        assertEquals(1, g.degreeOf(0));
+        assertEquals(5, g.degreeOf(1));
+        assertEquals(2, g.degreeOf(2));
+        assertEquals(3, g.degreeOf(3));
+        assertEquals(5, g.degreeOf(4));
+        assertEquals(5, g.inDegreeOf(4));
+        assertEquals(5, g.outDegreeOf(4));
+
+        assertEquals(new HashSet<>(Arrays.asList(0)), g.edgesOf(0));
+        assertEquals(new HashSet<>(Arrays.asList(0, 1, 2, 3, 6)), g.edgesOf(1));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.edgesOf(2));
+        assertEquals(new HashSet<>(Arrays.asList(3, 4)), g.edgesOf(3));
+        assertEquals(new HashSet<>(Arrays.asList(5, 6, 7)), g.edgesOf(4));
+        assertEquals(g.edgesOf(4), g.incomingEdgesOf(4));
+        assertEquals(g.edgesOf(4), g.outgoingEdgesOf(4));
+
+        assertEquals(Integer.valueOf(3), g.getEdge(1, 3));
+        assertEquals(Integer.valueOf(3), g.getEdge(3, 1));
+        assertEquals(Integer.valueOf(6), g.getEdge(1, 4));
+        assertNull(g.getEdge(0, 4));
+        assertEquals(new HashSet<>(Arrays.asList(1, 2)), g.getAllEdges(2, 1));
+        assertEquals(new HashSet<>(Arrays.asList(5, 7)), g.getAllEdges(4, 4));
+        assertNull(g.getAllEdges(4, 5));
+
+        assertTrue(new ConnectivityInspector<>(g).isConnected());
+    }
+
+    @Test
+    public void testWeighted()
+    {
+        double[] weights = { 1.0, 2.0, 3.0, 4.0, 5.0, 6.0, 7.0, 8.0 };
+        Graph<Integer, Integer> g = new SparseIntUndirectedWeightedGraph(5, edges(), weights);
+
+        assertTrue(g.getType().isWeighted());
+        assertEquals(4.0, g.getEdgeWeight(3), 1e-9);
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void testUnmodifiableWeights()
+    {
+        Graph<Integer, Integer> g =
+            new SparseIntUndirectedWeightedGraph(5, edges(), new double[8]);
+        g.setEdgeWeight(0, 1.0);
+    }
+
+}
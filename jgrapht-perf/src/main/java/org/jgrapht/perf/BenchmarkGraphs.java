@@ -0,0 +1,187 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf;
+
+import org.jgrapht.*;
+import org.jgrapht.generate.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.opt.graph.fastutil.*;
+import org.jgrapht.util.*;
+
+import java.util.*;
+import java.util.function.*;
+
+/**
+ * Utilities shared by the benchmarks in order to create the input graphs.
+ *
+ * <p>
+ * All random graphs are created using the generators of package {@link org.jgrapht.generate} with
+ * a fixed seed, so that every run and every compared implementation works on exactly the same
+ * input.
+ *
+ * @author agent
+ */
+public class BenchmarkGraphs
+{
+    /**
+     * The seed used by all random generators.
+     */
+    public static final long SEED = 1446523573696201013L;
+
+    /**
+     * The graph implementations which are compared by the benchmarks.
+     */
+    public enum Implementation
+    {
+        /**
+         * A graph using {@link DefaultGraphSpecificsStrategy}.
+         */
+        DEFAULT,
+        /**
+         * A graph using {@link FastLookupGraphSpecificsStrategy}.
+         */
+        FAST_LOOKUP,
+        /**
+         * A {@link FastutilMapGraph} without fast lookups.
+         */
+        FASTUTIL,
+        /**
+         * A {@link FastutilMapGraph} with fast lookups.
+         */
+        FASTUTIL_FAST_LOOKUP,
+        /**
+         * A {@link FastutilMapIntVertexGraph} with fast lookups.
+         */
+        FASTUTIL_INT_VERTEX;
+
+        /**
+         * Create a new empty graph with integer vertices and weighted edges.
+         *
+         * @param type the graph type
+         * @return a new empty graph
+         */
+        public Graph<Integer, DefaultWeightedEdge> createGraph(GraphType type)
+        {
+            Supplier<Integer> vSupplier = SupplierUtil.createIntegerSupplier();
+            Supplier<DefaultWeightedEdge> eSupplier =
+                SupplierUtil.createDefaultWeightedEdgeSupplier();
+            switch (this) {
+            case DEFAULT:
+                return new StrategyGraph<>(
+                    vSupplier, eSupplier, type, new DefaultGraphSpecificsStrategy<>());
+            case FAST_LOOKUP:
+                return new StrategyGraph<>(
+                    vSupplier, eSupplier, type, new FastLookupGraphSpecificsStrategy<>());
+            case FASTUTIL:
+                return new FastutilMapGraph<>(vSupplier, eSupplier, type, false);
+            case FASTUTIL_FAST_LOOKUP:
+                return new FastutilMapGraph<>(vSupplier, eSupplier, type, true);
+            case FASTUTIL_INT_VERTEX:
+                return new FastutilMapIntVertexGraph<>(vSupplier, eSupplier, type, true);
+            default:
+                throw new IllegalArgumentException("Unknown implementation");
+            }
+        }
+    }
+
+    private BenchmarkGraphs()
+    {
+    }
+
+    /**
+     * Get the type of a simple weighted graph.
+     *
+     * @param directed whether the graph is directed
+     * @return the graph type
+     */
+    public static GraphType simpleWeighted(boolean directed)
+    {
+        GraphType type = DefaultGraphType.simple().asWeighted();
+        return directed ? type.asDirected() : type;
+    }
+
+    /**
+     * Create a $G(n,m)$ random simple graph with random edge weights in $[0, 1)$.
+     *
+     * @param implementation the graph implementation
+     * @param directed whether the graph is directed
+     * @param n the number of vertices
+     * @param m the number of edges
+     * @return the random graph
+     */
+    public static Graph<Integer, DefaultWeightedEdge> gnm(
+        Implementation implementation, boolean directed, int n, int m)
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            implementation.createGraph(simpleWeighted(directed));
+        Random rng = new Random(SEED);
+        new GnmRandomGraphGenerator<Integer, DefaultWeightedEdge>(n, m, rng, false, false)
+            .generateGraph(g);
+        randomizeWeights(g, rng);
+        return g;
+    }
+
+    /**
+     * Create a complete undirected graph with random edge weights in $[0, 1)$.
+     *
+     * @param n the number of vertices
+     * @return the complete graph
+     */
+    public static Graph<Integer, DefaultWeightedEdge> complete(int n)
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            Implementation.FAST_LOOKUP.createGraph(simpleWeighted(false));
+        new CompleteGraphGenerator<Integer, DefaultWeightedEdge>(n).generateGraph(g);
+        randomizeWeights(g, new Random(SEED));
+        return g;
+    }
+
+    /**
+     * Assign random edge weights in $[0, 1)$ to all edges of a graph.
+     *
+     * @param g the graph
+     * @param rng the random number generator
+     */
+    public static void randomizeWeights(Graph<Integer, DefaultWeightedEdge> g, Random rng)
+    {
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            g.setEdgeWeight(e, rng.nextDouble());
+        }
+    }
+
+    /**
+     * A graph which uses a specific {@link GraphSpecificsStrategy}.
+     *
+     * @param <V> the graph vertex type
+     * @param <E> the graph edge type
+     */
+    private static class StrategyGraph<V, E>
+        extends
+        AbstractBaseGraph<V, E>
+    {
+        private static final long serialVersionUID = 1L;
+
+        StrategyGraph(
+            Supplier<V> vertexSupplier, Supplier<E> edgeSupplier, GraphType type,
+            GraphSpecificsStrategy<V, E> strategy)
+        {
+            super(vertexSupplier, edgeSupplier, type, strategy);
+        }
+    }
+
+}
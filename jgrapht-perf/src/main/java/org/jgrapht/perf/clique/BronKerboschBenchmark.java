@@ -0,0 +1,98 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.clique;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.clique.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the Bron-Kerbosch maximal clique enumeration variants on a random graph.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BronKerboschBenchmark
+{
+    @Param({ "DEFAULT", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "500" })
+    public int vertices;
+
+    @Param({ "10000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, false, vertices, edges);
+    }
+
+    @Benchmark
+    public void bronKerbosch(Blackhole blackhole)
+    {
+        consume(new BronKerboschCliqueFinder<>(graph).iterator(), blackhole);
+    }
+
+    @Benchmark
+    public void pivotBronKerbosch(Blackhole blackhole)
+    {
+        consume(new PivotBronKerboschCliqueFinder<>(graph).iterator(), blackhole);
+    }
+
+    @Benchmark
+    public void degeneracyBronKerbosch(Blackhole blackhole)
+    {
+        consume(new DegeneracyBronKerboschCliqueFinder<>(graph).iterator(), blackhole);
+    }
+
+    @Benchmark
+    public void parallelBitsetBronKerbosch(Blackhole blackhole)
+    {
+        consume(new ParallelBitsetBronKerboschCliqueFinder<>(graph).iterator(), blackhole);
+    }
+
+    @Benchmark
+    public void streamingParallelBitsetBronKerbosch(Blackhole blackhole)
+    {
+        new ParallelBitsetBronKerboschCliqueFinder<>(graph).forEachClique(blackhole::consume);
+    }
+
+    private static void consume(Iterator<Set<Integer>> it, Blackhole blackhole)
+    {
+        while (it.hasNext()) {
+            blackhole.consume(it.next());
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of Gusfield's Gomory-Hu tree construction with different minimum cut algorithms.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GomoryHuTreeBenchmark
+{
+    @Param({ "DEFAULT" })
+    public Implementation implementation;
+
+    @Param({ "500" })
+    public int vertices;
+
+    @Param({ "5000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> network;
+
+    @Setup
+    public void setup()
+    {
+        network = BenchmarkGraphs.gnm(implementation, false, vertices, edges);
+    }
+
+    @Benchmark
+    public SimpleWeightedGraph<Integer, DefaultWeightedEdge> pushRelabel()
+    {
+        return new GusfieldGomoryHuCutTree<>(network, new PushRelabelMFImpl<>(network))
+            .getGomoryHuTree();
+    }
+
+    @Benchmark
+    public SimpleWeightedGraph<Integer, DefaultWeightedEdge> indexedDinic()
+    {
+        return new GusfieldGomoryHuCutTree<>(network).getGomoryHuTree();
+    }
+
+    @Benchmark
+    public SimpleWeightedGraph<Integer, DefaultWeightedEdge> parallelIndexedDinic()
+    {
+        return new GusfieldGomoryHuCutTree<>(
+            network, MaximumFlowAlgorithmBase.DEFAULT_EPSILON, ForkJoinPool.commonPool())
+                .getGomoryHuTree();
+    }
+
+}
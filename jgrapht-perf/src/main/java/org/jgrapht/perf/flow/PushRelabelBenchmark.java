@@ -0,0 +1,65 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.flow;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.flow.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the push-relabel maximum flow algorithm on a random network.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PushRelabelBenchmark
+{
+    @Param({ "DEFAULT", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "1000" })
+    public int vertices;
+
+    @Param({ "20000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> network;
+
+    @Setup
+    public void setup()
+    {
+        network = BenchmarkGraphs.gnm(implementation, true, vertices, edges);
+    }
+
+    @Benchmark
+    public double pushRelabel()
+    {
+        return new PushRelabelMFImpl<>(network).calculateMaximumFlow(0, vertices - 1);
+    }
+
+}
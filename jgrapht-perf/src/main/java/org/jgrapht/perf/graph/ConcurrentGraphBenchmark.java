@@ -0,0 +1,116 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.graph.concurrent.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the thread-safe graph implementations under a read-mostly workload. Reader threads
+ * iterate over the outgoing edges of random vertices while a writer thread keeps inserting and
+ * removing edges.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Group)
+public class ConcurrentGraphBenchmark
+{
+    /**
+     * The compared thread-safe graphs.
+     */
+    public enum ConcurrentImplementation
+    {
+        SYNCHRONIZED,
+        SYNCHRONIZED_CACHE,
+        CONCURRENT
+    }
+
+    @Param({ "SYNCHRONIZED", "SYNCHRONIZED_CACHE", "CONCURRENT" })
+    public ConcurrentImplementation implementation;
+
+    @Param({ "10000" })
+    public int vertices;
+
+    @Param({ "100000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        Graph<Integer, DefaultWeightedEdge> base =
+            BenchmarkGraphs.gnm(Implementation.FAST_LOOKUP, true, vertices, edges);
+        switch (implementation) {
+        case SYNCHRONIZED:
+            graph = new AsSynchronizedGraph.Builder<Integer, DefaultWeightedEdge>().build(base);
+            break;
+        case SYNCHRONIZED_CACHE:
+            graph = new AsSynchronizedGraph.Builder<Integer, DefaultWeightedEdge>()
+                .cacheEnable().build(base);
+            break;
+        case CONCURRENT:
+            graph = new ConcurrentGraph<>(
+                null, base.getEdgeSupplier(), BenchmarkGraphs.simpleWeighted(true));
+            Graphs.addGraph(graph, base);
+            break;
+        default:
+            throw new IllegalArgumentException("Unknown implementation");
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(3)
+    public void read(Blackhole blackhole)
+    {
+        Integer v = ThreadLocalRandom.current().nextInt(vertices);
+        for (DefaultWeightedEdge e : graph.outgoingEdgesOf(v)) {
+            blackhole.consume(e);
+        }
+    }
+
+    @Benchmark
+    @Group("readWrite")
+    @GroupThreads(1)
+    public void write(Blackhole blackhole)
+    {
+        ThreadLocalRandom rng = ThreadLocalRandom.current();
+        Integer u = rng.nextInt(vertices);
+        Integer v = rng.nextInt(vertices);
+        if (u.equals(v)) {
+            return;
+        }
+        if (graph.removeEdge(u, v) == null) {
+            blackhole.consume(graph.addEdge(u, v));
+        }
+    }
+
+}
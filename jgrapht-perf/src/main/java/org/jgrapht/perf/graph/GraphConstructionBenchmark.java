@@ -0,0 +1,86 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the construction of a graph using different graph implementations. The edges are
+ * generated once using a fixed seed and then inserted into a fresh graph in each invocation.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphConstructionBenchmark
+{
+    @Param({ "DEFAULT", "FAST_LOOKUP", "FASTUTIL", "FASTUTIL_FAST_LOOKUP", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "true", "false" })
+    public boolean directed;
+
+    @Param({ "10000" })
+    public int vertices;
+
+    @Param({ "100000" })
+    public int edges;
+
+    private int[] sources;
+    private int[] targets;
+
+    @Setup
+    public void setup()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            BenchmarkGraphs.gnm(Implementation.FAST_LOOKUP, directed, vertices, edges);
+        sources = new int[edges];
+        targets = new int[edges];
+        int i = 0;
+        for (DefaultWeightedEdge e : g.edgeSet()) {
+            sources[i] = g.getEdgeSource(e);
+            targets[i] = g.getEdgeTarget(e);
+            i++;
+        }
+    }
+
+    @Benchmark
+    public Graph<Integer, DefaultWeightedEdge> construct()
+    {
+        Graph<Integer, DefaultWeightedEdge> g =
+            implementation.createGraph(BenchmarkGraphs.simpleWeighted(directed));
+        for (int v = 0; v < vertices; v++) {
+            g.addVertex(v);
+        }
+        for (int i = 0; i < sources.length; i++) {
+            g.addEdge(sources[i], targets[i]);
+        }
+        return g;
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.graph;
+
+import org.jgrapht.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the iteration over the edges of all vertices using different graph
+ * implementations.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GraphIterationBenchmark
+{
+    @Param({ "DEFAULT", "FAST_LOOKUP", "FASTUTIL", "FASTUTIL_FAST_LOOKUP", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "true", "false" })
+    public boolean directed;
+
+    @Param({ "10000" })
+    public int vertices;
+
+    @Param({ "100000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, directed, vertices, edges);
+    }
+
+    @Benchmark
+    public void edgesOf(Blackhole blackhole)
+    {
+        for (Integer v : graph.vertexSet()) {
+            for (DefaultWeightedEdge e : graph.edgesOf(v)) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void outgoingEdgesOf(Blackhole blackhole)
+    {
+        for (Integer v : graph.vertexSet()) {
+            for (DefaultWeightedEdge e : graph.outgoingEdgesOf(v)) {
+                blackhole.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    public void outgoingEdgeTargets(Blackhole blackhole)
+    {
+        double total = 0d;
+        for (Integer v : graph.vertexSet()) {
+            for (DefaultWeightedEdge e : graph.outgoingEdgesOf(v)) {
+                blackhole.consume(Graphs.getOppositeVertex(graph, e, v));
+                total += graph.getEdgeWeight(e);
+            }
+        }
+        blackhole.consume(total);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of graph implementations.
+ */
+package org.jgrapht.perf.graph;
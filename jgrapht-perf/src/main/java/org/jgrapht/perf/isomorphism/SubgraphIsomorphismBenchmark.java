@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.isomorphism;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.isomorphism.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the subgraph isomorphism implementations, counting the occurrences of a small
+ * pattern in a random undirected graph.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SubgraphIsomorphismBenchmark
+{
+    @Param({ "DEFAULT", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "5000" })
+    public int vertices;
+
+    @Param({ "50000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+    private Graph<Integer, DefaultWeightedEdge> pattern;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, false, vertices, edges);
+
+        // a triangle with a pendant vertex
+        pattern = new SimpleGraph<>(DefaultWeightedEdge.class);
+        Graphs.addAllVertices(pattern, Arrays.asList(0, 1, 2, 3));
+        pattern.addEdge(0, 1);
+        pattern.addEdge(1, 2);
+        pattern.addEdge(2, 0);
+        pattern.addEdge(2, 3);
+    }
+
+    @Benchmark
+    public long vf2()
+    {
+        Iterator<GraphMapping<Integer, DefaultWeightedEdge>> it =
+            new VF2SubgraphIsomorphismInspector<>(graph, pattern).getMappings();
+        long count = 0;
+        while (it.hasNext()) {
+            it.next();
+            count++;
+        }
+        return count;
+    }
+
+    @Benchmark
+    public long parallelVF2()
+    {
+        return new ParallelVF2SubgraphIsomorphismInspector<>(graph, pattern).countMappings();
+    }
+
+}
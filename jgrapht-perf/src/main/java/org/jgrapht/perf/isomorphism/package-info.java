@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of isomorphism algorithms.
+ */
+package org.jgrapht.perf.isomorphism;
@@ -0,0 +1,63 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.matching;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.interfaces.MatchingAlgorithm.*;
+import org.jgrapht.alg.matching.blossom.v5.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the Blossom V minimum weight perfect matching algorithm on complete graphs with
+ * random edge weights.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BlossomVBenchmark
+{
+    @Param({ "100", "200" })
+    public int vertices;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        if (vertices % 2 != 0) {
+            throw new IllegalArgumentException("Number of vertices must be even");
+        }
+        graph = BenchmarkGraphs.complete(vertices);
+    }
+
+    @Benchmark
+    public Matching<Integer, DefaultWeightedEdge> blossomV()
+    {
+        return new KolmogorovMinimumWeightPerfectMatching<>(graph).getMatching();
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * JMH benchmarks of graph implementations and algorithms.
+ */
+package org.jgrapht.perf;
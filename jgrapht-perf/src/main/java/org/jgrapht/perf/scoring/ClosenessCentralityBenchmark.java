@@ -0,0 +1,88 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.scoring;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.scoring.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of the closeness centrality implementations on a random undirected graph, with
+ * unit or random edge weights.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClosenessCentralityBenchmark
+{
+    @Param({ "DEFAULT", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "5000" })
+    public int vertices;
+
+    @Param({ "25000" })
+    public int edges;
+
+    @Param({ "false", "true" })
+    public boolean weighted;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, false, vertices, edges);
+        if (!weighted) {
+            for (DefaultWeightedEdge e : graph.edgeSet()) {
+                graph.setEdgeWeight(e, 1d);
+            }
+        }
+    }
+
+    @Benchmark
+    public Map<Integer, Double> closenessCentrality()
+    {
+        return new ClosenessCentrality<>(graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> parallelClosenessCentrality()
+    {
+        return new ParallelClosenessCentrality<>(graph).getScores();
+    }
+
+    @Benchmark
+    public Map<Integer, Double> pivotClosenessCentrality()
+    {
+        return new ParallelClosenessCentrality<>(graph)
+            .approximateScores(256, BenchmarkGraphs.SEED);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of vertex scoring algorithms.
+ */
+package org.jgrapht.perf.scoring;
@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.alg.util.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of all-pairs shortest path algorithms, both sequential and parallel.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AllPairsShortestPathBenchmark
+{
+    @Param({ "DEFAULT" })
+    public Implementation implementation;
+
+    @Param({ "1000" })
+    public int vertices;
+
+    @Param({ "10000" })
+    public int edges;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, true, vertices, edges);
+    }
+
+    @Benchmark
+    public double floydWarshall()
+    {
+        return new FloydWarshallShortestPaths<>(graph).getPathWeight(0, vertices - 1);
+    }
+
+    @Benchmark
+    public double blockedFloydWarshall()
+    {
+        return new FloydWarshallShortestPaths<>(graph, ForkJoinPool.commonPool())
+            .getPathWeight(0, vertices - 1);
+    }
+
+    @Benchmark
+    public double johnson()
+    {
+        return new JohnsonShortestPaths<>(graph).getPathWeight(0, vertices - 1);
+    }
+
+    @Benchmark
+    public double parallelJohnson()
+    {
+        return new JohnsonShortestPaths<>(
+            graph, ToleranceDoubleComparator.DEFAULT_EPSILON, ForkJoinPool.commonPool())
+                .getPathWeight(0, vertices - 1);
+    }
+
+    @Benchmark
+    public void streamingJohnson(Blackhole blackhole)
+    {
+        new JohnsonShortestPaths<>(graph)
+            .forEachSource(paths -> blackhole.consume(paths.getWeight(vertices - 1)));
+    }
+
+}
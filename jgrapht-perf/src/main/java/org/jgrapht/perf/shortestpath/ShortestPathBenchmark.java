@@ -0,0 +1,132 @@
+/*
+ * (C) Copyright 2026-2026, by agent and Contributors.
+ *
+ * JGraphT : a free Java graph-theory library
+ *
+ * This program and the accompanying materials are dual-licensed under
+ * either
+ *
+ * (a) the terms of the GNU Lesser General Public License version 2.1
+ * as published by the Free Software Foundation, or (at your option) any
+ * later version.
+ *
+ * or (per the licensee's choosing)
+ *
+ * (b) the terms of the Eclipse Public License v1.0 as published by
+ * the Eclipse Foundation.
+ */
+package org.jgrapht.perf.shortestpath;
+
+import org.jgrapht.*;
+import org.jgrapht.alg.shortestpath.*;
+import org.jgrapht.graph.*;
+import org.jgrapht.perf.*;
+import org.jgrapht.perf.BenchmarkGraphs.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Benchmark of point-to-point shortest path queries. Each invocation executes the same sequence
+ * of random queries. The preprocessing of the indexed algorithms and of contraction hierarchies
+ * is performed once during setup.
+ *
+ * @author agent
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShortestPathBenchmark
+{
+    @Param({ "DEFAULT", "FASTUTIL_INT_VERTEX" })
+    public Implementation implementation;
+
+    @Param({ "10000" })
+    public int vertices;
+
+    @Param({ "50000" })
+    public int edges;
+
+    @Param({ "100" })
+    public int queries;
+
+    private Graph<Integer, DefaultWeightedEdge> graph;
+    private int[] sources;
+    private int[] targets;
+    private IndexedDijkstraShortestPath<Integer, DefaultWeightedEdge> indexedDijkstra;
+    private IndexedBidirectionalDijkstraShortestPath<Integer,
+        DefaultWeightedEdge> indexedBidirectionalDijkstra;
+    private ContractionHierarchyShortestPath<Integer, DefaultWeightedEdge> contractionHierarchy;
+
+    @Setup
+    public void setup()
+    {
+        graph = BenchmarkGraphs.gnm(implementation, true, vertices, edges);
+        Random rng = new Random(BenchmarkGraphs.SEED);
+        sources = new int[queries];
+        targets = new int[queries];
+        for (int i = 0; i < queries; i++) {
+            sources[i] = rng.nextInt(vertices);
+            targets[i] = rng.nextInt(vertices);
+        }
+        indexedDijkstra = new IndexedDijkstraShortestPath<>(graph);
+        indexedBidirectionalDijkstra = new IndexedBidirectionalDijkstraShortestPath<>(graph);
+        contractionHierarchy = new ContractionHierarchyShortestPath<>(graph);
+    }
+
+    @Benchmark
+    public void dijkstra(Blackhole blackhole)
+    {
+        DijkstraShortestPath<Integer, DefaultWeightedEdge> sp = new DijkstraShortestPath<>(graph);
+        for (int i = 0; i < queries; i++) {
+            blackhole.consume(sp.getPathWeight(sources[i], targets[i]));
+        }
+    }
+
+    @Benchmark
+    public void bidirectionalDijkstra(Blackhole blackhole)
+    {
+        BidirectionalDijkstraShortestPath<Integer, DefaultWeightedEdge> sp =
+            new BidirectionalDijkstraShortestPath<>(graph);
+        for (int i = 0; i < queries; i++) {
+            blackhole.consume(sp.getPathWeight(sources[i], targets[i]));
+        }
+    }
+
+    @Benchmark
+    public void indexedDijkstra(Blackhole blackhole)
+    {
+        for (int i = 0; i < queries; i++) {
+            blackhole.consume(indexedDijkstra.getPathWeight(sources[i], targets[i]));
+        }
+    }
+
+    @Benchmark
+    public void indexedBidirectionalDijkstra(Blackhole blackhole)
+    {
+        for (int i = 0; i < queries; i++) {
+            blackhole.consume(indexedBidirectionalDijkstra.getPathWeight(sources[i], targets[i]));
+        }
+    }
+
+    @Benchmark
+    public void contractionHierarchy(Blackhole blackhole)
+    {
+        for (int i = 0; i < queries; i++) {
+            blackhole.consume(contractionHierarchy.getPathWeight(sources[i], targets[i]));
+        }
+    }
+
+    @Benchmark
+    public ContractionHierarchyShortestPath<Integer,
+        DefaultWeightedEdge> contractionHierarchyPreprocessing()
+    {
+        return new ContractionHierarchyShortestPath<>(graph);
+    }
+
+}
@@ -0,0 +1,4 @@
+/**
+ * Benchmarks of shortest path algorithms.
+ */
+package org.jgrapht.perf.shortestpath;